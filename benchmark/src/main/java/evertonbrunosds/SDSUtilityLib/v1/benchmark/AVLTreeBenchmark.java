@@ -0,0 +1,173 @@
+/*
+ * This file is part of the SDSUtilityLib Open Source Project.
+ * SDSUtilityLib is licensed under the GNU GPLv3.
+ *
+ * Copyright © 2020. Everton Bruno Silva dos Santos <evertonbrunogithub@yahoo.com>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package evertonbrunosds.SDSUtilityLib.v1.benchmark;
+
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Classe responsável por comparar a árvore AVL com as estruturas ordenadas nativas do java.
+ * O benchmark de inserção mede a construção completa da estrutura, enquanto os demais
+ * medem uma única operação sobre a estrutura previamente construída.
+ * @author Everton Bruno Silva dos Santos.
+ * @version 1.0
+ * @since 1.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = { "-Xms4g", "-Xmx4g" })
+public class AVLTreeBenchmark {
+    /**
+     * Refere-se a semente usada na geração das chaves.
+     */
+    private static final long SEED = 20200101L;
+    /**
+     * Refere-se a estrutura ordenada avaliada.
+     */
+    @Param({ "AVL_TREE", "BPLUS_TREE", "TREE_MAP", "CONCURRENT_SKIP_LIST_MAP" })
+    private Implementation implementation;
+    /**
+     * Refere-se ao tipo de chave avaliado.
+     */
+    @Param({ "INTEGER", "STRING" })
+    private KeyType keyType;
+    /**
+     * Refere-se a quantidade de entradas da estrutura.
+     */
+    @Param({ "1000", "100000", "1000000", "10000000" })
+    private int size;
+    /**
+     * Refere-se a ordem de inserção das chaves.
+     */
+    @Param({ "RANDOM", "SEQUENTIAL" })
+    private String order;
+    /**
+     * Refere-se as chaves na ordem de inserção.
+     */
+    private Object[] keys;
+    /**
+     * Refere-se as chaves na ordem de consulta.
+     */
+    private Object[] probes;
+    /**
+     * Refere-se a estrutura previamente construída.
+     */
+    private Structure structure;
+    /**
+     * Refere-se a posição atual da consulta.
+     */
+    private int position;
+
+    /**
+     * Método responsável por preparar as chaves e a estrutura avaliada.
+     */
+    @Setup(Level.Trial)
+    public void setUp() {
+        keys = keyType.keys(size, "RANDOM".equals(order), SEED);
+        probes = keys.clone();
+        KeyType.shuffle(probes, ~SEED);
+        structure = build();
+        position = 0;
+    }
+
+    /**
+     * Método responsável por construir a estrutura com todas as chaves.
+     * @return Retorna a estrutura construída.
+     */
+    private Structure build() {
+        final Structure newStructure = implementation.make(keyType.comparator());
+        for (final Object key : keys) {
+            newStructure.put(key, key);
+        }
+        return newStructure;
+    }
+
+    /**
+     * Método responsável por retornar a próxima chave de consulta.
+     * @return Retorna a próxima chave de consulta.
+     */
+    private Object nextProbe() {
+        final Object key = probes[position];
+        position = position + 1 < probes.length ? position + 1 : 0;
+        return key;
+    }
+
+    /**
+     * Método responsável por medir a construção completa da estrutura.
+     * @return Retorna a estrutura construída.
+     */
+    @Benchmark
+    public Structure put() {
+        return build();
+    }
+
+    /**
+     * Método responsável por medir a busca de uma chave existente.
+     * @return Retorna o valor encontrado.
+     */
+    @Benchmark
+    public Object find() {
+        return structure.find(nextProbe());
+    }
+
+    /**
+     * Método responsável por medir a remoção seguida da reinserção de uma chave existente.
+     */
+    @Benchmark
+    public void remove() {
+        final Object key = nextProbe();
+        structure.remove(key);
+        structure.put(key, key);
+    }
+
+    /**
+     * Método responsável por medir o percurso completo da estrutura.
+     * @param blackhole Refere-se ao consumidor das entradas percorridas.
+     */
+    @Benchmark
+    public void iterate(final Blackhole blackhole) {
+        structure.forEach(blackhole::consume);
+    }
+
+    /**
+     * Método responsável por medir a duplicação da estrutura.
+     * @return Retorna a estrutura duplicata.
+     */
+    @Benchmark
+    public Structure duplicate() {
+        return structure.duplicate();
+    }
+
+}
@@ -0,0 +1,196 @@
+/*
+ * This file is part of the SDSUtilityLib Open Source Project.
+ * SDSUtilityLib is licensed under the GNU GPLv3.
+ *
+ * Copyright © 2020. Everton Bruno Silva dos Santos <evertonbrunogithub@yahoo.com>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package evertonbrunosds.SDSUtilityLib.v1.benchmark;
+
+import evertonbrunosds.SDSUtilityLib.v1.api.Comparator;
+import evertonbrunosds.SDSUtilityLib.v1.util.AVLTree;
+import evertonbrunosds.SDSUtilityLib.v1.util.BPlusTree;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Classe responsável por comparar a árvore B+, em diferentes ordens, com a árvore AVL
+ * nas operações de busca, inserção e percurso por intervalo.
+ * @author Everton Bruno Silva dos Santos.
+ * @version 1.0
+ * @since 1.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = { "-Xms4g", "-Xmx4g" })
+public class BPlusTreeBenchmark {
+    /**
+     * Refere-se a semente usada na geração das chaves.
+     */
+    private static final long SEED = 20200101L;
+    /**
+     * Refere-se ao comparador natural das chaves inteiras.
+     */
+    private static final Comparator<Integer> COMPARATOR = Integer::compareTo;
+    /**
+     * Refere-se a estrutura avaliada: árvore AVL ou árvore B+ de ordem "BPLUS_TREE-ordem".
+     */
+    @Param({ "AVL_TREE", "BPLUS_TREE-16", "BPLUS_TREE-64", "BPLUS_TREE-256" })
+    private String structure;
+    /**
+     * Refere-se a quantidade de entradas da estrutura.
+     */
+    @Param({ "100000", "1000000", "10000000" })
+    private int size;
+    /**
+     * Refere-se a quantidade de entradas visitadas em cada percurso por intervalo.
+     */
+    @Param({ "100" })
+    private int scanLength;
+    /**
+     * Refere-se as chaves na ordem de inserção.
+     */
+    private int[] keys;
+    /**
+     * Refere-se a árvore AVL previamente construída.
+     */
+    private AVLTree<Integer, Integer> avl;
+    /**
+     * Refere-se ao cursor reaproveitado nos percursos da árvore AVL.
+     */
+    private AVLTree<Integer, Integer>.Cursor cursor;
+    /**
+     * Refere-se a árvore B+ previamente construída.
+     */
+    private BPlusTree<Integer, Integer> bPlusTree;
+    /**
+     * Refere-se a posição atual da consulta.
+     */
+    private int position;
+
+    /**
+     * Método responsável por preparar as chaves e a estrutura avaliada.
+     */
+    @Setup(Level.Trial)
+    public void setUp() {
+        final Object[] shuffled = KeyType.INTEGER.keys(size, true, SEED);
+        keys = new int[size];
+        for (int i = 0; i < size; i++) {
+            keys[i] = (Integer) shuffled[i];
+        }
+        if (isAVLTree()) {
+            avl = buildAVLTree();
+            cursor = avl.cursor();
+        } else {
+            bPlusTree = buildBPlusTree();
+        }
+        position = 0;
+    }
+
+    /**
+     * Método responsável por indicar se a estrutura avaliada é a árvore AVL.
+     * @return Retorna indicativo de que a estrutura avaliada é a árvore AVL.
+     */
+    private boolean isAVLTree() {
+        return "AVL_TREE".equals(structure);
+    }
+
+    /**
+     * Método responsável por construir a árvore AVL com todas as chaves.
+     * @return Retorna a árvore AVL construída.
+     */
+    private AVLTree<Integer, Integer> buildAVLTree() {
+        final AVLTree<Integer, Integer> tree = new AVLTree<>(COMPARATOR);
+        for (final int key : keys) {
+            tree.put(key, key);
+        }
+        return tree;
+    }
+
+    /**
+     * Método responsável por construir a árvore B+ com todas as chaves.
+     * @return Retorna a árvore B+ construída.
+     */
+    private BPlusTree<Integer, Integer> buildBPlusTree() {
+        final int order = Integer.parseInt(structure.substring(structure.indexOf('-') + 1));
+        final BPlusTree<Integer, Integer> tree = new BPlusTree<>(COMPARATOR, order);
+        for (final int key : keys) {
+            tree.put(key, key);
+        }
+        return tree;
+    }
+
+    /**
+     * Método responsável por retornar a próxima chave de consulta.
+     * @return Retorna a próxima chave de consulta.
+     */
+    private int nextKey() {
+        final int key = keys[position];
+        position = position + 1 < keys.length ? position + 1 : 0;
+        return key;
+    }
+
+    /**
+     * Método responsável por medir a busca de uma chave existente.
+     * @return Retorna o valor encontrado.
+     */
+    @Benchmark
+    public Integer lookup() {
+        final int key = nextKey();
+        return isAVLTree() ? avl.find(key).getValue() : bPlusTree.find(key).getValue();
+    }
+
+    /**
+     * Método responsável por medir a construção completa da estrutura.
+     * @return Retorna a estrutura construída.
+     */
+    @Benchmark
+    public Object insert() {
+        return isAVLTree() ? buildAVLTree() : buildBPlusTree();
+    }
+
+    /**
+     * Método responsável por medir o percurso de um intervalo de chaves a partir de uma chave aleatória.
+     * @param blackhole Refere-se ao consumidor das entradas percorridas.
+     */
+    @Benchmark
+    public void scan(final Blackhole blackhole) {
+        final int from = nextKey();
+        final int to = from + scanLength - 1;
+        if (isAVLTree()) {
+            for (boolean valid = cursor.seek(from); valid && cursor.getKey() <= to; valid = cursor.next()) {
+                blackhole.consume(cursor.getValue());
+            }
+        } else {
+            bPlusTree.forEach(from, to, blackhole::consume);
+        }
+    }
+
+}
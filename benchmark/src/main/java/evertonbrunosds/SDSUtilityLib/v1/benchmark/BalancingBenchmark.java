@@ -0,0 +1,151 @@
+/*
+ * This file is part of the SDSUtilityLib Open Source Project.
+ * SDSUtilityLib is licensed under the GNU GPLv3.
+ *
+ * Copyright © 2020. Everton Bruno Silva dos Santos <evertonbrunogithub@yahoo.com>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package evertonbrunosds.SDSUtilityLib.v1.benchmark;
+
+import evertonbrunosds.SDSUtilityLib.v1.api.Comparator;
+import evertonbrunosds.SDSUtilityLib.v1.util.AVLTree;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Classe responsável por comparar as estratégias de balanceamento da árvore em misturas de
+ * leituras e escritas: cada operação é uma busca ou, com a probabilidade complementar, a remoção
+ * e reinserção de uma chave, mantendo constante o tamanho da árvore.
+ * @author Everton Bruno Silva dos Santos.
+ * @version 1.0
+ * @since 1.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = { "-Xms4g", "-Xmx4g" })
+public class BalancingBenchmark {
+    /**
+     * Refere-se a semente usada na geração das chaves e das operações.
+     */
+    private static final long SEED = 20200101L;
+    /**
+     * Refere-se ao comparador natural das chaves inteiras.
+     */
+    private static final Comparator<Integer> COMPARATOR = Integer::compareTo;
+    /**
+     * Refere-se a estratégia de balanceamento avaliada.
+     */
+    @Param({ "AVL", "RED_BLACK", "WEIGHT_BALANCED" })
+    private AVLTree.Balancing balancing;
+    /**
+     * Refere-se a quantidade de entradas da árvore.
+     */
+    @Param({ "100000", "1000000" })
+    private int size;
+    /**
+     * Refere-se ao percentual de leituras da mistura de operações.
+     */
+    @Param({ "10", "50", "90" })
+    private int readPercent;
+    /**
+     * Refere-se as chaves na ordem de inserção.
+     */
+    private int[] keys;
+    /**
+     * Refere-se a árvore previamente construída.
+     */
+    private AVLTree<Integer, Integer> tree;
+    /**
+     * Refere-se ao estado do gerador pseudoaleatório das operações.
+     */
+    private long random;
+
+    /**
+     * Método responsável por preparar as chaves e a árvore avaliada.
+     */
+    @Setup(Level.Trial)
+    public void setUp() {
+        final Object[] shuffled = KeyType.INTEGER.keys(size, true, SEED);
+        keys = new int[size];
+        for (int i = 0; i < size; i++) {
+            keys[i] = (Integer) shuffled[i];
+        }
+        tree = build();
+        random = SEED;
+    }
+
+    /**
+     * Método responsável por construir a árvore com todas as chaves.
+     * @return Retorna a árvore construída.
+     */
+    private AVLTree<Integer, Integer> build() {
+        final AVLTree<Integer, Integer> newTree = new AVLTree<>(COMPARATOR, balancing);
+        for (final int key : keys) {
+            newTree.put(key, key);
+        }
+        return newTree;
+    }
+
+    /**
+     * Método responsável por retornar o próximo número pseudoaleatório, sem alocações nem sincronização.
+     * @return Retorna o próximo número pseudoaleatório não negativo.
+     */
+    private int nextRandom() {
+        random ^= random << 13;
+        random ^= random >>> 7;
+        random ^= random << 17;
+        return (int) (random >>> 33);
+    }
+
+    /**
+     * Método responsável por medir uma operação da mistura de leituras e escritas.
+     * @return Retorna o valor lido ou reinserido.
+     */
+    @Benchmark
+    public Integer mixed() {
+        final int choice = nextRandom();
+        final int key = keys[choice % size];
+        if ((choice >>> 7) % 100 < readPercent) {
+            return tree.find(key).getValue();
+        }
+        tree.remove(key);
+        tree.put(key, key);
+        return key;
+    }
+
+    /**
+     * Método responsável por medir a construção completa da árvore.
+     * @return Retorna a árvore construída.
+     */
+    @Benchmark
+    public Object insert() {
+        return build();
+    }
+
+}
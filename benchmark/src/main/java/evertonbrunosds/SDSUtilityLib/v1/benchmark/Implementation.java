@@ -0,0 +1,217 @@
+/*
+ * This file is part of the SDSUtilityLib Open Source Project.
+ * SDSUtilityLib is licensed under the GNU GPLv3.
+ *
+ * Copyright © 2020. Everton Bruno Silva dos Santos <evertonbrunogithub@yahoo.com>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package evertonbrunosds.SDSUtilityLib.v1.benchmark;
+
+import evertonbrunosds.SDSUtilityLib.v1.api.Comparator;
+import evertonbrunosds.SDSUtilityLib.v1.util.AVLTree;
+import evertonbrunosds.SDSUtilityLib.v1.util.BPlusTree;
+import java.util.Map.Entry;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.function.Consumer;
+
+/**
+ * Enumeração responsável por construir as estruturas ordenadas comparadas nos benchmarks.
+ * @author Everton Bruno Silva dos Santos.
+ * @version 1.0
+ * @since 1.0
+ */
+public enum Implementation {
+    /**
+     * Refere-se a árvore AVL da biblioteca.
+     */
+    AVL_TREE {
+        @Override
+        public Structure make(final Comparator<Object> comparator) {
+            return avlTree(new AVLTree<>(comparator));
+        }
+    },
+    /**
+     * Refere-se a árvore B+ da biblioteca, com ordem padrão.
+     */
+    BPLUS_TREE {
+        @Override
+        public Structure make(final Comparator<Object> comparator) {
+            return bPlusTree(new BPlusTree<>(comparator));
+        }
+    },
+    /**
+     * Refere-se a árvore rubro-negra nativa do java.
+     */
+    TREE_MAP {
+        @Override
+        public Structure make(final Comparator<Object> comparator) {
+            return treeMap(new TreeMap<>(comparator));
+        }
+    },
+    /**
+     * Refere-se a lista de saltos concorrente nativa do java.
+     */
+    CONCURRENT_SKIP_LIST_MAP {
+        @Override
+        public Structure make(final Comparator<Object> comparator) {
+            return concurrentSkipListMap(new ConcurrentSkipListMap<>(comparator));
+        }
+    };
+
+    /**
+     * Método responsável por construir uma estrutura vazia.
+     * @param comparator Refere-se ao objeto comparador de chaves.
+     * @return Retorna estrutura vazia.
+     */
+    public abstract Structure make(Comparator<Object> comparator);
+
+    /**
+     * Método responsável por adaptar a árvore AVL.
+     * @param avl Refere-se a árvore AVL adaptada.
+     * @return Retorna estrutura adaptada.
+     */
+    private static Structure avlTree(final AVLTree<Object, Object> avl) {
+        return new Structure() {
+            @Override
+            public void put(final Object key, final Object value) {
+                avl.put(key, value);
+            }
+
+            @Override
+            public Object find(final Object key) {
+                return avl.find(key).getValue();
+            }
+
+            @Override
+            public void remove(final Object key) {
+                avl.remove(key);
+            }
+
+            @Override
+            public void forEach(final Consumer<Entry<Object, Object>> consumer) {
+                avl.forEach(consumer);
+            }
+
+            @Override
+            public Structure duplicate() {
+                return avlTree(avl.duplicate());
+            }
+        };
+    }
+
+    /**
+     * Método responsável por adaptar a árvore B+.
+     * @param tree Refere-se a árvore B+ adaptada.
+     * @return Retorna estrutura adaptada.
+     */
+    private static Structure bPlusTree(final BPlusTree<Object, Object> tree) {
+        return new Structure() {
+            @Override
+            public void put(final Object key, final Object value) {
+                tree.put(key, value);
+            }
+
+            @Override
+            public Object find(final Object key) {
+                return tree.find(key).getValue();
+            }
+
+            @Override
+            public void remove(final Object key) {
+                tree.remove(key);
+            }
+
+            @Override
+            public void forEach(final Consumer<Entry<Object, Object>> consumer) {
+                tree.forEach(consumer);
+            }
+
+            @Override
+            public Structure duplicate() {
+                return bPlusTree(tree.duplicate());
+            }
+        };
+    }
+
+    /**
+     * Método responsável por adaptar a árvore rubro-negra nativa.
+     * @param map Refere-se a árvore rubro-negra adaptada.
+     * @return Retorna estrutura adaptada.
+     */
+    private static Structure treeMap(final TreeMap<Object, Object> map) {
+        return new Structure() {
+            @Override
+            public void put(final Object key, final Object value) {
+                map.put(key, value);
+            }
+
+            @Override
+            public Object find(final Object key) {
+                return map.get(key);
+            }
+
+            @Override
+            public void remove(final Object key) {
+                map.remove(key);
+            }
+
+            @Override
+            public void forEach(final Consumer<Entry<Object, Object>> consumer) {
+                map.entrySet().forEach(consumer);
+            }
+
+            @Override
+            public Structure duplicate() {
+                return treeMap(new TreeMap<>(map));
+            }
+        };
+    }
+
+    /**
+     * Método responsável por adaptar a lista de saltos concorrente nativa.
+     * @param map Refere-se a lista de saltos adaptada.
+     * @return Retorna estrutura adaptada.
+     */
+    private static Structure concurrentSkipListMap(final ConcurrentSkipListMap<Object, Object> map) {
+        return new Structure() {
+            @Override
+            public void put(final Object key, final Object value) {
+                map.put(key, value);
+            }
+
+            @Override
+            public Object find(final Object key) {
+                return map.get(key);
+            }
+
+            @Override
+            public void remove(final Object key) {
+                map.remove(key);
+            }
+
+            @Override
+            public void forEach(final Consumer<Entry<Object, Object>> consumer) {
+                map.entrySet().forEach(consumer);
+            }
+
+            @Override
+            public Structure duplicate() {
+                return concurrentSkipListMap(map.clone());
+            }
+        };
+    }
+
+}
@@ -0,0 +1,112 @@
+/*
+ * This file is part of the SDSUtilityLib Open Source Project.
+ * SDSUtilityLib is licensed under the GNU GPLv3.
+ *
+ * Copyright © 2020. Everton Bruno Silva dos Santos <evertonbrunogithub@yahoo.com>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package evertonbrunosds.SDSUtilityLib.v1.benchmark;
+
+import evertonbrunosds.SDSUtilityLib.v1.api.Comparator;
+import java.util.Random;
+
+/**
+ * Enumeração responsável por gerar as chaves usadas nos benchmarks.
+ * @author Everton Bruno Silva dos Santos.
+ * @version 1.0
+ * @since 1.0
+ */
+public enum KeyType {
+    /**
+     * Refere-se a chaves inteiras.
+     */
+    INTEGER {
+        @Override
+        public Object key(final int index) {
+            return index;
+        }
+
+        @Override
+        public Comparator<Object> comparator() {
+            return (final Object o1, final Object o2) -> ((Integer) o1).compareTo((Integer) o2);
+        }
+    },
+    /**
+     * Refere-se a chaves textuais de largura fixa, cuja ordem lexicográfica coincide com a numérica.
+     */
+    STRING {
+        @Override
+        public Object key(final int index) {
+            final String digits = Integer.toString(index);
+            final StringBuilder builder = new StringBuilder("key-");
+            for (int i = digits.length(); i < 10; i++) {
+                builder.append('0');
+            }
+            return builder.append(digits).toString();
+        }
+
+        @Override
+        public Comparator<Object> comparator() {
+            return (final Object o1, final Object o2) -> ((String) o1).compareTo((String) o2);
+        }
+    };
+
+    /**
+     * Método responsável por gerar a chave de dada posição da sequência crescente.
+     * @param index Refere-se a dita posição.
+     * @return Retorna a chave gerada.
+     */
+    public abstract Object key(int index);
+
+    /**
+     * Método responsável por retornar o comparador natural das chaves.
+     * @return Retorna o comparador natural das chaves.
+     */
+    public abstract Comparator<Object> comparator();
+
+    /**
+     * Método responsável por gerar chaves distintas em ordem sequencial ou aleatória.
+     * @param size   Refere-se a quantidade de chaves.
+     * @param random Refere-se a indicativo de que as chaves devem ser embaralhadas.
+     * @param seed   Refere-se a semente do embaralhamento.
+     * @return Retorna as chaves geradas.
+     */
+    public Object[] keys(final int size, final boolean random, final long seed) {
+        final Object[] keys = new Object[size];
+        for (int i = 0; i < size; i++) {
+            keys[i] = key(i);
+        }
+        if (random) {
+            shuffle(keys, seed);
+        }
+        return keys;
+    }
+
+    /**
+     * Método responsável por embaralhar as chaves.
+     * @param keys Refere-se as chaves embaralhadas.
+     * @param seed Refere-se a semente do embaralhamento.
+     */
+    public static void shuffle(final Object[] keys, final long seed) {
+        final Random random = new Random(seed);
+        for (int i = keys.length - 1; i > 0; i--) {
+            final int j = random.nextInt(i + 1);
+            final Object tmp = keys[i];
+            keys[i] = keys[j];
+            keys[j] = tmp;
+        }
+    }
+
+}
@@ -0,0 +1,66 @@
+/*
+ * This file is part of the SDSUtilityLib Open Source Project.
+ * SDSUtilityLib is licensed under the GNU GPLv3.
+ *
+ * Copyright © 2020. Everton Bruno Silva dos Santos <evertonbrunogithub@yahoo.com>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package evertonbrunosds.SDSUtilityLib.v1.benchmark;
+
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.CommandLineOptionException;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Classe responsável por executar os benchmarks gravando os resultados em JSON,
+ * de modo que regressões possam ser acompanhadas entre execuções.
+ * Demais opções do JMH (ex.: -p size=1000, -rf csv, -rff arquivo) continuam válidas.
+ * @author Everton Bruno Silva dos Santos.
+ * @version 1.0
+ * @since 1.0
+ */
+public final class Main {
+    /**
+     * Refere-se ao arquivo padrão de resultados.
+     */
+    private static final String RESULT_FILE = "jmh-result.json";
+
+    /**
+     * Construtor responsável por impedir o instanciamento da classe.
+     */
+    private Main() {
+    }
+
+    /**
+     * Método responsável por executar os benchmarks.
+     * @param args Refere-se aos argumentos de linha de comando do JMH.
+     * @throws CommandLineOptionException Exceção lançada no caso dos argumentos serem inválidos.
+     * @throws RunnerException            Exceção lançada no caso da execução falhar.
+     */
+    public static void main(final String[] args) throws CommandLineOptionException, RunnerException {
+        final CommandLineOptions commandLine = new CommandLineOptions(args);
+        final Options options = new OptionsBuilder()
+                .parent(commandLine)
+                .resultFormat(commandLine.getResultFormat().orElse(ResultFormatType.JSON))
+                .result(commandLine.getResult().orElse(RESULT_FILE))
+                .build();
+        new Runner(options).run();
+    }
+
+}
@@ -0,0 +1,65 @@
+/*
+ * This file is part of the SDSUtilityLib Open Source Project.
+ * SDSUtilityLib is licensed under the GNU GPLv3.
+ *
+ * Copyright © 2020. Everton Bruno Silva dos Santos <evertonbrunogithub@yahoo.com>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package evertonbrunosds.SDSUtilityLib.v1.benchmark;
+
+import java.util.Map.Entry;
+import java.util.function.Consumer;
+
+/**
+ * Interface responsável por uniformizar as estruturas ordenadas comparadas nos benchmarks.
+ * @author Everton Bruno Silva dos Santos.
+ * @version 1.0
+ * @since 1.0
+ */
+public interface Structure {
+
+    /**
+     * Método responsável por inserir uma nova entrada na estrutura.
+     * @param key   Refere-se a chave da dita entrada.
+     * @param value Refere-se ao valor da dita entrada.
+     */
+    void put(Object key, Object value);
+
+    /**
+     * Método responsável por encontrar o valor de uma entrada existente na estrutura.
+     * @param key Refere-se a chave de acesso à dita entrada.
+     * @return Retorna o valor da dita entrada.
+     */
+    Object find(Object key);
+
+    /**
+     * Método responsável por remover uma entrada contida na estrutura.
+     * @param key Refere-se a chave de acesso à dita entrada.
+     */
+    void remove(Object key);
+
+    /**
+     * Método responsável por percorrer as entradas contidas na estrutura em ordem.
+     * @param consumer Refere-se ao consumidor das entradas.
+     */
+    void forEach(Consumer<Entry<Object, Object>> consumer);
+
+    /**
+     * Método responsável por duplicar a estrutura.
+     * @return Retorna estrutura duplicata.
+     */
+    Structure duplicate();
+
+}
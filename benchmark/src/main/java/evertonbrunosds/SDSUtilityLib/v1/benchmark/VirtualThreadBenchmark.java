@@ -0,0 +1,154 @@
+/*
+ * This file is part of the SDSUtilityLib Open Source Project.
+ * SDSUtilityLib is licensed under the GNU GPLv3.
+ *
+ * Copyright © 2020. Everton Bruno Silva dos Santos <evertonbrunogithub@yahoo.com>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package evertonbrunosds.SDSUtilityLib.v1.benchmark;
+
+import evertonbrunosds.SDSUtilityLib.v1.api.Factory;
+import evertonbrunosds.SDSUtilityLib.v1.api.Worker;
+import evertonbrunosds.SDSUtilityLib.v1.util.WorkerPool;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Classe responsável por medir o tempo de execução de muitos trabalhadores simultâneos que bloqueiam,
+ * como ocorre em entrada e saída, passando por um semáforo compartilhado. Compara uma thread de plataforma
+ * por trabalhador, um conjunto fixo de threads e uma thread virtual por trabalhador; esta última
+ * exige Java 21 ou superior, falhando na preparação nas versões anteriores.
+ * @author Everton Bruno Silva dos Santos.
+ * @version 1.0
+ * @since 1.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+@Fork(value = 1, jvmArgsAppend = { "-Xms2g", "-Xmx2g" })
+public class VirtualThreadBenchmark {
+    /**
+     * Refere-se ao tempo de bloqueio de cada trabalhador.
+     */
+    private static final long BLOCK_NANOS = TimeUnit.MILLISECONDS.toNanos(1);
+    /**
+     * Refere-se a quantidade de permissões do semáforo compartilhado pelos trabalhadores.
+     */
+    private static final int PERMITS = 10000;
+    /**
+     * Refere-se a quantidade de threads do conjunto fixo.
+     */
+    private static final int POOL_THREADS = 256;
+    /**
+     * Refere-se a modalidade de execução avaliada.
+     */
+    @Param({ "PLATFORM", "POOL", "VIRTUAL" })
+    private String mode;
+    /**
+     * Refere-se a quantidade de trabalhadores simultâneos.
+     */
+    @Param({ "100000" })
+    private int workers;
+    /**
+     * Refere-se ao semáforo compartilhado pelos trabalhadores.
+     */
+    private List<Semaphore> gate;
+    /**
+     * Refere-se ao conjunto fixo de threads, nulo nas demais modalidades.
+     */
+    private WorkerPool pool;
+
+    /**
+     * Método responsável por preparar o semáforo e, se for o caso, o conjunto de threads.
+     * @throws UnsupportedOperationException Exceção lançada caso threads virtuais não sejam suportadas.
+     */
+    @Setup(Level.Trial)
+    public void setUp() throws UnsupportedOperationException {
+        if ("VIRTUAL".equals(mode) && !Factory.Thread.isVirtualSupported()) {
+            throw new UnsupportedOperationException("Virtual threads require Java 21 or later.");
+        }
+        gate = Collections.singletonList(new Semaphore(PERMITS));
+        if ("POOL".equals(mode)) {
+            pool = Factory.Thread.makePool(POOL_THREADS, workers);
+        }
+    }
+
+    /**
+     * Método responsável por encerrar o conjunto de threads.
+     */
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        if (pool != null) {
+            pool.close();
+        }
+    }
+
+    /**
+     * Método responsável por medir a execução completa dos trabalhadores.
+     * @return Retorna a quantidade de trabalhadores não concluídos, sempre zero.
+     * @throws InterruptedException Exceção lançada caso a espera seja interrompida.
+     */
+    @Benchmark
+    public long blockingWorkers() throws InterruptedException {
+        final CountDownLatch done = new CountDownLatch(workers);
+        final Worker worker = () -> {
+            LockSupport.parkNanos(BLOCK_NANOS);
+            done.countDown();
+        };
+        for (int i = 0; i < workers; i++) {
+            switch (mode) {
+                case "PLATFORM":
+                    Factory.Thread.makeSafe(worker, gate).start();
+                    break;
+                case "POOL":
+                    pool.submit(() -> {
+                        final Semaphore semaphore = gate.get(0);
+                        semaphore.acquireUninterruptibly();
+                        try {
+                            worker.work();
+                        } finally {
+                            semaphore.release();
+                        }
+                    });
+                    break;
+                default:
+                    Factory.Thread.makeSafeVirtual(worker, gate).start();
+                    break;
+            }
+        }
+        done.await();
+        return done.getCount();
+    }
+
+}
@@ -0,0 +1,185 @@
+/*
+ * This file is part of the SDSUtilityLib Open Source Project.
+ * SDSUtilityLib is licensed under the GNU GPLv3.
+ *
+ * Copyright © 2020. Everton Bruno Silva dos Santos <evertonbrunogithub@yahoo.com>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package evertonbrunosds.SDSUtilityLib.v1.api;
+
+import java.io.Serializable;
+
+/**
+ * Interface responsável por fornecer a assinatura de objeto agregador, isto é, um monoide sobre
+ * valores: uma operação de combinação associativa e seu elemento neutro. As estruturas que mantêm
+ * agregados por sub-árvore combinam os agregados dos filhos com o valor de cada elo, de modo que a
+ * combinação não precisa ser comutativa, mas precisa ser associativa.
+ * @author Everton Bruno Silva dos Santos.
+ * @param <V> Refere-se ao tipo de valor agregado.
+ * @param <A> Refere-se ao tipo do agregado.
+ * @version 1.0
+ * @since 1.0
+ */
+public interface Aggregator<V, A> extends Serializable {
+
+    /**
+     * Método responsável por retornar o elemento neutro da combinação, agregado de nenhum valor.
+     * @return Retorna o elemento neutro.
+     */
+    A identity();
+
+    /**
+     * Método responsável por retornar o agregado de um único valor.
+     * @param value Refere-se ao dito valor.
+     * @return Retorna o agregado do valor.
+     */
+    A lift(V value);
+
+    /**
+     * Método responsável por combinar dois agregados, o primeiro referente aos valores anteriores.
+     * @param left  Refere-se ao agregado dos valores anteriores.
+     * @param right Refere-se ao agregado dos valores posteriores.
+     * @return Retorna o agregado combinado.
+     */
+    A combine(A left, A right);
+
+    /**
+     * Classe responsável por fornecer agregadores de valores decimais.
+     * @author Everton Bruno Silva dos Santos.
+     * @version 1.0
+     * @since 1.0
+     */
+    public static final class Double {
+
+        /**
+         * Método responsável por gerar agregador da soma dos valores decimais extraídos dos valores.
+         * @param <V>       Refere-se ao tipo de valor agregado.
+         * @param extractor Refere-se ao extrator do valor decimal.
+         * @return Retorna agregador da soma.
+         */
+        public static <V> Aggregator<V, java.lang.Double> sum(final Modifier<V, java.lang.Double> extractor) {
+            return new Aggregator<V, java.lang.Double>() {
+                private transient static final long serialVersionUID = 1739204583619204117L;
+                @Override
+                public java.lang.Double identity() {
+                    return 0.0;
+                }
+                @Override
+                public java.lang.Double lift(final V value) {
+                    return extractor.modify(value);
+                }
+                @Override
+                public java.lang.Double combine(final java.lang.Double left, final java.lang.Double right) {
+                    return left + right;
+                }
+            };
+        }
+
+        /**
+         * Método responsável por gerar agregador do menor valor decimal extraído dos valores,
+         * sendo infinito positivo o agregado de nenhum valor.
+         * @param <V>       Refere-se ao tipo de valor agregado.
+         * @param extractor Refere-se ao extrator do valor decimal.
+         * @return Retorna agregador do mínimo.
+         */
+        public static <V> Aggregator<V, java.lang.Double> min(final Modifier<V, java.lang.Double> extractor) {
+            return new Aggregator<V, java.lang.Double>() {
+                private transient static final long serialVersionUID = -4920175320961885031L;
+                @Override
+                public java.lang.Double identity() {
+                    return java.lang.Double.POSITIVE_INFINITY;
+                }
+                @Override
+                public java.lang.Double lift(final V value) {
+                    return extractor.modify(value);
+                }
+                @Override
+                public java.lang.Double combine(final java.lang.Double left, final java.lang.Double right) {
+                    return Math.min(left, right);
+                }
+            };
+        }
+
+        /**
+         * Método responsável por gerar agregador do maior valor decimal extraído dos valores,
+         * sendo infinito negativo o agregado de nenhum valor.
+         * @param <V>       Refere-se ao tipo de valor agregado.
+         * @param extractor Refere-se ao extrator do valor decimal.
+         * @return Retorna agregador do máximo.
+         */
+        public static <V> Aggregator<V, java.lang.Double> max(final Modifier<V, java.lang.Double> extractor) {
+            return new Aggregator<V, java.lang.Double>() {
+                private transient static final long serialVersionUID = 6612093471805530942L;
+                @Override
+                public java.lang.Double identity() {
+                    return java.lang.Double.NEGATIVE_INFINITY;
+                }
+                @Override
+                public java.lang.Double lift(final V value) {
+                    return extractor.modify(value);
+                }
+                @Override
+                public java.lang.Double combine(final java.lang.Double left, final java.lang.Double right) {
+                    return Math.max(left, right);
+                }
+            };
+        }
+
+    }
+
+    /**
+     * Classe responsável por fornecer agregadores de valores inteiros longos.
+     * @author Everton Bruno Silva dos Santos.
+     * @version 1.0
+     * @since 1.0
+     */
+    public static final class Long {
+
+        /**
+         * Método responsável por gerar agregador da quantidade de valores.
+         * @param <V> Refere-se ao tipo de valor agregado.
+         * @return Retorna agregador da quantidade.
+         */
+        public static <V> Aggregator<V, java.lang.Long> count() {
+            return sum(value -> 1L);
+        }
+
+        /**
+         * Método responsável por gerar agregador da soma dos valores inteiros extraídos dos valores.
+         * @param <V>       Refere-se ao tipo de valor agregado.
+         * @param extractor Refere-se ao extrator do valor inteiro.
+         * @return Retorna agregador da soma.
+         */
+        public static <V> Aggregator<V, java.lang.Long> sum(final Modifier<V, java.lang.Long> extractor) {
+            return new Aggregator<V, java.lang.Long>() {
+                private transient static final long serialVersionUID = -7301845220376619458L;
+                @Override
+                public java.lang.Long identity() {
+                    return 0L;
+                }
+                @Override
+                public java.lang.Long lift(final V value) {
+                    return extractor.modify(value);
+                }
+                @Override
+                public java.lang.Long combine(final java.lang.Long left, final java.lang.Long right) {
+                    return left + right;
+                }
+            };
+        }
+
+    }
+
+}
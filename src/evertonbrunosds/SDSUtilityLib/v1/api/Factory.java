@@ -19,7 +19,16 @@
  */
 package evertonbrunosds.SDSUtilityLib.v1.api;
 
+import evertonbrunosds.SDSUtilityLib.v1.util.LockSet;
+import evertonbrunosds.SDSUtilityLib.v1.util.StripedLock;
+import evertonbrunosds.SDSUtilityLib.v1.util.WorkerPool;
+import evertonbrunosds.SDSUtilityLib.v1.util.WorkerScheduler;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
 
 /**
  * Classe responsável por construir instâncias de objetos.
@@ -40,6 +49,139 @@ public interface Factory {
          * Refere-se a instância singular de semáforo de thread.
          */
         public static final Semaphore SEMAPHORE = new Semaphore(1);
+        /**
+         * Refere-se as travas por chave compartilhadas pelas threads por chave, cuja quantidade de faixas
+         * é lida da propriedade de sistema {@code SDSUtilityLib.stripes}, sendo 64 na sua ausência.
+         */
+        public static final StripedLock<Object> STRIPES = new StripedLock<>(Integer.getInteger("SDSUtilityLib.stripes", 64));
+        /**
+         * Refere-se ao conjunto formado apenas pelo semáforo singular.
+         */
+        private static final LockSet GLOBAL_LOCK_SET = new LockSet(SEMAPHORE);
+        /**
+         * Refere-se a quantidade máxima de tentativas de aquisição dos semáforos pelas threads seguras.
+         */
+        private static final int SAFE_ATTEMPTS = 5;
+        /**
+         * Refere-se a espera após a primeira interrupção, dobrada a cada nova tentativa.
+         */
+        private static final long SAFE_BACKOFF_NANOS = TimeUnit.MILLISECONDS.toNanos(1);
+
+        /**
+         * Método responsável por gerar conjunto de quantidade fixa de threads sobre uma fila única.
+         * @param threads  Refere-se a quantidade de threads do conjunto.
+         * @param capacity Refere-se a quantidade máxima de trabalhos aguardando execução.
+         * @return Retorna conjunto de quantidade fixa de threads sobre uma fila única.
+         * @throws IllegalArgumentException Exceção lançada caso a quantidade de threads ou a capacidade não sejam positivas.
+         */
+        public static WorkerPool makePool(final int threads, final int capacity) throws IllegalArgumentException {
+            return new WorkerPool(WorkerPool.Kind.BOUNDED, threads, capacity);
+        }
+
+        /**
+         * Método responsável por gerar conjunto de threads que roubam trabalhos das filas umas das outras.
+         * @param parallelism Refere-se a quantidade de threads do conjunto.
+         * @param capacity    Refere-se a quantidade máxima de trabalhos aguardando execução.
+         * @return Retorna conjunto de threads com roubo de trabalhos.
+         * @throws IllegalArgumentException Exceção lançada caso a quantidade de threads ou a capacidade não sejam positivas.
+         */
+        public static WorkerPool makeWorkStealingPool(final int parallelism, final int capacity) throws IllegalArgumentException {
+            return new WorkerPool(WorkerPool.Kind.WORK_STEALING, parallelism, capacity);
+        }
+
+        /**
+         * Método responsável por gerar conjunto que executa cada trabalho numa thread virtual.
+         * @param capacity Refere-se a quantidade máxima de trabalhos aguardando execução.
+         * @return Retorna conjunto de threads virtuais.
+         * @throws IllegalArgumentException      Exceção lançada caso a capacidade não seja positiva.
+         * @throws UnsupportedOperationException Exceção lançada caso threads virtuais não sejam suportadas.
+         */
+        public static WorkerPool makeVirtualPool(final int capacity) throws IllegalArgumentException, UnsupportedOperationException {
+            return new WorkerPool(WorkerPool.Kind.VIRTUAL, 1, capacity);
+        }
+
+        /**
+         * Método responsável por executar um trabalhador no conjunto compartilhado de threads com roubo de trabalhos,
+         * dimensionado pela quantidade de processadores, sem criar uma nova thread por trabalho.
+         * @param worker Refere-se ao trabalhador que desempenhará dado trabalho.
+         * @return Retorna futuro concluído ao término do trabalho.
+         * @throws NullPointerException Exceção lançada caso o trabalhador seja nulo.
+         */
+        public static CompletableFuture<Void> makeFuture(final Worker worker) throws NullPointerException {
+            return SharedPool.POOL.submit(worker);
+        }
+
+        /**
+         * Método responsável por retornar o conjunto compartilhado de threads, instanciado em seu primeiro uso.
+         * @return Retorna o conjunto compartilhado de threads.
+         */
+        public static WorkerPool getSharedPool() {
+            return SharedPool.POOL;
+        }
+
+        /**
+         * Método responsável por gerar agendador de trabalhadores atrasados ou periódicos.
+         * @param threads Refere-se a quantidade de threads do agendador.
+         * @return Retorna agendador de trabalhadores.
+         * @throws IllegalArgumentException Exceção lançada caso a quantidade de threads não seja positiva.
+         */
+        public static WorkerScheduler makeScheduler(final int threads) throws IllegalArgumentException {
+            return new WorkerScheduler(threads);
+        }
+
+        /**
+         * Método responsável por agendar uma única execução de um trabalhador no agendador compartilhado.
+         * @param worker Refere-se ao trabalhador que desempenhará dado trabalho.
+         * @param delay  Refere-se ao atraso até a execução.
+         * @param unit   Refere-se a unidade do dito atraso.
+         * @return Retorna o trabalho agendado.
+         * @throws NullPointerException     Exceção lançada caso o trabalhador ou a unidade sejam nulos.
+         * @throws IllegalArgumentException Exceção lançada caso o atraso seja negativo.
+         */
+        public static WorkerScheduler.Task makeDelayed(final Worker worker, final long delay, final TimeUnit unit)
+                throws NullPointerException, IllegalArgumentException {
+            return SharedScheduler.SCHEDULER.schedule(worker, delay, unit);
+        }
+
+        /**
+         * Método responsável por agendar execuções periódicas de um trabalhador no agendador compartilhado, a primeira
+         * após um período, descartando as execuções perdidas, em substituição a laços de espera dentro do trabalhador.
+         * @param worker Refere-se ao trabalhador que desempenhará dado trabalho.
+         * @param period Refere-se ao período entre execuções.
+         * @param unit   Refere-se a unidade do dito período.
+         * @return Retorna o trabalho agendado.
+         * @throws NullPointerException     Exceção lançada caso o trabalhador ou a unidade sejam nulos.
+         * @throws IllegalArgumentException Exceção lançada caso o período não seja positivo.
+         */
+        public static WorkerScheduler.Task makePeriodic(final Worker worker, final long period, final TimeUnit unit)
+                throws NullPointerException, IllegalArgumentException {
+            return SharedScheduler.SCHEDULER.schedule(worker, period, period, unit, WorkerScheduler.Missed.SKIP, 0);
+        }
+
+        /**
+         * Método responsável por agendar execuções periódicas de um trabalhador no agendador compartilhado.
+         * @param worker Refere-se ao trabalhador que desempenhará dado trabalho.
+         * @param period Refere-se ao período entre execuções, também usado como atraso da primeira.
+         * @param unit   Refere-se a unidade do dito período.
+         * @param missed Refere-se a política das execuções perdidas por atraso.
+         * @param jitter Refere-se a fração do período, entre zero e um, sorteada como atraso adicional de cada execução.
+         * @return Retorna o trabalho agendado.
+         * @throws NullPointerException     Exceção lançada caso o trabalhador, a unidade ou a política sejam nulos.
+         * @throws IllegalArgumentException Exceção lançada caso o período não seja positivo ou a fração esteja fora do intervalo.
+         */
+        public static WorkerScheduler.Task makePeriodic(final Worker worker, final long period, final TimeUnit unit,
+                final WorkerScheduler.Missed missed, final double jitter) throws NullPointerException, IllegalArgumentException {
+            return SharedScheduler.SCHEDULER.schedule(worker, period, period, unit, missed, jitter);
+        }
+
+        /**
+         * Método responsável por retornar o agendador compartilhado, instanciado em seu primeiro uso, cuja quantidade
+         * de threads é lida da propriedade de sistema {@code SDSUtilityLib.schedulerThreads}, sendo 2 na sua ausência.
+         * @return Retorna o agendador compartilhado.
+         */
+        public static WorkerScheduler getSharedScheduler() {
+            return SharedScheduler.SCHEDULER;
+        }
 
         /**
          * Método responsável por gerar instância de thread sem uso de semáforos.
@@ -63,71 +205,295 @@ public interface Factory {
          *         compartilhado por todas as demais threads geradas por esse método.
          */
         public static java.lang.Thread makeSafe(final Worker worker) {
-            return new java.lang.Thread() {
-                @Override
-                public void run() {
-                    try {
-                        SEMAPHORE.acquire();
-                        worker.work();
-                    } catch (final InterruptedException ex) {
-                        makeSafe(worker).start();
-                    } finally {
-                        SEMAPHORE.release();
-                    }
-                }
-            };
+            return makeSafe(worker, GLOBAL_LOCK_SET);
         }
 
         /**
-         * Método responsável por gerar instância de thread com uso de múltiplos semáforos.
+         * Método responsável por gerar instância de thread com uso de múltiplos semáforos,
+         * adquiridos na ordem global dos conjuntos de semáforos, independente da ordem informada.
          * @param worker     Refere-se ao trabalhador que desempenhará dado trabalho.
          * @param semaphores Refere-se aos múltiplos semáforos.
          * @return Retorna instância de thread com uso de múltiplos semáforos.
          */
         public static java.lang.Thread makeSafe(final Worker worker, final Iterable<Semaphore> semaphores) {
+            return makeSafe(worker, new LockSet(semaphores));
+        }
+
+        /**
+         * Método responsável por gerar instância de thread com uso de um conjunto de semáforos.
+         * @param worker  Refere-se ao trabalhador que desempenhará dado trabalho.
+         * @param lockSet Refere-se ao dito conjunto de semáforos.
+         * @return Retorna instância de thread com uso do conjunto de semáforos.
+         */
+        public static java.lang.Thread makeSafe(final Worker worker, final LockSet lockSet) {
             return new java.lang.Thread() {
                 @Override
                 public void run() {
-                    try {
-                        for (final Semaphore semaphore : semaphores) {
-                            semaphore.acquire();
-                        }
-                        worker.work();
-                    } catch (final InterruptedException ex) {
-                        makeSafe(worker).start();
-                    } finally {
-                        for (final Semaphore semaphore : semaphores) {
-                            semaphore.release();
-                        }
-                    }
+                    runSafe(worker, lockSet);
                 }
             };
         }
 
         /**
-         * Método responsável por gerar instância de thread com uso de múltiplos semáforos.
+         * Método responsável por gerar instância de thread com uso de múltiplos semáforos,
+         * adquiridos na ordem global dos conjuntos de semáforos, independente da ordem informada.
          * @param worker     Refere-se ao trabalhador que desempenhará dado trabalho.
          * @param semaphores Refere-se aos múltiplos semáforos.
          * @return Retorna instância de thread com uso de múltiplos semáforos.
          */
         public static java.lang.Thread makeSafeThread(final Worker worker, final Semaphore[] semaphores) {
+            return makeSafe(worker, new LockSet(semaphores));
+        }
+
+        /**
+         * Método responsável por gerar instância de thread que trabalha de posse exclusiva da trava de determinada chave,
+         * disputando-a apenas com as threads de chaves da mesma faixa, ao contrário do semáforo singular.
+         * @param worker Refere-se ao trabalhador que desempenhará dado trabalho.
+         * @param key    Refere-se a chave cujos dados são tocados pelo trabalho, como o identificador de um livro contábil.
+         * @return Retorna instância de thread com uso da trava da chave.
+         */
+        public static java.lang.Thread makeKeyed(final Worker worker, final Object key) {
+            return makeKeyed(worker, STRIPES, key, StripedLock.Mode.WRITE);
+        }
+
+        /**
+         * Método responsável por gerar instância de thread que trabalha de posse da trava de determinada chave.
+         * @param worker Refere-se ao trabalhador que desempenhará dado trabalho.
+         * @param key    Refere-se a chave cujos dados são tocados pelo trabalho.
+         * @param mode   Refere-se ao modo da trava, compartilhado nas leituras e exclusivo nas escritas.
+         * @return Retorna instância de thread com uso da trava da chave.
+         */
+        public static java.lang.Thread makeKeyed(final Worker worker, final Object key, final StripedLock.Mode mode) {
+            return makeKeyed(worker, STRIPES, key, mode);
+        }
+
+        /**
+         * Método responsável por gerar instância de thread que trabalha de posse da trava de determinada chave
+         * em travas por chave fornecidas pelo desenvolvedor, como travas por identidade para instâncias de árvores.
+         * @param <K>    Refere-se ao tipo de chave das travas.
+         * @param worker Refere-se ao trabalhador que desempenhará dado trabalho.
+         * @param locks  Refere-se as travas por chave.
+         * @param key    Refere-se a chave cujos dados são tocados pelo trabalho.
+         * @param mode   Refere-se ao modo da trava, compartilhado nas leituras e exclusivo nas escritas.
+         * @return Retorna instância de thread com uso da trava da chave.
+         */
+        public static <K> java.lang.Thread makeKeyed(final Worker worker, final StripedLock<K> locks, final K key,
+                final StripedLock.Mode mode) {
             return new java.lang.Thread() {
                 @Override
                 public void run() {
+                    locks.run(key, mode, worker);
+                }
+            };
+        }
+
+        /**
+         * Método responsável por executar um trabalhador de posse de todos os semáforos de um conjunto, na thread atual.
+         * Caso a espera por algum semáforo seja interrompida, o conjunto libera apenas os semáforos efetivamente
+         * adquiridos na tentativa e, após uma espera que dobra a cada tentativa, os mesmos semáforos são novamente
+         * solicitados, até o limite de tentativas; esgotado o limite, o trabalho é abandonado. Em ambos os casos
+         * a indicação de interrupção é restaurada ao término.
+         * @param worker  Refere-se ao trabalhador que desempenhará dado trabalho.
+         * @param lockSet Refere-se ao conjunto de semáforos a ser adquirido.
+         */
+        private static void runSafe(final Worker worker, final LockSet lockSet) {
+            boolean interrupted = false;
+            boolean completed = false;
+            try {
+                for (int attempt = 1; attempt <= SAFE_ATTEMPTS; attempt++) {
+                    SafeStatistics.ATTEMPTS.increment();
                     try {
-                        for (final Semaphore semaphore : semaphores) {
-                            semaphore.acquire();
+                        lockSet.acquire();
+                    } catch (final InterruptedException ex) {
+                        interrupted = true;
+                        if (attempt < SAFE_ATTEMPTS) {
+                            SafeStatistics.RETRIES.increment();
+                            LockSupport.parkNanos(SAFE_BACKOFF_NANOS << (attempt - 1));
                         }
+                        continue;
+                    }
+                    try {
                         worker.work();
-                    } catch (final InterruptedException ex) {
-                        makeSafe(worker).start();
+                        completed = true;
                     } finally {
-                        for (final Semaphore semaphore : semaphores) {
-                            semaphore.release();
-                        }
+                        lockSet.release();
                     }
+                    return;
                 }
-            };
+            } finally {
+                if (!completed) {
+                    SafeStatistics.FAILURES.increment();
+                }
+                if (interrupted) {
+                    java.lang.Thread.currentThread().interrupt();
+                }
+            }
+        }
+
+        /**
+         * Método responsável por retornar a quantidade de tentativas de aquisição dos semáforos pelas threads seguras.
+         * @return Retorna a quantidade de tentativas.
+         */
+        public static long getSafeAttempts() {
+            return SafeStatistics.ATTEMPTS.sum();
+        }
+
+        /**
+         * Método responsável por retornar a quantidade de novas tentativas após interrupções da espera pelos semáforos.
+         * @return Retorna a quantidade de novas tentativas.
+         */
+        public static long getSafeRetries() {
+            return SafeStatistics.RETRIES.sum();
+        }
+
+        /**
+         * Método responsável por retornar a quantidade de trabalhos seguros não concluídos, seja por esgotarem
+         * as tentativas de aquisição dos semáforos ou por lançarem exceções.
+         * @return Retorna a quantidade de falhas.
+         */
+        public static long getSafeFailures() {
+            return SafeStatistics.FAILURES.sum();
+        }
+
+        /**
+         * Método responsável por zerar os contadores das threads seguras.
+         */
+        public static void resetSafeStatistics() {
+            SafeStatistics.ATTEMPTS.reset();
+            SafeStatistics.RETRIES.reset();
+            SafeStatistics.FAILURES.reset();
+        }
+
+        /**
+         * Método responsável por indicar se a máquina virtual suporta threads virtuais.
+         * @return Retorna indicativo de que threads virtuais são suportadas.
+         */
+        public static boolean isVirtualSupported() {
+            return VirtualThreads.FACTORY != null;
+        }
+
+        /**
+         * Método responsável por gerar instância de thread virtual sem uso de semáforos, própria para
+         * trabalhos que bloqueiam em entrada e saída sem ocupar uma thread do sistema operacional.
+         * @param worker Refere-se ao trabalhador que desempenhará dado trabalho.
+         * @return Retorna instância de thread virtual sem uso de semáforos.
+         * @throws UnsupportedOperationException Exceção lançada caso threads virtuais não sejam suportadas.
+         */
+        public static java.lang.Thread makeFreeVirtual(final Worker worker) throws UnsupportedOperationException {
+            return VirtualThreads.make(worker::work);
+        }
+
+        /**
+         * Método responsável por gerar instância de thread virtual com uso do semáforo singular
+         * compartilhado pelas threads geradas pelos métodos seguros.
+         * @param worker Refere-se ao trabalhador que desempenhará dado trabalho.
+         * @return Retorna instância de thread virtual com uso do semáforo singular.
+         * @throws UnsupportedOperationException Exceção lançada caso threads virtuais não sejam suportadas.
+         */
+        public static java.lang.Thread makeSafeVirtual(final Worker worker) throws UnsupportedOperationException {
+            return VirtualThreads.make(() -> runSafe(worker, GLOBAL_LOCK_SET));
+        }
+
+        /**
+         * Método responsável por gerar instância de thread virtual com uso de múltiplos semáforos. A espera pelos
+         * semáforos desmonta a thread virtual de sua thread portadora, que fica livre para outras threads virtuais.
+         * @param worker     Refere-se ao trabalhador que desempenhará dado trabalho.
+         * @param semaphores Refere-se aos múltiplos semáforos.
+         * @return Retorna instância de thread virtual com uso de múltiplos semáforos.
+         * @throws UnsupportedOperationException Exceção lançada caso threads virtuais não sejam suportadas.
+         */
+        public static java.lang.Thread makeSafeVirtual(final Worker worker, final Iterable<Semaphore> semaphores)
+                throws UnsupportedOperationException {
+            final LockSet lockSet = new LockSet(semaphores);
+            return VirtualThreads.make(() -> runSafe(worker, lockSet));
+        }
+
+        /**
+         * Classe responsável por obter, por reflexão, a fábrica de threads virtuais disponível a partir do Java 21,
+         * sem exigir tal versão na compilação da biblioteca.
+         * @author Everton Bruno Silva dos Santos.
+         * @version 1.0
+         * @since 1.0
+         */
+        private static final class VirtualThreads {
+            /**
+             * Refere-se a fábrica de threads virtuais, nula caso não sejam suportadas.
+             */
+            private static final ThreadFactory FACTORY = factory();
+
+            /**
+             * Método responsável por obter a fábrica de threads virtuais através de {@code Thread.ofVirtual().factory()}.
+             * @return Retorna a dita fábrica, ou nulo caso threads virtuais não sejam suportadas.
+             */
+            private static ThreadFactory factory() {
+                try {
+                    final java.lang.reflect.Method ofVirtual = java.lang.Thread.class.getMethod("ofVirtual");
+                    final Object builder = ofVirtual.invoke(null);
+                    return (ThreadFactory) ofVirtual.getReturnType().getMethod("factory").invoke(builder);
+                } catch (final ReflectiveOperationException | UnsupportedOperationException ex) {
+                    return null;
+                }
+            }
+
+            /**
+             * Método responsável por gerar instância de thread virtual não iniciada.
+             * @param runnable Refere-se ao trabalho da dita thread.
+             * @return Retorna instância de thread virtual não iniciada.
+             * @throws UnsupportedOperationException Exceção lançada caso threads virtuais não sejam suportadas.
+             */
+            private static java.lang.Thread make(final Runnable runnable) throws UnsupportedOperationException {
+                if (FACTORY == null) {
+                    throw new UnsupportedOperationException("Virtual threads require Java 21 or later.");
+                }
+                return FACTORY.newThread(runnable);
+            }
+        }
+
+        /**
+         * Classe responsável por comportar-se como contadores das threads seguras.
+         * @author Everton Bruno Silva dos Santos.
+         * @version 1.0
+         * @since 1.0
+         */
+        private static final class SafeStatistics {
+            /**
+             * Refere-se a quantidade de tentativas de aquisição dos semáforos.
+             */
+            private static final LongAdder ATTEMPTS = new LongAdder();
+            /**
+             * Refere-se a quantidade de novas tentativas após interrupções.
+             */
+            private static final LongAdder RETRIES = new LongAdder();
+            /**
+             * Refere-se a quantidade de trabalhos não concluídos.
+             */
+            private static final LongAdder FAILURES = new LongAdder();
+        }
+
+        /**
+         * Classe responsável por instanciar o conjunto compartilhado de threads apenas em seu primeiro uso.
+         * @author Everton Bruno Silva dos Santos.
+         * @version 1.0
+         * @since 1.0
+         */
+        private static final class SharedPool {
+            /**
+             * Refere-se ao conjunto compartilhado de threads.
+             */
+            private static final WorkerPool POOL = makeWorkStealingPool(Runtime.getRuntime().availableProcessors(), Integer.MAX_VALUE);
+        }
+
+        /**
+         * Classe responsável por instanciar o agendador compartilhado apenas em seu primeiro uso.
+         * @author Everton Bruno Silva dos Santos.
+         * @version 1.0
+         * @since 1.0
+         */
+        private static final class SharedScheduler {
+            /**
+             * Refere-se ao agendador compartilhado.
+             */
+            private static final WorkerScheduler SCHEDULER = makeScheduler(Integer.getInteger("SDSUtilityLib.schedulerThreads", 2));
         }
 
     }
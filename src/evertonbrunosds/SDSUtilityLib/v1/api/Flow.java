@@ -0,0 +1,107 @@
+/*
+ * This file is part of the SDSUtilityLib Open Source Project.
+ * SDSUtilityLib is licensed under the GNU GPLv3.
+ *
+ * Copyright © 2020. Everton Bruno Silva dos Santos <evertonbrunogithub@yahoo.com>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package evertonbrunosds.SDSUtilityLib.v1.api;
+
+/**
+ * Interface responsável por fornecer as assinaturas de fluxos reativos com contrapressão, nos quais o assinante
+ * solicita ao publicador quantos dados está disposto a receber. As assinaturas espelham as de
+ * {@code java.util.concurrent.Flow}, disponível a partir do Java 9, de modo que adaptá-las seja imediato.
+ * @author Everton Bruno Silva dos Santos.
+ * @version 1.0
+ * @since 1.0
+ */
+public interface Flow {
+
+    /**
+     * Interface responsável por fornecer a assinatura de método de um publicador de dados.
+     * @author Everton Bruno Silva dos Santos.
+     * @param <T> Refere-se ao tipo de dados publicados.
+     * @version 1.0
+     * @since 1.0
+     */
+    @FunctionalInterface
+    public static interface Publisher<T> {
+
+        /**
+         * Método responsável por registrar um assinante, que recebe em seguida sua assinatura.
+         * @param subscriber Refere-se ao dito assinante.
+         */
+        void subscribe(Subscriber<? super T> subscriber);
+
+    }
+
+    /**
+     * Interface responsável por fornecer as assinaturas de métodos de um assinante de dados, cujos métodos
+     * são chamados em sequência, nunca concorrentemente, e nenhum após o término ou a falha.
+     * @author Everton Bruno Silva dos Santos.
+     * @param <T> Refere-se ao tipo de dados assinados.
+     * @version 1.0
+     * @since 1.0
+     */
+    public static interface Subscriber<T> {
+
+        /**
+         * Método responsável por receber a assinatura, antes de qualquer outro método.
+         * @param subscription Refere-se a dita assinatura.
+         */
+        void onSubscribe(Subscription subscription);
+
+        /**
+         * Método responsável por receber um dado solicitado.
+         * @param item Refere-se ao dito dado.
+         */
+        void onNext(T item);
+
+        /**
+         * Método responsável por receber a falha que encerra a assinatura.
+         * @param throwable Refere-se a dita falha.
+         */
+        void onError(Throwable throwable);
+
+        /**
+         * Método responsável por receber o término da assinatura.
+         */
+        void onComplete();
+
+    }
+
+    /**
+     * Interface responsável por fornecer as assinaturas de métodos de uma assinatura, que liga um publicador
+     * a um assinante.
+     * @author Everton Bruno Silva dos Santos.
+     * @version 1.0
+     * @since 1.0
+     */
+    public static interface Subscription {
+
+        /**
+         * Método responsável por solicitar mais dados, somados aos ainda não entregues.
+         * @param n Refere-se a quantidade de dados solicitados, cuja falta de positividade encerra a assinatura com falha.
+         */
+        void request(long n);
+
+        /**
+         * Método responsável por cancelar a assinatura, após o que dados ainda podem chegar por algum tempo.
+         */
+        void cancel();
+
+    }
+
+}
@@ -0,0 +1,455 @@
+/*
+ * This file is part of the SDSUtilityLib Open Source Project.
+ * SDSUtilityLib is licensed under the GNU GPLv3.
+ *
+ * Copyright © 2020. Everton Bruno Silva dos Santos <evertonbrunogithub@yahoo.com>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package evertonbrunosds.SDSUtilityLib.v1.util;
+
+import evertonbrunosds.SDSUtilityLib.v1.api.Aggregator;
+import evertonbrunosds.SDSUtilityLib.v1.api.Comparator;
+import evertonbrunosds.SDSUtilityLib.v1.api.Duplicable;
+import evertonbrunosds.SDSUtilityLib.v1.api.FileStream;
+import evertonbrunosds.SDSUtilityLib.v1.exceptions.EntryNotFoundException;
+import evertonbrunosds.SDSUtilityLib.v1.exceptions.KeyUsedException;
+import java.io.Serializable;
+import java.util.AbstractList;
+import java.util.AbstractMap.SimpleImmutableEntry;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map.Entry;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.function.Consumer;
+
+/**
+ * Classe responsável por comportar-se como multimapa ordenado sobre a árvore AVL, admitindo
+ * várias entradas de mesma chave sem lançar {@link KeyUsedException}. Os valores de cada chave
+ * formam um balde guardado no próprio elo: uma chave de valor único guarda o valor diretamente,
+ * sem alocações adicionais, e apenas as chaves repetidas passam a usar um vetor. Cada elo mantém
+ * também a quantidade de valores de sua sub-árvore, de modo que as contagens por chave e por
+ * intervalo de chaves custam O(log n).
+ * @author Everton Bruno Silva dos Santos.
+ * @param <K> Refere-se ao tipo de chave usada nas entradas.
+ * @param <V> Refere-se ao tipo de valor usado nas entradas.
+ * @version 1.0
+ * @since 1.0
+ */
+public class AVLMultimap<K, V> implements Iterable<Entry<K, V>>, Duplicable<AVLMultimap<K, V>>, FileStream<AVLMultimap<K, V>> {
+    /**
+     * Refere-se ao número de série do multimapa.
+     */
+    private transient static final long serialVersionUID = 2719310946958686401L;
+    /**
+     * Refere-se a árvore cujos valores são o valor único ou o balde de cada chave.
+     */
+    private final AVLTree<K, Object> data;
+    /**
+     * Refere-se ao objeto comparador de chaves.
+     */
+    private final Comparator<K> comparator;
+    /**
+     * Refere-se a quantidade de valores do multimapa.
+     */
+    private long size;
+
+    /**
+     * Construtor responsável pelo instanciamento do multimapa.
+     * @param comparator Refere-se ao objeto comparador de chaves.
+     * @throws NullPointerException Exceção lançada caso o comparador de chaves seja nulo.
+     */
+    public AVLMultimap(final Comparator<K> comparator) throws NullPointerException {
+        this.data = new AVLTree<>(comparator);
+        this.comparator = comparator;
+        this.data.setAggregator(Aggregator.Long.sum(AVLMultimap::bucketSize));
+    }
+
+    /**
+     * Método responsável por retornar a quantidade de valores de um valor único ou balde.
+     * @param value Refere-se ao dito valor único ou balde.
+     * @return Retorna a quantidade de valores.
+     */
+    private static long bucketSize(final Object value) {
+        return value instanceof Bucket ? ((Bucket) value).size : 1;
+    }
+
+    /**
+     * Método responsável por retornar a quantidade de valores do multimapa.
+     * @return Retorna a quantidade de valores.
+     */
+    public long size() {
+        return size;
+    }
+
+    /**
+     * Método responsável por retornar a quantidade de chaves distintas do multimapa.
+     * @return Retorna a quantidade de chaves distintas.
+     */
+    public int keyCount() {
+        return data.size();
+    }
+
+    /**
+     * Método responsável por indicar se o multimapa está vazio.
+     * @return Retorna indicativo de que o multimapa está vazio.
+     */
+    public boolean isEmpty() {
+        return data.isEmpty();
+    }
+
+    /**
+     * Método responsável por esvaziar o multimapa.
+     */
+    public void clear() {
+        data.clear();
+        size = 0;
+    }
+
+    /**
+     * Método responsável por inserir uma nova entrada no multimapa, após as demais de mesma chave.
+     * @param key   Refere-se a chave da dita entrada.
+     * @param value Refere-se ao valor da dita entrada.
+     */
+    public void put(final K key, final V value) {
+        final Entry<K, Object> entry = findEntry(key);
+        if (entry == null) {
+            try {
+                data.put(key, value);
+            } catch (final KeyUsedException ex) {
+                throw new IllegalStateException(ex);
+            }
+        } else if (entry.getValue() instanceof Bucket) {
+            final Bucket bucket = (Bucket) entry.getValue();
+            bucket.add(value);
+            entry.setValue(bucket);
+        } else {
+            entry.setValue(new Bucket(entry.getValue(), value));
+        }
+        size++;
+    }
+
+    /**
+     * Método responsável por retornar os valores de dada chave, na ordem de inserção.
+     * @param key Refere-se a dita chave.
+     * @return Retorna lista dos valores, vazia caso a chave esteja ausente.
+     */
+    public List<V> get(final K key) {
+        final Entry<K, Object> entry = findEntry(key);
+        return entry != null ? new ArrayList<>(values(entry.getValue())) : new ArrayList<>();
+    }
+
+    /**
+     * Método responsável por retornar a quantidade de valores de dada chave, em O(log n).
+     * @param key Refere-se a dita chave.
+     * @return Retorna a quantidade de valores da chave, zero caso ausente.
+     */
+    public int count(final K key) {
+        final Entry<K, Object> entry = findEntry(key);
+        return entry != null ? (int) bucketSize(entry.getValue()) : 0;
+    }
+
+    /**
+     * Método responsável por retornar a quantidade de valores cujas chaves estão entre dadas chaves, inclusive, em O(log n).
+     * @param from Refere-se a menor chave.
+     * @param to   Refere-se a maior chave.
+     * @return Retorna a quantidade de valores no intervalo.
+     * @throws IllegalArgumentException Exceção lançada caso a menor chave seja maior que a maior chave.
+     */
+    public long count(final K from, final K to) throws IllegalArgumentException {
+        return data.<Long>aggregate(from, to);
+    }
+
+    /**
+     * Método responsável por indicar se o multimapa contém dada chave.
+     * @param key Refere-se a dita chave.
+     * @return Retorna indicativo de que o multimapa contém a chave.
+     */
+    public boolean containsKey(final K key) {
+        return data.containsKey(key);
+    }
+
+    /**
+     * Método responsável por indicar se o multimapa contém dada entrada.
+     * @param key   Refere-se a chave da dita entrada.
+     * @param value Refere-se ao valor da dita entrada.
+     * @return Retorna indicativo de que o multimapa contém a entrada.
+     */
+    public boolean containsEntry(final K key, final V value) {
+        final Entry<K, Object> entry = findEntry(key);
+        return entry != null && values(entry.getValue()).contains(value);
+    }
+
+    /**
+     * Método responsável por remover a primeira entrada de dada chave e dado valor.
+     * @param key   Refere-se a chave da dita entrada.
+     * @param value Refere-se ao valor da dita entrada.
+     * @throws EntryNotFoundException Exceção lançada no caso da entrada não ser encontrada.
+     */
+    public void remove(final K key, final V value) throws EntryNotFoundException {
+        final Entry<K, Object> entry = findEntry(key);
+        if (entry == null) {
+            throw new EntryNotFoundException();
+        } else if (entry.getValue() instanceof Bucket) {
+            final Bucket bucket = (Bucket) entry.getValue();
+            final int index = bucket.indexOf(value);
+            if (index < 0) {
+                throw new EntryNotFoundException();
+            }
+            bucket.remove(index);
+            entry.setValue(bucket.size == 1 ? bucket.values[0] : bucket);
+        } else if (Objects.equals(entry.getValue(), value)) {
+            data.remove(key);
+        } else {
+            throw new EntryNotFoundException();
+        }
+        size--;
+    }
+
+    /**
+     * Método responsável por remover todas as entradas de dada chave.
+     * @param key Refere-se a dita chave.
+     * @return Retorna os valores removidos, na ordem de inserção.
+     * @throws EntryNotFoundException Exceção lançada no caso da chave não ser encontrada.
+     */
+    public List<V> removeAll(final K key) throws EntryNotFoundException {
+        final List<V> values = new ArrayList<>(values(data.find(key).getValue()));
+        data.remove(key);
+        size -= values.size();
+        return values;
+    }
+
+    /**
+     * Método responsável por percorrer por todas as entradas do multimapa em ordem crescente de chaves
+     * e, em cada chave, na ordem de inserção.
+     * @param entry Refere-se as entradas do multimapa.
+     */
+    @Override
+    public void forEach(final Consumer<? super Entry<K, V>> entry) {
+        data.forEachAscending(bucket -> {
+            for (final V value : values(bucket.getValue())) {
+                entry.accept(new SimpleImmutableEntry<>(bucket.getKey(), value));
+            }
+        });
+    }
+
+    /**
+     * Método responsável por percorrer pelos baldes cujas chaves estão entre dadas chaves, inclusive,
+     * em ordem crescente, sem percorrer as demais chaves.
+     * @param from   Refere-se a menor chave.
+     * @param to     Refere-se a maior chave.
+     * @param bucket Refere-se aos baldes, cada qual com sua chave e a lista imutável de seus valores,
+     *               válida apenas durante o percurso.
+     * @throws IllegalArgumentException Exceção lançada caso a menor chave seja maior que a maior chave.
+     */
+    public void forEachBucket(final K from, final K to, final Consumer<? super Entry<K, List<V>>> bucket) throws IllegalArgumentException {
+        for (final Entry<K, Object> entry : data.asNavigableMap().subMap(from, true, to, true).entrySet()) {
+            bucket.accept(new SimpleImmutableEntry<>(entry.getKey(), values(entry.getValue())));
+        }
+    }
+
+    /**
+     * Método responsável por retornar iterador preguiçoso de todas as entradas do multimapa em
+     * ordem crescente de chaves e, em cada chave, na ordem de inserção.
+     * @return Retorna iterador das entradas do multimapa.
+     */
+    @Override
+    public Iterator<Entry<K, V>> iterator() {
+        final Iterator<Entry<K, Object>> buckets = data.ascendingIterator();
+        return new Iterator<Entry<K, V>>() {
+            private K key;
+            private Iterator<V> values = Collections.emptyIterator();
+            @Override
+            public boolean hasNext() {
+                while (!values.hasNext() && buckets.hasNext()) {
+                    final Entry<K, Object> bucket = buckets.next();
+                    key = bucket.getKey();
+                    values = values(bucket.getValue()).iterator();
+                }
+                return values.hasNext();
+            }
+            @Override
+            public Entry<K, V> next() throws NoSuchElementException {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                return new SimpleImmutableEntry<>(key, values.next());
+            }
+        };
+    }
+
+    /**
+     * Método responsável por duplicar o multimapa; os valores são compartilhados, mas não os baldes.
+     * @return Retorna multimapa duplicata.
+     */
+    @Override
+    public AVLMultimap<K, V> duplicate() {
+        final AVLMultimap<K, V> multimap = new AVLMultimap<>(comparator);
+        multimap.data.set(data.duplicate());
+        multimap.data.forEachAscending(entry -> {
+            if (entry.getValue() instanceof Bucket) {
+                entry.setValue(((Bucket) entry.getValue()).duplicate());
+            }
+        });
+        multimap.size = size;
+        return multimap;
+    }
+
+    /**
+     * Método responsável por alterar os dados do multimapa em fluxo; os valores são compartilhados, mas não os baldes.
+     * @param newData Refere-se aos novos dados do multimapa.
+     */
+    @Override
+    public void set(final AVLMultimap<K, V> newData) {
+        data.set(newData.data);
+        data.forEachAscending(entry -> {
+            if (entry.getValue() instanceof Bucket) {
+                entry.setValue(((Bucket) entry.getValue()).duplicate());
+            }
+        });
+        size = newData.size;
+    }
+
+    /**
+     * Método responsável por retornar a entrada da árvore detentora de dada chave.
+     * @param key Refere-se a dita chave.
+     * @return Retorna a entrada detentora da chave, ou nulo caso ausente.
+     */
+    private Entry<K, Object> findEntry(final K key) {
+        try {
+            return data.find(key);
+        } catch (final EntryNotFoundException ex) {
+            return null;
+        }
+    }
+
+    /**
+     * Método responsável por retornar lista imutável dos valores de um valor único ou balde, sem copiá-los;
+     * a lista reflete o balde apenas enquanto este não for alterado.
+     * @param value Refere-se ao dito valor único ou balde.
+     * @return Retorna lista imutável dos valores.
+     */
+    @SuppressWarnings("unchecked")
+    private List<V> values(final Object value) {
+        if (!(value instanceof Bucket)) {
+            return Collections.singletonList((V) value);
+        }
+        final Bucket bucket = (Bucket) value;
+        final Object[] values = bucket.values;
+        final int count = bucket.size;
+        return new AbstractList<V>() {
+            @Override
+            public V get(final int index) {
+                if (index >= count) {
+                    throw new IndexOutOfBoundsException();
+                }
+                return (V) values[index];
+            }
+            @Override
+            public int size() {
+                return count;
+            }
+        };
+    }
+
+    /**
+     * Classe responsável por comportar-se como balde de valores de uma chave repetida.
+     * @author Everton Bruno Silva dos Santos.
+     * @version 1.0
+     * @since 1.0
+     */
+    private static final class Bucket implements Serializable, Duplicable<Bucket> {
+        /**
+         * Refere-se ao número de série do balde.
+         */
+        private transient static final long serialVersionUID = -1603942958686427031L;
+        /**
+         * Refere-se aos valores do balde.
+         */
+        private Object[] values;
+        /**
+         * Refere-se a quantidade de valores do balde.
+         */
+        private int size;
+
+        /**
+         * Construtor responsável pelo instanciamento do balde com seus dois primeiros valores.
+         * @param first  Refere-se ao primeiro valor.
+         * @param second Refere-se ao segundo valor.
+         */
+        private Bucket(final Object first, final Object second) {
+            this.values = new Object[] { first, second, null, null };
+            this.size = 2;
+        }
+
+        /**
+         * Construtor responsável pelo instanciamento do balde.
+         * @param values Refere-se aos valores do balde.
+         * @param size   Refere-se a quantidade de valores do balde.
+         */
+        private Bucket(final Object[] values, final int size) {
+            this.values = values;
+            this.size = size;
+        }
+
+        /**
+         * Método responsável por inserir um valor no fim do balde.
+         * @param value Refere-se ao dito valor.
+         */
+        private void add(final Object value) {
+            if (size == values.length) {
+                values = Arrays.copyOf(values, size * 2);
+            }
+            values[size++] = value;
+        }
+
+        /**
+         * Método responsável por retornar a posição da primeira ocorrência de um valor no balde.
+         * @param value Refere-se ao dito valor.
+         * @return Retorna a posição do valor, ou negativo caso ausente.
+         */
+        private int indexOf(final Object value) {
+            for (int i = 0; i < size; i++) {
+                if (Objects.equals(values[i], value)) {
+                    return i;
+                }
+            }
+            return -1;
+        }
+
+        /**
+         * Método responsável por remover o valor de dada posição do balde.
+         * @param index Refere-se a dita posição.
+         */
+        private void remove(final int index) {
+            System.arraycopy(values, index + 1, values, index, size - index - 1);
+            values[--size] = null;
+        }
+
+        /**
+         * Método responsável por duplicar o balde.
+         * @return Retorna balde duplicata.
+         */
+        @Override
+        public Bucket duplicate() {
+            return new Bucket(Arrays.copyOf(values, values.length), size);
+        }
+
+    }
+
+}
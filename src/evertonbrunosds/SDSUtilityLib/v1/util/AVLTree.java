@@ -19,17 +19,34 @@
  */
 package evertonbrunosds.SDSUtilityLib.v1.util;
 
+import evertonbrunosds.SDSUtilityLib.v1.api.Aggregator;
 import evertonbrunosds.SDSUtilityLib.v1.api.Comparator;
 import evertonbrunosds.SDSUtilityLib.v1.api.Duplicable;
 import evertonbrunosds.SDSUtilityLib.v1.api.FileStream;
 import evertonbrunosds.SDSUtilityLib.v1.exceptions.KeyUsedException;
 import evertonbrunosds.SDSUtilityLib.v1.exceptions.EntryNotFoundException;
+import evertonbrunosds.SDSUtilityLib.v1.api.Modifier;
+import java.io.IOException;
+import java.io.ObjectInputStream;
 import java.io.Serializable;
+import java.util.AbstractCollection;
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.ConcurrentModificationException;
 import java.util.Map.Entry;
 import static java.lang.Math.max;
 import static java.lang.Integer.compare;
+import java.util.Arrays;
 import java.util.Iterator;
 import java.util.LinkedList;
+import java.util.NavigableMap;
+import java.util.NavigableSet;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.atomic.LongAdder;
 import java.util.function.Consumer;
 import evertonbrunosds.SDSUtilityLib.v1.api.Receiver;
 
@@ -46,6 +63,26 @@ public class AVLTree<K, V> implements Iterable<Entry<K, V>>, Duplicable<AVLTree<
      * Refere-se ao número de série da árvore AVL.
      */
     private transient static final long serialVersionUID = -9185946958686492020L;
+    /**
+     * Refere-se a menor quantidade de chaves para a qual o filtro de Bloom é dimensionado.
+     */
+    private static final int MIN_BLOOM_FILTER_CAPACITY = 64;
+    /**
+     * Refere-se a cor vermelha dos elos no balanceamento rubro-negro.
+     */
+    private static final int RED = 1;
+    /**
+     * Refere-se a cor preta dos elos no balanceamento rubro-negro.
+     */
+    private static final int BLACK = 0;
+    /**
+     * Refere-se ao fator de desequilíbrio tolerado entre os pesos das sub-árvores no balanceamento por peso.
+     */
+    private static final int WEIGHT_DELTA = 3;
+    /**
+     * Refere-se ao fator que decide entre rotação simples e dupla no balanceamento por peso.
+     */
+    private static final int WEIGHT_GAMMA = 2;
     /**
      * Refere-se ao objeto comparador de chaves.
      */
@@ -54,6 +91,10 @@ public class AVLTree<K, V> implements Iterable<Entry<K, V>>, Duplicable<AVLTree<
      * Refere-se ao objeto raiz da árvore.
      */
     private Node root;
+    /**
+     * Refere-se a estratégia de balanceamento da árvore.
+     */
+    private Balancing balancing = Balancing.AVL;
     /**
      * Refere-se ao tamanho da árvore.
      */
@@ -62,6 +103,44 @@ public class AVLTree<K, V> implements Iterable<Entry<K, V>>, Duplicable<AVLTree<
      * Refere-se a indicativo de que as iterações devem ser reversas.
      */
     private boolean reverseIterations;
+    /**
+     * Refere-se as estatísticas da árvore, nulas quando desabilitadas.
+     */
+    private transient Statistics statistics;
+    /**
+     * Refere-se ao filtro de Bloom consultado antes das buscas, nulo quando desabilitado.
+     */
+    private BloomFilter<K> bloomFilter;
+    /**
+     * Refere-se ao agregador mantido em cada elo sobre sua sub-árvore, nulo quando ausente.
+     */
+    private Augmenter<K, V, Object> augmenter;
+    /**
+     * Refere-se ao agregador de valores cujos agregados são mantidos em cada elo, nulo quando ausente.
+     */
+    private Aggregator<V, Object> aggregator;
+    /**
+     * Refere-se a quantidade de modificações estruturais, usada pelas visões para detectar
+     * alterações concorrentes durante as iterações.
+     */
+    private transient int modCount;
+    /**
+     * Refere-se ao dedo de inserção: os elos da espinha direita, da raiz até a maior chave,
+     * nulo enquanto não houver inserção sequencial a ser acelerada.
+     */
+    private transient Node[] spine;
+    /**
+     * Refere-se a quantidade de elos válidos no dedo de inserção.
+     */
+    private transient int spineLength;
+    /**
+     * Refere-se a quantidade de modificações estruturais para a qual o dedo de inserção é válido.
+     */
+    private transient int spineModCount;
+    /**
+     * Refere-se a indicativo de que a última inserção recursiva desceu apenas pela espinha direita.
+     */
+    private transient boolean rightmost;
 
     /**
      * Construtor responsável pelo instanciamento da árvore.
@@ -85,6 +164,20 @@ public class AVLTree<K, V> implements Iterable<Entry<K, V>>, Duplicable<AVLTree<
         this.reverseIterations = false;
     }
 
+    /**
+     * Construtor responsável pelo instanciamento da árvore.
+     * @param comparator Refere-se ao objeto comparador de chaves.
+     * @param balancing  Refere-se a estratégia de balanceamento da árvore.
+     * @throws NullPointerException Exceção lançada caso o comparador de chaves ou a estratégia sejam nulos.
+     */
+    public AVLTree(final Comparator<K> comparator, final Balancing balancing) throws NullPointerException {
+        this(comparator);
+        if (balancing == null) {
+            throw new NullPointerException();
+        }
+        this.balancing = balancing;
+    }
+
     /**
      * Construtor responsável pelo instanciamento da árvore.
      * @param comparator        Refere-se ao objeto comparador de chaves.
@@ -107,12 +200,24 @@ public class AVLTree<K, V> implements Iterable<Entry<K, V>>, Duplicable<AVLTree<
         return size;
     }
 
+    /**
+     * Método responsável por retornar a altura da árvore.
+     * @return Retorna a altura da árvore.
+     */
+    public int height() {
+        return root != null ? root.height : 0;
+    }
+
     /**
      * Método responsável por esvaziar a árvore.
      */
     public void clear() {
         root = null;
         size = 0;
+        modCount++;
+        if (bloomFilter != null) {
+            rebuildBloomFilter(bloomFilter.getFalsePositiveRate());
+        }
     }
 
     /**
@@ -130,8 +235,24 @@ public class AVLTree<K, V> implements Iterable<Entry<K, V>>, Duplicable<AVLTree<
      * @throws KeyUsedException Exceção lançada no caso da chave estar em uso por outra entrada.
      */
     public void put(final K key, final V value) throws KeyUsedException {
-        root = put(key, value, root);
-        size++;
+        if (statistics != null) {
+            statistics.operations[Statistics.PUT].increment();
+        }
+        if (!append(key, value)) {
+            rightmost = true;
+            root = put(key, value, root);
+            if (balancing == Balancing.RED_BLACK) {
+                root.balancing = BLACK;
+            } else if (balancing == Balancing.AVL && rightmost) {
+                buildSpine();
+            }
+        }
+        if (bloomFilter != null) {
+            bloomFilter.add(key);
+            if (bloomFilter.getInsertions() > bloomFilter.getExpectedInsertions()) {
+                rebuildBloomFilter(bloomFilter.getFalsePositiveRate());
+            }
+        }
     }
 
     /**
@@ -144,17 +265,92 @@ public class AVLTree<K, V> implements Iterable<Entry<K, V>>, Duplicable<AVLTree<
      */
     private Node put(final K key, final V value, final Node node) throws KeyUsedException {
         if (node == null) {
-            return new Node(key, value);
+            size++;
+            modCount++;
+            final Node newNode = new Node(key, value);
+            if (balancing == Balancing.RED_BLACK) {
+                newNode.balancing = RED;
+            }
+            update(newNode);
+            return newNode;
         }
-        final int result = comparator.compare(node.key, key);
+        final int result = compareKeys(node.key, key, Statistics.PUT);
         if (result > 0) {
+            rightmost = false;
             node.left = put(key, value, node.left);
         } else if (result < 0) {
             node.right = put(key, value, node.right);
         } else {
             throw new KeyUsedException();
         }
-        return adjustHeight(node);
+        return rebalance(node);
+    }
+
+    /**
+     * Método responsável por inserir uma nova entrada após a maior chave da árvore através do dedo de inserção.
+     * Bastando uma comparação com a maior chave para detectar inserções monotônicas, o novo elo é anexado
+     * ao fim da espinha direita e apenas os ancestrais cuja altura mudou são reajustados, o que custa O(1)
+     * amortizado em inserções crescentes. Na presença de agregados a espinha inteira é atualizada, sem,
+     * contudo, novas comparações. Restringe-se a estratégia AVL, já que nas demais a cor ou o peso
+     * de todos os ancestrais pode mudar a cada inserção.
+     * @param key   Refere-se a chave da dita entrada.
+     * @param value Refere-se ao valor da dita entrada.
+     * @return Retorna indicativo de que a entrada foi inserida.
+     */
+    private boolean append(final K key, final V value) {
+        if (spine == null || spineModCount != modCount || balancing != Balancing.AVL
+                || compareKeys(spine[spineLength - 1].key, key, Statistics.PUT) >= 0) {
+            return false;
+        }
+        final Node newNode = new Node(key, value);
+        update(newNode);
+        spine[spineLength - 1].right = newNode;
+        if (spineLength == spine.length) {
+            spine = Arrays.copyOf(spine, spineLength * 2);
+        }
+        spine[spineLength++] = newNode;
+        boolean adjusted = false;
+        for (int i = spineLength - 2; i >= 0 && (!adjusted || augmenter != null); i--) {
+            final Node node = spine[i];
+            final int height = node.height;
+            update(node);
+            if (node.balancing >= 2) {
+                if (statistics != null) {
+                    statistics.simpleRotationsRight.increment();
+                }
+                final Node newRoot = simpleRotationRight(node.right, node);
+                if (i == 0) {
+                    root = newRoot;
+                } else {
+                    spine[i - 1].right = newRoot;
+                }
+                System.arraycopy(spine, i + 1, spine, i, --spineLength - i);
+                adjusted = true;
+            } else if (node.height == height) {
+                adjusted = true;
+            }
+        }
+        size++;
+        spineModCount = ++modCount;
+        if (statistics != null) {
+            statistics.appends.increment();
+        }
+        return true;
+    }
+
+    /**
+     * Método responsável por reconstruir o dedo de inserção a partir da espinha direita da árvore.
+     */
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private void buildSpine() {
+        if (spine == null || spine.length < root.height) {
+            spine = new AVLTree.Node[max(root.height, 16)];
+        }
+        spineLength = 0;
+        for (Node node = root; node != null; node = node.right) {
+            spine[spineLength++] = node;
+        }
+        spineModCount = modCount;
     }
 
     /**
@@ -164,7 +360,10 @@ public class AVLTree<K, V> implements Iterable<Entry<K, V>>, Duplicable<AVLTree<
      * @throws EntryNotFoundException Exceção lançada no caso da entrada não ser encontrada.
      */
     public Entry<K, V> find(final K key) throws EntryNotFoundException {
-        final Entry<K, V> entry = find(key, root);
+        if (statistics != null) {
+            statistics.operations[Statistics.FIND].increment();
+        }
+        final Entry<K, V> entry = findNode(key);
         if (entry == null) {
             throw new EntryNotFoundException();
         }
@@ -177,7 +376,25 @@ public class AVLTree<K, V> implements Iterable<Entry<K, V>>, Duplicable<AVLTree<
      * @return Retorna indicativo de que determinada entrada contém dada chave.
      */
     public boolean containsKey(final K key) {
-        return find(key, root) != null;
+        if (statistics != null) {
+            statistics.operations[Statistics.FIND].increment();
+        }
+        return findNode(key) != null;
+    }
+
+    /**
+     * Método responsável por encontrar o elo detentor de dada chave, consultando antes o filtro de Bloom.
+     * @param key Refere-se a dita chave.
+     * @return Retorna o elo detentor da chave, ou nulo caso inexistente.
+     */
+    private Node findNode(final K key) {
+        if (bloomFilter != null && !bloomFilter.mightContain(key)) {
+            if (statistics != null) {
+                statistics.bloomFilterRejections.increment();
+            }
+            return null;
+        }
+        return find(key, root);
     }
 
     /**
@@ -190,7 +407,7 @@ public class AVLTree<K, V> implements Iterable<Entry<K, V>>, Duplicable<AVLTree<
         if (node == null) {
             return null;
         }
-        final int result = comparator.compare(node.key, key);
+        final int result = compareKeys(node.key, key, Statistics.FIND);
         if (result > 0) {
             return find(key, node.left);
         } else if (result < 0) {
@@ -219,14 +436,15 @@ public class AVLTree<K, V> implements Iterable<Entry<K, V>>, Duplicable<AVLTree<
      * @throws EntryNotFoundException Exceção lançada no caso da entrada não ser encontrada.
      */
     public void setKey(final K currentKey, final K newKey) throws KeyUsedException, EntryNotFoundException {
-        final Node node = find(currentKey, root);
+        final Node node = findNode(currentKey);
         if (node == null) {
             throw new EntryNotFoundException();
         } else if (comparator.compare(currentKey, newKey) == 0) {
             node.key = newKey;
-        } else if (find(newKey, root) == null) {
+        } else if (findNode(newKey) == null) {
+            final V value = node.value;
             remove(currentKey);
-            put(newKey, node.value);
+            put(newKey, value);
         } else {
             throw new KeyUsedException();
         }
@@ -238,7 +456,13 @@ public class AVLTree<K, V> implements Iterable<Entry<K, V>>, Duplicable<AVLTree<
      */
     @Override
     public AVLTree<K, V> duplicate() {
-        return !isEmpty() ? new AVLTree<>(comparator, root.duplicate(), size, reverseIterations) : new AVLTree<>(comparator);
+        final AVLTree<K, V> tree = new AVLTree<>(comparator, null, size, reverseIterations);
+        tree.balancing = balancing;
+        tree.bloomFilter = bloomFilter != null ? bloomFilter.duplicate() : null;
+        tree.augmenter = augmenter;
+        tree.aggregator = aggregator;
+        tree.root = tree.copy(root);
+        return tree;
     }
 
     /**
@@ -247,8 +471,23 @@ public class AVLTree<K, V> implements Iterable<Entry<K, V>>, Duplicable<AVLTree<
      * @throws EntryNotFoundException Exceção lançada no caso da entrada não ser encontrada.
      */
     public void remove(final K key) throws EntryNotFoundException {
-        root = remove(key, root);
-        size--;
+        if (statistics != null) {
+            statistics.operations[Statistics.REMOVE].increment();
+        }
+        if (bloomFilter != null && !bloomFilter.mightContain(key)) {
+            if (statistics != null) {
+                statistics.bloomFilterRejections.increment();
+            }
+            throw new EntryNotFoundException();
+        }
+        if (balancing == Balancing.RED_BLACK) {
+            removeRedBlack(key);
+        } else {
+            root = remove(key, root);
+        }
+        if (bloomFilter != null && bloomFilter.getInsertions() > 2L * Math.max(size, MIN_BLOOM_FILTER_CAPACITY)) {
+            rebuildBloomFilter(bloomFilter.getFalsePositiveRate());
+        }
     }
 
     /**
@@ -262,14 +501,14 @@ public class AVLTree<K, V> implements Iterable<Entry<K, V>>, Duplicable<AVLTree<
         if (node == null) {
             throw new EntryNotFoundException();
         }
-        final int result = comparator.compare(node.key, key);
+        final int result = compareKeys(node.key, key, Statistics.REMOVE);
         if (result > 0) {
             node.left = remove(key, node.left);
         } else if (result < 0) {
             node.right = remove(key, node.right);
         } else if (node.isSubThree()) {
             Node tmpNode = node.left;
-            while (node.right != null) {
+            while (tmpNode.right != null) {
                 tmpNode = tmpNode.right;
             }
             final K tmpKey = tmpNode.key;
@@ -279,14 +518,90 @@ public class AVLTree<K, V> implements Iterable<Entry<K, V>>, Duplicable<AVLTree<
             node.key = tmpKey;
             node.value = tmpValue;
             node.left = remove(key, node.left);
-        } else if (node.leftIsNotNull()) {
-            return node.left;
-        } else if (node.rightIsNotNull()) {
-            return node.right;
         } else {
+            size--;
+            modCount++;
+            return node.leftIsNotNull() ? node.left : node.right;
+        }
+        return rebalance(node);
+    }
+
+    /**
+     * Método responsável por remover uma entrada contida na árvore rubro-negra, mantendo-a inclinada
+     * à esquerda. Como a descida reestrutura a árvore antes de alcançar a chave, sua presença é
+     * verificada antes.
+     * @param key Refere-se a chave de acesso à dita entrada.
+     * @throws EntryNotFoundException Exceção lançada no caso da entrada não ser encontrada.
+     */
+    private void removeRedBlack(final K key) throws EntryNotFoundException {
+        if (find(key, root) == null) {
+            throw new EntryNotFoundException();
+        }
+        if (!isRed(root.left) && !isRed(root.right)) {
+            root.balancing = RED;
+        }
+        root = removeRedBlack(key, root);
+        if (root != null) {
+            root.balancing = BLACK;
+        }
+        size--;
+        modCount++;
+    }
+
+    /**
+     * Método responsável por remover uma entrada presente na árvore rubro-negra recursivamente,
+     * garantindo que o elo visitado ou um de seus filhos a esquerda seja vermelho.
+     * @param key  Refere-se a chave de acesso à dita entrada.
+     * @param node Refere-se ao elo atual da recursão.
+     * @return Retorna árvore reconstruída com a dita entrada ausente.
+     */
+    private Node removeRedBlack(final K key, final Node node) {
+        Node current = node;
+        if (compareKeys(current.key, key, Statistics.REMOVE) > 0) {
+            if (!isRed(current.left) && !isRed(current.left.left)) {
+                current = moveRedLeft(current);
+            }
+            current.left = removeRedBlack(key, current.left);
+        } else {
+            if (isRed(current.left)) {
+                current = rotateRedBlack(current, true);
+            }
+            if (current.right == null && compareKeys(current.key, key, Statistics.REMOVE) == 0) {
+                return null;
+            }
+            if (!isRed(current.right) && !isRed(current.right.left)) {
+                current = moveRedRight(current);
+            }
+            if (compareKeys(current.key, key, Statistics.REMOVE) == 0) {
+                Node successor = current.right;
+                while (successor.left != null) {
+                    successor = successor.left;
+                }
+                current.key = successor.key;
+                current.value = successor.value;
+                current.right = removeMinRedBlack(current.right);
+            } else {
+                current.right = removeRedBlack(key, current.right);
+            }
+        }
+        return fixUpRedBlack(current);
+    }
+
+    /**
+     * Método responsável por remover o elo de menor chave de uma sub-árvore rubro-negra.
+     * @param node Refere-se a raiz da sub-árvore.
+     * @return Retorna sub-árvore reconstruída sem o elo de menor chave.
+     */
+    private Node removeMinRedBlack(final Node node) {
+        if (node.left == null) {
             return null;
         }
-        return adjustHeight(node);
+        Node current = node;
+        if (!isRed(current.left) && !isRed(current.left.left)) {
+            current = moveRedLeft(current);
+        }
+        current.left = removeMinRedBlack(current.left);
+        return fixUpRedBlack(current);
     }
 
     /**
@@ -308,44 +623,249 @@ public class AVLTree<K, V> implements Iterable<Entry<K, V>>, Duplicable<AVLTree<
      */
     @Override
     public void forEach(final Consumer<? super Entry<K, V>> entry) {
-        final Receiver<Node> forEach;
         if (isReverseIterations()) {
-            forEach = new Receiver<Node>() {
-                private transient static final long serialVersionUID = -2032273739428212712L;
-                @Override
-                public void receive(final Node node) {
-                    if (node != null) {
-                        receive(node.right);
-                        entry.accept(node);
-                        receive(node.left);
-                    }
-                }
-            };
+            forEachDescending(entry);
         } else {
-            forEach = new Receiver<Node>() {
-                private transient static final long serialVersionUID = 9019470629284711398L;
+            forEachAscending(entry);
+        }
+    }
+
+    /**
+     * Método responsável por percorrer por entradas contidas na árvore em ordem crescente,
+     * independente da indicação de que as iterações devem ser reversas.
+     * @param entry Refere-se as entradas da árvore detentoras de valores e chaves.
+     */
+    public void forEachAscending(final Consumer<? super Entry<K, V>> entry) {
+        final Receiver<Node> forEach = new Receiver<Node>() {
+            private transient static final long serialVersionUID = 9019470629284711398L;
+            @Override
+            public void receive(final Node node) {
+                if (node != null) {
+                    receive(node.left);
+                    entry.accept(node);
+                    receive(node.right);
+                }
+            }
+        };
+        forEach.receive(root);
+    }
+
+    /**
+     * Método responsável por percorrer por entradas contidas na árvore em ordem decrescente,
+     * independente da indicação de que as iterações devem ser reversas.
+     * @param entry Refere-se as entradas da árvore detentoras de valores e chaves.
+     */
+    public void forEachDescending(final Consumer<? super Entry<K, V>> entry) {
+        final Receiver<Node> forEach = new Receiver<Node>() {
+            private transient static final long serialVersionUID = -2032273739428212712L;
+            @Override
+            public void receive(final Node node) {
+                if (node != null) {
+                    receive(node.right);
+                    entry.accept(node);
+                    receive(node.left);
+                }
+            }
+        };
+        forEach.receive(root);
+    }
+
+    /**
+     * Método responsável por retornar iterador preguiçoso das entradas em ordem crescente.
+     * O iterador percorre os próprios elos da árvore, sem cópias, e não depende da indicação
+     * de que as iterações devem ser reversas; assim, leitores concorrentes podem percorrer
+     * a árvore em ambos os sentidos ao mesmo tempo.
+     * @return Retorna iterador preguiçoso das entradas em ordem crescente.
+     */
+    public Iterator<Entry<K, V>> ascendingIterator() {
+        return new ViewIterator<>(new MapView(true, null, true, true, null, true, false), node -> node);
+    }
+
+    /**
+     * Método responsável por retornar iterador preguiçoso das entradas em ordem decrescente.
+     * O iterador percorre os próprios elos da árvore, sem cópias, e não depende da indicação
+     * de que as iterações devem ser reversas; assim, leitores concorrentes podem percorrer
+     * a árvore em ambos os sentidos ao mesmo tempo.
+     * @return Retorna iterador preguiçoso das entradas em ordem decrescente.
+     */
+    public Iterator<Entry<K, V>> descendingIterator() {
+        return new ViewIterator<>(new MapView(true, null, true, true, null, true, true), node -> node);
+    }
+
+    /**
+     * Método responsável por retornar estrutura iterável das entradas em ordem decrescente,
+     * de modo a permitir seu uso em laços for-each sem alterar o estado da árvore.
+     * @return Retorna estrutura iterável das entradas em ordem decrescente.
+     */
+    public Iterable<Entry<K, V>> descending() {
+        return this::descendingIterator;
+    }
+
+    /**
+     * Método responsável por retornar visão navegável da árvore.
+     * A visão é viva: alterações feitas por ela refletem na árvore e vice-versa,
+     * e suas coleções de chaves, valores e entradas são percorridas sob demanda, sem cópias.
+     * Diferente da árvore, a visão segue o contrato de {@link java.util.Map}, portanto
+     * inserir uma chave em uso substitui seu valor em vez de lançar {@link KeyUsedException}.
+     * @return Retorna visão navegável da árvore.
+     */
+    public NavigableMap<K, V> asNavigableMap() {
+        return new MapView(true, null, true, true, null, true, false);
+    }
+
+    /**
+     * Método responsável por retornar um novo cursor da árvore, inicialmente sem posição.
+     * @return Retorna um novo cursor da árvore.
+     */
+    public Cursor cursor() {
+        return new Cursor();
+    }
+
+    /**
+     * Método responsável por retornar o elo de menor chave da árvore.
+     * @return Retorna o elo de menor chave da árvore, ou nulo caso vazia.
+     */
+    private Node firstNode() {
+        Node node = root;
+        if (node != null) {
+            while (node.left != null) {
+                node = node.left;
+            }
+        }
+        return node;
+    }
+
+    /**
+     * Método responsável por retornar o elo de maior chave da árvore.
+     * @return Retorna o elo de maior chave da árvore, ou nulo caso vazia.
+     */
+    private Node lastNode() {
+        Node node = root;
+        if (node != null) {
+            while (node.right != null) {
+                node = node.right;
+            }
+        }
+        return node;
+    }
+
+    /**
+     * Método responsável por retornar o elo de menor chave maior (ou igual) a dada chave.
+     * @param key       Refere-se a dita chave.
+     * @param inclusive Refere-se a indicativo de que a própria chave é aceita.
+     * @return Retorna o elo encontrado, ou nulo caso inexistente.
+     */
+    private Node ceilingNode(final K key, final boolean inclusive) {
+        Node candidate = null;
+        Node node = root;
+        while (node != null) {
+            final int result = compareKeys(node.key, key, Statistics.FIND);
+            if (result > 0 || (result == 0 && inclusive)) {
+                candidate = node;
+                node = result == 0 ? null : node.left;
+            } else {
+                node = node.right;
+            }
+        }
+        return candidate;
+    }
+
+    /**
+     * Método responsável por retornar o elo de maior chave menor (ou igual) a dada chave.
+     * @param key       Refere-se a dita chave.
+     * @param inclusive Refere-se a indicativo de que a própria chave é aceita.
+     * @return Retorna o elo encontrado, ou nulo caso inexistente.
+     */
+    private Node floorNode(final K key, final boolean inclusive) {
+        Node candidate = null;
+        Node node = root;
+        while (node != null) {
+            final int result = compareKeys(node.key, key, Statistics.FIND);
+            if (result < 0 || (result == 0 && inclusive)) {
+                candidate = node;
+                node = result == 0 ? null : node.right;
+            } else {
+                node = node.left;
+            }
+        }
+        return candidate;
+    }
+
+    /**
+     * Método responsável por alterar os dados da árvore em fluxo.
+     * @param newData Refere-se aos novos dados da árvore.
+     */
+    @Override
+    public void set(final AVLTree<K, V> newData) {
+        final BloomFilter<K> oldBloomFilter = this.bloomFilter;
+        this.comparator = newData.comparator;
+        this.balancing = newData.balancing;
+        this.size = newData.size;
+        this.bloomFilter = newData.bloomFilter != null ? newData.bloomFilter.duplicate() : null;
+        if (augmenter == null) {
+            this.augmenter = newData.augmenter;
+            this.aggregator = newData.aggregator;
+        }
+        this.root = copy(newData.root);
+        this.modCount++;
+        if (bloomFilter == null && oldBloomFilter != null) {
+            rebuildBloomFilter(oldBloomFilter.getFalsePositiveRate());
+        }
+    }
+
+    /**
+     * Método responsável por retornar a estratégia de balanceamento da árvore.
+     * @return Retorna a estratégia de balanceamento.
+     */
+    public Balancing getBalancing() {
+        return balancing;
+    }
+
+    /**
+     * Método responsável por alterar a estratégia de balanceamento da árvore, reinserindo suas
+     * entradas, em ordem, sob a nova estratégia.
+     * @param balancing Refere-se a nova estratégia de balanceamento.
+     * @throws NullPointerException Exceção lançada caso a estratégia seja nula.
+     */
+    public void setBalancing(final Balancing balancing) throws NullPointerException {
+        if (balancing == null) {
+            throw new NullPointerException();
+        } else if (balancing != this.balancing) {
+            final Node oldRoot = root;
+            this.balancing = balancing;
+            root = null;
+            size = 0;
+            final Receiver<Node> reinsert = new Receiver<Node>() {
+                private transient static final long serialVersionUID = 4410362990146317755L;
                 @Override
                 public void receive(final Node node) {
                     if (node != null) {
                         receive(node.left);
-                        entry.accept(node);
+                        root = put(node.key, node.value, root);
+                        if (balancing == Balancing.RED_BLACK) {
+                            root.balancing = BLACK;
+                        }
                         receive(node.right);
                     }
                 }
             };
+            reinsert.receive(oldRoot);
+            modCount++;
         }
-        forEach.receive(root);
     }
 
     /**
-     * Método responsável por alterar os dados da árvore em fluxo.
-     * @param newData Refere-se aos novos dados da árvore.
+     * Método responsável por ler a árvore em fluxo, assumindo a estratégia AVL nas árvores
+     * gravadas antes da existência de estratégias de balanceamento.
+     * @param stream Refere-se ao fluxo de leitura.
+     * @throws IOException            Exceção lançada em caso de falha na leitura.
+     * @throws ClassNotFoundException Exceção lançada caso alguma classe lida não seja encontrada.
      */
-    @Override
-    public void set(final AVLTree<K, V> newData) {
-        this.comparator = newData.comparator;
-        this.root = newData.root;
-        this.size = newData.size;
+    private void readObject(final ObjectInputStream stream) throws IOException, ClassNotFoundException {
+        stream.defaultReadObject();
+        if (balancing == null) {
+            balancing = Balancing.AVL;
+        }
     }
 
     /**
@@ -365,281 +885,2621 @@ public class AVLTree<K, V> implements Iterable<Entry<K, V>>, Duplicable<AVLTree<
     }
 
     /**
-     * Método responsável por efetuar rotações simples a esquerda em elos da árvore.
-     * @param newRoot Refere-se ao novo elo raiz.
-     * @param oldRoot Refere-se ao antigo elo raiz.
-     * @return Retorna elo raiz de árvore rotacionada a esquerda.
+     * Método responsável por habilitar ou desabilitar a coleta de estatísticas da árvore.
+     * Ao habilitar, os contadores partem do zero; ao desabilitar, são descartados.
+     * @param statisticsEnabled Refere-se a indicativo de que as estatísticas devem ser coletadas.
      */
-    private Node simpleRotationLeft(final Node newRoot, final Node oldRoot) {
-        oldRoot.left = newRoot.right;
-        oldRoot.updateHeightAndBalancing();
-        newRoot.right = oldRoot;
-        newRoot.updateHeightAndBalancing();
-        return newRoot;
+    public void setStatisticsEnabled(final boolean statisticsEnabled) {
+        if (!statisticsEnabled) {
+            statistics = null;
+        } else if (statistics == null) {
+            statistics = new Statistics();
+        }
     }
 
     /**
-     * Método responsável por efetuar rotações simples a direita em elos da árvore.
-     * @param newRoot Refere-se ao novo elo raiz.
-     * @param oldRoot Refere-se ao antigo elo raiz.
-     * @return Retorna elo raiz de árvore rotacionada a direita.
+     * Método responsável por indicar se as estatísticas da árvore estão sendo coletadas.
+     * @return Retorna indicativo de que as estatísticas da árvore estão sendo coletadas.
      */
-    private Node simpleRotationRight(final Node newRoot, final Node oldRoot) {
-        oldRoot.right = newRoot.left;
-        oldRoot.updateHeightAndBalancing();
-        newRoot.left = oldRoot;
-        newRoot.updateHeightAndBalancing();
-        return newRoot;
+    public boolean isStatisticsEnabled() {
+        return statistics != null;
     }
 
     /**
-     * Método responsável por efetuar rotações duplas a esquerda em elos da árvore.
-     * @param left    Refere-se ao elo a esquerda.
-     * @param oldRoot Refere-se ao antigo elo raiz.
-     * @return Retorna elo raiz de árvore duplamente rotacionada a esquerda.
+     * Método responsável por retornar as estatísticas da árvore.
+     * @return Retorna as estatísticas da árvore, ou nulo caso estejam desabilitadas.
      */
-    private Node doubleRotationLeft(final Node left, final Node oldRoot) {
-        oldRoot.left = left.right;
-        left.right = oldRoot.left.left;
-        left.updateHeightAndBalancing();
-        oldRoot.left.left = left;
-        oldRoot.left.updateHeightAndBalancing();
-        oldRoot.updateHeightAndBalancing();
-        return simpleRotationLeft(oldRoot.left, oldRoot);
+    public Statistics getStatistics() {
+        return statistics;
     }
 
     /**
-     * Método responsável por efetuar rotações duplas a direita em elos da árvore.
-     * @param right   Refere-se ao elo a direita.
-     * @param oldRoot Refere-se ao antigo elo raiz.
-     * @return Retorna elo raiz de árvore duplamente rotacionada a direita.
+     * Método responsável por habilitar ou desabilitar o filtro de Bloom com a taxa padrão de falsos positivos.
+     * @param bloomFilterEnabled Refere-se a indicativo de que o filtro de Bloom deve ser usado.
+     * @see #setBloomFilterEnabled(boolean, double)
      */
-    private Node doubleRotationRight(final Node right, final Node oldRoot) {
+    public void setBloomFilterEnabled(final boolean bloomFilterEnabled) {
+        setBloomFilterEnabled(bloomFilterEnabled, BloomFilter.DEFAULT_FALSE_POSITIVE_RATE);
+    }
+
+    /**
+     * Método responsável por habilitar ou desabilitar o filtro de Bloom consultado por {@link #find(Object)},
+     * {@link #containsKey(Object)} e {@link #remove(Object)} antes de percorrer a árvore, de modo que a
+     * maioria das buscas por chaves ausentes dispense comparações. O filtro é construído com as chaves atuais,
+     * atualizado a cada inserção e reconstruído quando as inserções excedem sua capacidade ou quando as
+     * remoções o deixam desatualizado. Chaves consideradas iguais pelo comparador devem possuir o mesmo
+     * código de dispersão, como ocorre com o comparador padrão.
+     * @param bloomFilterEnabled Refere-se a indicativo de que o filtro de Bloom deve ser usado.
+     * @param falsePositiveRate  Refere-se a taxa desejada de falsos positivos, entre zero e um.
+     * @throws IllegalArgumentException Exceção lançada caso a taxa não esteja entre zero e um.
+     */
+    public void setBloomFilterEnabled(final boolean bloomFilterEnabled, final double falsePositiveRate) throws IllegalArgumentException {
+        if (!bloomFilterEnabled) {
+            bloomFilter = null;
+        } else {
+            rebuildBloomFilter(falsePositiveRate);
+        }
+    }
+
+    /**
+     * Método responsável por indicar se o filtro de Bloom está sendo usado.
+     * @return Retorna indicativo de que o filtro de Bloom está sendo usado.
+     */
+    public boolean isBloomFilterEnabled() {
+        return bloomFilter != null;
+    }
+
+    /**
+     * Método responsável por retornar o filtro de Bloom da árvore.
+     * @return Retorna o filtro de Bloom da árvore, ou nulo caso desabilitado.
+     */
+    public BloomFilter<K> getBloomFilter() {
+        return bloomFilter;
+    }
+
+    /**
+     * Método responsável por reconstruir o filtro de Bloom com as chaves atuais, dimensionando-o para o dobro delas.
+     * @param falsePositiveRate Refere-se a taxa desejada de falsos positivos.
+     * @throws IllegalArgumentException Exceção lançada caso a taxa não esteja entre zero e um.
+     */
+    private void rebuildBloomFilter(final double falsePositiveRate) throws IllegalArgumentException {
+        final BloomFilter<K> newBloomFilter = new BloomFilter<>(2L * Math.max(size, MIN_BLOOM_FILTER_CAPACITY), falsePositiveRate);
+        forEachAscending(entry -> newBloomFilter.add(entry.getKey()));
+        bloomFilter = newBloomFilter;
+    }
+
+    /**
+     * Método responsável por alterar o agregador de valores cujos agregados são mantidos em cada elo
+     * sobre sua sub-árvore através das inserções, remoções, rotações e alterações de valores, de modo
+     * que {@link #aggregate(Object, boolean, Object, boolean)} responda sobre qualquer intervalo de
+     * chaves em tempo logarítmico, em vez de percorrer suas entradas. Os agregados de todos os elos
+     * são calculados de imediato.
+     * @param <A>        Refere-se ao tipo do agregado.
+     * @param aggregator Refere-se ao dito agregador, ou nulo para removê-lo.
+     */
+    public <A> void setAggregator(final Aggregator<V, A> aggregator) {
+        setAugmenter(aggregator != null ? new AggregatorAugmenter<>(aggregator) : null);
+        setAggregatorField(aggregator);
+    }
+
+    /**
+     * Método responsável por alterar o campo do agregador de valores.
+     * @param <A>        Refere-se ao tipo do agregado.
+     * @param aggregator Refere-se ao dito agregador.
+     */
+    @SuppressWarnings("unchecked")
+    private <A> void setAggregatorField(final Aggregator<V, A> aggregator) {
+        this.aggregator = (Aggregator<V, Object>) aggregator;
+    }
+
+    /**
+     * Método responsável por retornar o agregador de valores da árvore.
+     * @return Retorna o agregador de valores, ou nulo caso ausente.
+     */
+    public Aggregator<V, ?> getAggregator() {
+        return aggregator;
+    }
+
+    /**
+     * Método responsável por retornar o agregado de todos os valores da árvore, em tempo constante.
+     * @param <A> Refere-se ao tipo do agregado.
+     * @return Retorna o agregado de todos os valores.
+     * @throws IllegalStateException Exceção lançada caso a árvore não possua agregador.
+     */
+    @SuppressWarnings("unchecked")
+    public <A> A aggregate() throws IllegalStateException {
+        if (aggregator == null) {
+            throw new IllegalStateException("No aggregator.");
+        }
+        return (A) (root != null ? root.augment : aggregator.identity());
+    }
+
+    /**
+     * Método responsável por retornar o agregado dos valores cujas chaves estão entre dadas chaves, inclusive.
+     * @param <A>  Refere-se ao tipo do agregado.
+     * @param from Refere-se a menor chave.
+     * @param to   Refere-se a maior chave.
+     * @return Retorna o agregado dos valores no intervalo.
+     * @throws IllegalStateException    Exceção lançada caso a árvore não possua agregador.
+     * @throws IllegalArgumentException Exceção lançada caso a menor chave seja maior que a maior chave.
+     */
+    public <A> A aggregate(final K from, final K to) throws IllegalStateException, IllegalArgumentException {
+        return aggregate(from, true, to, true);
+    }
+
+    /**
+     * Método responsável por retornar o agregado dos valores cujas chaves estão entre dadas chaves,
+     * combinados em ordem crescente. A busca desce pelas duas fronteiras do intervalo usando os agregados
+     * das sub-árvores inteiramente contidas nele, custando O(log n) independente da quantidade de entradas.
+     * @param <A>           Refere-se ao tipo do agregado.
+     * @param from          Refere-se a menor chave.
+     * @param fromInclusive Refere-se a indicativo de que a menor chave pertence ao intervalo.
+     * @param to            Refere-se a maior chave.
+     * @param toInclusive   Refere-se a indicativo de que a maior chave pertence ao intervalo.
+     * @return Retorna o agregado dos valores no intervalo.
+     * @throws IllegalStateException    Exceção lançada caso a árvore não possua agregador.
+     * @throws IllegalArgumentException Exceção lançada caso a menor chave seja maior que a maior chave.
+     */
+    @SuppressWarnings("unchecked")
+    public <A> A aggregate(final K from, final boolean fromInclusive, final K to, final boolean toInclusive)
+            throws IllegalStateException, IllegalArgumentException {
+        if (aggregator == null) {
+            throw new IllegalStateException("No aggregator.");
+        } else if (comparator.compare(from, to) > 0) {
+            throw new IllegalArgumentException("fromKey > toKey");
+        }
+        Node node = root;
+        while (node != null) {
+            if (tooLow(node.key, from, fromInclusive)) {
+                node = node.right;
+            } else if (tooHigh(node.key, to, toInclusive)) {
+                node = node.left;
+            } else {
+                final Object left = aggregateFrom(node.left, from, fromInclusive);
+                final Object right = aggregateTo(node.right, to, toInclusive);
+                return (A) aggregator.combine(aggregator.combine(left, aggregator.lift(node.value)), right);
+            }
+        }
+        return (A) aggregator.identity();
+    }
+
+    /**
+     * Método responsável por retornar o agregado dos valores de uma sub-árvore cujas chaves não estão abaixo de dada chave.
+     * @param node      Refere-se a raiz da sub-árvore.
+     * @param from      Refere-se a dita chave.
+     * @param inclusive Refere-se a indicativo de que a chave pertence ao intervalo.
+     * @return Retorna o agregado dos valores.
+     */
+    private Object aggregateFrom(final Node node, final K from, final boolean inclusive) {
+        Object result = aggregator.identity();
+        Node current = node;
+        while (current != null) {
+            if (tooLow(current.key, from, inclusive)) {
+                current = current.right;
+            } else {
+                final Object right = current.right != null ? current.right.augment : aggregator.identity();
+                result = aggregator.combine(aggregator.combine(aggregator.lift(current.value), right), result);
+                current = current.left;
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Método responsável por retornar o agregado dos valores de uma sub-árvore cujas chaves não estão acima de dada chave.
+     * @param node      Refere-se a raiz da sub-árvore.
+     * @param to        Refere-se a dita chave.
+     * @param inclusive Refere-se a indicativo de que a chave pertence ao intervalo.
+     * @return Retorna o agregado dos valores.
+     */
+    private Object aggregateTo(final Node node, final K to, final boolean inclusive) {
+        Object result = aggregator.identity();
+        Node current = node;
+        while (current != null) {
+            if (tooHigh(current.key, to, inclusive)) {
+                current = current.left;
+            } else {
+                final Object left = current.left != null ? current.left.augment : aggregator.identity();
+                result = aggregator.combine(result, aggregator.combine(left, aggregator.lift(current.value)));
+                current = current.right;
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Método responsável por indicar se uma chave está abaixo do início de um intervalo.
+     * @param key       Refere-se a dita chave.
+     * @param from      Refere-se ao início do intervalo.
+     * @param inclusive Refere-se a indicativo de que o início pertence ao intervalo.
+     * @return Retorna indicativo de que a chave está abaixo do intervalo.
+     */
+    private boolean tooLow(final K key, final K from, final boolean inclusive) {
+        final int result = compareKeys(key, from, Statistics.FIND);
+        return result < 0 || (result == 0 && !inclusive);
+    }
+
+    /**
+     * Método responsável por indicar se uma chave está acima do fim de um intervalo.
+     * @param key       Refere-se a dita chave.
+     * @param to        Refere-se ao fim do intervalo.
+     * @param inclusive Refere-se a indicativo de que o fim pertence ao intervalo.
+     * @return Retorna indicativo de que a chave está acima do intervalo.
+     */
+    private boolean tooHigh(final K key, final K to, final boolean inclusive) {
+        final int result = compareKeys(key, to, Statistics.FIND);
+        return result > 0 || (result == 0 && !inclusive);
+    }
+
+    /**
+     * Método responsável por comparar chaves contabilizando a chamada ao comparador.
+     * @param k1        Refere-se a primeira chave.
+     * @param k2        Refere-se a segunda chave.
+     * @param operation Refere-se a operação responsável pela comparação.
+     * @return Retorna o resultado da comparação.
+     */
+    private int compareKeys(final K k1, final K k2, final int operation) {
+        if (statistics != null) {
+            statistics.comparisons[operation].increment();
+        }
+        return comparator.compare(k1, k2);
+    }
+
+    /**
+     * Método responsável por efetuar rotações simples a esquerda em elos da árvore.
+     * @param newRoot Refere-se ao novo elo raiz.
+     * @param oldRoot Refere-se ao antigo elo raiz.
+     * @return Retorna elo raiz de árvore rotacionada a esquerda.
+     */
+    private Node simpleRotationLeft(final Node newRoot, final Node oldRoot) {
+        oldRoot.left = newRoot.right;
+        update(oldRoot);
+        newRoot.right = oldRoot;
+        update(newRoot);
+        return newRoot;
+    }
+
+    /**
+     * Método responsável por efetuar rotações simples a direita em elos da árvore.
+     * @param newRoot Refere-se ao novo elo raiz.
+     * @param oldRoot Refere-se ao antigo elo raiz.
+     * @return Retorna elo raiz de árvore rotacionada a direita.
+     */
+    private Node simpleRotationRight(final Node newRoot, final Node oldRoot) {
+        oldRoot.right = newRoot.left;
+        update(oldRoot);
+        newRoot.left = oldRoot;
+        update(newRoot);
+        return newRoot;
+    }
+
+    /**
+     * Método responsável por efetuar rotações duplas a esquerda em elos da árvore.
+     * @param left    Refere-se ao elo a esquerda.
+     * @param oldRoot Refere-se ao antigo elo raiz.
+     * @return Retorna elo raiz de árvore duplamente rotacionada a esquerda.
+     */
+    private Node doubleRotationLeft(final Node left, final Node oldRoot) {
+        oldRoot.left = left.right;
+        left.right = oldRoot.left.left;
+        update(left);
+        oldRoot.left.left = left;
+        update(oldRoot.left);
+        update(oldRoot);
+        return simpleRotationLeft(oldRoot.left, oldRoot);
+    }
+
+    /**
+     * Método responsável por efetuar rotações duplas a direita em elos da árvore.
+     * @param right   Refere-se ao elo a direita.
+     * @param oldRoot Refere-se ao antigo elo raiz.
+     * @return Retorna elo raiz de árvore duplamente rotacionada a direita.
+     */
+    private Node doubleRotationRight(final Node right, final Node oldRoot) {
         oldRoot.right = right.left;
         right.left = oldRoot.right.right;
-        right.updateHeightAndBalancing();
+        update(right);
         oldRoot.right.right = right;
-        oldRoot.right.updateHeightAndBalancing();
-        oldRoot.updateHeightAndBalancing();
+        update(oldRoot.right);
+        update(oldRoot);
         return simpleRotationRight(oldRoot.right, oldRoot);
     }
 
     /**
-     * Método responsável por ajustar a altura de determinado elo da árvore.
-     * @param node Refere-se ao dito elo a ter sua altura ajustada.
-     * @return Retorna elo raiz da árvore reconstruída com altura ajustada.
+     * Método responsável por atualizar a altura, o balanceamento e o agregado de determinado elo,
+     * a partir dos valores já atualizados de seus filhos.
+     * @param node Refere-se ao dito elo.
+     */
+    private void update(final Node node) {
+        node.updateHeightAndBalancing(balancing);
+        node.augment = augmenter != null ? augmenter.augment(node.key, node.value, node.left != null ? node.left.augment : null,
+                node.right != null ? node.right.augment : null) : null;
+    }
+
+    /**
+     * Método responsável por recalcular os agregados de todos os elos de uma sub-árvore, dos filhos aos pais.
+     * @param node Refere-se a raiz da dita sub-árvore.
+     */
+    private void updateAll(final Node node) {
+        if (node != null) {
+            updateAll(node.left);
+            updateAll(node.right);
+            update(node);
+        }
+    }
+
+    /**
+     * Método responsável por recalcular os agregados do caminho da raiz até o elo de dada chave,
+     * após a alteração do valor desse elo.
+     * @param node Refere-se ao elo atual da recursão.
+     * @param key  Refere-se a dita chave.
+     */
+    private void updatePath(final Node node, final K key) {
+        if (node != null) {
+            final int result = comparator.compare(node.key, key);
+            if (result > 0) {
+                updatePath(node.left, key);
+            } else if (result < 0) {
+                updatePath(node.right, key);
+            }
+            update(node);
+        }
+    }
+
+    /**
+     * Método responsável por copiar uma sub-árvore para esta árvore, recalculando seus agregados.
+     * @param node Refere-se a raiz da dita sub-árvore.
+     * @return Retorna a raiz da cópia.
+     */
+    private Node copy(final Node node) {
+        if (node == null) {
+            return null;
+        }
+        final Node newNode = new Node(node.key, node.value, node.height, node.balancing);
+        newNode.left = copy(node.left);
+        newNode.right = copy(node.right);
+        update(newNode);
+        return newNode;
+    }
+
+    /**
+     * Método responsável por alterar o agregador mantido em cada elo sobre sua sub-árvore,
+     * recalculando os agregados de todos os elos.
+     * @param <A>       Refere-se ao tipo do agregado.
+     * @param augmenter Refere-se ao dito agregador, ou nulo para removê-lo.
+     */
+    @SuppressWarnings("unchecked")
+    <A> void setAugmenter(final Augmenter<K, V, A> augmenter) {
+        this.augmenter = (Augmenter<K, V, Object>) augmenter;
+        updateAll(root);
+    }
+
+    /**
+     * Método responsável por percorrer em ordem crescente as entradas contidas na árvore, descartando
+     * as sub-árvores cujo agregado indique não conter entradas de interesse e encerrando o percurso
+     * na primeira chave além do intervalo de interesse.
+     * @param skip  Refere-se a indicativo, a partir do agregado, de que a sub-árvore deve ser descartada.
+     * @param stop  Refere-se a indicativo de que a chave e todas as maiores estão além do interesse.
+     * @param entry Refere-se as entradas percorridas.
+     */
+    void forEachAugmented(final Modifier<Object, Boolean> skip, final Modifier<K, Boolean> stop, final Consumer<? super Entry<K, V>> entry) {
+        forEachAugmented(root, skip, stop, entry);
+    }
+
+    /**
+     * Método responsável por percorrer recursivamente as entradas de uma sub-árvore, conforme
+     * {@link #forEachAugmented(Modifier, Modifier, Consumer)}.
+     * @param node  Refere-se a raiz da sub-árvore.
+     * @param skip  Refere-se a indicativo, a partir do agregado, de que a sub-árvore deve ser descartada.
+     * @param stop  Refere-se a indicativo de que a chave e todas as maiores estão além do interesse.
+     * @param entry Refere-se as entradas percorridas.
+     * @return Retorna indicativo de que o percurso foi encerrado.
+     */
+    private boolean forEachAugmented(final Node node, final Modifier<Object, Boolean> skip, final Modifier<K, Boolean> stop,
+            final Consumer<? super Entry<K, V>> entry) {
+        if (node == null || skip.modify(node.augment)) {
+            return false;
+        } else if (forEachAugmented(node.left, skip, stop, entry) || stop.modify(node.key)) {
+            return true;
+        }
+        entry.accept(node);
+        return forEachAugmented(node.right, skip, stop, entry);
+    }
+
+    /**
+     * Método responsável por restaurar o balanceamento de determinado elo após a alteração de uma de
+     * suas sub-árvores, conforme a estratégia de balanceamento da árvore.
+     * @param node Refere-se ao dito elo.
+     * @return Retorna elo raiz da sub-árvore balanceada.
+     */
+    private Node rebalance(final Node node) {
+        switch (balancing) {
+            case RED_BLACK:
+                return fixUpRedBlack(node);
+            case WEIGHT_BALANCED:
+                return adjustWeight(node);
+            default:
+                return adjustHeight(node);
+        }
+    }
+
+    /**
+     * Método responsável por indicar se determinado elo é vermelho no balanceamento rubro-negro.
+     * @param node Refere-se ao dito elo.
+     * @return Retorna indicativo de que o elo existe e é vermelho.
+     */
+    private boolean isRed(final Node node) {
+        return node != null && node.balancing == RED;
+    }
+
+    /**
+     * Método responsável por rotacionar um elo da árvore rubro-negra, transferindo sua cor ao filho
+     * que o substitui e tornando-o vermelho.
+     * @param node      Refere-se ao dito elo.
+     * @param leftRises Refere-se a indicativo de que o filho a esquerda é o que o substitui.
+     * @return Retorna elo raiz da sub-árvore rotacionada.
+     */
+    private Node rotateRedBlack(final Node node, final boolean leftRises) {
+        final Node newRoot = leftRises ? node.left : node.right;
+        newRoot.balancing = node.balancing;
+        node.balancing = RED;
+        if (leftRises) {
+            if (statistics != null) {
+                statistics.simpleRotationsLeft.increment();
+            }
+            return simpleRotationLeft(newRoot, node);
+        }
+        if (statistics != null) {
+            statistics.simpleRotationsRight.increment();
+        }
+        return simpleRotationRight(newRoot, node);
+    }
+
+    /**
+     * Método responsável por inverter as cores de um elo e de seus dois filhos na árvore rubro-negra.
+     * @param node Refere-se ao dito elo.
+     */
+    private void flipColors(final Node node) {
+        node.balancing ^= RED;
+        node.left.balancing ^= RED;
+        node.right.balancing ^= RED;
+    }
+
+    /**
+     * Método responsável por tornar vermelho o filho a esquerda ou um de seus filhos, antes da descida à esquerda.
+     * @param node Refere-se ao elo atual.
+     * @return Retorna elo raiz da sub-árvore reestruturada.
+     */
+    private Node moveRedLeft(final Node node) {
+        Node current = node;
+        flipColors(current);
+        if (isRed(current.right.left)) {
+            current.right = rotateRedBlack(current.right, true);
+            current = rotateRedBlack(current, false);
+            flipColors(current);
+        }
+        return current;
+    }
+
+    /**
+     * Método responsável por tornar vermelho o filho a direita ou um de seus filhos, antes da descida à direita.
+     * @param node Refere-se ao elo atual.
+     * @return Retorna elo raiz da sub-árvore reestruturada.
+     */
+    private Node moveRedRight(final Node node) {
+        Node current = node;
+        flipColors(current);
+        if (isRed(current.left.left)) {
+            current = rotateRedBlack(current, true);
+            flipColors(current);
+        }
+        return current;
+    }
+
+    /**
+     * Método responsável por restaurar, na subida, as propriedades da árvore rubro-negra inclinada à
+     * esquerda: nenhum filho vermelho a direita e nenhum par de vermelhos consecutivos.
+     * @param node Refere-se ao elo atual.
+     * @return Retorna elo raiz da sub-árvore reestruturada.
+     */
+    private Node fixUpRedBlack(final Node node) {
+        Node current = node;
+        if (isRed(current.right) && !isRed(current.left)) {
+            current = rotateRedBlack(current, false);
+        }
+        if (isRed(current.left) && isRed(current.left.left)) {
+            current = rotateRedBlack(current, true);
+        }
+        if (isRed(current.left) && isRed(current.right)) {
+            flipColors(current);
+        }
+        update(current);
+        return current;
+    }
+
+    /**
+     * Método responsável por retornar o peso de uma sub-árvore no balanceamento por peso, isto é,
+     * sua quantidade de elos mais um.
+     * @param node Refere-se a raiz da sub-árvore.
+     * @return Retorna o peso da sub-árvore.
+     */
+    private int weight(final Node node) {
+        return node != null ? node.balancing + 1 : 1;
+    }
+
+    /**
+     * Método responsável por ajustar o peso de determinado elo da árvore balanceada por peso, rotacionando-o
+     * caso o peso de uma sub-árvore exceda o triplo do peso da outra.
+     * @param node Refere-se ao dito elo.
+     * @return Retorna elo raiz da sub-árvore balanceada.
+     */
+    private Node adjustWeight(final Node node) {
+        update(node);
+        final int leftWeight = weight(node.left);
+        final int rightWeight = weight(node.right);
+        if (leftWeight > WEIGHT_DELTA * rightWeight) {
+            if (weight(node.left.right) < WEIGHT_GAMMA * weight(node.left.left)) {
+                if (statistics != null) {
+                    statistics.simpleRotationsLeft.increment();
+                }
+                return simpleRotationLeft(node.left, node);
+            }
+            if (statistics != null) {
+                statistics.doubleRotationsLeft.increment();
+            }
+            return doubleRotationLeft(node.left, node);
+        } else if (rightWeight > WEIGHT_DELTA * leftWeight) {
+            if (weight(node.right.left) < WEIGHT_GAMMA * weight(node.right.right)) {
+                if (statistics != null) {
+                    statistics.simpleRotationsRight.increment();
+                }
+                return simpleRotationRight(node.right, node);
+            }
+            if (statistics != null) {
+                statistics.doubleRotationsRight.increment();
+            }
+            return doubleRotationRight(node.right, node);
+        }
+        return node;
+    }
+
+    /**
+     * Método responsável por ajustar a altura de determinado elo da árvore.
+     * @param node Refere-se ao dito elo a ter sua altura ajustada.
+     * @return Retorna elo raiz da árvore reconstruída com altura ajustada.
+     */
+    private Node adjustHeight(final Node node) {
+        update(node);
+        if (node.balancing <= -2) {
+            if (node.balancing * node.left.balancing > 0) {
+                if (statistics != null) {
+                    statistics.simpleRotationsLeft.increment();
+                }
+                return simpleRotationLeft(node.left, node);
+            } else {
+                if (statistics != null) {
+                    statistics.doubleRotationsLeft.increment();
+                }
+                return doubleRotationLeft(node.left, node);
+            }
+        } else if (node.balancing >= 2) {
+            if (node.balancing * node.right.balancing > 0) {
+                if (statistics != null) {
+                    statistics.simpleRotationsRight.increment();
+                }
+                return simpleRotationRight(node.right, node);
+            } else {
+                if (statistics != null) {
+                    statistics.doubleRotationsRight.increment();
+                }
+                return doubleRotationRight(node.right, node);
+            }
+        }
+        return node;
+    }
+
+    /**
+     * Enumeração responsável por definir as estratégias de balanceamento da árvore. A estratégia AVL
+     * mantém a menor altura, favorecendo buscas; a rubro-negra, inclinada à esquerda, tolera maior
+     * altura e reestrutura menos nas inserções; a balanceada por peso limita a razão entre as
+     * quantidades de elos das sub-árvores, rotacionando raramente em inserções e remoções aleatórias.
+     * @author Everton Bruno Silva dos Santos.
+     * @version 1.0
+     * @since 1.0
+     */
+    public enum Balancing {
+        /**
+         * Refere-se ao balanceamento por diferença de alturas de no máximo um.
+         */
+        AVL,
+        /**
+         * Refere-se ao balanceamento rubro-negro inclinado à esquerda.
+         */
+        RED_BLACK,
+        /**
+         * Refere-se ao balanceamento por peso, com pesos das sub-árvores de razão no máximo três.
+         */
+        WEIGHT_BALANCED
+    }
+
+    /**
+     * Interface responsável por calcular o agregado de uma sub-árvore a partir da entrada de sua raiz
+     * e dos agregados de suas sub-árvores, mantido pela árvore em cada elo através das inserções,
+     * remoções e rotações.
+     * @author Everton Bruno Silva dos Santos.
+     * @param <K> Refere-se ao tipo de chave usada nas entradas.
+     * @param <V> Refere-se ao tipo de valor usado nas entradas.
+     * @param <A> Refere-se ao tipo do agregado.
+     * @version 1.0
+     * @since 1.0
+     */
+    @FunctionalInterface
+    interface Augmenter<K, V, A> extends Serializable {
+
+        /**
+         * Método responsável por calcular o agregado de uma sub-árvore.
+         * @param key   Refere-se a chave da raiz da sub-árvore.
+         * @param value Refere-se ao valor da raiz da sub-árvore.
+         * @param left  Refere-se ao agregado da sub-árvore a esquerda, ou nulo caso vazia.
+         * @param right Refere-se ao agregado da sub-árvore a direita, ou nulo caso vazia.
+         * @return Retorna o agregado da sub-árvore.
+         */
+        A augment(final K key, final V value, final A left, final A right);
+
+    }
+
+    /**
+     * Classe responsável por comportar-se como agregador de sub-árvores que combina, em ordem crescente,
+     * o agregado da esquerda, o valor do elo e o agregado da direita.
+     * @author Everton Bruno Silva dos Santos.
+     * @param <K> Refere-se ao tipo de chave usada nas entradas.
+     * @param <V> Refere-se ao tipo de valor usado nas entradas.
+     * @param <A> Refere-se ao tipo do agregado.
+     * @version 1.0
+     * @since 1.0
+     */
+    private static final class AggregatorAugmenter<K, V, A> implements Augmenter<K, V, A> {
+        /**
+         * Refere-se ao número de série do agregador de sub-árvores.
+         */
+        private transient static final long serialVersionUID = -5128849301733617290L;
+        /**
+         * Refere-se ao agregador de valores.
+         */
+        private final Aggregator<V, A> aggregator;
+
+        /**
+         * Construtor responsável pelo instanciamento do agregador de sub-árvores.
+         * @param aggregator Refere-se ao agregador de valores.
+         */
+        private AggregatorAugmenter(final Aggregator<V, A> aggregator) {
+            this.aggregator = aggregator;
+        }
+
+        /**
+         * Método responsável por calcular o agregado de uma sub-árvore.
+         * @param key   Refere-se a chave da raiz da sub-árvore.
+         * @param value Refere-se ao valor da raiz da sub-árvore.
+         * @param left  Refere-se ao agregado da sub-árvore a esquerda, ou nulo caso vazia.
+         * @param right Refere-se ao agregado da sub-árvore a direita, ou nulo caso vazia.
+         * @return Retorna o agregado da sub-árvore.
+         */
+        @Override
+        public A augment(final K key, final V value, final A left, final A right) {
+            A result = aggregator.lift(value);
+            if (left != null) {
+                result = aggregator.combine(left, result);
+            }
+            if (right != null) {
+                result = aggregator.combine(result, right);
+            }
+            return result;
+        }
+
+    }
+
+    /**
+     * Classe responsável por comportar-se como estatísticas da árvore.
+     * Os contadores são do tipo {@link LongAdder}, de modo que leituras concorrentes
+     * possam contabilizar suas comparações sem disputa por um único contador.
+     * @author Everton Bruno Silva dos Santos.
+     * @version 1.0
+     * @since 1.0
+     */
+    public final class Statistics {
+        /**
+         * Refere-se ao índice da operação de inserção.
+         */
+        private static final int PUT = 0;
+        /**
+         * Refere-se ao índice da operação de busca.
+         */
+        private static final int FIND = 1;
+        /**
+         * Refere-se ao índice da operação de remoção.
+         */
+        private static final int REMOVE = 2;
+        /**
+         * Refere-se a quantidade de operações contabilizadas por tipo.
+         */
+        private final LongAdder[] operations;
+        /**
+         * Refere-se a quantidade de chamadas ao comparador por tipo de operação.
+         */
+        private final LongAdder[] comparisons;
+        /**
+         * Refere-se a quantidade de rotações simples a esquerda.
+         */
+        private final LongAdder simpleRotationsLeft;
+        /**
+         * Refere-se a quantidade de rotações simples a direita.
+         */
+        private final LongAdder simpleRotationsRight;
+        /**
+         * Refere-se a quantidade de rotações duplas a esquerda.
+         */
+        private final LongAdder doubleRotationsLeft;
+        /**
+         * Refere-se a quantidade de rotações duplas a direita.
+         */
+        private final LongAdder doubleRotationsRight;
+        /**
+         * Refere-se a quantidade de buscas por chaves ausentes descartadas pelo filtro de Bloom.
+         */
+        private final LongAdder bloomFilterRejections;
+        /**
+         * Refere-se a quantidade de inserções anexadas pelo dedo de inserção sem percorrer a árvore.
+         */
+        private final LongAdder appends;
+
+        /**
+         * Construtor responsável pelo instanciamento das estatísticas.
+         */
+        private Statistics() {
+            this.operations = new LongAdder[] { new LongAdder(), new LongAdder(), new LongAdder() };
+            this.comparisons = new LongAdder[] { new LongAdder(), new LongAdder(), new LongAdder() };
+            this.simpleRotationsLeft = new LongAdder();
+            this.simpleRotationsRight = new LongAdder();
+            this.doubleRotationsLeft = new LongAdder();
+            this.doubleRotationsRight = new LongAdder();
+            this.bloomFilterRejections = new LongAdder();
+            this.appends = new LongAdder();
+        }
+
+        /**
+         * Método responsável por retornar o tamanho da árvore.
+         * @return Retorna o tamanho da árvore.
+         */
+        public int getSize() {
+            return size;
+        }
+
+        /**
+         * Método responsável por retornar a altura da árvore.
+         * @return Retorna a altura da árvore.
+         */
+        public int getHeight() {
+            return height();
+        }
+
+        /**
+         * Método responsável por retornar a quantidade de inserções solicitadas.
+         * @return Retorna a quantidade de inserções solicitadas.
+         */
+        public long getPuts() {
+            return operations[PUT].sum();
+        }
+
+        /**
+         * Método responsável por retornar a quantidade de buscas solicitadas.
+         * @return Retorna a quantidade de buscas solicitadas.
+         */
+        public long getFinds() {
+            return operations[FIND].sum();
+        }
+
+        /**
+         * Método responsável por retornar a quantidade de remoções solicitadas.
+         * @return Retorna a quantidade de remoções solicitadas.
+         */
+        public long getRemoves() {
+            return operations[REMOVE].sum();
+        }
+
+        /**
+         * Método responsável por retornar a quantidade de chamadas ao comparador em inserções.
+         * @return Retorna a quantidade de chamadas ao comparador em inserções.
+         */
+        public long getPutComparisons() {
+            return comparisons[PUT].sum();
+        }
+
+        /**
+         * Método responsável por retornar a quantidade de chamadas ao comparador em buscas.
+         * @return Retorna a quantidade de chamadas ao comparador em buscas.
+         */
+        public long getFindComparisons() {
+            return comparisons[FIND].sum();
+        }
+
+        /**
+         * Método responsável por retornar a quantidade de chamadas ao comparador em remoções.
+         * @return Retorna a quantidade de chamadas ao comparador em remoções.
+         */
+        public long getRemoveComparisons() {
+            return comparisons[REMOVE].sum();
+        }
+
+        /**
+         * Método responsável por retornar a quantidade de rotações simples a esquerda.
+         * @return Retorna a quantidade de rotações simples a esquerda.
+         */
+        public long getSimpleRotationsLeft() {
+            return simpleRotationsLeft.sum();
+        }
+
+        /**
+         * Método responsável por retornar a quantidade de rotações simples a direita.
+         * @return Retorna a quantidade de rotações simples a direita.
+         */
+        public long getSimpleRotationsRight() {
+            return simpleRotationsRight.sum();
+        }
+
+        /**
+         * Método responsável por retornar a quantidade de rotações duplas a esquerda.
+         * @return Retorna a quantidade de rotações duplas a esquerda.
+         */
+        public long getDoubleRotationsLeft() {
+            return doubleRotationsLeft.sum();
+        }
+
+        /**
+         * Método responsável por retornar a quantidade de rotações duplas a direita.
+         * @return Retorna a quantidade de rotações duplas a direita.
+         */
+        public long getDoubleRotationsRight() {
+            return doubleRotationsRight.sum();
+        }
+
+        /**
+         * Método responsável por retornar a quantidade total de rotações.
+         * @return Retorna a quantidade total de rotações.
+         */
+        public long getRotations() {
+            return getSimpleRotationsLeft() + getSimpleRotationsRight()
+                    + getDoubleRotationsLeft() + getDoubleRotationsRight();
+        }
+
+        /**
+         * Método responsável por retornar a quantidade de buscas descartadas pelo filtro de Bloom sem comparações.
+         * @return Retorna a quantidade de buscas descartadas pelo filtro de Bloom.
+         */
+        public long getBloomFilterRejections() {
+            return bloomFilterRejections.sum();
+        }
+
+        /**
+         * Método responsável por retornar a quantidade de inserções anexadas pelo dedo de inserção após a maior chave.
+         * @return Retorna a quantidade de inserções sequenciais anexadas pelo dedo de inserção.
+         */
+        public long getAppends() {
+            return appends.sum();
+        }
+
+        /**
+         * Método responsável por zerar os contadores das estatísticas.
+         */
+        public void reset() {
+            for (int i = 0; i < operations.length; i++) {
+                operations[i].reset();
+                comparisons[i].reset();
+            }
+            simpleRotationsLeft.reset();
+            simpleRotationsRight.reset();
+            doubleRotationsLeft.reset();
+            doubleRotationsRight.reset();
+            bloomFilterRejections.reset();
+            appends.reset();
+        }
+
+    }
+
+    /**
+     * Classe responsável por comportar-se como cursor da árvore, próprio para consultas do tipo
+     * "posicionar em uma chave e então avançar N entradas". Cada passo custa O(1) amortizado
+     * e o cursor pode ser reaproveitado entre consultas sem novas alocações.
+     * Alterações estruturais na árvore invalidam o posicionamento, exigindo nova busca.
+     * @author Everton Bruno Silva dos Santos.
+     * @version 1.0
+     * @since 1.0
+     */
+    public final class Cursor {
+        /**
+         * Refere-se ao caminho da raiz até o elo atual.
+         */
+        private final Path path;
+        /**
+         * Refere-se a quantidade de modificações estruturais esperada.
+         */
+        private int expectedModCount;
+
+        /**
+         * Construtor responsável pelo instanciamento do cursor.
+         */
+        private Cursor() {
+            this.path = new Path();
+        }
+
+        /**
+         * Método responsável por posicionar o cursor na entrada de menor chave maior ou igual a dada chave.
+         * @param key Refere-se a dita chave.
+         * @return Retorna indicativo de que o cursor está posicionado em uma entrada.
+         */
+        public boolean seek(final K key) {
+            expectedModCount = modCount;
+            return path.ceiling(key, true) != null;
+        }
+
+        /**
+         * Método responsável por posicionar o cursor na entrada de maior chave menor ou igual a dada chave.
+         * @param key Refere-se a dita chave.
+         * @return Retorna indicativo de que o cursor está posicionado em uma entrada.
+         */
+        public boolean seekFloor(final K key) {
+            expectedModCount = modCount;
+            return path.floor(key, true) != null;
+        }
+
+        /**
+         * Método responsável por posicionar o cursor na entrada de menor chave.
+         * @return Retorna indicativo de que o cursor está posicionado em uma entrada.
+         */
+        public boolean seekFirst() {
+            expectedModCount = modCount;
+            return path.first() != null;
+        }
+
+        /**
+         * Método responsável por posicionar o cursor na entrada de maior chave.
+         * @return Retorna indicativo de que o cursor está posicionado em uma entrada.
+         */
+        public boolean seekLast() {
+            expectedModCount = modCount;
+            return path.last() != null;
+        }
+
+        /**
+         * Método responsável por avançar o cursor para a entrada seguinte.
+         * @return Retorna indicativo de que o cursor está posicionado em uma entrada.
+         * @throws ConcurrentModificationException Exceção lançada no caso da árvore ter sido modificada.
+         */
+        public boolean next() throws ConcurrentModificationException {
+            checkModCount();
+            return path.current() != null && path.next() != null;
+        }
+
+        /**
+         * Método responsável por recuar o cursor para a entrada anterior.
+         * @return Retorna indicativo de que o cursor está posicionado em uma entrada.
+         * @throws ConcurrentModificationException Exceção lançada no caso da árvore ter sido modificada.
+         */
+        public boolean prev() throws ConcurrentModificationException {
+            checkModCount();
+            return path.current() != null && path.previous() != null;
+        }
+
+        /**
+         * Método responsável por indicar se o cursor está posicionado em uma entrada.
+         * @return Retorna indicativo de que o cursor está posicionado em uma entrada.
+         */
+        public boolean isValid() {
+            return path.current() != null && expectedModCount == modCount;
+        }
+
+        /**
+         * Método responsável por retornar a chave da entrada atual.
+         * @return Retorna a chave da entrada atual.
+         * @throws EntryNotFoundException          Exceção lançada no caso do cursor não estar posicionado.
+         * @throws ConcurrentModificationException Exceção lançada no caso da árvore ter sido modificada.
+         */
+        public K getKey() throws EntryNotFoundException, ConcurrentModificationException {
+            return current().key;
+        }
+
+        /**
+         * Método responsável por retornar o valor da entrada atual.
+         * @return Retorna o valor da entrada atual.
+         * @throws EntryNotFoundException          Exceção lançada no caso do cursor não estar posicionado.
+         * @throws ConcurrentModificationException Exceção lançada no caso da árvore ter sido modificada.
+         */
+        public V getValue() throws EntryNotFoundException, ConcurrentModificationException {
+            return current().value;
+        }
+
+        /**
+         * Método responsável por alterar o valor da entrada atual.
+         * @param value Refere-se ao novo valor da entrada.
+         * @return Retorna o antigo valor da entrada.
+         * @throws EntryNotFoundException          Exceção lançada no caso do cursor não estar posicionado.
+         * @throws ConcurrentModificationException Exceção lançada no caso da árvore ter sido modificada.
+         */
+        public V setValue(final V value) throws EntryNotFoundException, ConcurrentModificationException {
+            return current().setValue(value);
+        }
+
+        /**
+         * Método responsável por retornar a entrada atual.
+         * @return Retorna a entrada atual.
+         * @throws EntryNotFoundException          Exceção lançada no caso do cursor não estar posicionado.
+         * @throws ConcurrentModificationException Exceção lançada no caso da árvore ter sido modificada.
+         */
+        public Entry<K, V> getEntry() throws EntryNotFoundException, ConcurrentModificationException {
+            return current();
+        }
+
+        /**
+         * Método responsável por retornar o elo atual.
+         * @return Retorna o elo atual.
+         * @throws EntryNotFoundException          Exceção lançada no caso do cursor não estar posicionado.
+         * @throws ConcurrentModificationException Exceção lançada no caso da árvore ter sido modificada.
+         */
+        private Node current() throws EntryNotFoundException, ConcurrentModificationException {
+            checkModCount();
+            final Node node = path.current();
+            if (node == null) {
+                throw new EntryNotFoundException();
+            }
+            return node;
+        }
+
+        /**
+         * Método responsável por verificar se a árvore foi modificada desde o posicionamento do cursor.
+         * @throws ConcurrentModificationException Exceção lançada no caso da árvore ter sido modificada.
+         */
+        private void checkModCount() throws ConcurrentModificationException {
+            if (path.current() != null && expectedModCount != modCount) {
+                throw new ConcurrentModificationException();
+            }
+        }
+
+    }
+
+    /**
+     * Classe responsável por comportar-se como elo da árvore.
+     * @author Everton Bruno Silva dos Santos.
+     * @version 1.0
+     * @since 1.0
+     */
+    private class Node implements Entry<K, V>, Serializable, Duplicable<Node> {
+        /**
+         * Refere-se ao número de série do elo da árvore AVL.
+         */
+        private transient static final long serialVersionUID = -9185946958686495728L;
+        /**
+         * Refere-se a chave contida no elo.
+         */
+        private K key;
+        /**
+         * Refere-se ao valor contido no elo.
+         */
+        private V value;
+        /**
+         * Refere-se a altura do elo.
+         */
+        private int height;
+        /**
+         * Refere-se ao valor de balanceamento contido no elo, conforme a estratégia da árvore.
+         */
+        private int balancing;
+        /**
+         * Refere-se ao elo a esquerda.
+         */
+        private Node left;
+        /**
+         * Refere-se ao elo a direita.
+         */
+        private Node right;
+        /**
+         * Refere-se ao agregado da sub-árvore do elo, nulo quando a árvore não possui agregador.
+         */
+        private Object augment;
+
+        /**
+         * Construtor responsável pelo instanciamento do elo.
+         * @param key   Refere-se a chave contida no elo.
+         * @param value Refere-se ao valor contido no elo.
+         */
+        private Node(final K key, final V value) {
+            this.key = key;
+            this.value = value;
+            this.height = 1;
+            this.balancing = 0;
+        }
+
+        /**
+         * Construtor responsável pelo instanciamento do elo.
+         * @param key       Refere-se a chave contida no elo.
+         * @param value     Refere-se ao valor contido no elo.
+         * @param height    Refere-se a altura do elo.
+         * @param balancing Refere-se ao valor de balanceamento contido no elo.
+         */
+        private Node(final K key, final V value, final int height, final int balancing) {
+            this.key = key;
+            this.value = value;
+            this.height = height;
+            this.balancing = balancing;
+        }
+
+        /**
+         * Método responsável por indicar se o elo é uma sub-árvore.
+         * @return Retorna indicativo de que o elo é uma sub-árvore.
+         */
+        private boolean isSubThree() {
+            return leftIsNotNull() && rightIsNotNull();
+        }
+
+        /**
+         * Método responsável por indicar se o elo não é nulo a esquerda.
+         * @return Retorna indicativo de que o elo não é nulo a esquerda.
+         */
+        private boolean leftIsNotNull() {
+            return left != null;
+        }
+
+        /**
+         * Método responsável por indicar se o elo não é nulo a direita.
+         * @return Retorna indicativo de que o elo não é nulo a direita.
+         */
+        private boolean rightIsNotNull() {
+            return right != null;
+        }
+
+        /**
+         * Método responsável por atualizar a altura e o balanceamento contido no elo: a diferença de
+         * alturas na estratégia AVL e a quantidade de elos na balanceada por peso; a cor da estratégia
+         * rubro-negra é mantida pelas próprias operações da árvore.
+         * @param strategy Refere-se a estratégia de balanceamento da árvore.
+         */
+        private void updateHeightAndBalancing(final Balancing strategy) {
+            final int leftHeight = leftIsNotNull() ? left.height : 0;
+            final int rightHeight = rightIsNotNull() ? right.height : 0;
+            height = 1 + max(leftHeight, rightHeight);
+            if (strategy == Balancing.AVL) {
+                balancing = rightHeight - leftHeight;
+            } else if (strategy == Balancing.WEIGHT_BALANCED) {
+                balancing = 1 + (leftIsNotNull() ? left.balancing : 0) + (rightIsNotNull() ? right.balancing : 0);
+            }
+        }
+
+        /**
+         * Método responsável por retornar chave contida no elo.
+         * @return Retorna chave contida no elo.
+         */
+        @Override
+        public K getKey() {
+            return key;
+        }
+
+        /**
+         * Método responsável por retornar valor contido no elo.
+         * @return Retorna valor contido no elo.
+         */
+        @Override
+        public V getValue() {
+            return value;
+        }
+
+        /**
+         * Método responsável por alterar valor contido no elo.
+         * @param value Refere-se ao novo valor contido no elo.
+         * @return Retorna antigo valor contido no elo.
+         */
+        @Override
+        public V setValue(final V value) {
+            final V oldValue = this.value;
+            this.value = value;
+            if (augmenter != null) {
+                updatePath(root, key);
+            }
+            return oldValue;
+        }
+
+        /**
+         * Método responsável por comparar o elo com outra entrada, conforme o contrato de {@link Entry}.
+         * @param object Refere-se a outra entrada.
+         * @return Retorna indicativo de que ambas possuem chaves e valores iguais.
+         */
+        @Override
+        public boolean equals(final Object object) {
+            if (!(object instanceof Entry)) {
+                return false;
+            }
+            final Entry<?, ?> entry = (Entry<?, ?>) object;
+            return Objects.equals(key, entry.getKey()) && Objects.equals(value, entry.getValue());
+        }
+
+        /**
+         * Método responsável por retornar o código de dispersão do elo, conforme o contrato de {@link Entry}.
+         * @return Retorna o código de dispersão do elo.
+         */
+        @Override
+        public int hashCode() {
+            return Objects.hashCode(key) ^ Objects.hashCode(value);
+        }
+
+        /**
+         * Método responsável por converter o elo para String.
+         * @return Retorna o elo em String.
+         */
+        @Override
+        public String toString() {
+            return key + "=" + value;
+        }
+
+        /**
+         * Método responsável por duplicar o elo.
+         * @return Retorna elo duplicata.
+         */
+        @Override
+        public Node duplicate() {
+            return copy(this);
+        }
+
+    }
+
+    /**
+     * Classe responsável por comportar-se como uma estrutura iterável.
+     * @author Everton Bruno Silva dos Santos.
+     * @param <T> Refere-se ao tipo de dados iterável.
+     * @version 1.0
+     * @since 1.0
+     */
+    private class MyIterator<T> implements Iterator<T>, Serializable {
+        /**
+         * Refere-se ao número de série do iterador da árvore.
+         */
+        private transient static final long serialVersionUID = -2020946958686495728L;
+        /**
+         * Refere-se aos elementos contidos no iterador.
+         */
+        private final LinkedList<T> elements;
+
+        /**
+         * Construtor responsável pelo instanciamento da estrutura iterável.
+         */
+        private MyIterator() {
+            this.elements = new LinkedList<>();
+        }
+
+        /**
+         * Método responsável por indicar se há um próximo elemento.
+         * @return Retorna indicativo de que há um próximo elemento.
+         */
+        @Override
+        public boolean hasNext() {
+            return !elements.isEmpty();
+        }
+
+        /**
+         * Método responsável por retornar um próximo elemento.
+         * @return Retorna um próximo elemento.
+         */
+        @Override
+        public T next() {
+            return !elements.isEmpty() ? elements.removeFirst() : null;
+        }
+
+    }
+
+    /**
+     * Classe responsável por comportar-se como caminho da raiz até um elo da árvore.
+     * Percorrer o caminho para o sucessor ou antecessor custa O(1) amortizado,
+     * e o vetor de elos é reaproveitado entre buscas enquanto comportar a altura da árvore.
+     * @author Everton Bruno Silva dos Santos.
+     * @version 1.0
+     * @since 1.0
+     */
+    private final class Path implements Serializable {
+        /**
+         * Refere-se ao número de série do caminho da árvore.
+         */
+        private transient static final long serialVersionUID = -2025946958686495728L;
+        /**
+         * Refere-se aos elos contidos no caminho, da raiz até o elo atual.
+         */
+        private Node[] nodes;
+        /**
+         * Refere-se a profundidade do elo atual.
+         */
+        private int depth;
+
+        /**
+         * Construtor responsável pelo instanciamento do caminho.
+         */
+        @SuppressWarnings({ "unchecked", "rawtypes" })
+        private Path() {
+            this.nodes = (Node[]) new AVLTree.Node[16];
+            this.depth = 0;
+        }
+
+        /**
+         * Método responsável por esvaziar o caminho garantindo espaço para a altura atual da árvore.
+         */
+        @SuppressWarnings({ "unchecked", "rawtypes" })
+        private void reset() {
+            final int capacity = height() + 1;
+            if (nodes.length < capacity) {
+                nodes = (Node[]) new AVLTree.Node[max(capacity, nodes.length * 2)];
+            }
+            depth = 0;
+        }
+
+        /**
+         * Método responsável por retornar o elo atual do caminho.
+         * @return Retorna o elo atual do caminho, ou nulo caso vazio.
+         */
+        private Node current() {
+            return depth > 0 ? nodes[depth - 1] : null;
+        }
+
+        /**
+         * Método responsável por posicionar o caminho no elo de menor chave.
+         * @return Retorna o elo de menor chave, ou nulo caso a árvore esteja vazia.
+         */
+        private Node first() {
+            reset();
+            for (Node node = root; node != null; node = node.left) {
+                nodes[depth++] = node;
+            }
+            return current();
+        }
+
+        /**
+         * Método responsável por posicionar o caminho no elo de maior chave.
+         * @return Retorna o elo de maior chave, ou nulo caso a árvore esteja vazia.
+         */
+        private Node last() {
+            reset();
+            for (Node node = root; node != null; node = node.right) {
+                nodes[depth++] = node;
+            }
+            return current();
+        }
+
+        /**
+         * Método responsável por posicionar o caminho no elo de menor chave maior (ou igual) a dada chave.
+         * @param key       Refere-se a dita chave.
+         * @param inclusive Refere-se a indicativo de que a própria chave é aceita.
+         * @return Retorna o elo encontrado, ou nulo caso inexistente.
+         */
+        private Node ceiling(final K key, final boolean inclusive) {
+            reset();
+            int found = 0;
+            Node node = root;
+            while (node != null) {
+                nodes[depth++] = node;
+                final int result = compareKeys(node.key, key, Statistics.FIND);
+                if (result > 0 || (result == 0 && inclusive)) {
+                    found = depth;
+                    node = result == 0 ? null : node.left;
+                } else {
+                    node = node.right;
+                }
+            }
+            depth = found;
+            return current();
+        }
+
+        /**
+         * Método responsável por posicionar o caminho no elo de maior chave menor (ou igual) a dada chave.
+         * @param key       Refere-se a dita chave.
+         * @param inclusive Refere-se a indicativo de que a própria chave é aceita.
+         * @return Retorna o elo encontrado, ou nulo caso inexistente.
+         */
+        private Node floor(final K key, final boolean inclusive) {
+            reset();
+            int found = 0;
+            Node node = root;
+            while (node != null) {
+                nodes[depth++] = node;
+                final int result = compareKeys(node.key, key, Statistics.FIND);
+                if (result < 0 || (result == 0 && inclusive)) {
+                    found = depth;
+                    node = result == 0 ? null : node.right;
+                } else {
+                    node = node.left;
+                }
+            }
+            depth = found;
+            return current();
+        }
+
+        /**
+         * Método responsável por avançar o caminho até o sucessor do elo atual.
+         * @return Retorna o sucessor, ou nulo caso o elo atual seja o último.
+         */
+        private Node next() {
+            Node node = nodes[depth - 1];
+            if (node.right != null) {
+                for (node = node.right; node != null; node = node.left) {
+                    nodes[depth++] = node;
+                }
+            } else {
+                Node child;
+                do {
+                    child = nodes[--depth];
+                } while (depth > 0 && nodes[depth - 1].right == child);
+            }
+            return current();
+        }
+
+        /**
+         * Método responsável por recuar o caminho até o antecessor do elo atual.
+         * @return Retorna o antecessor, ou nulo caso o elo atual seja o primeiro.
+         */
+        private Node previous() {
+            Node node = nodes[depth - 1];
+            if (node.left != null) {
+                for (node = node.left; node != null; node = node.right) {
+                    nodes[depth++] = node;
+                }
+            } else {
+                Node child;
+                do {
+                    child = nodes[--depth];
+                } while (depth > 0 && nodes[depth - 1].left == child);
+            }
+            return current();
+        }
+
+    }
+
+    /**
+     * Classe responsável por comportar-se como iterador preguiçoso sobre os elos de uma visão.
+     * @author Everton Bruno Silva dos Santos.
+     * @param <T> Refere-se ao tipo de dados iterável.
+     * @version 1.0
+     * @since 1.0
+     */
+    private final class ViewIterator<T> implements Iterator<T> {
+        /**
+         * Refere-se a visão percorrida.
+         */
+        private final MapView view;
+        /**
+         * Refere-se ao modificador que extrai o dado retornado de cada elo.
+         */
+        private final Modifier<Node, T> modifier;
+        /**
+         * Refere-se ao caminho até o próximo elo.
+         */
+        private final Path path;
+        /**
+         * Refere-se ao próximo elo a ser retornado.
+         */
+        private Node next;
+        /**
+         * Refere-se a chave do último elo retornado.
+         */
+        private K lastKey;
+        /**
+         * Refere-se a indicativo de que há um último elo passível de remoção.
+         */
+        private boolean removable;
+        /**
+         * Refere-se a quantidade de modificações estruturais esperada.
+         */
+        private int expectedModCount;
+
+        /**
+         * Construtor responsável pelo instanciamento do iterador.
+         * @param view     Refere-se a visão percorrida.
+         * @param modifier Refere-se ao modificador que extrai o dado retornado de cada elo.
+         */
+        private ViewIterator(final MapView view, final Modifier<Node, T> modifier) {
+            this.view = view;
+            this.modifier = modifier;
+            this.path = new Path();
+            this.expectedModCount = modCount;
+            seek(view.descending ? view.absHighest() : view.absLowest());
+        }
+
+        /**
+         * Método responsável por posicionar o caminho em dado elo.
+         * @param node Refere-se ao dito elo.
+         */
+        private void seek(final Node node) {
+            next = node != null ? path.ceiling(node.key, true) : null;
+        }
+
+        /**
+         * Método responsável por indicar se há um próximo elemento.
+         * @return Retorna indicativo de que há um próximo elemento.
+         */
+        @Override
+        public boolean hasNext() {
+            return next != null;
+        }
+
+        /**
+         * Método responsável por retornar um próximo elemento.
+         * @return Retorna um próximo elemento.
+         * @throws NoSuchElementException          Exceção lançada no caso de não haver próximo elemento.
+         * @throws ConcurrentModificationException Exceção lançada no caso da árvore ter sido modificada.
+         */
+        @Override
+        public T next() throws NoSuchElementException, ConcurrentModificationException {
+            if (next == null) {
+                throw new NoSuchElementException();
+            } else if (modCount != expectedModCount) {
+                throw new ConcurrentModificationException();
+            }
+            final Node node = next;
+            lastKey = node.key;
+            removable = true;
+            next = view.descending ? path.previous() : path.next();
+            if (next != null && (view.descending ? view.tooLow(next.key) : view.tooHigh(next.key))) {
+                next = null;
+            }
+            return modifier.modify(node);
+        }
+
+        /**
+         * Método responsável por remover o último elemento retornado.
+         * @throws IllegalStateException           Exceção lançada no caso de não haver elemento a remover.
+         * @throws ConcurrentModificationException Exceção lançada no caso da árvore ter sido modificada.
+         */
+        @Override
+        public void remove() throws IllegalStateException, ConcurrentModificationException {
+            if (!removable) {
+                throw new IllegalStateException();
+            } else if (modCount != expectedModCount) {
+                throw new ConcurrentModificationException();
+            }
+            AVLTree.this.remove(lastKey);
+            expectedModCount = modCount;
+            removable = false;
+            seek(view.descending ? view.absLower(lastKey) : view.absHigher(lastKey));
+        }
+
+    }
+
+    /**
+     * Classe responsável por comportar-se como visão navegável, possivelmente limitada, da árvore.
+     * @author Everton Bruno Silva dos Santos.
+     * @version 1.0
+     * @since 1.0
+     */
+    private final class MapView extends AbstractMap<K, V> implements NavigableMap<K, V>, Serializable {
+        /**
+         * Refere-se ao número de série da visão navegável da árvore.
+         */
+        private transient static final long serialVersionUID = -2028946958686495728L;
+        /**
+         * Refere-se a indicativo de que a visão não possui limite inferior.
+         */
+        private final boolean fromStart;
+        /**
+         * Refere-se ao limite inferior da visão.
+         */
+        private final K lo;
+        /**
+         * Refere-se a indicativo de que o limite inferior pertence a visão.
+         */
+        private final boolean loInclusive;
+        /**
+         * Refere-se a indicativo de que a visão não possui limite superior.
+         */
+        private final boolean toEnd;
+        /**
+         * Refere-se ao limite superior da visão.
+         */
+        private final K hi;
+        /**
+         * Refere-se a indicativo de que o limite superior pertence a visão.
+         */
+        private final boolean hiInclusive;
+        /**
+         * Refere-se a indicativo de que a visão é decrescente.
+         */
+        private final boolean descending;
+
+        /**
+         * Construtor responsável pelo instanciamento da visão navegável.
+         * @param fromStart   Refere-se a indicativo de que a visão não possui limite inferior.
+         * @param lo          Refere-se ao limite inferior da visão.
+         * @param loInclusive Refere-se a indicativo de que o limite inferior pertence a visão.
+         * @param toEnd       Refere-se a indicativo de que a visão não possui limite superior.
+         * @param hi          Refere-se ao limite superior da visão.
+         * @param hiInclusive Refere-se a indicativo de que o limite superior pertence a visão.
+         * @param descending  Refere-se a indicativo de que a visão é decrescente.
+         * @throws IllegalArgumentException Exceção lançada no caso do limite inferior ser maior que o superior.
+         */
+        private MapView(final boolean fromStart, final K lo, final boolean loInclusive, final boolean toEnd,
+                final K hi, final boolean hiInclusive, final boolean descending) throws IllegalArgumentException {
+            if (!fromStart && !toEnd && comparator.compare(lo, hi) > 0) {
+                throw new IllegalArgumentException("fromKey > toKey");
+            }
+            this.fromStart = fromStart;
+            this.lo = lo;
+            this.loInclusive = loInclusive;
+            this.toEnd = toEnd;
+            this.hi = hi;
+            this.hiInclusive = hiInclusive;
+            this.descending = descending;
+        }
+
+        /**
+         * Método responsável por indicar se dada chave está abaixo do limite inferior.
+         * @param key Refere-se a dita chave.
+         * @return Retorna indicativo de que a chave está abaixo do limite inferior.
+         */
+        private boolean tooLow(final K key) {
+            if (!fromStart) {
+                final int result = comparator.compare(key, lo);
+                return result < 0 || (result == 0 && !loInclusive);
+            }
+            return false;
+        }
+
+        /**
+         * Método responsável por indicar se dada chave está acima do limite superior.
+         * @param key Refere-se a dita chave.
+         * @return Retorna indicativo de que a chave está acima do limite superior.
+         */
+        private boolean tooHigh(final K key) {
+            if (!toEnd) {
+                final int result = comparator.compare(key, hi);
+                return result > 0 || (result == 0 && !hiInclusive);
+            }
+            return false;
+        }
+
+        /**
+         * Método responsável por indicar se dada chave pertence a visão.
+         * @param key Refere-se a dita chave.
+         * @return Retorna indicativo de que a chave pertence a visão.
+         */
+        private boolean inRange(final K key) {
+            return !tooLow(key) && !tooHigh(key);
+        }
+
+        /**
+         * Método responsável por indicar se dada chave pode limitar uma sub-visão desta visão.
+         * @param key       Refere-se a dita chave.
+         * @param inclusive Refere-se a indicativo de que a chave pertencerá a sub-visão.
+         * @return Retorna indicativo de que a chave pode limitar uma sub-visão.
+         */
+        private boolean inRange(final K key, final boolean inclusive) {
+            if (inclusive) {
+                return inRange(key);
+            }
+            return (fromStart || comparator.compare(key, lo) >= 0) && (toEnd || comparator.compare(hi, key) >= 0);
+        }
+
+        /**
+         * Método responsável por indicar se a visão abrange a árvore inteira.
+         * @return Retorna indicativo de que a visão abrange a árvore inteira.
+         */
+        private boolean isWhole() {
+            return fromStart && toEnd;
+        }
+
+        /**
+         * Método responsável por retornar o elo de menor chave da visão.
+         * @return Retorna o elo de menor chave da visão, ou nulo caso inexistente.
+         */
+        private Node absLowest() {
+            final Node node = fromStart ? firstNode() : ceilingNode(lo, loInclusive);
+            return node != null && !tooHigh(node.key) ? node : null;
+        }
+
+        /**
+         * Método responsável por retornar o elo de maior chave da visão.
+         * @return Retorna o elo de maior chave da visão, ou nulo caso inexistente.
+         */
+        private Node absHighest() {
+            final Node node = toEnd ? lastNode() : floorNode(hi, hiInclusive);
+            return node != null && !tooLow(node.key) ? node : null;
+        }
+
+        /**
+         * Método responsável por retornar o elo de menor chave maior ou igual a dada chave na visão.
+         * @param key Refere-se a dita chave.
+         * @return Retorna o elo encontrado, ou nulo caso inexistente.
+         */
+        private Node absCeiling(final K key) {
+            if (tooLow(key)) {
+                return absLowest();
+            }
+            final Node node = ceilingNode(key, true);
+            return node != null && !tooHigh(node.key) ? node : null;
+        }
+
+        /**
+         * Método responsável por retornar o elo de menor chave maior que dada chave na visão.
+         * @param key Refere-se a dita chave.
+         * @return Retorna o elo encontrado, ou nulo caso inexistente.
+         */
+        private Node absHigher(final K key) {
+            if (tooLow(key)) {
+                return absLowest();
+            }
+            final Node node = ceilingNode(key, false);
+            return node != null && !tooHigh(node.key) ? node : null;
+        }
+
+        /**
+         * Método responsável por retornar o elo de maior chave menor ou igual a dada chave na visão.
+         * @param key Refere-se a dita chave.
+         * @return Retorna o elo encontrado, ou nulo caso inexistente.
+         */
+        private Node absFloor(final K key) {
+            if (tooHigh(key)) {
+                return absHighest();
+            }
+            final Node node = floorNode(key, true);
+            return node != null && !tooLow(node.key) ? node : null;
+        }
+
+        /**
+         * Método responsável por retornar o elo de maior chave menor que dada chave na visão.
+         * @param key Refere-se a dita chave.
+         * @return Retorna o elo encontrado, ou nulo caso inexistente.
+         */
+        private Node absLower(final K key) {
+            if (tooHigh(key)) {
+                return absHighest();
+            }
+            final Node node = floorNode(key, false);
+            return node != null && !tooLow(node.key) ? node : null;
+        }
+
+        /**
+         * Método responsável por retornar o elo detentor de dada chave na visão.
+         * @param key Refere-se a dita chave.
+         * @return Retorna o elo encontrado, ou nulo caso inexistente.
+         */
+        @SuppressWarnings("unchecked")
+        private Node getNode(final Object key) {
+            return inRange((K) key) ? findNode((K) key) : null;
+        }
+
+        /**
+         * Método responsável por retornar cópia imutável da entrada contida em dado elo.
+         * @param node Refere-se ao dito elo.
+         * @return Retorna cópia imutável da entrada, ou nulo caso o elo seja nulo.
+         */
+        private Entry<K, V> exportEntry(final Node node) {
+            return node != null ? new AbstractMap.SimpleImmutableEntry<>(node) : null;
+        }
+
+        /**
+         * Método responsável por retornar a chave contida em dado elo.
+         * @param node Refere-se ao dito elo.
+         * @return Retorna a chave, ou nulo caso o elo seja nulo.
+         */
+        private K keyOrNull(final Node node) {
+            return node != null ? node.key : null;
+        }
+
+        /**
+         * Método responsável por retornar a chave contida em dado elo.
+         * @param node Refere-se ao dito elo.
+         * @return Retorna a chave contida no elo.
+         * @throws NoSuchElementException Exceção lançada no caso do elo ser nulo.
+         */
+        private K key(final Node node) throws NoSuchElementException {
+            if (node == null) {
+                throw new NoSuchElementException();
+            }
+            return node.key;
+        }
+
+        /**
+         * Método responsável por remover e retornar a entrada contida em dado elo.
+         * @param node Refere-se ao dito elo.
+         * @return Retorna cópia imutável da entrada removida, ou nulo caso o elo seja nulo.
+         */
+        private Entry<K, V> poll(final Node node) {
+            final Entry<K, V> entry = exportEntry(node);
+            if (entry != null) {
+                AVLTree.this.remove(entry.getKey());
+            }
+            return entry;
+        }
+
+        /**
+         * Método responsável por retornar a quantidade de entradas da visão.
+         * @return Retorna a quantidade de entradas da visão.
+         */
+        @Override
+        public int size() {
+            if (isWhole()) {
+                return AVLTree.this.size();
+            }
+            int counter = 0;
+            for (final Iterator<K> iterator = new ViewIterator<>(this, node -> node.key); iterator.hasNext();) {
+                iterator.next();
+                counter++;
+            }
+            return counter;
+        }
+
+        /**
+         * Método responsável por indicar se a visão está vazia.
+         * @return Retorna indicativo de que a visão está vazia.
+         */
+        @Override
+        public boolean isEmpty() {
+            return isWhole() ? AVLTree.this.isEmpty() : absLowest() == null;
+        }
+
+        /**
+         * Método responsável por indicar se a visão contém dada chave.
+         * @param key Refere-se a dita chave.
+         * @return Retorna indicativo de que a visão contém a chave.
+         */
+        @Override
+        public boolean containsKey(final Object key) {
+            return getNode(key) != null;
+        }
+
+        /**
+         * Método responsável por retornar o valor associado a dada chave.
+         * @param key Refere-se a dita chave.
+         * @return Retorna o valor associado a chave, ou nulo caso inexistente.
+         */
+        @Override
+        public V get(final Object key) {
+            final Node node = getNode(key);
+            return node != null ? node.value : null;
+        }
+
+        /**
+         * Método responsável por inserir ou substituir uma entrada na visão.
+         * @param key   Refere-se a dita chave.
+         * @param value Refere-se ao valor da entrada.
+         * @return Retorna o antigo valor associado a chave, ou nulo caso inexistente.
+         * @throws IllegalArgumentException Exceção lançada no caso da chave estar fora dos limites da visão.
+         */
+        @Override
+        public V put(final K key, final V value) throws IllegalArgumentException {
+            if (!inRange(key)) {
+                throw new IllegalArgumentException("key out of range");
+            }
+            final Node node = findNode(key);
+            if (node != null) {
+                return node.setValue(value);
+            }
+            AVLTree.this.put(key, value);
+            return null;
+        }
+
+        /**
+         * Método responsável por remover uma entrada contida na visão.
+         * @param key Refere-se a dita chave.
+         * @return Retorna o valor removido, ou nulo caso inexistente.
+         */
+        @Override
+        public V remove(final Object key) {
+            final Node node = getNode(key);
+            if (node == null) {
+                return null;
+            }
+            final V oldValue = node.value;
+            AVLTree.this.remove(node.key);
+            return oldValue;
+        }
+
+        /**
+         * Método responsável por esvaziar a visão.
+         */
+        @Override
+        public void clear() {
+            if (isWhole()) {
+                AVLTree.this.clear();
+            } else {
+                for (final Iterator<K> iterator = new ViewIterator<>(this, node -> node.key); iterator.hasNext();) {
+                    iterator.next();
+                    iterator.remove();
+                }
+            }
+        }
+
+        /**
+         * Método responsável por retornar o comparador de chaves da visão.
+         * @return Retorna o comparador de chaves da visão.
+         */
+        @Override
+        public java.util.Comparator<? super K> comparator() {
+            return descending ? Collections.reverseOrder(comparator) : comparator;
+        }
+
+        /**
+         * Método responsável por retornar a menor chave da visão.
+         * @return Retorna a menor chave da visão.
+         * @throws NoSuchElementException Exceção lançada no caso da visão estar vazia.
+         */
+        @Override
+        public K firstKey() throws NoSuchElementException {
+            return key(descending ? absHighest() : absLowest());
+        }
+
+        /**
+         * Método responsável por retornar a maior chave da visão.
+         * @return Retorna a maior chave da visão.
+         * @throws NoSuchElementException Exceção lançada no caso da visão estar vazia.
+         */
+        @Override
+        public K lastKey() throws NoSuchElementException {
+            return key(descending ? absLowest() : absHighest());
+        }
+
+        /**
+         * Método responsável por retornar a entrada de menor chave da visão.
+         * @return Retorna a entrada de menor chave, ou nulo caso a visão esteja vazia.
+         */
+        @Override
+        public Entry<K, V> firstEntry() {
+            return exportEntry(descending ? absHighest() : absLowest());
+        }
+
+        /**
+         * Método responsável por retornar a entrada de maior chave da visão.
+         * @return Retorna a entrada de maior chave, ou nulo caso a visão esteja vazia.
+         */
+        @Override
+        public Entry<K, V> lastEntry() {
+            return exportEntry(descending ? absLowest() : absHighest());
+        }
+
+        /**
+         * Método responsável por remover e retornar a entrada de menor chave da visão.
+         * @return Retorna a entrada removida, ou nulo caso a visão esteja vazia.
+         */
+        @Override
+        public Entry<K, V> pollFirstEntry() {
+            return poll(descending ? absHighest() : absLowest());
+        }
+
+        /**
+         * Método responsável por remover e retornar a entrada de maior chave da visão.
+         * @return Retorna a entrada removida, ou nulo caso a visão esteja vazia.
+         */
+        @Override
+        public Entry<K, V> pollLastEntry() {
+            return poll(descending ? absLowest() : absHighest());
+        }
+
+        /**
+         * Método responsável por retornar a entrada de maior chave menor que dada chave.
+         * @param key Refere-se a dita chave.
+         * @return Retorna a entrada encontrada, ou nulo caso inexistente.
+         */
+        @Override
+        public Entry<K, V> lowerEntry(final K key) {
+            return exportEntry(descending ? absHigher(key) : absLower(key));
+        }
+
+        /**
+         * Método responsável por retornar a maior chave menor que dada chave.
+         * @param key Refere-se a dita chave.
+         * @return Retorna a chave encontrada, ou nulo caso inexistente.
+         */
+        @Override
+        public K lowerKey(final K key) {
+            return keyOrNull(descending ? absHigher(key) : absLower(key));
+        }
+
+        /**
+         * Método responsável por retornar a entrada de maior chave menor ou igual a dada chave.
+         * @param key Refere-se a dita chave.
+         * @return Retorna a entrada encontrada, ou nulo caso inexistente.
+         */
+        @Override
+        public Entry<K, V> floorEntry(final K key) {
+            return exportEntry(descending ? absCeiling(key) : absFloor(key));
+        }
+
+        /**
+         * Método responsável por retornar a maior chave menor ou igual a dada chave.
+         * @param key Refere-se a dita chave.
+         * @return Retorna a chave encontrada, ou nulo caso inexistente.
+         */
+        @Override
+        public K floorKey(final K key) {
+            return keyOrNull(descending ? absCeiling(key) : absFloor(key));
+        }
+
+        /**
+         * Método responsável por retornar a entrada de menor chave maior ou igual a dada chave.
+         * @param key Refere-se a dita chave.
+         * @return Retorna a entrada encontrada, ou nulo caso inexistente.
+         */
+        @Override
+        public Entry<K, V> ceilingEntry(final K key) {
+            return exportEntry(descending ? absFloor(key) : absCeiling(key));
+        }
+
+        /**
+         * Método responsável por retornar a menor chave maior ou igual a dada chave.
+         * @param key Refere-se a dita chave.
+         * @return Retorna a chave encontrada, ou nulo caso inexistente.
+         */
+        @Override
+        public K ceilingKey(final K key) {
+            return keyOrNull(descending ? absFloor(key) : absCeiling(key));
+        }
+
+        /**
+         * Método responsável por retornar a entrada de menor chave maior que dada chave.
+         * @param key Refere-se a dita chave.
+         * @return Retorna a entrada encontrada, ou nulo caso inexistente.
+         */
+        @Override
+        public Entry<K, V> higherEntry(final K key) {
+            return exportEntry(descending ? absLower(key) : absHigher(key));
+        }
+
+        /**
+         * Método responsável por retornar a menor chave maior que dada chave.
+         * @param key Refere-se a dita chave.
+         * @return Retorna a chave encontrada, ou nulo caso inexistente.
+         */
+        @Override
+        public K higherKey(final K key) {
+            return keyOrNull(descending ? absLower(key) : absHigher(key));
+        }
+
+        /**
+         * Método responsável por retornar visão viva das entradas.
+         * @return Retorna visão viva das entradas.
+         */
+        @Override
+        public Set<Entry<K, V>> entrySet() {
+            return new EntrySet(this);
+        }
+
+        /**
+         * Método responsável por retornar visão viva das chaves.
+         * @return Retorna visão viva das chaves.
+         */
+        @Override
+        public Set<K> keySet() {
+            return navigableKeySet();
+        }
+
+        /**
+         * Método responsável por retornar visão viva e navegável das chaves.
+         * @return Retorna visão viva e navegável das chaves.
+         */
+        @Override
+        public NavigableSet<K> navigableKeySet() {
+            return new KeySet(this);
+        }
+
+        /**
+         * Método responsável por retornar visão viva e decrescente das chaves.
+         * @return Retorna visão viva e decrescente das chaves.
+         */
+        @Override
+        public NavigableSet<K> descendingKeySet() {
+            return new KeySet(descendingMap());
+        }
+
+        /**
+         * Método responsável por retornar visão viva dos valores.
+         * @return Retorna visão viva dos valores.
+         */
+        @Override
+        public Collection<V> values() {
+            return new Values(this);
+        }
+
+        /**
+         * Método responsável por retornar visão decrescente desta visão.
+         * @return Retorna visão decrescente desta visão.
+         */
+        @Override
+        public MapView descendingMap() {
+            return new MapView(fromStart, lo, loInclusive, toEnd, hi, hiInclusive, !descending);
+        }
+
+        /**
+         * Método responsável por retornar sub-visão limitada por duas chaves.
+         * @param fromKey       Refere-se a chave inicial.
+         * @param fromInclusive Refere-se a indicativo de que a chave inicial pertence a sub-visão.
+         * @param toKey         Refere-se a chave final.
+         * @param toInclusive   Refere-se a indicativo de que a chave final pertence a sub-visão.
+         * @return Retorna sub-visão limitada pelas chaves.
+         * @throws IllegalArgumentException Exceção lançada no caso da chave estar fora dos limites da visão.
+         */
+        @Override
+        public MapView subMap(final K fromKey, final boolean fromInclusive, final K toKey, final boolean toInclusive)
+                throws IllegalArgumentException {
+            if (!inRange(fromKey, fromInclusive)) {
+                throw new IllegalArgumentException("fromKey out of range");
+            } else if (!inRange(toKey, toInclusive)) {
+                throw new IllegalArgumentException("toKey out of range");
+            } else if (descending) {
+                return new MapView(false, toKey, toInclusive, false, fromKey, fromInclusive, true);
+            }
+            return new MapView(false, fromKey, fromInclusive, false, toKey, toInclusive, false);
+        }
+
+        /**
+         * Método responsável por retornar sub-visão das chaves anteriores a dada chave.
+         * @param toKey     Refere-se a chave final.
+         * @param inclusive Refere-se a indicativo de que o limite pertence a sub-visão.
+         * @return Retorna sub-visão das chaves anteriores.
+         * @throws IllegalArgumentException Exceção lançada no caso da chave estar fora dos limites da visão.
+         */
+        @Override
+        public MapView headMap(final K toKey, final boolean inclusive) throws IllegalArgumentException {
+            if (!inRange(toKey, inclusive)) {
+                throw new IllegalArgumentException("toKey out of range");
+            } else if (descending) {
+                return new MapView(false, toKey, inclusive, toEnd, hi, hiInclusive, true);
+            }
+            return new MapView(fromStart, lo, loInclusive, false, toKey, inclusive, false);
+        }
+
+        /**
+         * Método responsável por retornar sub-visão das chaves posteriores a dada chave.
+         * @param fromKey   Refere-se a chave inicial.
+         * @param inclusive Refere-se a indicativo de que o limite pertence a sub-visão.
+         * @return Retorna sub-visão das chaves posteriores.
+         * @throws IllegalArgumentException Exceção lançada no caso da chave estar fora dos limites da visão.
+         */
+        @Override
+        public MapView tailMap(final K fromKey, final boolean inclusive) throws IllegalArgumentException {
+            if (!inRange(fromKey, inclusive)) {
+                throw new IllegalArgumentException("fromKey out of range");
+            } else if (descending) {
+                return new MapView(fromStart, lo, loInclusive, false, fromKey, inclusive, true);
+            }
+            return new MapView(false, fromKey, inclusive, toEnd, hi, hiInclusive, false);
+        }
+
+        /**
+         * Método responsável por retornar sub-visão limitada por duas chaves.
+         * @param fromKey Refere-se a chave inicial.
+         * @param toKey   Refere-se a chave final.
+         * @return Retorna sub-visão limitada pelas chaves.
+         * @throws IllegalArgumentException Exceção lançada no caso da chave estar fora dos limites da visão.
+         */
+        @Override
+        public MapView subMap(final K fromKey, final K toKey) throws IllegalArgumentException {
+            return subMap(fromKey, true, toKey, false);
+        }
+
+        /**
+         * Método responsável por retornar sub-visão das chaves anteriores a dada chave.
+         * @param toKey Refere-se a chave final.
+         * @return Retorna sub-visão das chaves anteriores.
+         * @throws IllegalArgumentException Exceção lançada no caso da chave estar fora dos limites da visão.
+         */
+        @Override
+        public MapView headMap(final K toKey) throws IllegalArgumentException {
+            return headMap(toKey, false);
+        }
+
+        /**
+         * Método responsável por retornar sub-visão das chaves posteriores a dada chave.
+         * @param fromKey Refere-se a chave inicial.
+         * @return Retorna sub-visão das chaves posteriores.
+         * @throws IllegalArgumentException Exceção lançada no caso da chave estar fora dos limites da visão.
+         */
+        @Override
+        public MapView tailMap(final K fromKey) throws IllegalArgumentException {
+            return tailMap(fromKey, true);
+        }
+
+    }
+
+    /**
+     * Classe responsável por comportar-se como visão das entradas de uma visão navegável.
+     * @author Everton Bruno Silva dos Santos.
+     * @version 1.0
+     * @since 1.0
      */
-    private Node adjustHeight(final Node node) {
-        node.updateHeightAndBalancing();
-        if (node.balancing <= -2) {
-            if (node.balancing * node.left.balancing > 0) {
-                return simpleRotationLeft(node.left, node);
-            } else {
-                return doubleRotationLeft(node.left, node);
+    private final class EntrySet extends AbstractSet<Entry<K, V>> {
+        /**
+         * Refere-se a visão navegável de origem.
+         */
+        private final MapView view;
+
+        /**
+         * Construtor responsável pelo instanciamento da visão de entradas.
+         * @param view Refere-se a visão navegável de origem.
+         */
+        private EntrySet(final MapView view) {
+            this.view = view;
+        }
+
+        /**
+         * Método responsável por retornar iterador preguiçoso da visão.
+         * @return Retorna iterador preguiçoso da visão.
+         */
+        @Override
+        public Iterator<Entry<K, V>> iterator() {
+            return new ViewIterator<>(view, node -> node);
+        }
+
+        /**
+         * Método responsável por retornar a quantidade de entradas da visão.
+         * @return Retorna a quantidade de entradas da visão.
+         */
+        @Override
+        public int size() {
+            return view.size();
+        }
+
+        /**
+         * Método responsável por indicar se a visão está vazia.
+         * @return Retorna indicativo de que a visão está vazia.
+         */
+        @Override
+        public boolean isEmpty() {
+            return view.isEmpty();
+        }
+
+        /**
+         * Método responsável por indicar se a visão contém dado elemento.
+         * @param object Refere-se ao dito elemento.
+         * @return Retorna indicativo de que a visão contém o elemento.
+         */
+        @Override
+        public boolean contains(final Object object) {
+            if (!(object instanceof Entry)) {
+                return false;
             }
-        } else if (node.balancing >= 2) {
-            if (node.balancing * node.right.balancing > 0) {
-                return simpleRotationRight(node.right, node);
-            } else {
-                return doubleRotationRight(node.right, node);
+            final Entry<?, ?> entry = (Entry<?, ?>) object;
+            final Node node = view.getNode(entry.getKey());
+            return node != null && Objects.equals(node.value, entry.getValue());
+        }
+
+        /**
+         * Método responsável por remover uma entrada contida na visão.
+         * @param object Refere-se ao dito elemento.
+         * @return Retorna o valor removido, ou nulo caso inexistente.
+         */
+        @Override
+        public boolean remove(final Object object) {
+            if (contains(object)) {
+                view.remove(((Entry<?, ?>) object).getKey());
+                return true;
             }
+            return false;
         }
-        return node;
+
+        /**
+         * Método responsável por esvaziar a visão.
+         */
+        @Override
+        public void clear() {
+            view.clear();
+        }
+
     }
 
     /**
-     * Classe responsável por comportar-se como elo da árvore.
+     * Classe responsável por comportar-se como visão das chaves de uma visão navegável.
      * @author Everton Bruno Silva dos Santos.
      * @version 1.0
      * @since 1.0
      */
-    private class Node implements Entry<K, V>, Serializable, Duplicable<Node> {
+    private final class KeySet extends AbstractSet<K> implements NavigableSet<K> {
         /**
-         * Refere-se ao número de série do elo da árvore AVL.
+         * Refere-se a visão navegável de origem.
          */
-        private transient static final long serialVersionUID = -9185946958686495728L;
+        private final MapView view;
+
         /**
-         * Refere-se a chave contida no elo.
+         * Construtor responsável pelo instanciamento da visão de chaves.
+         * @param view Refere-se a visão navegável de origem.
          */
-        private K key;
+        private KeySet(final MapView view) {
+            this.view = view;
+        }
+
         /**
-         * Refere-se ao valor contido no elo.
+         * Método responsável por retornar iterador preguiçoso da visão.
+         * @return Retorna iterador preguiçoso da visão.
          */
-        private V value;
+        @Override
+        public Iterator<K> iterator() {
+            return new ViewIterator<>(view, node -> node.key);
+        }
+
         /**
-         * Refere-se a altura do elo.
+         * Método responsável por retornar iterador preguiçoso e decrescente da visão.
+         * @return Retorna iterador preguiçoso e decrescente da visão.
          */
-        private int height;
+        @Override
+        public Iterator<K> descendingIterator() {
+            return new ViewIterator<>(view.descendingMap(), node -> node.key);
+        }
+
         /**
-         * Refere-se ao valor de balanceamento contido no elo.
+         * Método responsável por retornar a quantidade de entradas da visão.
+         * @return Retorna a quantidade de entradas da visão.
          */
-        private int balancing;
+        @Override
+        public int size() {
+            return view.size();
+        }
+
         /**
-         * Refere-se ao elo a esquerda.
+         * Método responsável por indicar se a visão está vazia.
+         * @return Retorna indicativo de que a visão está vazia.
          */
-        private Node left;
+        @Override
+        public boolean isEmpty() {
+            return view.isEmpty();
+        }
+
         /**
-         * Refere-se ao elo a direita.
+         * Método responsável por indicar se a visão contém dado elemento.
+         * @param object Refere-se ao dito elemento.
+         * @return Retorna indicativo de que a visão contém o elemento.
          */
-        private Node right;
+        @Override
+        public boolean contains(final Object object) {
+            return view.containsKey(object);
+        }
 
         /**
-         * Construtor responsável pelo instanciamento do elo.
-         * @param key   Refere-se a chave contida no elo.
-         * @param value Refere-se ao valor contido no elo.
+         * Método responsável por remover uma entrada contida na visão.
+         * @param object Refere-se ao dito elemento.
+         * @return Retorna o valor removido, ou nulo caso inexistente.
          */
-        private Node(final K key, final V value) {
-            this.key = key;
-            this.value = value;
-            this.height = 1;
-            this.balancing = 0;
+        @Override
+        public boolean remove(final Object object) {
+            final Node node = view.getNode(object);
+            if (node != null) {
+                AVLTree.this.remove(node.key);
+                return true;
+            }
+            return false;
         }
 
         /**
-         * Construtor responsável pelo instanciamento do elo.
-         * @param key       Refere-se a chave contida no elo.
-         * @param value     Refere-se ao valor contido no elo.
-         * @param height    Refere-se a altura do elo.
-         * @param balancing Refere-se ao valor de balanceamento contido no elo.
+         * Método responsável por esvaziar a visão.
          */
-        private Node(final K key, final V value, final int height, final int balancing) {
-            this.key = key;
-            this.value = value;
-            this.height = height;
-            this.balancing = balancing;
+        @Override
+        public void clear() {
+            view.clear();
         }
 
         /**
-         * Método responsável por indicar se o elo é uma sub-árvore.
-         * @return Retorna indicativo de que o elo é uma sub-árvore.
+         * Método responsável por retornar o comparador de chaves da visão.
+         * @return Retorna o comparador de chaves da visão.
          */
-        private boolean isSubThree() {
-            return leftIsNotNull() && rightIsNotNull();
+        @Override
+        public java.util.Comparator<? super K> comparator() {
+            return view.comparator();
         }
 
         /**
-         * Método responsável por indicar se o elo não é nulo a esquerda.
-         * @return Retorna indicativo de que o elo não é nulo a esquerda.
+         * Método responsável por retornar o menor elemento da visão.
+         * @return Retorna o menor elemento da visão.
+         * @throws NoSuchElementException Exceção lançada no caso da visão estar vazia.
          */
-        private boolean leftIsNotNull() {
-            return left != null;
+        @Override
+        public K first() throws NoSuchElementException {
+            return view.firstKey();
         }
 
         /**
-         * Método responsável por indicar se o elo não é nulo a direita.
-         * @return Retorna indicativo de que o elo não é nulo a direita.
+         * Método responsável por retornar o maior elemento da visão.
+         * @return Retorna o maior elemento da visão.
+         * @throws NoSuchElementException Exceção lançada no caso da visão estar vazia.
          */
-        private boolean rightIsNotNull() {
-            return right != null;
+        @Override
+        public K last() throws NoSuchElementException {
+            return view.lastKey();
         }
 
         /**
-         * Método responsável por atualizar a altura e o balanceamento contido no elo.
+         * Método responsável por retornar o maior elemento menor que dado elemento.
+         * @param key Refere-se a dita chave.
+         * @return Retorna o elemento encontrado, ou nulo caso inexistente.
          */
-        private void updateHeightAndBalancing() {
-            if (isSubThree()) {
-                height = 1 + max(left.height, right.height);
-                balancing = -left.height + right.height;
-            } else if (leftIsNotNull()) {
-                height = 1 + left.height;
-                balancing = -left.height;
-            } else if (rightIsNotNull()) {
-                height = 1 + right.height;
-                balancing = +right.height;
-            } else {
-                height = 1;
-                balancing = 0;
-            }
+        @Override
+        public K lower(final K key) {
+            return view.lowerKey(key);
         }
 
         /**
-         * Método responsável por retornar chave contida no elo.
-         * @return Retorna chave contida no elo.
+         * Método responsável por retornar o maior elemento menor ou igual a dado elemento.
+         * @param key Refere-se a dita chave.
+         * @return Retorna o elemento encontrado, ou nulo caso inexistente.
          */
         @Override
-        public K getKey() {
-            return key;
+        public K floor(final K key) {
+            return view.floorKey(key);
         }
 
         /**
-         * Método responsável por retornar valor contido no elo.
-         * @return Retorna valor contido no elo.
+         * Método responsável por retornar o menor elemento maior ou igual a dado elemento.
+         * @param key Refere-se a dita chave.
+         * @return Retorna o elemento encontrado, ou nulo caso inexistente.
          */
         @Override
-        public V getValue() {
-            return value;
+        public K ceiling(final K key) {
+            return view.ceilingKey(key);
         }
 
         /**
-         * Método responsável por alterar valor contido no elo.
-         * @param value Refere-se ao novo valor contido no elo.
-         * @return Retorna antigo valor contido no elo.
+         * Método responsável por retornar o menor elemento maior que dado elemento.
+         * @param key Refere-se a dita chave.
+         * @return Retorna o elemento encontrado, ou nulo caso inexistente.
          */
         @Override
-        public V setValue(final V value) {
-            final V oldValue = this.value;
-            this.value = value;
-            return oldValue;
+        public K higher(final K key) {
+            return view.higherKey(key);
         }
 
         /**
-         * Método responsável por duplicar o elo.
-         * @return Retorna elo duplicata.
+         * Método responsável por remover e retornar o menor elemento da visão.
+         * @return Retorna o elemento removido, ou nulo caso a visão esteja vazia.
          */
         @Override
-        public Node duplicate() {
-            final Node node = new Node(key, value, height, balancing);
-            if (leftIsNotNull()) {
-                node.left = left.duplicate();
-            }
-            if (rightIsNotNull()) {
-                node.right = right.duplicate();
-            }
-            return node;
+        public K pollFirst() {
+            final Entry<K, V> entry = view.pollFirstEntry();
+            return entry != null ? entry.getKey() : null;
+        }
+
+        /**
+         * Método responsável por remover e retornar o maior elemento da visão.
+         * @return Retorna o elemento removido, ou nulo caso a visão esteja vazia.
+         */
+        @Override
+        public K pollLast() {
+            final Entry<K, V> entry = view.pollLastEntry();
+            return entry != null ? entry.getKey() : null;
+        }
+
+        /**
+         * Método responsável por retornar visão decrescente desta visão.
+         * @return Retorna visão decrescente desta visão.
+         */
+        @Override
+        public NavigableSet<K> descendingSet() {
+            return new KeySet(view.descendingMap());
+        }
+
+        /**
+         * Método responsável por retornar sub-visão limitada por dois elementos.
+         * @param fromElement   Refere-se ao elemento inicial.
+         * @param fromInclusive Refere-se a indicativo de que a chave inicial pertence a sub-visão.
+         * @param toElement     Refere-se ao elemento final.
+         * @param toInclusive   Refere-se a indicativo de que a chave final pertence a sub-visão.
+         * @return Retorna sub-visão limitada pelos elementos.
+         * @throws IllegalArgumentException Exceção lançada no caso da chave estar fora dos limites da visão.
+         */
+        @Override
+        public NavigableSet<K> subSet(final K fromElement, final boolean fromInclusive, final K toElement,
+                final boolean toInclusive) throws IllegalArgumentException {
+            return new KeySet(view.subMap(fromElement, fromInclusive, toElement, toInclusive));
+        }
+
+        /**
+         * Método responsável por retornar sub-visão dos elementos anteriores a dado elemento.
+         * @param toElement Refere-se ao elemento final.
+         * @param inclusive Refere-se a indicativo de que o limite pertence a sub-visão.
+         * @return Retorna sub-visão dos elementos anteriores.
+         * @throws IllegalArgumentException Exceção lançada no caso da chave estar fora dos limites da visão.
+         */
+        @Override
+        public NavigableSet<K> headSet(final K toElement, final boolean inclusive) throws IllegalArgumentException {
+            return new KeySet(view.headMap(toElement, inclusive));
+        }
+
+        /**
+         * Método responsável por retornar sub-visão dos elementos posteriores a dado elemento.
+         * @param fromElement Refere-se ao elemento inicial.
+         * @param inclusive   Refere-se a indicativo de que o limite pertence a sub-visão.
+         * @return Retorna sub-visão dos elementos posteriores.
+         * @throws IllegalArgumentException Exceção lançada no caso da chave estar fora dos limites da visão.
+         */
+        @Override
+        public NavigableSet<K> tailSet(final K fromElement, final boolean inclusive) throws IllegalArgumentException {
+            return new KeySet(view.tailMap(fromElement, inclusive));
+        }
+
+        /**
+         * Método responsável por retornar sub-visão limitada por dois elementos.
+         * @param fromElement Refere-se ao elemento inicial.
+         * @param toElement   Refere-se ao elemento final.
+         * @return Retorna sub-visão limitada pelos elementos.
+         * @throws IllegalArgumentException Exceção lançada no caso da chave estar fora dos limites da visão.
+         */
+        @Override
+        public NavigableSet<K> subSet(final K fromElement, final K toElement) throws IllegalArgumentException {
+            return subSet(fromElement, true, toElement, false);
+        }
+
+        /**
+         * Método responsável por retornar sub-visão dos elementos anteriores a dado elemento.
+         * @param toElement Refere-se ao elemento final.
+         * @return Retorna sub-visão dos elementos anteriores.
+         * @throws IllegalArgumentException Exceção lançada no caso da chave estar fora dos limites da visão.
+         */
+        @Override
+        public NavigableSet<K> headSet(final K toElement) throws IllegalArgumentException {
+            return headSet(toElement, false);
+        }
+
+        /**
+         * Método responsável por retornar sub-visão dos elementos posteriores a dado elemento.
+         * @param fromElement Refere-se ao elemento inicial.
+         * @return Retorna sub-visão dos elementos posteriores.
+         * @throws IllegalArgumentException Exceção lançada no caso da chave estar fora dos limites da visão.
+         */
+        @Override
+        public NavigableSet<K> tailSet(final K fromElement) throws IllegalArgumentException {
+            return tailSet(fromElement, true);
         }
 
     }
 
     /**
-     * Classe responsável por comportar-se como uma estrutura iterável.
+     * Classe responsável por comportar-se como visão dos valores de uma visão navegável.
      * @author Everton Bruno Silva dos Santos.
-     * @param <T> Refere-se ao tipo de dados iterável.
      * @version 1.0
      * @since 1.0
      */
-    private class MyIterator<T> implements Iterator<T>, Serializable {
+    private final class Values extends AbstractCollection<V> {
         /**
-         * Refere-se ao número de série do iterador da árvore.
+         * Refere-se a visão navegável de origem.
          */
-        private transient static final long serialVersionUID = -2020946958686495728L;
+        private final MapView view;
+
         /**
-         * Refere-se aos elementos contidos no iterador.
+         * Construtor responsável pelo instanciamento da visão de valores.
+         * @param view Refere-se a visão navegável de origem.
          */
-        private final LinkedList<T> elements;
+        private Values(final MapView view) {
+            this.view = view;
+        }
 
         /**
-         * Construtor responsável pelo instanciamento da estrutura iterável.
+         * Método responsável por retornar iterador preguiçoso da visão.
+         * @return Retorna iterador preguiçoso da visão.
          */
-        private MyIterator() {
-            this.elements = new LinkedList<>();
+        @Override
+        public Iterator<V> iterator() {
+            return new ViewIterator<>(view, node -> node.value);
         }
 
         /**
-         * Método responsável por indicar se há um próximo elemento.
-         * @return Retorna indicativo de que há um próximo elemento.
+         * Método responsável por retornar a quantidade de entradas da visão.
+         * @return Retorna a quantidade de entradas da visão.
          */
         @Override
-        public boolean hasNext() {
-            return !elements.isEmpty();
+        public int size() {
+            return view.size();
         }
 
         /**
-         * Método responsável por retornar um próximo elemento.
-         * @return Retorna um próximo elemento.
+         * Método responsável por indicar se a visão está vazia.
+         * @return Retorna indicativo de que a visão está vazia.
          */
         @Override
-        public T next() {
-            return !elements.isEmpty() ? elements.removeFirst() : null;
+        public boolean isEmpty() {
+            return view.isEmpty();
+        }
+
+        /**
+         * Método responsável por esvaziar a visão.
+         */
+        @Override
+        public void clear() {
+            view.clear();
         }
 
     }
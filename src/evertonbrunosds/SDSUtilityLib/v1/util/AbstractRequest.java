@@ -19,6 +19,7 @@
  */
 package evertonbrunosds.SDSUtilityLib.v1.util;
 
+import evertonbrunosds.SDSUtilityLib.v1.api.Aggregator;
 import evertonbrunosds.SDSUtilityLib.v1.api.Converter;
 import evertonbrunosds.SDSUtilityLib.v1.api.Duplicable;
 import java.io.Serializable;
@@ -92,6 +93,17 @@ public abstract class AbstractRequest<I> implements Duplicable<AbstractRequest<I
      */
     public abstract double getValue();
 
+    /**
+     * Método responsável por gerar agregador da soma dos valores das requisições, de modo que
+     * uma árvore de requisições responda a soma de qualquer intervalo de chaves em tempo logarítmico.
+     * @param <R> Refere-se ao tipo das requisições.
+     * @return Retorna agregador da soma dos valores das requisições.
+     * @see AVLTree#setAggregator(Aggregator)
+     */
+    public static <R extends AbstractRequest<?>> Aggregator<R, Double> valueSum() {
+        return Aggregator.Double.sum(request -> request.getValue());
+    }
+
     /**
      * Método responsável por converter para String o valor da requisição.
      * @return Retorna em String o valor da requisição.
@@ -0,0 +1,990 @@
+/*
+ * This file is part of the SDSUtilityLib Open Source Project.
+ * SDSUtilityLib is licensed under the GNU GPLv3.
+ *
+ * Copyright © 2020. Everton Bruno Silva dos Santos <evertonbrunogithub@yahoo.com>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package evertonbrunosds.SDSUtilityLib.v1.util;
+
+import evertonbrunosds.SDSUtilityLib.v1.api.Comparator;
+import evertonbrunosds.SDSUtilityLib.v1.api.Duplicable;
+import evertonbrunosds.SDSUtilityLib.v1.api.FileStream;
+import evertonbrunosds.SDSUtilityLib.v1.exceptions.EntryNotFoundException;
+import evertonbrunosds.SDSUtilityLib.v1.exceptions.KeyUsedException;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.Serializable;
+import java.util.Iterator;
+import java.util.Map.Entry;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.function.Consumer;
+import static java.lang.Integer.compare;
+
+/**
+ * Classe responsável por comportar-se como árvore B+.
+ * Cada elo comporta até "ordem" filhos em vetores contíguos, de modo que uma busca percorre
+ * poucos níveis e aproveita melhor a memória cache do que a árvore AVL em grandes volumes.
+ * As folhas são encadeadas entre si, tornando os percursos por intervalos sequenciais.
+ * @author Everton Bruno Silva dos Santos.
+ * @param <K> Refere-se ao tipo de chave usada nas entradas.
+ * @param <V> Refere-se ao tipo de valor usado nas entradas.
+ * @version 1.0
+ * @since 1.0
+ */
+public class BPlusTree<K, V> implements Iterable<Entry<K, V>>, Duplicable<BPlusTree<K, V>>, FileStream<BPlusTree<K, V>> {
+    /**
+     * Refere-se ao número de série da árvore B+.
+     */
+    private transient static final long serialVersionUID = -6385946958686492020L;
+    /**
+     * Refere-se a ordem padrão da árvore, isto é, a quantidade máxima de filhos por elo.
+     */
+    public static final int DEFAULT_ORDER = 64;
+    /**
+     * Refere-se a menor ordem aceita pela árvore.
+     */
+    public static final int MIN_ORDER = 3;
+    /**
+     * Refere-se ao objeto comparador de chaves.
+     */
+    private Comparator<K> comparator;
+    /**
+     * Refere-se a ordem da árvore.
+     */
+    private int order;
+    /**
+     * Refere-se ao objeto raiz da árvore.
+     */
+    private Node root;
+    /**
+     * Refere-se ao tamanho da árvore.
+     */
+    private int size;
+    /**
+     * Refere-se a primeira folha do encadeamento, reconstruído após carregamentos.
+     */
+    private transient Leaf first;
+    /**
+     * Refere-se a chave promovida pela última divisão de elo.
+     */
+    private transient Object separator;
+
+    /**
+     * Construtor responsável pelo instanciamento da árvore.
+     */
+    public BPlusTree() {
+        this.comparator = (final K o1, final K o2) -> compare(o1.hashCode(), o2.hashCode());
+        this.order = DEFAULT_ORDER;
+    }
+
+    /**
+     * Construtor responsável pelo instanciamento da árvore.
+     * @param comparator Refere-se ao objeto comparador de chaves.
+     * @throws NullPointerException Exceção lançada caso o comparador de chaves seja nulo.
+     */
+    public BPlusTree(final Comparator<K> comparator) throws NullPointerException {
+        this(comparator, DEFAULT_ORDER);
+    }
+
+    /**
+     * Construtor responsável pelo instanciamento da árvore.
+     * @param comparator Refere-se ao objeto comparador de chaves.
+     * @param order      Refere-se a ordem da árvore, isto é, a quantidade máxima de filhos por elo.
+     * @throws NullPointerException     Exceção lançada caso o comparador de chaves seja nulo.
+     * @throws IllegalArgumentException Exceção lançada caso a ordem seja menor que {@link #MIN_ORDER}.
+     */
+    public BPlusTree(final Comparator<K> comparator, final int order) throws NullPointerException, IllegalArgumentException {
+        if (comparator == null) {
+            throw new NullPointerException();
+        } else if (order < MIN_ORDER) {
+            throw new IllegalArgumentException("Invalid order.");
+        }
+        this.comparator = comparator;
+        this.order = order;
+        this.size = 0;
+    }
+
+    /**
+     * Construtor responsável pelo instanciamento da árvore.
+     * @param comparator Refere-se ao objeto comparador de chaves.
+     * @param order      Refere-se a ordem da árvore.
+     * @param root       Refere-se ao objeto raiz da árvore.
+     * @param size       Refere-se ao tamanho da árvore.
+     */
+    private BPlusTree(final Comparator<K> comparator, final int order, final Node root, final int size) {
+        this.comparator = comparator;
+        this.order = order;
+        this.root = root;
+        this.size = size;
+        relink();
+    }
+
+    /**
+     * Método responsável por retornar o tamanho da árvore.
+     * @return Retorna o tamanho da árvore.
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Método responsável por retornar a altura da árvore.
+     * @return Retorna a altura da árvore.
+     */
+    public int height() {
+        int height = 0;
+        for (Node node = root; node != null; node = node instanceof Inner ? ((Inner) node).children[0] : null) {
+            height++;
+        }
+        return height;
+    }
+
+    /**
+     * Método responsável por retornar a ordem da árvore.
+     * @return Retorna a ordem da árvore.
+     */
+    public int getOrder() {
+        return order;
+    }
+
+    /**
+     * Método responsável por esvaziar a árvore.
+     */
+    public void clear() {
+        root = null;
+        first = null;
+        size = 0;
+    }
+
+    /**
+     * Método responsável por indicar se a árvore está vazia.
+     * @return Retorna indicativo de que a árvore está vazia.
+     */
+    public boolean isEmpty() {
+        return root == null;
+    }
+
+    /**
+     * Método responsável por inserir uma nova entrada na árvore.
+     * @param key   Refere-se a chave da dita entrada.
+     * @param value Refere-se ao valor da dita entrada.
+     * @throws KeyUsedException Exceção lançada no caso da chave estar em uso por outra entrada.
+     */
+    public void put(final K key, final V value) throws KeyUsedException {
+        if (root == null) {
+            final Leaf leaf = new Leaf(order);
+            leaf.insert(0, key, value);
+            root = first = leaf;
+        } else {
+            final Node sibling = put(key, value, root);
+            if (sibling != null) {
+                final Inner inner = new Inner(order);
+                inner.children[0] = root;
+                inner.insert(0, separator, sibling);
+                separator = null;
+                root = inner;
+            }
+        }
+        size++;
+    }
+
+    /**
+     * Método responsável por inserir uma nova entrada na árvore recursivamente.
+     * @param key   Refere-se a chave da dita entrada.
+     * @param value Refere-se ao valor da dita entrada.
+     * @param node  Refere-se ao elo atual da recursão.
+     * @return Retorna o novo irmão do elo caso este tenha sido dividido, ou nulo caso contrário.
+     * @throws KeyUsedException Exceção lançada no caso da chave estar em uso por outra entrada.
+     */
+    private Node put(final K key, final V value, final Node node) throws KeyUsedException {
+        if (node instanceof Leaf) {
+            final Leaf leaf = (Leaf) node;
+            final int index = search(leaf, key);
+            if (index >= 0) {
+                throw new KeyUsedException();
+            }
+            leaf.insert(-index - 1, key, value);
+            return leaf.count == order ? split(leaf) : null;
+        }
+        final Inner inner = (Inner) node;
+        final int index = childIndex(inner, key);
+        final Node sibling = put(key, value, inner.children[index]);
+        if (sibling == null) {
+            return null;
+        }
+        inner.insert(index, separator, sibling);
+        return inner.count == order ? split(inner) : null;
+    }
+
+    /**
+     * Método responsável por encontrar uma entrada contida na árvore.
+     * @param key Refere-se a chave de acesso à dita entrada.
+     * @return Retorna a dita entrada detentora da chave.
+     * @throws EntryNotFoundException Exceção lançada no caso da entrada não ser encontrada.
+     */
+    public Entry<K, V> find(final K key) throws EntryNotFoundException {
+        final Leaf leaf = findLeaf(key);
+        final int index = leaf != null ? search(leaf, key) : -1;
+        if (index < 0) {
+            throw new EntryNotFoundException();
+        }
+        return new LeafEntry(leaf, index);
+    }
+
+    /**
+     * Método responsável por indicar se determinada entrada contém dada chave.
+     * @param key Refere-se a dita chave.
+     * @return Retorna indicativo de que determinada entrada contém dada chave.
+     */
+    public boolean containsKey(final K key) {
+        final Leaf leaf = findLeaf(key);
+        return leaf != null && search(leaf, key) >= 0;
+    }
+
+    /**
+     * Método responsável por alterar o valor de determinada entrada na árvore.
+     * @param key   Refere-se a chave de acesso à entrada.
+     * @param value Refere-se ao novo valor da entrada.
+     * @return Retorna o antigo valor da chave.
+     * @throws EntryNotFoundException Exceção lançada no caso da entrada não ser encontrada.
+     */
+    public V setValue(final K key, final V value) throws EntryNotFoundException {
+        return find(key).setValue(value);
+    }
+
+    /**
+     * Método responsável por substituir dada chave de uma entrada por outra na árvore.
+     * @param currentKey Refere-se a chave atual.
+     * @param newKey     Refere-se a nova chave.
+     * @throws KeyUsedException       Exceção lançada no caso da nova chave estar em uso por outra entrada.
+     * @throws EntryNotFoundException Exceção lançada no caso da entrada não ser encontrada.
+     */
+    public void setKey(final K currentKey, final K newKey) throws KeyUsedException, EntryNotFoundException {
+        final Entry<K, V> entry = find(currentKey);
+        if (comparator.compare(currentKey, newKey) == 0) {
+            final LeafEntry leafEntry = (LeafEntry) entry;
+            leafEntry.leaf.keys[leafEntry.index] = newKey;
+        } else if (!containsKey(newKey)) {
+            final V value = entry.getValue();
+            remove(currentKey);
+            put(newKey, value);
+        } else {
+            throw new KeyUsedException();
+        }
+    }
+
+    /**
+     * Método responsável por remover uma entrada contida na árvore.
+     * @param key Refere-se a chave de acesso à dita entrada.
+     * @throws EntryNotFoundException Exceção lançada no caso da entrada não ser encontrada.
+     */
+    public void remove(final K key) throws EntryNotFoundException {
+        if (root == null) {
+            throw new EntryNotFoundException();
+        }
+        remove(key, root);
+        size--;
+        if (root.count == 0) {
+            if (root instanceof Leaf) {
+                root = first = null;
+            } else {
+                root = ((Inner) root).children[0];
+            }
+        }
+    }
+
+    /**
+     * Método responsável por remover uma entrada contida na árvore recursivamente.
+     * @param key  Refere-se a chave de acesso à dita entrada.
+     * @param node Refere-se ao elo atual da recursão.
+     * @throws EntryNotFoundException Exceção lançada no caso da entrada não ser encontrada.
+     */
+    private void remove(final K key, final Node node) throws EntryNotFoundException {
+        if (node instanceof Leaf) {
+            final int index = search(node, key);
+            if (index < 0) {
+                throw new EntryNotFoundException();
+            }
+            ((Leaf) node).delete(index);
+            return;
+        }
+        final Inner inner = (Inner) node;
+        final int index = childIndex(inner, key);
+        final Node child = inner.children[index];
+        remove(key, child);
+        if (child.count < minimum()) {
+            rebalance(inner, index);
+        }
+    }
+
+    /**
+     * Método responsável por percorrer por entradas contidas na árvore.
+     * @param entry Refere-se as entradas da árvore detentoras de valores e chaves.
+     */
+    @Override
+    public void forEach(final Consumer<? super Entry<K, V>> entry) {
+        for (Leaf leaf = first; leaf != null; leaf = leaf.next) {
+            for (int i = 0; i < leaf.count; i++) {
+                entry.accept(new LeafEntry(leaf, i));
+            }
+        }
+    }
+
+    /**
+     * Método responsável por percorrer, seguindo o encadeamento das folhas, as entradas
+     * cujas chaves pertencem a dado intervalo fechado.
+     * @param fromKey Refere-se a menor chave do intervalo.
+     * @param toKey   Refere-se a maior chave do intervalo.
+     * @param entry   Refere-se as entradas da árvore detentoras de valores e chaves.
+     */
+    @SuppressWarnings("unchecked")
+    public void forEach(final K fromKey, final K toKey, final Consumer<? super Entry<K, V>> entry) {
+        Leaf leaf = findLeaf(fromKey);
+        if (leaf == null) {
+            return;
+        }
+        int index = search(leaf, fromKey);
+        index = index >= 0 ? index : -index - 1;
+        for (; leaf != null; leaf = leaf.next, index = 0) {
+            for (; index < leaf.count; index++) {
+                if (comparator.compare((K) leaf.keys[index], toKey) > 0) {
+                    return;
+                }
+                entry.accept(new LeafEntry(leaf, index));
+            }
+        }
+    }
+
+    /**
+     * Método responsável por retornar estrutura iterável de entradas contidas na árvore.
+     * As entradas são percorridas sob demanda, seguindo o encadeamento das folhas.
+     * @return Retorna estrutura iterável de entradas contidas na árvore.
+     */
+    @Override
+    public Iterator<Entry<K, V>> iterator() {
+        return new LeafIterator();
+    }
+
+    /**
+     * Método responsável por duplicar a árvore.
+     * @return Retorna árvore duplicata.
+     */
+    @Override
+    public BPlusTree<K, V> duplicate() {
+        return new BPlusTree<>(comparator, order, root != null ? root.duplicate() : null, size);
+    }
+
+    /**
+     * Método responsável por alterar os dados da árvore em fluxo.
+     * @param newData Refere-se aos novos dados da árvore.
+     */
+    @Override
+    public void set(final BPlusTree<K, V> newData) {
+        this.comparator = newData.comparator;
+        this.order = newData.order;
+        this.root = newData.root;
+        this.size = newData.size;
+        this.first = newData.first;
+    }
+
+    /**
+     * Método responsável por reconstruir o encadeamento das folhas após a leitura da árvore.
+     * @param objectInputStream Refere-se ao fluxo de leitura da árvore.
+     * @throws IOException            Exceção lançada no caso de haverem problemas de entrada.
+     * @throws ClassNotFoundException Exceção lançada no caso de não haver classe no fluxo.
+     */
+    private void readObject(final ObjectInputStream objectInputStream) throws IOException, ClassNotFoundException {
+        objectInputStream.defaultReadObject();
+        relink();
+    }
+
+    /**
+     * Método responsável por reconstruir o encadeamento das folhas.
+     */
+    private void relink() {
+        first = null;
+        relink(root, null);
+    }
+
+    /**
+     * Método responsável por reconstruir o encadeamento das folhas recursivamente.
+     * @param node     Refere-se ao elo atual da recursão.
+     * @param previous Refere-se a última folha encadeada.
+     * @return Retorna a última folha encadeada.
+     */
+    private Leaf relink(final Node node, final Leaf previous) {
+        if (node == null) {
+            return previous;
+        } else if (node instanceof Leaf) {
+            final Leaf leaf = (Leaf) node;
+            leaf.previous = previous;
+            leaf.next = null;
+            if (previous != null) {
+                previous.next = leaf;
+            } else {
+                first = leaf;
+            }
+            return leaf;
+        }
+        final Inner inner = (Inner) node;
+        Leaf last = previous;
+        for (int i = 0; i <= inner.count; i++) {
+            last = relink(inner.children[i], last);
+        }
+        return last;
+    }
+
+    /**
+     * Método responsável por retornar a quantidade mínima de chaves de um elo não raiz.
+     * @return Retorna a quantidade mínima de chaves de um elo não raiz.
+     */
+    private int minimum() {
+        return (order - 1) / 2;
+    }
+
+    /**
+     * Método responsável por efetuar busca binária de dada chave em um elo.
+     * @param node Refere-se ao dito elo.
+     * @param key  Refere-se a dita chave.
+     * @return Retorna a posição da chave, ou (-(ponto de inserção) - 1) caso ausente.
+     */
+    @SuppressWarnings("unchecked")
+    private int search(final Node node, final K key) {
+        int low = 0;
+        int high = node.count - 1;
+        while (low <= high) {
+            final int middle = (low + high) >>> 1;
+            final int result = comparator.compare((K) node.keys[middle], key);
+            if (result < 0) {
+                low = middle + 1;
+            } else if (result > 0) {
+                high = middle - 1;
+            } else {
+                return middle;
+            }
+        }
+        return -(low + 1);
+    }
+
+    /**
+     * Método responsável por retornar a posição do filho responsável por dada chave.
+     * @param inner Refere-se ao elo interno.
+     * @param key   Refere-se a dita chave.
+     * @return Retorna a posição do filho responsável pela chave.
+     */
+    private int childIndex(final Inner inner, final K key) {
+        final int index = search(inner, key);
+        return index >= 0 ? index + 1 : -index - 1;
+    }
+
+    /**
+     * Método responsável por retornar a folha responsável por dada chave.
+     * @param key Refere-se a dita chave.
+     * @return Retorna a folha responsável pela chave, ou nulo caso a árvore esteja vazia.
+     */
+    private Leaf findLeaf(final K key) {
+        Node node = root;
+        while (node instanceof Inner) {
+            final Inner inner = (Inner) node;
+            node = inner.children[childIndex(inner, key)];
+        }
+        return (Leaf) node;
+    }
+
+    /**
+     * Método responsável por dividir uma folha cheia, promovendo a primeira chave da nova folha.
+     * @param leaf Refere-se a folha cheia.
+     * @return Retorna a nova folha, posterior a folha dividida.
+     */
+    private Leaf split(final Leaf leaf) {
+        final int middle = order / 2;
+        final Leaf sibling = new Leaf(order);
+        sibling.count = leaf.count - middle;
+        System.arraycopy(leaf.keys, middle, sibling.keys, 0, sibling.count);
+        System.arraycopy(leaf.values, middle, sibling.values, 0, sibling.count);
+        leaf.truncate(middle);
+        sibling.next = leaf.next;
+        if (sibling.next != null) {
+            sibling.next.previous = sibling;
+        }
+        sibling.previous = leaf;
+        leaf.next = sibling;
+        separator = sibling.keys[0];
+        return sibling;
+    }
+
+    /**
+     * Método responsável por dividir um elo interno cheio, promovendo sua chave central.
+     * @param inner Refere-se ao elo interno cheio.
+     * @return Retorna o novo elo interno, posterior ao elo dividido.
+     */
+    private Inner split(final Inner inner) {
+        final int middle = order / 2;
+        final Inner sibling = new Inner(order);
+        sibling.count = inner.count - middle - 1;
+        System.arraycopy(inner.keys, middle + 1, sibling.keys, 0, sibling.count);
+        System.arraycopy(inner.children, middle + 1, sibling.children, 0, sibling.count + 1);
+        separator = inner.keys[middle];
+        inner.truncate(middle);
+        return sibling;
+    }
+
+    /**
+     * Método responsável por corrigir um filho com chaves abaixo do mínimo,
+     * emprestando de um irmão ou fundindo-o a ele.
+     * @param parent Refere-se ao elo pai.
+     * @param index  Refere-se a posição do filho no elo pai.
+     */
+    private void rebalance(final Inner parent, final int index) {
+        final Node left = index > 0 ? parent.children[index - 1] : null;
+        final Node right = index < parent.count ? parent.children[index + 1] : null;
+        if (left != null && left.count > minimum()) {
+            borrowFromLeft(parent, index);
+        } else if (right != null && right.count > minimum()) {
+            borrowFromRight(parent, index);
+        } else if (left != null) {
+            merge(parent, index - 1);
+        } else {
+            merge(parent, index);
+        }
+    }
+
+    /**
+     * Método responsável por transferir a última entrada do irmão a esquerda para dado filho.
+     * @param parent Refere-se ao elo pai.
+     * @param index  Refere-se a posição do filho no elo pai.
+     */
+    private void borrowFromLeft(final Inner parent, final int index) {
+        final Node node = parent.children[index];
+        final Node left = parent.children[index - 1];
+        if (node instanceof Leaf) {
+            final Leaf leaf = (Leaf) node;
+            final Leaf sibling = (Leaf) left;
+            final int last = sibling.count - 1;
+            leaf.insert(0, sibling.keys[last], sibling.values[last]);
+            sibling.truncate(last);
+            parent.keys[index - 1] = leaf.keys[0];
+        } else {
+            final Inner inner = (Inner) node;
+            final Inner sibling = (Inner) left;
+            System.arraycopy(inner.keys, 0, inner.keys, 1, inner.count);
+            System.arraycopy(inner.children, 0, inner.children, 1, inner.count + 1);
+            inner.keys[0] = parent.keys[index - 1];
+            inner.children[0] = sibling.children[sibling.count];
+            inner.count++;
+            parent.keys[index - 1] = sibling.keys[sibling.count - 1];
+            sibling.truncate(sibling.count - 1);
+        }
+    }
+
+    /**
+     * Método responsável por transferir a primeira entrada do irmão a direita para dado filho.
+     * @param parent Refere-se ao elo pai.
+     * @param index  Refere-se a posição do filho no elo pai.
+     */
+    private void borrowFromRight(final Inner parent, final int index) {
+        final Node node = parent.children[index];
+        final Node right = parent.children[index + 1];
+        if (node instanceof Leaf) {
+            final Leaf leaf = (Leaf) node;
+            final Leaf sibling = (Leaf) right;
+            leaf.insert(leaf.count, sibling.keys[0], sibling.values[0]);
+            sibling.delete(0);
+            parent.keys[index] = sibling.keys[0];
+        } else {
+            final Inner inner = (Inner) node;
+            final Inner sibling = (Inner) right;
+            inner.keys[inner.count] = parent.keys[index];
+            inner.children[inner.count + 1] = sibling.children[0];
+            inner.count++;
+            parent.keys[index] = sibling.keys[0];
+            System.arraycopy(sibling.keys, 1, sibling.keys, 0, sibling.count - 1);
+            System.arraycopy(sibling.children, 1, sibling.children, 0, sibling.count);
+            sibling.truncate(sibling.count - 1);
+        }
+    }
+
+    /**
+     * Método responsável por fundir dois filhos adjacentes, removendo a chave que os separa.
+     * @param parent Refere-se ao elo pai.
+     * @param index  Refere-se a posição do filho a esquerda no elo pai.
+     */
+    private void merge(final Inner parent, final int index) {
+        final Node left = parent.children[index];
+        final Node right = parent.children[index + 1];
+        if (left instanceof Leaf) {
+            final Leaf leaf = (Leaf) left;
+            final Leaf sibling = (Leaf) right;
+            System.arraycopy(sibling.keys, 0, leaf.keys, leaf.count, sibling.count);
+            System.arraycopy(sibling.values, 0, leaf.values, leaf.count, sibling.count);
+            leaf.count += sibling.count;
+            leaf.next = sibling.next;
+            if (leaf.next != null) {
+                leaf.next.previous = leaf;
+            }
+        } else {
+            final Inner inner = (Inner) left;
+            final Inner sibling = (Inner) right;
+            inner.keys[inner.count] = parent.keys[index];
+            System.arraycopy(sibling.keys, 0, inner.keys, inner.count + 1, sibling.count);
+            System.arraycopy(sibling.children, 0, inner.children, inner.count + 1, sibling.count + 1);
+            inner.count += sibling.count + 1;
+        }
+        parent.delete(index);
+    }
+
+    /**
+     * Classe responsável por comportar-se como elo da árvore.
+     * @author Everton Bruno Silva dos Santos.
+     * @version 1.0
+     * @since 1.0
+     */
+    private abstract static class Node implements Serializable, Duplicable<Node> {
+        /**
+         * Refere-se ao número de série do elo da árvore B+.
+         */
+        private transient static final long serialVersionUID = -6385946958686495728L;
+        /**
+         * Refere-se as chaves contidas no elo.
+         */
+        protected final Object[] keys;
+        /**
+         * Refere-se a quantidade de chaves contidas no elo.
+         */
+        protected int count;
+
+        /**
+         * Construtor responsável pelo instanciamento do elo.
+         * @param capacity Refere-se a capacidade de chaves do elo.
+         */
+        protected Node(final int capacity) {
+            this.keys = new Object[capacity];
+            this.count = 0;
+        }
+
+    }
+
+    /**
+     * Classe responsável por comportar-se como elo interno da árvore.
+     * @author Everton Bruno Silva dos Santos.
+     * @version 1.0
+     * @since 1.0
+     */
+    private static final class Inner extends Node {
+        /**
+         * Refere-se ao número de série do elo interno da árvore B+.
+         */
+        private transient static final long serialVersionUID = -6385946958686495729L;
+        /**
+         * Refere-se aos filhos contidos no elo.
+         */
+        private final Node[] children;
+
+        /**
+         * Construtor responsável pelo instanciamento do elo interno.
+         * @param order Refere-se a ordem da árvore.
+         */
+        private Inner(final int order) {
+            super(order);
+            this.children = new Node[order + 1];
+        }
+
+        /**
+         * Método responsável por inserir uma chave e o filho a sua direita em dada posição.
+         * @param index Refere-se a dita posição.
+         * @param key   Refere-se a chave inserida.
+         * @param child Refere-se ao filho a direita da chave.
+         */
+        private void insert(final int index, final Object key, final Node child) {
+            System.arraycopy(keys, index, keys, index + 1, count - index);
+            System.arraycopy(children, index + 1, children, index + 2, count - index);
+            keys[index] = key;
+            children[index + 1] = child;
+            count++;
+        }
+
+        /**
+         * Método responsável por remover a chave de dada posição e o filho a sua direita.
+         * @param index Refere-se a dita posição.
+         */
+        private void delete(final int index) {
+            System.arraycopy(keys, index + 1, keys, index, count - index - 1);
+            System.arraycopy(children, index + 2, children, index + 1, count - index - 1);
+            keys[count - 1] = null;
+            children[count] = null;
+            count--;
+        }
+
+        /**
+         * Método responsável por descartar as chaves a partir de dada quantidade.
+         * @param newCount Refere-se a nova quantidade de chaves.
+         */
+        private void truncate(final int newCount) {
+            for (int i = newCount; i < count; i++) {
+                keys[i] = null;
+                children[i + 1] = null;
+            }
+            count = newCount;
+        }
+
+        /**
+         * Método responsável por duplicar o elo interno.
+         * @return Retorna elo interno duplicata.
+         */
+        @Override
+        public Inner duplicate() {
+            final Inner inner = new Inner(keys.length);
+            System.arraycopy(keys, 0, inner.keys, 0, count);
+            for (int i = 0; i <= count; i++) {
+                inner.children[i] = children[i].duplicate();
+            }
+            inner.count = count;
+            return inner;
+        }
+
+    }
+
+    /**
+     * Classe responsável por comportar-se como folha da árvore.
+     * @author Everton Bruno Silva dos Santos.
+     * @version 1.0
+     * @since 1.0
+     */
+    private static final class Leaf extends Node {
+        /**
+         * Refere-se ao número de série da folha da árvore B+.
+         */
+        private transient static final long serialVersionUID = -6385946958686495730L;
+        /**
+         * Refere-se aos valores contidos na folha.
+         */
+        private final Object[] values;
+        /**
+         * Refere-se a folha seguinte no encadeamento.
+         */
+        private transient Leaf next;
+        /**
+         * Refere-se a folha anterior no encadeamento.
+         */
+        private transient Leaf previous;
+
+        /**
+         * Construtor responsável pelo instanciamento da folha.
+         * @param order Refere-se a ordem da árvore.
+         */
+        private Leaf(final int order) {
+            super(order);
+            this.values = new Object[order];
+        }
+
+        /**
+         * Método responsável por inserir uma entrada em dada posição.
+         * @param index Refere-se a dita posição.
+         * @param key   Refere-se a chave da entrada.
+         * @param value Refere-se ao valor da entrada.
+         */
+        private void insert(final int index, final Object key, final Object value) {
+            System.arraycopy(keys, index, keys, index + 1, count - index);
+            System.arraycopy(values, index, values, index + 1, count - index);
+            keys[index] = key;
+            values[index] = value;
+            count++;
+        }
+
+        /**
+         * Método responsável por remover a entrada de dada posição.
+         * @param index Refere-se a dita posição.
+         */
+        private void delete(final int index) {
+            System.arraycopy(keys, index + 1, keys, index, count - index - 1);
+            System.arraycopy(values, index + 1, values, index, count - index - 1);
+            truncate(count - 1);
+        }
+
+        /**
+         * Método responsável por descartar as entradas a partir de dada quantidade.
+         * @param newCount Refere-se a nova quantidade de entradas.
+         */
+        private void truncate(final int newCount) {
+            for (int i = newCount; i < count; i++) {
+                keys[i] = null;
+                values[i] = null;
+            }
+            count = newCount;
+        }
+
+        /**
+         * Método responsável por duplicar a folha, sem seu encadeamento.
+         * @return Retorna folha duplicata.
+         */
+        @Override
+        public Leaf duplicate() {
+            final Leaf leaf = new Leaf(keys.length);
+            System.arraycopy(keys, 0, leaf.keys, 0, count);
+            System.arraycopy(values, 0, leaf.values, 0, count);
+            leaf.count = count;
+            return leaf;
+        }
+
+    }
+
+    /**
+     * Classe responsável por comportar-se como iterador preguiçoso das entradas da árvore.
+     * @author Everton Bruno Silva dos Santos.
+     * @version 1.0
+     * @since 1.0
+     */
+    private final class LeafIterator implements Iterator<Entry<K, V>> {
+        /**
+         * Refere-se a folha atual do iterador.
+         */
+        private Leaf leaf;
+        /**
+         * Refere-se a posição atual na folha.
+         */
+        private int index;
+
+        /**
+         * Construtor responsável pelo instanciamento do iterador.
+         */
+        private LeafIterator() {
+            this.leaf = first;
+            this.index = 0;
+        }
+
+        /**
+         * Método responsável por indicar se há um próximo elemento.
+         * @return Retorna indicativo de que há um próximo elemento.
+         */
+        @Override
+        public boolean hasNext() {
+            return leaf != null && index < leaf.count;
+        }
+
+        /**
+         * Método responsável por retornar um próximo elemento.
+         * @return Retorna um próximo elemento.
+         * @throws NoSuchElementException Exceção lançada no caso de não haver próximo elemento.
+         */
+        @Override
+        public Entry<K, V> next() throws NoSuchElementException {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            final Entry<K, V> entry = new LeafEntry(leaf, index++);
+            if (index == leaf.count) {
+                leaf = leaf.next;
+                index = 0;
+            }
+            return entry;
+        }
+
+    }
+
+    /**
+     * Classe responsável por comportar-se como entrada contida em uma folha da árvore.
+     * @author Everton Bruno Silva dos Santos.
+     * @version 1.0
+     * @since 1.0
+     */
+    private final class LeafEntry implements Entry<K, V> {
+        /**
+         * Refere-se a folha detentora da entrada.
+         */
+        private final Leaf leaf;
+        /**
+         * Refere-se a posição da entrada na folha.
+         */
+        private final int index;
+
+        /**
+         * Construtor responsável pelo instanciamento da entrada.
+         * @param leaf  Refere-se a folha detentora da entrada.
+         * @param index Refere-se a posição da entrada na folha.
+         */
+        private LeafEntry(final Leaf leaf, final int index) {
+            this.leaf = leaf;
+            this.index = index;
+        }
+
+        /**
+         * Método responsável por retornar chave contida na entrada.
+         * @return Retorna chave contida na entrada.
+         */
+        @Override
+        @SuppressWarnings("unchecked")
+        public K getKey() {
+            return (K) leaf.keys[index];
+        }
+
+        /**
+         * Método responsável por retornar valor contido na entrada.
+         * @return Retorna valor contido na entrada.
+         */
+        @Override
+        @SuppressWarnings("unchecked")
+        public V getValue() {
+            return (V) leaf.values[index];
+        }
+
+        /**
+         * Método responsável por alterar valor contido na entrada.
+         * @param value Refere-se ao novo valor contido na entrada.
+         * @return Retorna antigo valor contido na entrada.
+         */
+        @Override
+        public V setValue(final V value) {
+            final V oldValue = getValue();
+            leaf.values[index] = value;
+            return oldValue;
+        }
+
+        /**
+         * Método responsável por comparar a entrada com outra, conforme o contrato de {@link Entry}.
+         * @param object Refere-se a outra entrada.
+         * @return Retorna indicativo de que ambas possuem chaves e valores iguais.
+         */
+        @Override
+        public boolean equals(final Object object) {
+            if (!(object instanceof Entry)) {
+                return false;
+            }
+            final Entry<?, ?> entry = (Entry<?, ?>) object;
+            return Objects.equals(getKey(), entry.getKey()) && Objects.equals(getValue(), entry.getValue());
+        }
+
+        /**
+         * Método responsável por retornar o código de dispersão da entrada, conforme o contrato de {@link Entry}.
+         * @return Retorna o código de dispersão da entrada.
+         */
+        @Override
+        public int hashCode() {
+            return Objects.hashCode(getKey()) ^ Objects.hashCode(getValue());
+        }
+
+        /**
+         * Método responsável por converter a entrada para String.
+         * @return Retorna a entrada em String.
+         */
+        @Override
+        public String toString() {
+            return getKey() + "=" + getValue();
+        }
+
+    }
+
+}
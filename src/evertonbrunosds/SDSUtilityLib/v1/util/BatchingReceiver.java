@@ -0,0 +1,374 @@
+/*
+ * This file is part of the SDSUtilityLib Open Source Project.
+ * SDSUtilityLib is licensed under the GNU GPLv3.
+ *
+ * Copyright © 2020. Everton Bruno Silva dos Santos <evertonbrunogithub@yahoo.com>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package evertonbrunosds.SDSUtilityLib.v1.util;
+
+import evertonbrunosds.SDSUtilityLib.v1.api.Factory;
+import evertonbrunosds.SDSUtilityLib.v1.api.Receiver;
+import java.io.NotSerializableException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Classe responsável por comportar-se como receptor que acumula os dados recebidos e os repassa em lotes a um
+ * receptor de destino, amortizando entre vários dados o custo de travas e de escritas em disco do destino. Os dados
+ * são acumulados sem travas, e um lote é repassado quando atinge o tamanho máximo, pela thread que o completou, ou
+ * quando o dado mais antigo aguarda pelo tempo de espera, caso em que o agendador apenas entrega o repasse a um conjunto
+ * de threads, de modo que um destino lento não retenha as threads do agendador. O destino nunca é chamado concorrentemente
+ * e recebe os dados na ordem em que foram acumulados; a exceção lançada por ele descarta o lote e é contabilizada,
+ * sendo também propagada quando o repasse ocorre na thread de quem recebe ou descarrega.
+ * @author Everton Bruno Silva dos Santos.
+ * @param <T> Refere-se ao tipo de dados recebidos.
+ * @version 1.0
+ * @since 1.0
+ */
+public class BatchingReceiver<T> implements Receiver<T>, AutoCloseable {
+    /**
+     * Refere-se ao número de série do receptor em lotes.
+     */
+    private transient static final long serialVersionUID = 3761904825310667451L;
+    /**
+     * Refere-se ao receptor de destino dos lotes.
+     */
+    private final Receiver<List<T>> downstream;
+    /**
+     * Refere-se a quantidade máxima de dados de um lote.
+     */
+    private final int maxBatch;
+    /**
+     * Refere-se ao tempo máximo de espera de um dado antes de ser repassado, em nanossegundos.
+     */
+    private final long linger;
+    /**
+     * Refere-se ao agendador dos repasses por tempo de espera.
+     */
+    private final WorkerScheduler scheduler;
+    /**
+     * Refere-se ao conjunto de threads que efetua os repasses por tempo de espera.
+     */
+    private final WorkerPool pool;
+    /**
+     * Refere-se aos dados acumulados e ainda não repassados.
+     */
+    private final ConcurrentLinkedQueue<T> buffer;
+    /**
+     * Refere-se a quantidade de dados acumulados e ainda não repassados.
+     */
+    private final AtomicInteger pending;
+    /**
+     * Refere-se a indicativo de que há repasse por tempo de espera agendado.
+     */
+    private final AtomicBoolean armed;
+    /**
+     * Refere-se a trava que serializa as chamadas ao destino.
+     */
+    private final ReentrantLock lock;
+    /**
+     * Refere-se a quantidade de dados recebidos.
+     */
+    private final LongAdder received;
+    /**
+     * Refere-se a quantidade de lotes repassados ao destino.
+     */
+    private final LongAdder flushes;
+    /**
+     * Refere-se a quantidade de lotes repassados por tempo de espera.
+     */
+    private final LongAdder lingerFlushes;
+    /**
+     * Refere-se a quantidade de dados repassados ao destino.
+     */
+    private final LongAdder flushed;
+    /**
+     * Refere-se a quantidade de lotes cujo destino lançou exceção.
+     */
+    private final LongAdder failures;
+    /**
+     * Refere-se a última exceção lançada pelo destino, nula enquanto não houver.
+     */
+    private volatile RuntimeException lastFailure;
+    /**
+     * Refere-se a indicativo de que o receptor foi fechado.
+     */
+    private volatile boolean closed;
+
+    /**
+     * Construtor responsável pelo instanciamento do receptor em lotes sobre o agendador e o conjunto de threads compartilhados.
+     * @param downstream Refere-se ao receptor de destino dos lotes.
+     * @param maxBatch   Refere-se a quantidade máxima de dados de um lote.
+     * @param linger     Refere-se ao tempo máximo de espera de um dado antes de ser repassado.
+     * @param unit       Refere-se a unidade do dito tempo.
+     * @throws NullPointerException     Exceção lançada caso o destino ou a unidade sejam nulos.
+     * @throws IllegalArgumentException Exceção lançada caso o tamanho do lote ou o tempo de espera não sejam positivos.
+     */
+    public BatchingReceiver(final Receiver<List<T>> downstream, final int maxBatch, final long linger, final TimeUnit unit)
+            throws NullPointerException, IllegalArgumentException {
+        this(downstream, maxBatch, linger, unit, Factory.Thread.getSharedScheduler(), Factory.Thread.getSharedPool());
+    }
+
+    /**
+     * Construtor responsável pelo instanciamento do receptor em lotes.
+     * @param downstream Refere-se ao receptor de destino dos lotes.
+     * @param maxBatch   Refere-se a quantidade máxima de dados de um lote.
+     * @param linger     Refere-se ao tempo máximo de espera de um dado antes de ser repassado.
+     * @param unit       Refere-se a unidade do dito tempo.
+     * @param scheduler  Refere-se ao agendador dos repasses por tempo de espera.
+     * @param pool       Refere-se ao conjunto de threads que efetua os repasses por tempo de espera.
+     * @throws NullPointerException     Exceção lançada caso o destino, a unidade, o agendador ou o conjunto de threads sejam nulos.
+     * @throws IllegalArgumentException Exceção lançada caso o tamanho do lote ou o tempo de espera não sejam positivos.
+     */
+    public BatchingReceiver(final Receiver<List<T>> downstream, final int maxBatch, final long linger, final TimeUnit unit,
+            final WorkerScheduler scheduler, final WorkerPool pool) throws NullPointerException, IllegalArgumentException {
+        if (downstream == null || unit == null || scheduler == null || pool == null) {
+            throw new NullPointerException();
+        }
+        if (maxBatch <= 0 || linger <= 0) {
+            throw new IllegalArgumentException();
+        }
+        this.downstream = downstream;
+        this.maxBatch = maxBatch;
+        this.linger = unit.toNanos(linger);
+        this.scheduler = scheduler;
+        this.pool = pool;
+        this.buffer = new ConcurrentLinkedQueue<>();
+        this.pending = new AtomicInteger();
+        this.armed = new AtomicBoolean();
+        this.lock = new ReentrantLock();
+        this.received = new LongAdder();
+        this.flushes = new LongAdder();
+        this.lingerFlushes = new LongAdder();
+        this.flushed = new LongAdder();
+        this.failures = new LongAdder();
+    }
+
+    /**
+     * Método responsável por acumular um dado, repassando os lotes completos caso nenhuma outra thread
+     * esteja repassando.
+     * @param data Refere-se ao dito dado.
+     * @throws NullPointerException  Exceção lançada caso o dado seja nulo.
+     * @throws IllegalStateException Exceção lançada caso o receptor tenha sido fechado.
+     */
+    @Override
+    public void receive(final T data) throws NullPointerException, IllegalStateException {
+        if (data == null) {
+            throw new NullPointerException();
+        }
+        if (closed) {
+            throw new IllegalStateException("BatchingReceiver is closed.");
+        }
+        buffer.offer(data);
+        received.increment();
+        final int size = pending.incrementAndGet();
+        if (!armed.get()) {
+            arm();
+        }
+        if (size >= maxBatch && lock.tryLock()) {
+            try {
+                while (pending.get() >= maxBatch) {
+                    drain();
+                }
+            } finally {
+                lock.unlock();
+            }
+        }
+    }
+
+    /**
+     * Método responsável por repassar ao destino todos os dados acumulados, aguardando o repasse em curso.
+     */
+    public void flush() {
+        lock.lock();
+        try {
+            while (pending.get() > 0) {
+                drain();
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Método responsável por agendar o repasse por tempo de espera, caso não haja outro agendado.
+     */
+    private void arm() {
+        if (armed.compareAndSet(false, true)) {
+            try {
+                scheduler.schedule(this::expire, linger, TimeUnit.NANOSECONDS);
+            } catch (final RuntimeException ex) {
+                armed.set(false);
+                throw ex;
+            }
+        }
+    }
+
+    /**
+     * Método responsável por entregar ao conjunto de threads o repasse ao fim do tempo de espera, agendando nova
+     * tentativa caso o conjunto o rejeite.
+     */
+    private void expire() {
+        armed.set(false);
+        pool.submit(this::lingerFlush).whenComplete((final Void result, final Throwable ex) -> {
+            if (ex != null && pending.get() > 0 && !scheduler.isShutdown()) {
+                arm();
+            }
+        });
+    }
+
+    /**
+     * Método responsável por repassar os dados acumulados ao fim do tempo de espera, agendando novo repasse
+     * caso restem dados, inclusive os que chegaram durante este.
+     */
+    private void lingerFlush() {
+        if (lock.tryLock()) {
+            try {
+                if (pending.get() > 0) {
+                    lingerFlushes.increment();
+                }
+                while (pending.get() > 0) {
+                    drain();
+                }
+            } catch (final RuntimeException ex) {
+                lastFailure = ex;
+            } finally {
+                lock.unlock();
+            }
+        }
+        if (pending.get() > 0 && !scheduler.isShutdown()) {
+            arm();
+        }
+    }
+
+    /**
+     * Método responsável por retirar um lote dos dados acumulados e repassá-lo ao destino, de posse da trava.
+     * @throws RuntimeException Exceção lançada pelo destino, após descartar o lote.
+     */
+    private void drain() throws RuntimeException {
+        final List<T> batch = new ArrayList<>(Math.min(maxBatch, pending.get()));
+        T data;
+        while (batch.size() < maxBatch && (data = buffer.poll()) != null) {
+            batch.add(data);
+        }
+        pending.addAndGet(-batch.size());
+        if (batch.isEmpty()) {
+            return;
+        }
+        flushes.increment();
+        flushed.add(batch.size());
+        try {
+            downstream.receive(batch);
+        } catch (final RuntimeException ex) {
+            failures.increment();
+            lastFailure = ex;
+            throw ex;
+        }
+    }
+
+    /**
+     * Método responsável por recusar a serialização do receptor, cujos dados pendentes, trava e agendador
+     * não fazem sentido fora da máquina virtual em que foi instanciado.
+     * @param out Refere-se ao fluxo de saída da serialização.
+     * @throws NotSerializableException Exceção lançada sempre.
+     */
+    private void writeObject(final ObjectOutputStream out) throws NotSerializableException {
+        throw new NotSerializableException(getClass().getName());
+    }
+
+    /**
+     * Método responsável por recusar a desserialização do receptor.
+     * @param in Refere-se ao fluxo de entrada da desserialização.
+     * @throws NotSerializableException Exceção lançada sempre.
+     */
+    private void readObject(final ObjectInputStream in) throws NotSerializableException {
+        throw new NotSerializableException(getClass().getName());
+    }
+
+    /**
+     * Método responsável por fechar o receptor, recusando novos dados e repassando os acumulados.
+     */
+    @Override
+    public void close() {
+        closed = true;
+        flush();
+    }
+
+    /**
+     * Método responsável por retornar a quantidade de dados recebidos.
+     * @return Retorna a quantidade de dados recebidos.
+     */
+    public long getReceived() {
+        return received.sum();
+    }
+
+    /**
+     * Método responsável por retornar a quantidade de dados acumulados e ainda não repassados.
+     * @return Retorna a quantidade de dados pendentes.
+     */
+    public int getPending() {
+        return pending.get();
+    }
+
+    /**
+     * Método responsável por retornar a quantidade de lotes repassados ao destino.
+     * @return Retorna a quantidade de lotes.
+     */
+    public long getFlushes() {
+        return flushes.sum();
+    }
+
+    /**
+     * Método responsável por retornar a quantidade de repasses disparados pelo tempo de espera.
+     * @return Retorna a quantidade de repasses por tempo de espera.
+     */
+    public long getLingerFlushes() {
+        return lingerFlushes.sum();
+    }
+
+    /**
+     * Método responsável por retornar a quantidade de dados repassados ao destino.
+     * @return Retorna a quantidade de dados repassados.
+     */
+    public long getFlushed() {
+        return flushed.sum();
+    }
+
+    /**
+     * Método responsável por retornar a quantidade de lotes cujo destino lançou exceção.
+     * @return Retorna a quantidade de falhas.
+     */
+    public long getFailures() {
+        return failures.sum();
+    }
+
+    /**
+     * Método responsável por retornar a última exceção lançada pelo destino.
+     * @return Retorna a última exceção, ou nulo caso não haja.
+     */
+    public RuntimeException getLastFailure() {
+        return lastFailure;
+    }
+
+}
@@ -0,0 +1,235 @@
+/*
+ * This file is part of the SDSUtilityLib Open Source Project.
+ * SDSUtilityLib is licensed under the GNU GPLv3.
+ *
+ * Copyright © 2020. Everton Bruno Silva dos Santos <evertonbrunogithub@yahoo.com>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package evertonbrunosds.SDSUtilityLib.v1.util;
+
+import evertonbrunosds.SDSUtilityLib.v1.api.Duplicable;
+import java.io.Serializable;
+import java.util.Arrays;
+import java.util.Objects;
+
+/**
+ * Classe responsável por comportar-se como filtro de Bloom, estrutura probabilística capaz de indicar
+ * com certeza que um elemento não foi inserido, ou que provavelmente foi, usando poucos bits por elemento.
+ * As posições são derivadas do código de dispersão dos elementos, portanto elementos considerados
+ * iguais pela estrutura que o filtro acompanha devem possuir o mesmo código de dispersão.
+ * @author Everton Bruno Silva dos Santos.
+ * @param <T> Refere-se ao tipo de elemento do filtro.
+ * @version 1.0
+ * @since 1.0
+ */
+public class BloomFilter<T> implements Serializable, Duplicable<BloomFilter<T>> {
+    /**
+     * Refere-se ao número de série do filtro de Bloom.
+     */
+    private transient static final long serialVersionUID = -6385946958686494033L;
+    /**
+     * Refere-se a taxa padrão de falsos positivos.
+     */
+    public static final double DEFAULT_FALSE_POSITIVE_RATE = 0.01;
+    /**
+     * Refere-se a quantidade esperada de elementos para a qual o filtro foi dimensionado.
+     */
+    private final long expectedInsertions;
+    /**
+     * Refere-se a taxa de falsos positivos para a qual o filtro foi dimensionado.
+     */
+    private final double falsePositiveRate;
+    /**
+     * Refere-se aos bits do filtro.
+     */
+    private final long[] words;
+    /**
+     * Refere-se a quantidade de bits do filtro.
+     */
+    private final int bitCount;
+    /**
+     * Refere-se a quantidade de funções de dispersão aplicadas a cada elemento.
+     */
+    private final int hashCount;
+    /**
+     * Refere-se a quantidade de inserções efetuadas no filtro.
+     */
+    private long insertions;
+
+    /**
+     * Construtor responsável pelo instanciamento do filtro com a taxa padrão de falsos positivos.
+     * @param expectedInsertions Refere-se a quantidade esperada de elementos.
+     * @throws IllegalArgumentException Exceção lançada caso a quantidade esperada seja negativa.
+     */
+    public BloomFilter(final long expectedInsertions) throws IllegalArgumentException {
+        this(expectedInsertions, DEFAULT_FALSE_POSITIVE_RATE);
+    }
+
+    /**
+     * Construtor responsável pelo instanciamento do filtro, dimensionado para dada taxa de falsos positivos.
+     * @param expectedInsertions Refere-se a quantidade esperada de elementos.
+     * @param falsePositiveRate  Refere-se a taxa desejada de falsos positivos, entre zero e um.
+     * @throws IllegalArgumentException Exceção lançada caso a quantidade esperada seja negativa
+     *                                  ou a taxa não esteja entre zero e um.
+     */
+    public BloomFilter(final long expectedInsertions, final double falsePositiveRate) throws IllegalArgumentException {
+        if (expectedInsertions < 0) {
+            throw new IllegalArgumentException("Invalid expected insertions.");
+        } else if (!(falsePositiveRate > 0 && falsePositiveRate < 1)) {
+            throw new IllegalArgumentException("Invalid false positive rate.");
+        }
+        this.expectedInsertions = expectedInsertions;
+        this.falsePositiveRate = falsePositiveRate;
+        final long elements = Math.max(1, expectedInsertions);
+        final double bits = -elements * Math.log(falsePositiveRate) / (Math.log(2) * Math.log(2));
+        this.bitCount = (int) Math.max(64, Math.min(Integer.MAX_VALUE - 63, Math.ceil(bits)));
+        this.hashCount = (int) Math.max(1, Math.min(30, Math.round((double) bitCount / elements * Math.log(2))));
+        this.words = new long[(bitCount + 63) >>> 6];
+        this.insertions = 0;
+    }
+
+    /**
+     * Construtor responsável pelo instanciamento do filtro a partir de outro.
+     * @param bloomFilter Refere-se ao filtro copiado.
+     */
+    private BloomFilter(final BloomFilter<T> bloomFilter) {
+        this.expectedInsertions = bloomFilter.expectedInsertions;
+        this.falsePositiveRate = bloomFilter.falsePositiveRate;
+        this.words = bloomFilter.words.clone();
+        this.bitCount = bloomFilter.bitCount;
+        this.hashCount = bloomFilter.hashCount;
+        this.insertions = bloomFilter.insertions;
+    }
+
+    /**
+     * Método responsável por inserir um elemento no filtro.
+     * @param element Refere-se ao dito elemento.
+     */
+    public void add(final T element) {
+        final long hash = mix(Objects.hashCode(element));
+        final int hash1 = (int) hash;
+        final int hash2 = (int) (hash >>> 32);
+        for (int i = 1; i <= hashCount; i++) {
+            final int index = index(hash1 + i * hash2);
+            words[index >>> 6] |= 1L << index;
+        }
+        insertions++;
+    }
+
+    /**
+     * Método responsável por indicar se um elemento possivelmente foi inserido no filtro.
+     * @param element Refere-se ao dito elemento.
+     * @return Retorna falso caso o elemento certamente não tenha sido inserido, ou verdadeiro caso possivelmente tenha.
+     */
+    public boolean mightContain(final T element) {
+        final long hash = mix(Objects.hashCode(element));
+        final int hash1 = (int) hash;
+        final int hash2 = (int) (hash >>> 32);
+        for (int i = 1; i <= hashCount; i++) {
+            final int index = index(hash1 + i * hash2);
+            if ((words[index >>> 6] & (1L << index)) == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Método responsável por esvaziar o filtro.
+     */
+    public void clear() {
+        Arrays.fill(words, 0L);
+        insertions = 0;
+    }
+
+    /**
+     * Método responsável por retornar a quantidade esperada de elementos para a qual o filtro foi dimensionado.
+     * @return Retorna a quantidade esperada de elementos.
+     */
+    public long getExpectedInsertions() {
+        return expectedInsertions;
+    }
+
+    /**
+     * Método responsável por retornar a taxa de falsos positivos para a qual o filtro foi dimensionado.
+     * @return Retorna a taxa de falsos positivos desejada.
+     */
+    public double getFalsePositiveRate() {
+        return falsePositiveRate;
+    }
+
+    /**
+     * Método responsável por retornar a quantidade de bits do filtro.
+     * @return Retorna a quantidade de bits do filtro.
+     */
+    public int getBitCount() {
+        return bitCount;
+    }
+
+    /**
+     * Método responsável por retornar a quantidade de funções de dispersão aplicadas a cada elemento.
+     * @return Retorna a quantidade de funções de dispersão.
+     */
+    public int getHashCount() {
+        return hashCount;
+    }
+
+    /**
+     * Método responsável por retornar a quantidade de inserções efetuadas no filtro.
+     * @return Retorna a quantidade de inserções.
+     */
+    public long getInsertions() {
+        return insertions;
+    }
+
+    /**
+     * Método responsável por estimar a taxa atual de falsos positivos, conforme as inserções efetuadas.
+     * @return Retorna a taxa estimada de falsos positivos.
+     */
+    public double getExpectedFalsePositiveRate() {
+        return Math.pow(1 - Math.exp(-(double) hashCount * insertions / bitCount), hashCount);
+    }
+
+    /**
+     * Método responsável por duplicar o filtro.
+     * @return Retorna filtro duplicata.
+     */
+    @Override
+    public BloomFilter<T> duplicate() {
+        return new BloomFilter<>(this);
+    }
+
+    /**
+     * Método responsável por converter uma dispersão combinada em posição de bit.
+     * @param combined Refere-se a dita dispersão.
+     * @return Retorna a posição do bit.
+     */
+    private int index(final int combined) {
+        return (combined < 0 ? ~combined : combined) % bitCount;
+    }
+
+    /**
+     * Método responsável por espalhar os bits de um código de dispersão em 64 bits.
+     * @param hashCode Refere-se ao dito código de dispersão.
+     * @return Retorna a dispersão espalhada.
+     */
+    private static long mix(final int hashCode) {
+        long hash = hashCode * 0x9E3779B97F4A7C15L;
+        hash = (hash ^ (hash >>> 33)) * 0xFF51AFD7ED558CCDL;
+        hash = (hash ^ (hash >>> 33)) * 0xC4CEB9FE1A85EC53L;
+        return hash ^ (hash >>> 33);
+    }
+
+}
@@ -0,0 +1,1060 @@
+/*
+ * This file is part of the SDSUtilityLib Open Source Project.
+ * SDSUtilityLib is licensed under the GNU GPLv3.
+ *
+ * Copyright © 2020. Everton Bruno Silva dos Santos <evertonbrunogithub@yahoo.com>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package evertonbrunosds.SDSUtilityLib.v1.util;
+
+import evertonbrunosds.SDSUtilityLib.v1.api.Comparator;
+import evertonbrunosds.SDSUtilityLib.v1.api.Modifier;
+import evertonbrunosds.SDSUtilityLib.v1.api.Sender;
+import java.util.NavigableMap;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.concurrent.locks.StampedLock;
+
+/**
+ * Classe responsável por comportar-se como cache limitado sobre uma árvore AVL, despejando entradas
+ * conforme a política escolhida sempre que o peso total excede o máximo, e expirando entradas por tempo.
+ * As leituras não disputam a trava de despejo: percorrem a árvore sob trava compartilhada e apenas
+ * registram o acesso num buffer, aplicado à política de despejo pela próxima escrita; caso o buffer
+ * esteja cheio, o registro é descartado, tornando a política aproximada sob alta concorrência.
+ * As escritas são serializadas.
+ * @author Everton Bruno Silva dos Santos.
+ * @param <K> Refere-se ao tipo de chave usada nas entradas.
+ * @param <V> Refere-se ao tipo de valor usado nas entradas.
+ * @version 1.0
+ * @since 1.0
+ */
+public class BoundedCache<K, V> {
+    /**
+     * Refere-se a capacidade do buffer de leituras.
+     */
+    private static final int READ_BUFFER_CAPACITY = 128;
+    /**
+     * Refere-se a quantidade de leituras pendentes que dispara sua aplicação a política de despejo.
+     */
+    private static final int READ_BUFFER_DRAIN_THRESHOLD = 32;
+    /**
+     * Refere-se a fração do peso máximo destinada a janela de admissão da política W-TinyLFU.
+     */
+    private static final double WINDOW_FRACTION = 0.01;
+    /**
+     * Refere-se a fração do segmento principal destinada as entradas protegidas da política W-TinyLFU.
+     */
+    private static final double PROTECTED_FRACTION = 0.8;
+    /**
+     * Refere-se ao índice do encadeamento por ordem de acesso.
+     */
+    private static final int ACCESS = 0;
+    /**
+     * Refere-se ao índice do encadeamento por ordem de escrita.
+     */
+    private static final int WRITE = 1;
+    /**
+     * Refere-se ao índice do encadeamento do segmento da política W-TinyLFU.
+     */
+    private static final int SEGMENT = 2;
+    /**
+     * Refere-se ao peso máximo do cache.
+     */
+    private final long maximumWeight;
+    /**
+     * Refere-se a política de despejo do cache.
+     */
+    private final Policy policy;
+    /**
+     * Refere-se a árvore que indexa as entradas pela chave.
+     */
+    private final AVLTree<K, Node> data;
+    /**
+     * Refere-se a visão navegável da árvore, usada nas leituras.
+     */
+    private final NavigableMap<K, Node> view;
+    /**
+     * Refere-se a trava que protege a estrutura da árvore, compartilhada entre as leituras.
+     */
+    private final StampedLock treeLock;
+    /**
+     * Refere-se a trava que serializa as escritas e a política de despejo.
+     */
+    private final ReentrantLock evictionLock;
+    /**
+     * Refere-se ao buffer das leituras ainda não aplicadas a política de despejo.
+     */
+    private final Queue<Node> readBuffer;
+    /**
+     * Refere-se a quantidade de leituras no buffer.
+     */
+    private final AtomicInteger readBufferSize;
+    /**
+     * Refere-se as entradas da ordem do acesso mais antigo ao mais recente.
+     */
+    private final NodeList accessOrder;
+    /**
+     * Refere-se as entradas da ordem da escrita mais antiga a mais recente.
+     */
+    private final NodeList writeOrder;
+    /**
+     * Refere-se a janela de admissão da política W-TinyLFU.
+     */
+    private final NodeList window;
+    /**
+     * Refere-se as entradas em período de experiência da política W-TinyLFU.
+     */
+    private final NodeList probation;
+    /**
+     * Refere-se as entradas protegidas da política W-TinyLFU.
+     */
+    private final NodeList protectedSegment;
+    /**
+     * Refere-se as entradas ordenadas por frequência e antiguidade da política LFU.
+     */
+    private final AVLTree<Node, Node> frequencies;
+    /**
+     * Refere-se ao esboço de frequências da política W-TinyLFU.
+     */
+    private final FrequencySketch sketch;
+    /**
+     * Refere-se ao relógio lógico que desempata as frequências da política LFU.
+     */
+    private long tick;
+    /**
+     * Refere-se ao peso total das entradas.
+     */
+    private volatile long weightedSize;
+    /**
+     * Refere-se ao peso da janela de admissão.
+     */
+    private long windowWeight;
+    /**
+     * Refere-se ao peso das entradas protegidas.
+     */
+    private long protectedWeight;
+    /**
+     * Refere-se a função que atribui peso aos valores.
+     */
+    private volatile Modifier<V, Integer> weigher;
+    /**
+     * Refere-se ao tempo, em nanossegundos, de expiração após a escrita, ou zero caso não expire.
+     */
+    private volatile long expireAfterWriteNanos;
+    /**
+     * Refere-se ao tempo, em nanossegundos, de expiração após o acesso, ou zero caso não expire.
+     */
+    private volatile long expireAfterAccessNanos;
+    /**
+     * Refere-se a fonte de tempo, em nanossegundos.
+     */
+    private volatile Sender<Long> ticker;
+    /**
+     * Refere-se a quantidade de leituras atendidas.
+     */
+    private final LongAdder hits;
+    /**
+     * Refere-se a quantidade de leituras não atendidas.
+     */
+    private final LongAdder misses;
+    /**
+     * Refere-se a quantidade de entradas despejadas por excesso de peso.
+     */
+    private final LongAdder evictions;
+    /**
+     * Refere-se ao peso total das entradas despejadas por excesso de peso.
+     */
+    private final LongAdder evictionWeight;
+    /**
+     * Refere-se a quantidade de entradas expiradas.
+     */
+    private final LongAdder expirations;
+    /**
+     * Refere-se a quantidade de valores carregados.
+     */
+    private final LongAdder loads;
+
+    /**
+     * Enumeração responsável por definir as políticas de despejo do cache.
+     * @author Everton Bruno Silva dos Santos.
+     * @version 1.0
+     * @since 1.0
+     */
+    public enum Policy {
+        /**
+         * Refere-se ao despejo da entrada acessada há mais tempo.
+         */
+        LRU,
+        /**
+         * Refere-se ao despejo da entrada menos acessada, e em empate, da mais antiga.
+         */
+        LFU,
+        /**
+         * Refere-se ao despejo com janela de admissão LRU e segmento principal LRU segmentado,
+         * admitindo no segmento principal apenas as entradas de frequência estimada maior que a da vítima.
+         */
+        W_TINY_LFU
+    }
+
+    /**
+     * Construtor responsável pelo instanciamento do cache com a política W-TinyLFU.
+     * @param comparator    Refere-se ao objeto comparador de chaves.
+     * @param maximumWeight Refere-se ao peso máximo do cache.
+     * @throws NullPointerException     Exceção lançada caso o comparador seja nulo.
+     * @throws IllegalArgumentException Exceção lançada caso o peso máximo seja negativo.
+     */
+    public BoundedCache(final Comparator<K> comparator, final long maximumWeight) throws NullPointerException, IllegalArgumentException {
+        this(comparator, maximumWeight, Policy.W_TINY_LFU);
+    }
+
+    /**
+     * Construtor responsável pelo instanciamento do cache.
+     * @param comparator    Refere-se ao objeto comparador de chaves.
+     * @param maximumWeight Refere-se ao peso máximo do cache.
+     * @param policy        Refere-se a política de despejo do cache.
+     * @throws NullPointerException     Exceção lançada caso o comparador ou a política sejam nulos.
+     * @throws IllegalArgumentException Exceção lançada caso o peso máximo seja negativo.
+     */
+    public BoundedCache(final Comparator<K> comparator, final long maximumWeight, final Policy policy)
+            throws NullPointerException, IllegalArgumentException {
+        if (comparator == null || policy == null) {
+            throw new NullPointerException();
+        } else if (maximumWeight < 0) {
+            throw new IllegalArgumentException("Invalid maximum weight.");
+        }
+        this.maximumWeight = maximumWeight;
+        this.policy = policy;
+        this.data = new AVLTree<>(comparator);
+        this.view = data.asNavigableMap();
+        this.treeLock = new StampedLock();
+        this.evictionLock = new ReentrantLock();
+        this.readBuffer = new ConcurrentLinkedQueue<>();
+        this.readBufferSize = new AtomicInteger();
+        this.accessOrder = new NodeList(ACCESS);
+        this.writeOrder = new NodeList(WRITE);
+        this.window = new NodeList(SEGMENT);
+        this.probation = new NodeList(SEGMENT);
+        this.protectedSegment = new NodeList(SEGMENT);
+        this.frequencies = policy == Policy.LFU ? new AVLTree<>((final Node n1, final Node n2) -> n1.frequency != n2.frequency
+                ? Long.compare(n1.frequency, n2.frequency) : Long.compare(n1.tick, n2.tick)) : null;
+        this.sketch = policy == Policy.W_TINY_LFU ? new FrequencySketch() : null;
+        this.weigher = value -> 1;
+        this.ticker = System::nanoTime;
+        this.hits = new LongAdder();
+        this.misses = new LongAdder();
+        this.evictions = new LongAdder();
+        this.evictionWeight = new LongAdder();
+        this.expirations = new LongAdder();
+        this.loads = new LongAdder();
+    }
+
+    /**
+     * Método responsável por alterar a função que atribui peso aos valores; por padrão, todo valor pesa um.
+     * A alteração vale para as escritas posteriores.
+     * @param weigher Refere-se a dita função, que deve retornar pesos não negativos.
+     * @throws NullPointerException Exceção lançada caso a função seja nula.
+     */
+    public void setWeigher(final Modifier<V, Integer> weigher) throws NullPointerException {
+        if (weigher == null) {
+            throw new NullPointerException();
+        }
+        this.weigher = weigher;
+    }
+
+    /**
+     * Método responsável por alterar o tempo de expiração das entradas após sua escrita.
+     * @param duration Refere-se a duração, sendo zero para nunca expirar.
+     * @param unit     Refere-se a unidade da duração.
+     * @throws IllegalArgumentException Exceção lançada caso a duração seja negativa.
+     */
+    public void setExpireAfterWrite(final long duration, final TimeUnit unit) throws IllegalArgumentException {
+        if (duration < 0) {
+            throw new IllegalArgumentException("Invalid duration.");
+        }
+        this.expireAfterWriteNanos = unit.toNanos(duration);
+    }
+
+    /**
+     * Método responsável por alterar o tempo de expiração das entradas após seu último acesso.
+     * @param duration Refere-se a duração, sendo zero para nunca expirar.
+     * @param unit     Refere-se a unidade da duração.
+     * @throws IllegalArgumentException Exceção lançada caso a duração seja negativa.
+     */
+    public void setExpireAfterAccess(final long duration, final TimeUnit unit) throws IllegalArgumentException {
+        if (duration < 0) {
+            throw new IllegalArgumentException("Invalid duration.");
+        }
+        this.expireAfterAccessNanos = unit.toNanos(duration);
+    }
+
+    /**
+     * Método responsável por alterar a fonte de tempo, em nanossegundos, usada nas expirações.
+     * @param ticker Refere-se a dita fonte de tempo.
+     * @throws NullPointerException Exceção lançada caso a fonte de tempo seja nula.
+     */
+    public void setTicker(final Sender<Long> ticker) throws NullPointerException {
+        if (ticker == null) {
+            throw new NullPointerException();
+        }
+        this.ticker = ticker;
+    }
+
+    /**
+     * Método responsável por retornar o peso máximo do cache.
+     * @return Retorna o peso máximo do cache.
+     */
+    public long getMaximumWeight() {
+        return maximumWeight;
+    }
+
+    /**
+     * Método responsável por retornar a política de despejo do cache.
+     * @return Retorna a política de despejo do cache.
+     */
+    public Policy getPolicy() {
+        return policy;
+    }
+
+    /**
+     * Método responsável por retornar a quantidade de entradas do cache, incluindo as expiradas ainda não removidas.
+     * @return Retorna a quantidade de entradas do cache.
+     */
+    public int size() {
+        return data.size();
+    }
+
+    /**
+     * Método responsável por retornar o peso total das entradas do cache.
+     * @return Retorna o peso total das entradas.
+     */
+    public long weightedSize() {
+        return weightedSize;
+    }
+
+    /**
+     * Método responsável por retornar o valor associado a dada chave, buscando-a sob a trava compartilhada da árvore,
+     * que só aguarda as breves alterações estruturais desta, sem disputar a trava de despejo.
+     * @param key Refere-se a dita chave.
+     * @return Retorna o valor associado a chave, ou nulo caso ausente ou expirado.
+     */
+    public V getIfPresent(final K key) {
+        final Node node = lookup(key);
+        final long now = ticker.send();
+        if (node == null || isExpired(node, now)) {
+            misses.increment();
+            return null;
+        }
+        node.accessTime = now;
+        hits.increment();
+        recordRead(node);
+        return node.value;
+    }
+
+    /**
+     * Método responsável por retornar o valor associado a dada chave, carregando-o caso ausente ou expirado.
+     * O carregamento ocorre fora das travas, de modo que cargas concorrentes da mesma chave
+     * podem ocorrer; prevalece o valor inserido primeiro.
+     * @param key    Refere-se a dita chave.
+     * @param loader Refere-se ao carregador do valor a partir da chave.
+     * @return Retorna o valor associado a chave.
+     */
+    public V get(final K key, final Modifier<K, V> loader) {
+        final V value = getIfPresent(key);
+        if (value != null) {
+            return value;
+        }
+        final V loaded = loader.modify(key);
+        loads.increment();
+        return loaded != null ? put(key, loaded, true) : null;
+    }
+
+    /**
+     * Método responsável por inserir ou substituir uma entrada no cache, despejando outras caso necessário.
+     * @param key   Refere-se a chave da dita entrada.
+     * @param value Refere-se ao valor da dita entrada.
+     * @throws NullPointerException Exceção lançada caso o valor seja nulo.
+     */
+    public void put(final K key, final V value) throws NullPointerException {
+        if (value == null) {
+            throw new NullPointerException();
+        }
+        put(key, value, false);
+    }
+
+    /**
+     * Método responsável por inserir ou substituir uma entrada no cache, despejando outras caso necessário.
+     * @param key         Refere-se a chave da dita entrada.
+     * @param value       Refere-se ao valor da dita entrada.
+     * @param onlyIfAbsent Refere-se a indicativo de que uma entrada vigente não deve ser substituída.
+     * @return Retorna o valor vigente após a operação.
+     */
+    private V put(final K key, final V value, final boolean onlyIfAbsent) {
+        final int weight = weigher.modify(value);
+        evictionLock.lock();
+        try {
+            final long now = ticker.send();
+            drainReadBuffer();
+            Node node = view.get(key);
+            if (node != null && isExpired(node, now)) {
+                expire(node);
+                node = null;
+            }
+            if (node == null) {
+                node = new Node(key, value, weight, now);
+                final long stamp = treeLock.writeLock();
+                try {
+                    data.put(key, node);
+                } finally {
+                    treeLock.unlockWrite(stamp);
+                }
+                accessOrder.addLast(node);
+                writeOrder.addLast(node);
+                weightedSize += weight;
+                onInsert(node);
+            } else if (!onlyIfAbsent) {
+                node.value = value;
+                node.writeTime = node.accessTime = now;
+                setWeight(node, weight);
+                accessOrder.moveToLast(node);
+                writeOrder.moveToLast(node);
+                onAccess(node);
+            }
+            final V current = node.value;
+            expireEntries(now);
+            evictEntries(node);
+            return current;
+        } finally {
+            evictionLock.unlock();
+        }
+    }
+
+    /**
+     * Método responsável por remover a entrada de dada chave, caso presente.
+     * @param key Refere-se a chave da dita entrada.
+     */
+    public void invalidate(final K key) {
+        evictionLock.lock();
+        try {
+            drainReadBuffer();
+            final Node node = view.get(key);
+            if (node != null) {
+                unlink(node);
+            }
+        } finally {
+            evictionLock.unlock();
+        }
+    }
+
+    /**
+     * Método responsável por remover todas as entradas do cache.
+     */
+    public void invalidateAll() {
+        evictionLock.lock();
+        try {
+            drainReadBuffer();
+            for (Node node = writeOrder.head; node != null; node = writeOrder.head) {
+                unlink(node);
+            }
+        } finally {
+            evictionLock.unlock();
+        }
+    }
+
+    /**
+     * Método responsável por aplicar as leituras pendentes e remover as entradas expiradas.
+     */
+    public void cleanUp() {
+        evictionLock.lock();
+        try {
+            drainReadBuffer();
+            expireEntries(ticker.send());
+        } finally {
+            evictionLock.unlock();
+        }
+    }
+
+    /**
+     * Método responsável por retornar a quantidade de leituras atendidas.
+     * @return Retorna a quantidade de acertos.
+     */
+    public long getHits() {
+        return hits.sum();
+    }
+
+    /**
+     * Método responsável por retornar a quantidade de leituras não atendidas.
+     * @return Retorna a quantidade de faltas.
+     */
+    public long getMisses() {
+        return misses.sum();
+    }
+
+    /**
+     * Método responsável por retornar a taxa de acertos do cache.
+     * @return Retorna a taxa de acertos, entre zero e um.
+     */
+    public double getHitRate() {
+        final long hitCount = hits.sum();
+        final long requests = hitCount + misses.sum();
+        return requests == 0 ? 0 : (double) hitCount / requests;
+    }
+
+    /**
+     * Método responsável por retornar a quantidade de entradas despejadas por excesso de peso.
+     * @return Retorna a quantidade de despejos.
+     */
+    public long getEvictions() {
+        return evictions.sum();
+    }
+
+    /**
+     * Método responsável por retornar o peso total das entradas despejadas por excesso de peso.
+     * @return Retorna o peso total despejado.
+     */
+    public long getEvictionWeight() {
+        return evictionWeight.sum();
+    }
+
+    /**
+     * Método responsável por retornar a quantidade de entradas expiradas.
+     * @return Retorna a quantidade de expirações.
+     */
+    public long getExpirations() {
+        return expirations.sum();
+    }
+
+    /**
+     * Método responsável por retornar a quantidade de valores carregados.
+     * @return Retorna a quantidade de cargas.
+     */
+    public long getLoads() {
+        return loads.sum();
+    }
+
+    /**
+     * Método responsável por zerar os contadores do cache.
+     */
+    public void resetStatistics() {
+        hits.reset();
+        misses.reset();
+        evictions.reset();
+        evictionWeight.reset();
+        expirations.reset();
+        loads.reset();
+    }
+
+    /**
+     * Método responsável por buscar a entrada de dada chave sob trava compartilhada, que só aguarda
+     * as breves alterações estruturais da árvore. A leitura otimista sem trava não é usada pois os
+     * elos da árvore não são voláteis, e uma rotação observada pela metade poderia formar um ciclo.
+     * @param key Refere-se a dita chave.
+     * @return Retorna a entrada encontrada, ou nulo caso ausente.
+     */
+    private Node lookup(final K key) {
+        final long stamp = treeLock.readLock();
+        try {
+            return view.get(key);
+        } finally {
+            treeLock.unlockRead(stamp);
+        }
+    }
+
+    /**
+     * Método responsável por indicar se uma entrada expirou em dado instante.
+     * @param node Refere-se a dita entrada.
+     * @param now  Refere-se ao dito instante.
+     * @return Retorna indicativo de que a entrada expirou.
+     */
+    private boolean isExpired(final Node node, final long now) {
+        final long afterWrite = expireAfterWriteNanos;
+        final long afterAccess = expireAfterAccessNanos;
+        return (afterWrite > 0 && now - node.writeTime >= afterWrite) || (afterAccess > 0 && now - node.accessTime >= afterAccess);
+    }
+
+    /**
+     * Método responsável por registrar uma leitura no buffer, aplicando-o caso a trava esteja livre.
+     * @param node Refere-se a entrada lida.
+     */
+    private void recordRead(final Node node) {
+        if (readBufferSize.incrementAndGet() <= READ_BUFFER_CAPACITY) {
+            readBuffer.add(node);
+        } else {
+            readBufferSize.decrementAndGet();
+        }
+        if (readBufferSize.get() >= READ_BUFFER_DRAIN_THRESHOLD && evictionLock.tryLock()) {
+            try {
+                drainReadBuffer();
+            } finally {
+                evictionLock.unlock();
+            }
+        }
+    }
+
+    /**
+     * Método responsável por aplicar as leituras do buffer a política de despejo.
+     * Deve ser chamado com a trava de despejo obtida.
+     */
+    private void drainReadBuffer() {
+        for (Node node = readBuffer.poll(); node != null; node = readBuffer.poll()) {
+            readBufferSize.decrementAndGet();
+            if (node.alive) {
+                accessOrder.moveToLast(node);
+                onAccess(node);
+            }
+        }
+    }
+
+    /**
+     * Método responsável por registrar uma nova entrada na política de despejo.
+     * @param node Refere-se a dita entrada.
+     */
+    private void onInsert(final Node node) {
+        if (policy == Policy.LFU) {
+            node.frequency = 1;
+            node.tick = ++tick;
+            frequencies.put(node, node);
+        } else if (policy == Policy.W_TINY_LFU) {
+            sketch.increment(node.key);
+            window.addLast(node);
+            windowWeight += node.weight;
+        }
+    }
+
+    /**
+     * Método responsável por registrar um acesso a uma entrada na política de despejo.
+     * @param node Refere-se a dita entrada.
+     */
+    private void onAccess(final Node node) {
+        if (policy == Policy.LFU) {
+            frequencies.remove(node);
+            node.frequency++;
+            node.tick = ++tick;
+            frequencies.put(node, node);
+        } else if (policy == Policy.W_TINY_LFU) {
+            sketch.increment(node.key);
+            if (node.segment == window) {
+                window.moveToLast(node);
+            } else if (node.segment == probation) {
+                probation.remove(node);
+                protectedSegment.addLast(node);
+                protectedWeight += node.weight;
+                final long protectedMaximum = (long) ((maximumWeight - windowMaximum()) * PROTECTED_FRACTION);
+                while (protectedWeight > protectedMaximum && protectedSegment.head != node) {
+                    final Node demoted = protectedSegment.head;
+                    protectedSegment.remove(demoted);
+                    protectedWeight -= demoted.weight;
+                    probation.addLast(demoted);
+                }
+            } else {
+                protectedSegment.moveToLast(node);
+            }
+        }
+    }
+
+    /**
+     * Método responsável por retornar o peso máximo da janela de admissão da política W-TinyLFU.
+     * @return Retorna o peso máximo da janela.
+     */
+    private long windowMaximum() {
+        return Math.max(1, (long) (maximumWeight * WINDOW_FRACTION));
+    }
+
+    /**
+     * Método responsável por alterar o peso de uma entrada, atualizando os pesos totais.
+     * @param node   Refere-se a dita entrada.
+     * @param weight Refere-se ao novo peso.
+     */
+    private void setWeight(final Node node, final int weight) {
+        final int delta = weight - node.weight;
+        node.weight = weight;
+        weightedSize += delta;
+        if (node.segment == window) {
+            windowWeight += delta;
+        } else if (node.segment == protectedSegment) {
+            protectedWeight += delta;
+        }
+    }
+
+    /**
+     * Método responsável por remover as entradas expiradas, a partir das mais antigas na escrita e no acesso.
+     * @param now Refere-se ao instante atual.
+     */
+    private void expireEntries(final long now) {
+        if (expireAfterWriteNanos > 0) {
+            while (writeOrder.head != null && isExpired(writeOrder.head, now)) {
+                expire(writeOrder.head);
+            }
+        }
+        if (expireAfterAccessNanos > 0) {
+            while (accessOrder.head != null && isExpired(accessOrder.head, now)) {
+                expire(accessOrder.head);
+            }
+        }
+    }
+
+    /**
+     * Método responsável por remover uma entrada expirada.
+     * @param node Refere-se a dita entrada.
+     */
+    private void expire(final Node node) {
+        unlink(node);
+        expirations.increment();
+    }
+
+    /**
+     * Método responsável por despejar entradas enquanto o peso total exceder o máximo. Na política LFU,
+     * a entrada recém escrita só é despejada por último, pois do contrário toda nova entrada seria a
+     * menos frequente e nunca permaneceria no cache.
+     * @param written Refere-se a entrada recém escrita.
+     */
+    private void evictEntries(final Node written) {
+        if (policy == Policy.W_TINY_LFU) {
+            evictWindowTinyLFU();
+            return;
+        }
+        while (weightedSize > maximumWeight) {
+            if (policy == Policy.LRU) {
+                evict(accessOrder.head);
+            } else {
+                final NavigableMap<Node, Node> order = frequencies.asNavigableMap();
+                final Node victim = order.firstKey();
+                evict(victim == written && order.size() > 1 ? order.higherKey(victim) : victim);
+            }
+        }
+    }
+
+    /**
+     * Método responsável por despejar entradas segundo a política W-TinyLFU: as entradas que excedem a
+     * janela tornam-se candidatas no período de experiência e só permanecem caso sua frequência estimada
+     * supere a da entrada mais antiga do período de experiência.
+     */
+    private void evictWindowTinyLFU() {
+        Node candidate = null;
+        while (windowWeight > windowMaximum() && window.head != null) {
+            final Node node = window.head;
+            window.remove(node);
+            windowWeight -= node.weight;
+            probation.addLast(node);
+            if (candidate == null) {
+                candidate = node;
+            }
+        }
+        while (weightedSize > maximumWeight) {
+            Node victim = probation.head;
+            if (victim == null) {
+                victim = protectedSegment.head != null ? protectedSegment.head : window.head;
+            } else if (candidate != null && candidate != victim) {
+                if (sketch.frequency(candidate.key) <= sketch.frequency(victim.key)) {
+                    victim = candidate;
+                }
+            }
+            if (victim == candidate) {
+                candidate = candidate.next[SEGMENT];
+            }
+            evict(victim);
+        }
+    }
+
+    /**
+     * Método responsável por despejar uma entrada por excesso de peso.
+     * @param node Refere-se a dita entrada.
+     */
+    private void evict(final Node node) {
+        unlink(node);
+        evictions.increment();
+        evictionWeight.add(node.weight);
+    }
+
+    /**
+     * Método responsável por remover uma entrada da árvore, dos encadeamentos e da política de despejo.
+     * @param node Refere-se a dita entrada.
+     */
+    private void unlink(final Node node) {
+        final long stamp = treeLock.writeLock();
+        try {
+            data.remove(node.key);
+        } finally {
+            treeLock.unlockWrite(stamp);
+        }
+        node.alive = false;
+        accessOrder.remove(node);
+        writeOrder.remove(node);
+        weightedSize -= node.weight;
+        if (policy == Policy.LFU) {
+            frequencies.remove(node);
+        } else if (node.segment != null) {
+            if (node.segment == window) {
+                windowWeight -= node.weight;
+            } else if (node.segment == protectedSegment) {
+                protectedWeight -= node.weight;
+            }
+            node.segment.remove(node);
+        }
+    }
+
+    /**
+     * Classe responsável por comportar-se como entrada do cache, encadeada simultaneamente nas ordens
+     * de acesso, de escrita e, na política W-TinyLFU, em seu segmento.
+     * @author Everton Bruno Silva dos Santos.
+     * @version 1.0
+     * @since 1.0
+     */
+    private final class Node {
+        /**
+         * Refere-se a chave da entrada.
+         */
+        private final K key;
+        /**
+         * Refere-se ao valor da entrada.
+         */
+        private volatile V value;
+        /**
+         * Refere-se ao peso da entrada.
+         */
+        private int weight;
+        /**
+         * Refere-se ao instante da última escrita.
+         */
+        private volatile long writeTime;
+        /**
+         * Refere-se ao instante do último acesso.
+         */
+        private volatile long accessTime;
+        /**
+         * Refere-se a indicativo de que a entrada permanece no cache.
+         */
+        private volatile boolean alive;
+        /**
+         * Refere-se a quantidade de acessos da entrada na política LFU.
+         */
+        private long frequency;
+        /**
+         * Refere-se ao instante lógico do último acesso na política LFU.
+         */
+        private long tick;
+        /**
+         * Refere-se ao segmento da entrada na política W-TinyLFU.
+         */
+        private NodeList segment;
+        /**
+         * Refere-se as entradas anteriores em cada encadeamento.
+         */
+        private final Node[] previous;
+        /**
+         * Refere-se as entradas posteriores em cada encadeamento.
+         */
+        private final Node[] next;
+
+        /**
+         * Construtor responsável pelo instanciamento da entrada.
+         * @param key    Refere-se a chave da entrada.
+         * @param value  Refere-se ao valor da entrada.
+         * @param weight Refere-se ao peso da entrada.
+         * @param now    Refere-se ao instante da escrita.
+         */
+        @SuppressWarnings({ "unchecked", "rawtypes" })
+        private Node(final K key, final V value, final int weight, final long now) {
+            this.key = key;
+            this.value = value;
+            this.weight = weight;
+            this.writeTime = now;
+            this.accessTime = now;
+            this.alive = true;
+            this.previous = (Node[]) new BoundedCache.Node[3];
+            this.next = (Node[]) new BoundedCache.Node[3];
+        }
+
+    }
+
+    /**
+     * Classe responsável por comportar-se como lista duplamente encadeada intrusiva de entradas.
+     * @author Everton Bruno Silva dos Santos.
+     * @version 1.0
+     * @since 1.0
+     */
+    private final class NodeList {
+        /**
+         * Refere-se ao índice do encadeamento usado pela lista.
+         */
+        private final int link;
+        /**
+         * Refere-se a primeira entrada da lista.
+         */
+        private Node head;
+        /**
+         * Refere-se a última entrada da lista.
+         */
+        private Node tail;
+
+        /**
+         * Construtor responsável pelo instanciamento da lista.
+         * @param link Refere-se ao índice do encadeamento usado pela lista.
+         */
+        private NodeList(final int link) {
+            this.link = link;
+        }
+
+        /**
+         * Método responsável por inserir uma entrada no fim da lista.
+         * @param node Refere-se a dita entrada.
+         */
+        private void addLast(final Node node) {
+            node.previous[link] = tail;
+            node.next[link] = null;
+            if (tail != null) {
+                tail.next[link] = node;
+            } else {
+                head = node;
+            }
+            tail = node;
+            if (link == SEGMENT) {
+                node.segment = this;
+            }
+        }
+
+        /**
+         * Método responsável por remover uma entrada da lista.
+         * @param node Refere-se a dita entrada.
+         */
+        private void remove(final Node node) {
+            final Node previous = node.previous[link];
+            final Node next = node.next[link];
+            if (previous != null) {
+                previous.next[link] = next;
+            } else if (head == node) {
+                head = next;
+            }
+            if (next != null) {
+                next.previous[link] = previous;
+            } else if (tail == node) {
+                tail = previous;
+            }
+            node.previous[link] = node.next[link] = null;
+            if (link == SEGMENT) {
+                node.segment = null;
+            }
+        }
+
+        /**
+         * Método responsável por mover uma entrada para o fim da lista.
+         * @param node Refere-se a dita entrada.
+         */
+        private void moveToLast(final Node node) {
+            if (tail != node) {
+                remove(node);
+                addLast(node);
+            }
+        }
+
+    }
+
+    /**
+     * Classe responsável por comportar-se como esboço de frequências com contadores de quatro bits,
+     * estimando a frequência recente de cada chave em memória constante. Ao atingir o tamanho de
+     * amostra, todos os contadores são reduzidos à metade, esquecendo gradualmente acessos antigos.
+     * @author Everton Bruno Silva dos Santos.
+     * @version 1.0
+     * @since 1.0
+     */
+    private final class FrequencySketch {
+        /**
+         * Refere-se as sementes de cada linha do esboço.
+         */
+        private final long[] seeds = { 0xC3A5C85C97CB3127L, 0xB492B66FBE98F273L, 0x9AE16A3B2F90404FL, 0xCBF29CE484222325L };
+        /**
+         * Refere-se aos contadores, dezesseis por posição.
+         */
+        private long[] table;
+        /**
+         * Refere-se a quantidade de incrementos desde a última redução.
+         */
+        private int additions;
+
+        /**
+         * Construtor responsável pelo instanciamento do esboço.
+         */
+        private FrequencySketch() {
+            this.table = new long[16];
+        }
+
+        /**
+         * Método responsável por estimar a frequência de uma chave.
+         * @param key Refere-se a dita chave.
+         * @return Retorna a frequência estimada, entre zero e quinze.
+         */
+        private int frequency(final K key) {
+            final int hash = key.hashCode();
+            int frequency = 15;
+            for (int i = 0; i < seeds.length; i++) {
+                final long index = index(hash, i);
+                frequency = Math.min(frequency, (int) ((table[(int) (index >>> 6)] >>> (index & 63)) & 15));
+            }
+            return frequency;
+        }
+
+        /**
+         * Método responsável por incrementar a frequência de uma chave, reduzindo os contadores caso necessário.
+         * @param key Refere-se a dita chave.
+         */
+        private void increment(final K key) {
+            ensureCapacity();
+            final int hash = key.hashCode();
+            boolean added = false;
+            for (int i = 0; i < seeds.length; i++) {
+                final long index = index(hash, i);
+                final int slot = (int) (index >>> 6);
+                final int offset = (int) (index & 63);
+                if (((table[slot] >>> offset) & 15) < 15) {
+                    table[slot] += 1L << offset;
+                    added = true;
+                }
+            }
+            if (added && ++additions >= 10 * 16 * table.length) {
+                for (int i = 0; i < table.length; i++) {
+                    table[i] = (table[i] >>> 1) & 0x7777777777777777L;
+                }
+                additions /= 2;
+            }
+        }
+
+        /**
+         * Método responsável por ampliar o esboço quando a quantidade de entradas supera sua quantidade de contadores.
+         */
+        private void ensureCapacity() {
+            if (data.size() > 16 * table.length && table.length < (1 << 24)) {
+                table = new long[table.length * 2];
+                additions = 0;
+            }
+        }
+
+        /**
+         * Método responsável por retornar a posição, em bits, do contador de uma chave numa linha do esboço.
+         * @param hash Refere-se ao código de dispersão da chave.
+         * @param row  Refere-se a linha do esboço.
+         * @return Retorna a posição do contador, múltipla de quatro.
+         */
+        private long index(final int hash, final int row) {
+            long mixed = (hash + seeds[row]) * seeds[row];
+            mixed ^= mixed >>> 32;
+            return (mixed & ((16L * table.length) - 1)) << 2;
+        }
+
+    }
+
+}
@@ -0,0 +1,359 @@
+/*
+ * This file is part of the SDSUtilityLib Open Source Project.
+ * SDSUtilityLib is licensed under the GNU GPLv3.
+ *
+ * Copyright © 2020. Everton Bruno Silva dos Santos <evertonbrunogithub@yahoo.com>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package evertonbrunosds.SDSUtilityLib.v1.util;
+
+import evertonbrunosds.SDSUtilityLib.v1.api.Aggregator;
+import evertonbrunosds.SDSUtilityLib.v1.api.Comparator;
+import evertonbrunosds.SDSUtilityLib.v1.exceptions.EntryNotFoundException;
+import evertonbrunosds.SDSUtilityLib.v1.exceptions.KeyUsedException;
+import java.io.Serializable;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map.Entry;
+import java.util.Objects;
+import java.util.function.Consumer;
+
+/**
+ * Classe responsável por comportar-se como árvore de intervalos fechados sobre a árvore AVL.
+ * As entradas são ordenadas pelo início e, em empate, pelo fim de seus intervalos, e cada elo
+ * mantém o maior fim de sua sub-árvore através das inserções, remoções e rotações; assim, as
+ * consultas por sobreposição descartam as sub-árvores que terminam antes do ponto ou período
+ * consultado e encerram-se no primeiro intervalo que começa depois dele, custando O((k + 1) log n)
+ * para k intervalos encontrados, em vez de percorrer toda a árvore.
+ * @author Everton Bruno Silva dos Santos.
+ * @param <T> Refere-se ao tipo das extremidades dos intervalos.
+ * @param <V> Refere-se ao tipo de valor usado nas entradas.
+ * @version 1.0
+ * @since 1.0
+ */
+public class IntervalTree<T, V> extends AVLTree<IntervalTree.Interval<T>, V> {
+    /**
+     * Refere-se ao número de série da árvore de intervalos.
+     */
+    private transient static final long serialVersionUID = 4739120586620379781L;
+    /**
+     * Refere-se ao objeto comparador das extremidades dos intervalos.
+     */
+    private final Comparator<T> endpointComparator;
+
+    /**
+     * Construtor responsável pelo instanciamento da árvore de intervalos.
+     * @param endpointComparator Refere-se ao objeto comparador das extremidades dos intervalos.
+     * @throws NullPointerException Exceção lançada caso o comparador seja nulo.
+     */
+    public IntervalTree(final Comparator<T> endpointComparator) throws NullPointerException {
+        super(intervalComparator(endpointComparator));
+        this.endpointComparator = endpointComparator;
+        setAugmenter(new MaxEnd<>(endpointComparator));
+    }
+
+    /**
+     * Método responsável por retornar o comparador de intervalos pelo início e, em empate, pelo fim.
+     * @param <T>                Refere-se ao tipo das extremidades dos intervalos.
+     * @param endpointComparator Refere-se ao objeto comparador das extremidades dos intervalos.
+     * @return Retorna o comparador de intervalos.
+     * @throws NullPointerException Exceção lançada caso o comparador seja nulo.
+     */
+    private static <T> Comparator<Interval<T>> intervalComparator(final Comparator<T> endpointComparator) throws NullPointerException {
+        if (endpointComparator == null) {
+            throw new NullPointerException();
+        }
+        return (final Interval<T> i1, final Interval<T> i2) -> {
+            final int result = endpointComparator.compare(i1.start, i2.start);
+            return result != 0 ? result : endpointComparator.compare(i1.end, i2.end);
+        };
+    }
+
+    /**
+     * Método responsável por retornar o comparador das extremidades dos intervalos.
+     * @return Retorna o comparador das extremidades dos intervalos.
+     */
+    public Comparator<T> getEndpointComparator() {
+        return endpointComparator;
+    }
+
+    /**
+     * Método responsável por inserir uma nova entrada na árvore.
+     * @param start Refere-se ao início do intervalo da entrada, inclusivo.
+     * @param end   Refere-se ao fim do intervalo da entrada, inclusivo.
+     * @param value Refere-se ao valor da entrada.
+     * @throws KeyUsedException         Exceção lançada no caso do intervalo estar em uso por outra entrada.
+     * @throws IllegalArgumentException Exceção lançada caso o início seja posterior ao fim.
+     */
+    public void put(final T start, final T end, final V value) throws KeyUsedException, IllegalArgumentException {
+        put(interval(start, end), value);
+    }
+
+    /**
+     * Método responsável por encontrar a entrada de dado intervalo.
+     * @param start Refere-se ao início do intervalo, inclusivo.
+     * @param end   Refere-se ao fim do intervalo, inclusivo.
+     * @return Retorna a entrada detentora do intervalo.
+     * @throws EntryNotFoundException Exceção lançada no caso da entrada não ser encontrada.
+     */
+    public Entry<Interval<T>, V> find(final T start, final T end) throws EntryNotFoundException {
+        return find(new Interval<>(start, end));
+    }
+
+    /**
+     * Método responsável por remover a entrada de dado intervalo.
+     * @param start Refere-se ao início do intervalo, inclusivo.
+     * @param end   Refere-se ao fim do intervalo, inclusivo.
+     * @throws EntryNotFoundException Exceção lançada no caso da entrada não ser encontrada.
+     */
+    public void remove(final T start, final T end) throws EntryNotFoundException {
+        remove(new Interval<>(start, end));
+    }
+
+    /**
+     * Método responsável por percorrer em ordem crescente as entradas cujos intervalos contêm dado ponto.
+     * @param point Refere-se ao dito ponto.
+     * @param entry Refere-se as entradas percorridas.
+     */
+    public void forEachOverlapping(final T point, final Consumer<? super Entry<Interval<T>, V>> entry) {
+        forEachOverlapping(point, point, entry);
+    }
+
+    /**
+     * Método responsável por percorrer em ordem crescente as entradas cujos intervalos sobrepõem dado período.
+     * @param from  Refere-se ao início do período, inclusivo.
+     * @param to    Refere-se ao fim do período, inclusivo.
+     * @param entry Refere-se as entradas percorridas.
+     * @throws IllegalArgumentException Exceção lançada caso o início seja posterior ao fim.
+     */
+    @SuppressWarnings("unchecked")
+    public void forEachOverlapping(final T from, final T to, final Consumer<? super Entry<Interval<T>, V>> entry) throws IllegalArgumentException {
+        interval(from, to);
+        forEachAugmented(maxEnd -> endpointComparator.compare((T) maxEnd, from) < 0,
+                interval -> endpointComparator.compare(interval.start, to) > 0,
+                current -> {
+                    if (endpointComparator.compare(current.getKey().end, from) >= 0) {
+                        entry.accept(current);
+                    }
+                });
+    }
+
+    /**
+     * Método responsável por retornar as entradas cujos intervalos contêm dado ponto.
+     * @param point Refere-se ao dito ponto.
+     * @return Retorna lista das entradas em ordem crescente.
+     */
+    public List<Entry<Interval<T>, V>> overlapping(final T point) {
+        return overlapping(point, point);
+    }
+
+    /**
+     * Método responsável por retornar as entradas cujos intervalos sobrepõem dado período.
+     * @param from Refere-se ao início do período, inclusivo.
+     * @param to   Refere-se ao fim do período, inclusivo.
+     * @return Retorna lista das entradas em ordem crescente.
+     * @throws IllegalArgumentException Exceção lançada caso o início seja posterior ao fim.
+     */
+    public List<Entry<Interval<T>, V>> overlapping(final T from, final T to) throws IllegalArgumentException {
+        final List<Entry<Interval<T>, V>> entries = new LinkedList<>();
+        forEachOverlapping(from, to, entries::add);
+        return entries;
+    }
+
+    /**
+     * Método responsável por indicar se algum intervalo da árvore sobrepõe dado período.
+     * @param from Refere-se ao início do período, inclusivo.
+     * @param to   Refere-se ao fim do período, inclusivo.
+     * @return Retorna indicativo de que algum intervalo sobrepõe o período.
+     * @throws IllegalArgumentException Exceção lançada caso o início seja posterior ao fim.
+     */
+    @SuppressWarnings("unchecked")
+    public boolean overlaps(final T from, final T to) throws IllegalArgumentException {
+        interval(from, to);
+        final boolean[] found = { false };
+        forEachAugmented(maxEnd -> found[0] || endpointComparator.compare((T) maxEnd, from) < 0,
+                interval -> found[0] || endpointComparator.compare(interval.start, to) > 0,
+                current -> found[0] = endpointComparator.compare(current.getKey().end, from) >= 0);
+        return found[0];
+    }
+
+    /**
+     * Método responsável por impedir a troca do agregador, pois cada elo da árvore de intervalos
+     * já mantém o maior fim de sua sub-árvore.
+     * @param <A>        Refere-se ao tipo do agregado.
+     * @param aggregator Refere-se ao agregador recusado.
+     * @throws UnsupportedOperationException Exceção sempre lançada.
+     */
+    @Override
+    public <A> void setAggregator(final Aggregator<V, A> aggregator) throws UnsupportedOperationException {
+        throw new UnsupportedOperationException();
+    }
+
+    /**
+     * Método responsável por duplicar a árvore de intervalos.
+     * @return Retorna árvore de intervalos duplicata.
+     */
+    @Override
+    public IntervalTree<T, V> duplicate() {
+        final IntervalTree<T, V> tree = new IntervalTree<>(endpointComparator);
+        tree.set(super.duplicate());
+        tree.setReverseIterations(isReverseIterations());
+        return tree;
+    }
+
+    /**
+     * Método responsável por instanciar um intervalo, validando suas extremidades.
+     * @param start Refere-se ao início do intervalo.
+     * @param end   Refere-se ao fim do intervalo.
+     * @return Retorna o intervalo.
+     * @throws IllegalArgumentException Exceção lançada caso o início seja posterior ao fim.
+     */
+    private Interval<T> interval(final T start, final T end) throws IllegalArgumentException {
+        if (endpointComparator.compare(start, end) > 0) {
+            throw new IllegalArgumentException("Invalid interval.");
+        }
+        return new Interval<>(start, end);
+    }
+
+    /**
+     * Classe responsável por comportar-se como intervalo fechado, chave das entradas da árvore de intervalos.
+     * @author Everton Bruno Silva dos Santos.
+     * @param <T> Refere-se ao tipo das extremidades do intervalo.
+     * @version 1.0
+     * @since 1.0
+     */
+    public static final class Interval<T> implements Serializable {
+        /**
+         * Refere-se ao número de série do intervalo.
+         */
+        private transient static final long serialVersionUID = -3316870237526508744L;
+        /**
+         * Refere-se ao início do intervalo.
+         */
+        private final T start;
+        /**
+         * Refere-se ao fim do intervalo.
+         */
+        private final T end;
+
+        /**
+         * Construtor responsável pelo instanciamento do intervalo.
+         * @param start Refere-se ao início do intervalo.
+         * @param end   Refere-se ao fim do intervalo.
+         */
+        private Interval(final T start, final T end) {
+            this.start = start;
+            this.end = end;
+        }
+
+        /**
+         * Método responsável por retornar o início do intervalo.
+         * @return Retorna o início do intervalo.
+         */
+        public T getStart() {
+            return start;
+        }
+
+        /**
+         * Método responsável por retornar o fim do intervalo.
+         * @return Retorna o fim do intervalo.
+         */
+        public T getEnd() {
+            return end;
+        }
+
+        /**
+         * Método responsável por comparar o intervalo com outro objeto.
+         * @param object Refere-se ao outro objeto.
+         * @return Retorna indicativo de que ambos são intervalos de mesmas extremidades.
+         */
+        @Override
+        public boolean equals(final Object object) {
+            if (!(object instanceof Interval)) {
+                return false;
+            }
+            final Interval<?> interval = (Interval<?>) object;
+            return Objects.equals(start, interval.start) && Objects.equals(end, interval.end);
+        }
+
+        /**
+         * Método responsável por retornar o código de dispersão do intervalo.
+         * @return Retorna o código de dispersão do intervalo.
+         */
+        @Override
+        public int hashCode() {
+            return 31 * Objects.hashCode(start) + Objects.hashCode(end);
+        }
+
+        /**
+         * Método responsável por converter o intervalo para String.
+         * @return Retorna o intervalo em String.
+         */
+        @Override
+        public String toString() {
+            return "[" + start + ", " + end + "]";
+        }
+
+    }
+
+    /**
+     * Classe responsável por comportar-se como agregador do maior fim dos intervalos de cada sub-árvore.
+     * @author Everton Bruno Silva dos Santos.
+     * @param <T> Refere-se ao tipo das extremidades dos intervalos.
+     * @param <V> Refere-se ao tipo de valor usado nas entradas.
+     * @version 1.0
+     * @since 1.0
+     */
+    private static final class MaxEnd<T, V> implements Augmenter<Interval<T>, V, T> {
+        /**
+         * Refere-se ao número de série do agregador.
+         */
+        private transient static final long serialVersionUID = 8120946958686491331L;
+        /**
+         * Refere-se ao objeto comparador das extremidades dos intervalos.
+         */
+        private final Comparator<T> endpointComparator;
+
+        /**
+         * Construtor responsável pelo instanciamento do agregador.
+         * @param endpointComparator Refere-se ao objeto comparador das extremidades dos intervalos.
+         */
+        private MaxEnd(final Comparator<T> endpointComparator) {
+            this.endpointComparator = endpointComparator;
+        }
+
+        /**
+         * Método responsável por calcular o maior fim dos intervalos de uma sub-árvore.
+         * @param key   Refere-se ao intervalo da raiz da sub-árvore.
+         * @param value Refere-se ao valor da raiz da sub-árvore.
+         * @param left  Refere-se ao maior fim da sub-árvore a esquerda, ou nulo caso vazia.
+         * @param right Refere-se ao maior fim da sub-árvore a direita, ou nulo caso vazia.
+         * @return Retorna o maior fim dos intervalos da sub-árvore.
+         */
+        @Override
+        public T augment(final Interval<T> key, final V value, final T left, final T right) {
+            T max = key.end;
+            if (left != null && endpointComparator.compare(left, max) > 0) {
+                max = left;
+            }
+            if (right != null && endpointComparator.compare(right, max) > 0) {
+                max = right;
+            }
+            return max;
+        }
+
+    }
+
+}
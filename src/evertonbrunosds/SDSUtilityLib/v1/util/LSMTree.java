@@ -0,0 +1,1274 @@
+/*
+ * This file is part of the SDSUtilityLib Open Source Project.
+ * SDSUtilityLib is licensed under the GNU GPLv3.
+ *
+ * Copyright © 2020. Everton Bruno Silva dos Santos <evertonbrunogithub@yahoo.com>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package evertonbrunosds.SDSUtilityLib.v1.util;
+
+import evertonbrunosds.SDSUtilityLib.v1.api.Comparator;
+import evertonbrunosds.SDSUtilityLib.v1.api.Factory;
+import evertonbrunosds.SDSUtilityLib.v1.exceptions.EntryNotFoundException;
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.RandomAccessFile;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.util.AbstractMap.SimpleEntry;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map.Entry;
+import java.util.NoSuchElementException;
+import java.util.PriorityQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+
+/**
+ * Classe responsável por comportar-se como armazenamento ordenado estruturado em log (LSM).
+ * As escritas são feitas numa árvore AVL em memória; ao atingir sua capacidade, ela é congelada e
+ * gravada em segundo plano como um arquivo ordenado e imutável, acompanhado de índice esparso e filtro
+ * de Bloom. As leituras consultam a memória e, em seguida, os arquivos do mais novo ao mais antigo,
+ * descartando pelos filtros os arquivos que certamente não contêm a chave. Arquivos de tamanhos
+ * semelhantes são fundidos em segundo plano, de modo que o custo de cada escrita não depende do
+ * tamanho total dos dados.
+ * As entradas ainda em memória só são persistidas por {@link #flush()} ou {@link #close()}.
+ * Todos os métodos podem ser chamados por múltiplas threads.
+ * @author Everton Bruno Silva dos Santos.
+ * @param <K> Refere-se ao tipo de chave usada nas entradas.
+ * @param <V> Refere-se ao tipo de valor usado nas entradas.
+ * @version 1.0
+ * @since 1.0
+ */
+public class LSMTree<K, V> implements Iterable<Entry<K, V>>, Closeable {
+    /**
+     * Refere-se a capacidade padrão da árvore em memória, em entradas.
+     */
+    public static final int DEFAULT_MEMTABLE_CAPACITY = 65536;
+    /**
+     * Refere-se a menor capacidade aceita para a árvore em memória.
+     */
+    public static final int MIN_MEMTABLE_CAPACITY = 16;
+    /**
+     * Refere-se a quantidade padrão de arquivos de mesmo nível que dispara uma fusão.
+     */
+    public static final int DEFAULT_COMPACTION_FAN_IN = 4;
+    /**
+     * Refere-se a menor quantidade aceita de arquivos de mesmo nível que dispara uma fusão.
+     */
+    public static final int MIN_COMPACTION_FAN_IN = 2;
+    /**
+     * Refere-se a quantidade máxima de árvores congeladas aguardando gravação antes que as escritas aguardem.
+     */
+    private static final int MAX_PENDING_MEMTABLES = 2;
+    /**
+     * Refere-se a quantidade de entradas por bloco dos arquivos ordenados.
+     */
+    private static final int BLOCK_ENTRIES = 128;
+    /**
+     * Refere-se ao nome do arquivo que lista os arquivos ordenados vigentes.
+     */
+    private static final String MANIFEST = "MANIFEST";
+    /**
+     * Refere-se ao prefixo dos arquivos ordenados.
+     */
+    private static final String RUN_PREFIX = "run-";
+    /**
+     * Refere-se ao sufixo dos arquivos ordenados.
+     */
+    private static final String RUN_SUFFIX = ".sst";
+    /**
+     * Refere-se ao sufixo dos arquivos temporários.
+     */
+    private static final String TEMPORARY_SUFFIX = ".tmp";
+    /**
+     * Refere-se ao indicativo de chave ausente numa fonte.
+     */
+    private static final Object MISSING = new Object();
+    /**
+     * Refere-se ao diretório dos arquivos do armazenamento.
+     */
+    private final File directory;
+    /**
+     * Refere-se ao objeto comparador de chaves.
+     */
+    private final Comparator<K> comparator;
+    /**
+     * Refere-se a capacidade da árvore em memória, em entradas.
+     */
+    private final int memtableCapacity;
+    /**
+     * Refere-se a quantidade de arquivos de mesmo nível que dispara uma fusão.
+     */
+    private final int compactionFanIn;
+    /**
+     * Refere-se a trava que protege o estado do armazenamento.
+     */
+    private final ReentrantLock lock;
+    /**
+     * Refere-se a condição sinalizada ao término de cada gravação em segundo plano.
+     */
+    private final Condition settled;
+    /**
+     * Refere-se ao executor das gravações e fusões em segundo plano.
+     */
+    private final ExecutorService background;
+    /**
+     * Refere-se a árvore em memória que recebe as escritas.
+     */
+    private AVLTree<K, Object> memtable;
+    /**
+     * Refere-se as árvores congeladas aguardando gravação, da mais nova a mais antiga.
+     */
+    private final List<AVLTree<K, Object>> immutables;
+    /**
+     * Refere-se aos arquivos ordenados vigentes, do mais novo ao mais antigo.
+     */
+    private List<SortedRun> runs;
+    /**
+     * Refere-se ao número do próximo arquivo ordenado.
+     */
+    private long sequence;
+    /**
+     * Refere-se a falha ocorrida em segundo plano, caso haja.
+     */
+    private IOException failure;
+    /**
+     * Refere-se ao indicativo de que o armazenamento foi fechado.
+     */
+    private boolean closed;
+    /**
+     * Refere-se a quantidade de gravações de árvores em memória.
+     */
+    private final LongAdder flushes;
+    /**
+     * Refere-se a quantidade de fusões de arquivos.
+     */
+    private final LongAdder compactions;
+    /**
+     * Refere-se a quantidade de consultas a arquivos evitadas pelos filtros de Bloom.
+     */
+    private final LongAdder bloomSkips;
+    /**
+     * Refere-se a quantidade de blocos lidos por consultas.
+     */
+    private final LongAdder blockReads;
+
+    /**
+     * Enumeração responsável por definir o marcador de remoção gravado no lugar do valor.
+     * @author Everton Bruno Silva dos Santos.
+     * @version 1.0
+     * @since 1.0
+     */
+    private enum Marker {
+        /**
+         * Refere-se ao marcador de entrada removida.
+         */
+        TOMBSTONE
+    }
+
+    /**
+     * Construtor responsável pelo instanciamento do armazenamento, criando ou abrindo dado diretório.
+     * @param directory  Refere-se ao nome do diretório do armazenamento.
+     * @param comparator Refere-se ao objeto comparador de chaves.
+     * @throws NullPointerException Exceção lançada caso o diretório ou o comparador sejam nulos.
+     * @throws IOException          Exceção lançada no caso de haverem problemas de entrada ou saída.
+     */
+    public LSMTree(final String directory, final Comparator<K> comparator) throws NullPointerException, IOException {
+        this(directory, comparator, DEFAULT_MEMTABLE_CAPACITY, DEFAULT_COMPACTION_FAN_IN);
+    }
+
+    /**
+     * Construtor responsável pelo instanciamento do armazenamento, criando ou abrindo dado diretório.
+     * @param directory        Refere-se ao nome do diretório do armazenamento.
+     * @param comparator       Refere-se ao objeto comparador de chaves.
+     * @param memtableCapacity Refere-se a capacidade da árvore em memória, em entradas.
+     * @param compactionFanIn  Refere-se a quantidade de arquivos de mesmo nível que dispara uma fusão.
+     * @throws NullPointerException     Exceção lançada caso o diretório ou o comparador sejam nulos.
+     * @throws IllegalArgumentException Exceção lançada caso a capacidade ou a quantidade de fusão sejam inválidas.
+     * @throws IOException              Exceção lançada no caso de haverem problemas de entrada ou saída.
+     */
+    public LSMTree(final String directory, final Comparator<K> comparator, final int memtableCapacity,
+            final int compactionFanIn) throws NullPointerException, IllegalArgumentException, IOException {
+        if (directory == null || comparator == null) {
+            throw new NullPointerException();
+        } else if (memtableCapacity < MIN_MEMTABLE_CAPACITY) {
+            throw new IllegalArgumentException("Invalid memtable capacity.");
+        } else if (compactionFanIn < MIN_COMPACTION_FAN_IN) {
+            throw new IllegalArgumentException("Invalid compaction fan-in.");
+        }
+        this.directory = new File(directory);
+        this.comparator = comparator;
+        this.memtableCapacity = memtableCapacity;
+        this.compactionFanIn = compactionFanIn;
+        this.lock = new ReentrantLock();
+        this.settled = lock.newCondition();
+        this.memtable = new AVLTree<>(comparator);
+        this.immutables = new ArrayList<>();
+        this.flushes = new LongAdder();
+        this.compactions = new LongAdder();
+        this.bloomSkips = new LongAdder();
+        this.blockReads = new LongAdder();
+        open();
+        this.background = Executors.newSingleThreadExecutor(runnable -> {
+            final java.lang.Thread thread = Factory.Thread.makeFree(runnable::run);
+            thread.setName("LSMTree-" + this.directory.getName());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Método responsável por abrir o diretório, carregando os arquivos listados e descartando os demais.
+     * @throws IOException Exceção lançada no caso de haverem problemas de entrada ou saída.
+     */
+    private void open() throws IOException {
+        if (!directory.isDirectory() && !directory.mkdirs()) {
+            throw new IOException("Unable to create directory " + directory + ".");
+        }
+        final List<SortedRun> loaded = new ArrayList<>();
+        final List<String> names = new ArrayList<>();
+        final File manifest = new File(directory, MANIFEST);
+        if (manifest.exists()) {
+            for (final String line : Files.readAllLines(manifest.toPath(), StandardCharsets.UTF_8)) {
+                if (!line.isEmpty()) {
+                    final long id = Long.parseLong(line);
+                    loaded.add(new SortedRun(id));
+                    names.add(runName(id));
+                    sequence = Math.max(sequence, id + 1);
+                }
+            }
+        }
+        final File[] files = directory.listFiles();
+        for (final File file : files != null ? files : new File[0]) {
+            final String name = file.getName();
+            if ((name.startsWith(RUN_PREFIX) && !names.contains(name)) || name.endsWith(TEMPORARY_SUFFIX)) {
+                Files.delete(file.toPath());
+            }
+        }
+        runs = Collections.unmodifiableList(loaded);
+    }
+
+    /**
+     * Método responsável por inserir ou substituir uma entrada no armazenamento.
+     * Diferente da árvore AVL, inserir uma chave em uso substitui seu valor, pois as escritas não consultam o disco.
+     * @param key   Refere-se a chave da dita entrada.
+     * @param value Refere-se ao valor da dita entrada.
+     * @throws UncheckedIOException Exceção lançada no caso de ter havido falha nas gravações em segundo plano.
+     */
+    public void put(final K key, final V value) throws UncheckedIOException {
+        write(key, value);
+    }
+
+    /**
+     * Método responsável por remover uma entrada do armazenamento, gravando um marcador de remoção.
+     * Remover uma chave inexistente não lança exceção, pois as escritas não consultam o disco.
+     * @param key Refere-se a chave de acesso à dita entrada.
+     * @throws UncheckedIOException Exceção lançada no caso de ter havido falha nas gravações em segundo plano.
+     */
+    public void remove(final K key) throws UncheckedIOException {
+        write(key, Marker.TOMBSTONE);
+    }
+
+    /**
+     * Método responsável por gravar um valor ou marcador de remoção na árvore em memória,
+     * congelando-a caso atinja sua capacidade.
+     * @param key   Refere-se a chave da entrada.
+     * @param value Refere-se ao valor ou marcador da entrada.
+     * @throws UncheckedIOException Exceção lançada no caso de ter havido falha nas gravações em segundo plano.
+     */
+    private void write(final K key, final Object value) throws UncheckedIOException {
+        lock.lock();
+        try {
+            checkState();
+            final AVLTree<K, Object>.Cursor cursor = memtable.cursor();
+            if (cursor.seek(key) && comparator.compare(cursor.getKey(), key) == 0) {
+                cursor.setValue(value);
+            } else {
+                memtable.put(key, value);
+            }
+            if (memtable.size() >= memtableCapacity) {
+                freeze();
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Método responsável por congelar a árvore em memória e agendar sua gravação em segundo plano,
+     * aguardando caso já haja muitas árvores pendentes.
+     * @throws UncheckedIOException Exceção lançada no caso de ter havido falha nas gravações em segundo plano.
+     */
+    private void freeze() throws UncheckedIOException {
+        while (immutables.size() >= MAX_PENDING_MEMTABLES) {
+            settled.awaitUninterruptibly();
+            checkState();
+        }
+        final AVLTree<K, Object> frozen = memtable;
+        memtable = new AVLTree<>(comparator);
+        immutables.add(0, frozen);
+        background.execute(() -> flush(frozen));
+    }
+
+    /**
+     * Método responsável por verificar se o armazenamento está aberto e sem falhas em segundo plano.
+     * @throws UncheckedIOException  Exceção lançada no caso de ter havido falha nas gravações em segundo plano.
+     * @throws IllegalStateException Exceção lançada no caso do armazenamento ter sido fechado.
+     */
+    private void checkState() throws UncheckedIOException, IllegalStateException {
+        if (failure != null) {
+            throw new UncheckedIOException(failure);
+        } else if (closed) {
+            throw new IllegalStateException("Store closed.");
+        }
+    }
+
+    /**
+     * Método responsável por encontrar uma entrada contida no armazenamento.
+     * A entrada retornada é uma cópia; alterar seu valor altera também o armazenamento.
+     * @param key Refere-se a chave de acesso à dita entrada.
+     * @return Retorna a dita entrada detentora da chave.
+     * @throws EntryNotFoundException Exceção lançada no caso da entrada não ser encontrada.
+     * @throws UncheckedIOException   Exceção lançada no caso de haverem problemas de entrada.
+     */
+    @SuppressWarnings("unchecked")
+    public Entry<K, V> find(final K key) throws EntryNotFoundException, UncheckedIOException {
+        final Object value = lookup(key);
+        if (value == MISSING || value == Marker.TOMBSTONE) {
+            throw new EntryNotFoundException();
+        }
+        return new StoreEntry(key, (V) value);
+    }
+
+    /**
+     * Método responsável por indicar se determinada entrada contém dada chave.
+     * @param key Refere-se a dita chave.
+     * @return Retorna indicativo de que determinada entrada contém dada chave.
+     * @throws UncheckedIOException Exceção lançada no caso de haverem problemas de entrada.
+     */
+    public boolean containsKey(final K key) throws UncheckedIOException {
+        final Object value = lookup(key);
+        return value != MISSING && value != Marker.TOMBSTONE;
+    }
+
+    /**
+     * Método responsável por buscar o valor mais recente de dada chave, da memória ao arquivo mais antigo.
+     * @param key Refere-se a dita chave.
+     * @return Retorna o valor, o marcador de remoção ou o indicativo de chave ausente.
+     * @throws UncheckedIOException Exceção lançada no caso de haverem problemas de entrada.
+     */
+    private Object lookup(final K key) throws UncheckedIOException {
+        lock.lock();
+        try {
+            checkState();
+            Object value = lookup(memtable, key);
+            for (int i = 0; value == MISSING && i < immutables.size(); i++) {
+                value = lookup(immutables.get(i), key);
+            }
+            for (int i = 0; value == MISSING && i < runs.size(); i++) {
+                value = runs.get(i).get(key);
+            }
+            return value;
+        } catch (final IOException ex) {
+            throw new UncheckedIOException(ex);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Método responsável por buscar o valor de dada chave numa árvore em memória.
+     * @param tree Refere-se a dita árvore.
+     * @param key  Refere-se a dita chave.
+     * @return Retorna o valor, o marcador de remoção ou o indicativo de chave ausente.
+     */
+    private Object lookup(final AVLTree<K, Object> tree, final K key) {
+        final AVLTree<K, Object>.Cursor cursor = tree.cursor();
+        return cursor.seek(key) && comparator.compare(cursor.getKey(), key) == 0 ? cursor.getValue() : MISSING;
+    }
+
+    /**
+     * Método responsável por percorrer, em ordem crescente, as entradas vigentes do armazenamento.
+     * @param entry Refere-se as entradas do armazenamento detentoras de valores e chaves.
+     * @throws UncheckedIOException Exceção lançada no caso de haverem problemas de entrada.
+     */
+    @Override
+    public void forEach(final Consumer<? super Entry<K, V>> entry) throws UncheckedIOException {
+        final Iterator<Entry<K, V>> iterator = iterator();
+        while (iterator.hasNext()) {
+            entry.accept(iterator.next());
+        }
+    }
+
+    /**
+     * Método responsável por retornar estrutura iterável das entradas vigentes, em ordem crescente.
+     * O iterador funde sob demanda uma cópia da árvore em memória com os arquivos vigentes no momento
+     * de sua criação; arquivos substituídos por fusões só são apagados quando os iteradores que os leem
+     * chegam ao fim ou quando o armazenamento é fechado.
+     * @return Retorna estrutura iterável das entradas vigentes.
+     * @throws UncheckedIOException Exceção lançada no caso de haverem problemas de entrada.
+     */
+    @Override
+    public Iterator<Entry<K, V>> iterator() throws UncheckedIOException {
+        final List<Source> sources = new ArrayList<>();
+        final List<SortedRun> retained;
+        lock.lock();
+        try {
+            checkState();
+            sources.add(new Source(memtable.duplicate().ascendingIterator(), 0));
+            for (final AVLTree<K, Object> immutable : immutables) {
+                sources.add(new Source(immutable.ascendingIterator(), sources.size()));
+            }
+            retained = runs;
+            for (final SortedRun run : retained) {
+                run.retain();
+            }
+        } finally {
+            lock.unlock();
+        }
+        try {
+            for (final SortedRun run : retained) {
+                sources.add(new Source(run.scan(), sources.size()));
+            }
+        } catch (final IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+        final MergeIterator merge = new MergeIterator(sources, true, () -> {
+            for (final SortedRun run : retained) {
+                run.release();
+            }
+        });
+        return new Iterator<Entry<K, V>>() {
+            /**
+             * Método responsável por indicar se há um próximo elemento.
+             * @return Retorna indicativo de que há um próximo elemento.
+             */
+            @Override
+            public boolean hasNext() {
+                return merge.hasNext();
+            }
+
+            /**
+             * Método responsável por retornar um próximo elemento.
+             * @return Retorna um próximo elemento.
+             * @throws NoSuchElementException Exceção lançada no caso de não haver próximo elemento.
+             */
+            @Override
+            @SuppressWarnings("unchecked")
+            public Entry<K, V> next() throws NoSuchElementException {
+                final Entry<K, Object> entry = merge.next();
+                return new StoreEntry(entry.getKey(), (V) entry.getValue());
+            }
+        };
+    }
+
+    /**
+     * Método responsável por gravar a árvore em memória em arquivo e aguardar as gravações pendentes.
+     * @throws IOException Exceção lançada no caso de haverem problemas de saída.
+     */
+    public void flush() throws IOException {
+        lock.lock();
+        try {
+            checkState();
+            if (!memtable.isEmpty()) {
+                freeze();
+            }
+        } catch (final UncheckedIOException ex) {
+            throw ex.getCause();
+        } finally {
+            lock.unlock();
+        }
+        await(background.submit(() -> { }));
+    }
+
+    /**
+     * Método responsável por gravar a árvore em memória e fundir todos os arquivos num só,
+     * descartando valores substituídos e marcadores de remoção.
+     * @throws IOException Exceção lançada no caso de haverem problemas de entrada ou saída.
+     */
+    public void compact() throws IOException {
+        flush();
+        await(background.submit(() -> {
+            final List<SortedRun> current = runs;
+            if (current.size() > 1 || (current.size() == 1 && current.get(0).tombstones > 0)) {
+                compact(0, current.size());
+            }
+            return null;
+        }));
+    }
+
+    /**
+     * Método responsável por aguardar o término de uma tarefa em segundo plano.
+     * @param future Refere-se a dita tarefa.
+     * @throws IOException Exceção lançada no caso de haver falha na tarefa ou em gravações anteriores.
+     */
+    private void await(final Future<?> future) throws IOException {
+        try {
+            future.get();
+        } catch (final InterruptedException ex) {
+            java.lang.Thread.currentThread().interrupt();
+            throw new IOException(ex);
+        } catch (final ExecutionException ex) {
+            throw ex.getCause() instanceof UncheckedIOException
+                    ? ((UncheckedIOException) ex.getCause()).getCause() : new IOException(ex.getCause());
+        }
+        lock.lock();
+        try {
+            if (failure != null) {
+                throw failure;
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Método responsável por gravar as entradas em memória, aguardar as tarefas em segundo plano
+     * e fechar os arquivos do armazenamento.
+     * @throws IOException Exceção lançada no caso de haverem problemas de saída.
+     */
+    @Override
+    public void close() throws IOException {
+        try {
+            if (!closed) {
+                flush();
+            }
+        } finally {
+            lock.lock();
+            try {
+                closed = true;
+            } finally {
+                lock.unlock();
+            }
+            background.shutdown();
+            try {
+                background.awaitTermination(Long.MAX_VALUE, TimeUnit.NANOSECONDS);
+            } catch (final InterruptedException ex) {
+                java.lang.Thread.currentThread().interrupt();
+            }
+            for (final SortedRun run : runs) {
+                run.closeReader();
+            }
+        }
+    }
+
+    /**
+     * Método responsável por retornar a quantidade de arquivos ordenados vigentes.
+     * @return Retorna a quantidade de arquivos ordenados vigentes.
+     */
+    public int getRunCount() {
+        return runs.size();
+    }
+
+    /**
+     * Método responsável por retornar a quantidade de entradas na árvore em memória.
+     * @return Retorna a quantidade de entradas em memória.
+     */
+    public int getMemtableSize() {
+        lock.lock();
+        try {
+            return memtable.size();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Método responsável por retornar a quantidade de gravações de árvores em memória.
+     * @return Retorna a quantidade de gravações.
+     */
+    public long getFlushes() {
+        return flushes.sum();
+    }
+
+    /**
+     * Método responsável por retornar a quantidade de fusões de arquivos.
+     * @return Retorna a quantidade de fusões.
+     */
+    public long getCompactions() {
+        return compactions.sum();
+    }
+
+    /**
+     * Método responsável por retornar a quantidade de consultas a arquivos evitadas pelos filtros de Bloom.
+     * @return Retorna a quantidade de consultas evitadas.
+     */
+    public long getBloomSkips() {
+        return bloomSkips.sum();
+    }
+
+    /**
+     * Método responsável por retornar a quantidade de blocos lidos por consultas.
+     * @return Retorna a quantidade de blocos lidos.
+     */
+    public long getBlockReads() {
+        return blockReads.sum();
+    }
+
+    /**
+     * Método responsável por gravar uma árvore congelada em arquivo, em segundo plano, e fundir arquivos se preciso.
+     * @param frozen Refere-se a árvore congelada.
+     */
+    private void flush(final AVLTree<K, Object> frozen) {
+        try {
+            final SortedRun run = writeRun(frozen.ascendingIterator(), frozen.size());
+            lock.lock();
+            try {
+                if (run != null) {
+                    final List<SortedRun> updated = new ArrayList<>(runs.size() + 1);
+                    updated.add(run);
+                    updated.addAll(runs);
+                    install(updated);
+                }
+                immutables.remove(frozen);
+                settled.signalAll();
+            } finally {
+                lock.unlock();
+            }
+            flushes.increment();
+            compactTiers();
+        } catch (final IOException ex) {
+            fail(ex);
+        }
+    }
+
+    /**
+     * Método responsável por registrar uma falha ocorrida em segundo plano e acordar as escritas em espera.
+     * @param ex Refere-se a dita falha.
+     */
+    private void fail(final IOException ex) {
+        lock.lock();
+        try {
+            if (failure == null) {
+                failure = ex;
+            }
+            settled.signalAll();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Método responsável por fundir grupos contíguos de arquivos de mesmo nível enquanto houver algum
+     * com a quantidade de arquivos que dispara uma fusão.
+     * @throws IOException Exceção lançada no caso de haverem problemas de entrada ou saída.
+     */
+    private void compactTiers() throws IOException {
+        boolean merged = true;
+        while (merged) {
+            merged = false;
+            final List<SortedRun> current = runs;
+            int start = 0;
+            for (int i = 1; i <= current.size() && !merged; i++) {
+                if (i == current.size() || tier(current.get(i)) != tier(current.get(start))) {
+                    if (i - start >= compactionFanIn) {
+                        compact(start, i);
+                        merged = true;
+                    }
+                    start = i;
+                }
+            }
+        }
+    }
+
+    /**
+     * Método responsável por retornar o nível de um arquivo conforme sua quantidade de entradas.
+     * @param run Refere-se ao dito arquivo.
+     * @return Retorna o nível do arquivo.
+     */
+    private int tier(final SortedRun run) {
+        int tier = 0;
+        for (long capacity = memtableCapacity; run.entries > capacity; capacity *= compactionFanIn) {
+            tier++;
+        }
+        return tier;
+    }
+
+    /**
+     * Método responsável por fundir um intervalo contíguo de arquivos vigentes num só, substituindo-os.
+     * Os marcadores de remoção são descartados quando o intervalo inclui o arquivo mais antigo.
+     * @param from Refere-se a posição do primeiro arquivo do intervalo.
+     * @param to   Refere-se a posição posterior ao último arquivo do intervalo.
+     * @throws IOException Exceção lançada no caso de haverem problemas de entrada ou saída.
+     */
+    private void compact(final int from, final int to) throws IOException {
+        final List<SortedRun> current = runs;
+        final List<SortedRun> group = current.subList(from, to);
+        final List<Source> sources = new ArrayList<>();
+        long expected = 0;
+        for (final SortedRun run : group) {
+            sources.add(new Source(run.scan(), sources.size()));
+            expected += run.entries;
+        }
+        final SortedRun merged = writeRun(new MergeIterator(sources, to == current.size(), () -> { }), expected);
+        final List<SortedRun> updated = new ArrayList<>(current.subList(0, from));
+        if (merged != null) {
+            updated.add(merged);
+        }
+        updated.addAll(current.subList(to, current.size()));
+        lock.lock();
+        try {
+            install(updated);
+        } finally {
+            lock.unlock();
+        }
+        for (final SortedRun run : group) {
+            run.release();
+        }
+        compactions.increment();
+    }
+
+    /**
+     * Método responsável por tornar vigente uma nova lista de arquivos, gravando-a no manifesto.
+     * @param updated Refere-se a nova lista de arquivos, do mais novo ao mais antigo.
+     * @throws IOException Exceção lançada no caso de haverem problemas de saída.
+     */
+    private void install(final List<SortedRun> updated) throws IOException {
+        final StringBuilder manifest = new StringBuilder();
+        for (final SortedRun run : updated) {
+            manifest.append(run.id).append('\n');
+        }
+        final File temporary = new File(directory, MANIFEST + TEMPORARY_SUFFIX);
+        Files.write(temporary.toPath(), manifest.toString().getBytes(StandardCharsets.UTF_8));
+        Files.move(temporary.toPath(), new File(directory, MANIFEST).toPath(),
+                StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        runs = Collections.unmodifiableList(updated);
+    }
+
+    /**
+     * Método responsável por retornar o nome do arquivo ordenado de dado número.
+     * @param id Refere-se ao número do arquivo.
+     * @return Retorna o nome do arquivo.
+     */
+    private static String runName(final long id) {
+        return RUN_PREFIX + id + RUN_SUFFIX;
+    }
+
+    /**
+     * Método responsável por gravar entradas ordenadas num novo arquivo, em blocos, seguidos do índice
+     * esparso, do filtro de Bloom e da posição destes.
+     * @param entries  Refere-se as entradas ordenadas.
+     * @param expected Refere-se a quantidade esperada de entradas, usada no dimensionamento do filtro.
+     * @return Retorna o novo arquivo, ou nulo caso não haja entradas.
+     * @throws IOException Exceção lançada no caso de haverem problemas de saída.
+     */
+    private SortedRun writeRun(final Iterator<Entry<K, Object>> entries, final long expected) throws IOException {
+        final long id;
+        lock.lock();
+        try {
+            id = sequence++;
+        } finally {
+            lock.unlock();
+        }
+        final File temporary = new File(directory, runName(id) + TEMPORARY_SUFFIX);
+        final BloomFilter<K> bloomFilter = new BloomFilter<>(expected);
+        final List<Object> firstKeys = new ArrayList<>();
+        final List<Long> offsets = new ArrayList<>();
+        long count = 0;
+        long removed = 0;
+        try (final DataOutputStream output = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(temporary)))) {
+            final List<Object> block = new ArrayList<>(2 * BLOCK_ENTRIES);
+            while (entries.hasNext()) {
+                final Entry<K, Object> entry = entries.next();
+                if (block.isEmpty()) {
+                    firstKeys.add(entry.getKey());
+                    offsets.add((long) output.size());
+                }
+                block.add(entry.getKey());
+                block.add(entry.getValue());
+                bloomFilter.add(entry.getKey());
+                removed += entry.getValue() == Marker.TOMBSTONE ? 1 : 0;
+                count++;
+                if (block.size() == 2 * BLOCK_ENTRIES || !entries.hasNext()) {
+                    final byte[] data = encode(block);
+                    output.writeInt(data.length);
+                    output.write(data);
+                    block.clear();
+                }
+            }
+            if (count > 0) {
+                final long footer = output.size();
+                final long[] positions = new long[offsets.size()];
+                for (int i = 0; i < positions.length; i++) {
+                    positions[i] = offsets.get(i);
+                }
+                final ObjectOutputStream objectOutput = new ObjectOutputStream(output);
+                objectOutput.writeObject(firstKeys.toArray());
+                objectOutput.writeObject(positions);
+                objectOutput.writeObject(bloomFilter);
+                objectOutput.writeLong(count);
+                objectOutput.writeLong(removed);
+                objectOutput.flush();
+                output.writeLong(footer);
+            }
+        }
+        if (count == 0) {
+            Files.delete(temporary.toPath());
+            return null;
+        }
+        Files.move(temporary.toPath(), new File(directory, runName(id)).toPath(), StandardCopyOption.ATOMIC_MOVE);
+        return new SortedRun(id);
+    }
+
+    /**
+     * Método responsável por converter um bloco de chaves e valores intercalados em bytes.
+     * @param block Refere-se ao dito bloco.
+     * @return Retorna o bloco em bytes.
+     * @throws IOException Exceção lançada no caso de haverem entradas não serializáveis.
+     */
+    private static byte[] encode(final List<Object> block) throws IOException {
+        final ByteArrayOutputStream data = new ByteArrayOutputStream();
+        try (final ObjectOutputStream output = new ObjectOutputStream(data)) {
+            output.writeInt(block.size());
+            for (final Object object : block) {
+                output.writeObject(object);
+            }
+        }
+        return data.toByteArray();
+    }
+
+    /**
+     * Método responsável por converter bytes num bloco de chaves e valores intercalados.
+     * @param data Refere-se aos bytes do bloco.
+     * @return Retorna o bloco convertido.
+     * @throws IOException Exceção lançada no caso dos bytes não corresponderem a um bloco.
+     */
+    private static Object[] decode(final byte[] data) throws IOException {
+        try (final ObjectInputStream input = new ObjectInputStream(new ByteArrayInputStream(data))) {
+            final Object[] block = new Object[input.readInt()];
+            for (int i = 0; i < block.length; i++) {
+                block[i] = input.readObject();
+            }
+            return block;
+        } catch (final ClassNotFoundException ex) {
+            throw new IOException(ex);
+        }
+    }
+
+    /**
+     * Classe responsável por comportar-se como arquivo ordenado e imutável do armazenamento,
+     * mantendo em memória apenas seu índice esparso e seu filtro de Bloom.
+     * @author Everton Bruno Silva dos Santos.
+     * @version 1.0
+     * @since 1.0
+     */
+    private final class SortedRun {
+        /**
+         * Refere-se ao número do arquivo.
+         */
+        private final long id;
+        /**
+         * Refere-se ao arquivo em disco.
+         */
+        private final File file;
+        /**
+         * Refere-se a primeira chave de cada bloco.
+         */
+        private final Object[] firstKeys;
+        /**
+         * Refere-se a posição de cada bloco no arquivo.
+         */
+        private final long[] offsets;
+        /**
+         * Refere-se ao filtro de Bloom das chaves do arquivo.
+         */
+        private final BloomFilter<K> bloomFilter;
+        /**
+         * Refere-se a quantidade de entradas do arquivo.
+         */
+        private final long entries;
+        /**
+         * Refere-se a quantidade de marcadores de remoção do arquivo.
+         */
+        private final long tombstones;
+        /**
+         * Refere-se as referências ao arquivo: a do armazenamento, enquanto vigente, e as dos iteradores.
+         */
+        private final AtomicInteger references;
+        /**
+         * Refere-se ao leitor de acesso aleatório usado pelas consultas.
+         */
+        private RandomAccessFile reader;
+
+        /**
+         * Construtor responsável por abrir um arquivo ordenado, lendo seu índice esparso e seu filtro de Bloom.
+         * @param id Refere-se ao número do arquivo.
+         * @throws IOException Exceção lançada no caso de haverem problemas de entrada.
+         */
+        @SuppressWarnings("unchecked")
+        private SortedRun(final long id) throws IOException {
+            this.id = id;
+            this.file = new File(directory, runName(id));
+            this.references = new AtomicInteger(1);
+            try (final RandomAccessFile input = new RandomAccessFile(file, "r")) {
+                input.seek(input.length() - Long.BYTES);
+                input.seek(input.readLong());
+                final ObjectInputStream objectInput = new ObjectInputStream(new BufferedInputStream(new FileInputStream(input.getFD())));
+                this.firstKeys = (Object[]) objectInput.readObject();
+                this.offsets = (long[]) objectInput.readObject();
+                this.bloomFilter = (BloomFilter<K>) objectInput.readObject();
+                this.entries = objectInput.readLong();
+                this.tombstones = objectInput.readLong();
+            } catch (final ClassNotFoundException ex) {
+                throw new IOException(ex);
+            }
+        }
+
+        /**
+         * Método responsável por buscar o valor de dada chave no arquivo, consultando antes o filtro de Bloom.
+         * Deve ser chamado com a trava do armazenamento obtida.
+         * @param key Refere-se a dita chave.
+         * @return Retorna o valor, o marcador de remoção ou o indicativo de chave ausente.
+         * @throws IOException Exceção lançada no caso de haverem problemas de entrada.
+         */
+        @SuppressWarnings("unchecked")
+        private Object get(final K key) throws IOException {
+            if (!bloomFilter.mightContain(key)) {
+                bloomSkips.increment();
+                return MISSING;
+            }
+            int low = 0;
+            int high = firstKeys.length - 1;
+            while (low <= high) {
+                final int middle = (low + high) >>> 1;
+                if (comparator.compare((K) firstKeys[middle], key) <= 0) {
+                    low = middle + 1;
+                } else {
+                    high = middle - 1;
+                }
+            }
+            if (high < 0) {
+                return MISSING;
+            }
+            if (reader == null) {
+                reader = new RandomAccessFile(file, "r");
+            }
+            reader.seek(offsets[high]);
+            final byte[] data = new byte[reader.readInt()];
+            reader.readFully(data);
+            blockReads.increment();
+            final Object[] block = decode(data);
+            low = 0;
+            high = block.length / 2 - 1;
+            while (low <= high) {
+                final int middle = (low + high) >>> 1;
+                final int result = comparator.compare((K) block[2 * middle], key);
+                if (result < 0) {
+                    low = middle + 1;
+                } else if (result > 0) {
+                    high = middle - 1;
+                } else {
+                    return block[2 * middle + 1];
+                }
+            }
+            return MISSING;
+        }
+
+        /**
+         * Método responsável por retornar iterador sequencial das entradas do arquivo, com leitor próprio.
+         * @return Retorna iterador sequencial das entradas do arquivo.
+         * @throws IOException Exceção lançada no caso de haverem problemas de entrada.
+         */
+        private Iterator<Entry<K, Object>> scan() throws IOException {
+            final DataInputStream input = new DataInputStream(new BufferedInputStream(new FileInputStream(file)));
+            return new Iterator<Entry<K, Object>>() {
+                /**
+                 * Refere-se ao bloco atual.
+                 */
+                private Object[] block = new Object[0];
+                /**
+                 * Refere-se a posição atual no bloco.
+                 */
+                private int index = 0;
+                /**
+                 * Refere-se a quantidade de blocos lidos.
+                 */
+                private int blocks = 0;
+
+                /**
+                 * Método responsável por indicar se há um próximo elemento, lendo o próximo bloco se preciso.
+                 * @return Retorna indicativo de que há um próximo elemento.
+                 * @throws UncheckedIOException Exceção lançada no caso de haverem problemas de entrada.
+                 */
+                @Override
+                public boolean hasNext() throws UncheckedIOException {
+                    try {
+                        if (index == block.length && blocks < offsets.length) {
+                            final byte[] data = new byte[input.readInt()];
+                            input.readFully(data);
+                            block = decode(data);
+                            index = 0;
+                            if (++blocks == offsets.length) {
+                                input.close();
+                            }
+                        }
+                        return index < block.length;
+                    } catch (final EOFException ex) {
+                        return false;
+                    } catch (final IOException ex) {
+                        throw new UncheckedIOException(ex);
+                    }
+                }
+
+                /**
+                 * Método responsável por retornar um próximo elemento.
+                 * @return Retorna um próximo elemento.
+                 * @throws NoSuchElementException Exceção lançada no caso de não haver próximo elemento.
+                 */
+                @Override
+                @SuppressWarnings("unchecked")
+                public Entry<K, Object> next() throws NoSuchElementException {
+                    if (!hasNext()) {
+                        throw new NoSuchElementException();
+                    }
+                    index += 2;
+                    return new SimpleEntry<>((K) block[index - 2], block[index - 1]);
+                }
+            };
+        }
+
+        /**
+         * Método responsável por registrar uma nova referência ao arquivo.
+         */
+        private void retain() {
+            references.incrementAndGet();
+        }
+
+        /**
+         * Método responsável por liberar uma referência ao arquivo, apagando-o ao liberar a última.
+         */
+        private void release() {
+            if (references.decrementAndGet() == 0) {
+                lock.lock();
+                try {
+                    closeReader();
+                } finally {
+                    lock.unlock();
+                }
+                file.delete();
+            }
+        }
+
+        /**
+         * Método responsável por fechar o leitor de acesso aleatório, caso aberto.
+         */
+        private void closeReader() {
+            if (reader != null) {
+                try {
+                    reader.close();
+                } catch (final IOException ex) {
+                    fail(ex);
+                }
+                reader = null;
+            }
+        }
+
+    }
+
+    /**
+     * Classe responsável por comportar-se como fonte ordenada de entradas numa fusão,
+     * conhecendo sua própria idade para que a entrada mais nova prevaleça.
+     * @author Everton Bruno Silva dos Santos.
+     * @version 1.0
+     * @since 1.0
+     */
+    private final class Source {
+        /**
+         * Refere-se ao iterador ordenado da fonte.
+         */
+        private final Iterator<Entry<K, Object>> iterator;
+        /**
+         * Refere-se a idade da fonte, sendo zero a mais nova.
+         */
+        private final int age;
+        /**
+         * Refere-se a entrada atual da fonte.
+         */
+        private Entry<K, Object> current;
+
+        /**
+         * Construtor responsável pelo instanciamento da fonte.
+         * @param iterator Refere-se ao iterador ordenado da fonte.
+         * @param age      Refere-se a idade da fonte.
+         */
+        private Source(final Iterator<Entry<K, Object>> iterator, final int age) {
+            this.iterator = iterator;
+            this.age = age;
+        }
+
+        /**
+         * Método responsável por avançar a fonte para sua próxima entrada.
+         * @return Retorna indicativo de que há uma entrada atual.
+         */
+        private boolean advance() {
+            current = iterator.hasNext() ? iterator.next() : null;
+            return current != null;
+        }
+
+    }
+
+    /**
+     * Classe responsável por comportar-se como iterador que funde fontes ordenadas, mantendo apenas a
+     * entrada da fonte mais nova de cada chave.
+     * @author Everton Bruno Silva dos Santos.
+     * @version 1.0
+     * @since 1.0
+     */
+    private final class MergeIterator implements Iterator<Entry<K, Object>> {
+        /**
+         * Refere-se as fontes ordenadas pela chave atual e, em empate, pela idade.
+         */
+        private final PriorityQueue<Source> queue;
+        /**
+         * Refere-se ao indicativo de que os marcadores de remoção devem ser descartados.
+         */
+        private final boolean dropTombstones;
+        /**
+         * Refere-se a ação executada uma única vez ao término da fusão.
+         */
+        private Runnable onFinish;
+        /**
+         * Refere-se a próxima entrada da fusão.
+         */
+        private Entry<K, Object> pending;
+
+        /**
+         * Construtor responsável pelo instanciamento do iterador.
+         * @param sources        Refere-se as fontes ordenadas.
+         * @param dropTombstones Refere-se ao indicativo de que os marcadores de remoção devem ser descartados.
+         * @param onFinish       Refere-se a ação executada ao término da fusão.
+         */
+        private MergeIterator(final List<Source> sources, final boolean dropTombstones, final Runnable onFinish) {
+            this.queue = new PriorityQueue<>(Math.max(1, sources.size()), (final Source s1, final Source s2) -> {
+                final int result = comparator.compare(s1.current.getKey(), s2.current.getKey());
+                return result != 0 ? result : Integer.compare(s1.age, s2.age);
+            });
+            this.dropTombstones = dropTombstones;
+            this.onFinish = onFinish;
+            for (final Source source : sources) {
+                if (source.advance()) {
+                    queue.add(source);
+                }
+            }
+        }
+
+        /**
+         * Método responsável por indicar se há um próximo elemento.
+         * @return Retorna indicativo de que há um próximo elemento.
+         */
+        @Override
+        public boolean hasNext() {
+            while (pending == null && !queue.isEmpty()) {
+                final Source newest = queue.poll();
+                final Entry<K, Object> entry = newest.current;
+                if (newest.advance()) {
+                    queue.add(newest);
+                }
+                while (!queue.isEmpty() && comparator.compare(queue.peek().current.getKey(), entry.getKey()) == 0) {
+                    final Source older = queue.poll();
+                    if (older.advance()) {
+                        queue.add(older);
+                    }
+                }
+                if (!dropTombstones || entry.getValue() != Marker.TOMBSTONE) {
+                    pending = entry;
+                }
+            }
+            if (pending == null && onFinish != null) {
+                onFinish.run();
+                onFinish = null;
+            }
+            return pending != null;
+        }
+
+        /**
+         * Método responsável por retornar um próximo elemento.
+         * @return Retorna um próximo elemento.
+         * @throws NoSuchElementException Exceção lançada no caso de não haver próximo elemento.
+         */
+        @Override
+        public Entry<K, Object> next() throws NoSuchElementException {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            final Entry<K, Object> entry = pending;
+            pending = null;
+            return entry;
+        }
+
+    }
+
+    /**
+     * Classe responsável por comportar-se como cópia de uma entrada do armazenamento,
+     * cuja alteração de valor é gravada no armazenamento.
+     * @author Everton Bruno Silva dos Santos.
+     * @version 1.0
+     * @since 1.0
+     */
+    private final class StoreEntry extends SimpleEntry<K, V> {
+        /**
+         * Refere-se ao número de série da entrada.
+         */
+        private transient static final long serialVersionUID = -6385946958686494034L;
+
+        /**
+         * Construtor responsável pelo instanciamento da entrada.
+         * @param key   Refere-se a chave da entrada.
+         * @param value Refere-se ao valor da entrada.
+         */
+        private StoreEntry(final K key, final V value) {
+            super(key, value);
+        }
+
+        /**
+         * Método responsável por alterar valor contido na entrada e no armazenamento.
+         * @param value Refere-se ao novo valor contido na entrada.
+         * @return Retorna antigo valor contido na entrada.
+         * @throws UncheckedIOException Exceção lançada no caso de ter havido falha nas gravações em segundo plano.
+         */
+        @Override
+        public V setValue(final V value) throws UncheckedIOException {
+            put(getKey(), value);
+            return super.setValue(value);
+        }
+
+    }
+
+}
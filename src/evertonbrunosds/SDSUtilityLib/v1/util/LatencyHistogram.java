@@ -0,0 +1,149 @@
+/*
+ * This file is part of the SDSUtilityLib Open Source Project.
+ * SDSUtilityLib is licensed under the GNU GPLv3.
+ *
+ * Copyright © 2020. Everton Bruno Silva dos Santos <evertonbrunogithub@yahoo.com>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package evertonbrunosds.SDSUtilityLib.v1.util;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Classe responsável por comportar-se como histograma de latências em faixas de potências de dois nanossegundos,
+ * registrando durações concorrentemente sem travas. Os percentis são aproximados pelo limite superior da faixa
+ * que os contém, com erro de no máximo o dobro da latência real.
+ * @author Everton Bruno Silva dos Santos.
+ * @version 1.0
+ * @since 1.0
+ */
+public class LatencyHistogram {
+    /**
+     * Refere-se a quantidade de faixas, uma por bit de um inteiro longo.
+     */
+    private static final int BUCKETS = 64;
+    /**
+     * Refere-se a quantidade de registros de cada faixa, sendo a faixa i a das durações entre 2^(i-1) e 2^i - 1.
+     */
+    private final AtomicLongArray buckets;
+    /**
+     * Refere-se a soma das durações registradas, em nanossegundos.
+     */
+    private final LongAdder total;
+    /**
+     * Refere-se a maior duração registrada, em nanossegundos.
+     */
+    private final AtomicLong max;
+
+    /**
+     * Construtor responsável pelo instanciamento do histograma.
+     */
+    public LatencyHistogram() {
+        this.buckets = new AtomicLongArray(BUCKETS);
+        this.total = new LongAdder();
+        this.max = new AtomicLong();
+    }
+
+    /**
+     * Método responsável por registrar uma duração, sendo as negativas registradas como nulas.
+     * @param nanos Refere-se a dita duração, em nanossegundos.
+     */
+    public void record(final long nanos) {
+        final long duration = Math.max(nanos, 0L);
+        buckets.incrementAndGet(BUCKETS - Long.numberOfLeadingZeros(duration));
+        total.add(duration);
+        max.accumulateAndGet(duration, Math::max);
+    }
+
+    /**
+     * Método responsável por retornar a quantidade de durações registradas.
+     * @return Retorna a quantidade de registros.
+     */
+    public long getCount() {
+        long count = 0;
+        for (int i = 0; i < BUCKETS; i++) {
+            count += buckets.get(i);
+        }
+        return count;
+    }
+
+    /**
+     * Método responsável por retornar a média das durações registradas.
+     * @param unit Refere-se a unidade da média retornada.
+     * @return Retorna a média na dita unidade, ou zero caso não haja registros.
+     */
+    public double getMean(final TimeUnit unit) {
+        final long count = getCount();
+        return count == 0 ? 0 : (double) total.sum() / count / unit.toNanos(1);
+    }
+
+    /**
+     * Método responsável por retornar a maior duração registrada.
+     * @param unit Refere-se a unidade da duração retornada.
+     * @return Retorna a maior duração na dita unidade.
+     */
+    public long getMax(final TimeUnit unit) {
+        return unit.convert(max.get(), TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * Método responsável por retornar o limite superior da faixa que contém determinado percentil das durações.
+     * @param percentile Refere-se ao dito percentil, entre zero e cem.
+     * @param unit       Refere-se a unidade da duração retornada.
+     * @return Retorna a duração do percentil na dita unidade, limitada a maior duração registrada.
+     * @throws IllegalArgumentException Exceção lançada caso o percentil esteja fora do intervalo de zero a cem.
+     */
+    public long getPercentile(final double percentile, final TimeUnit unit) throws IllegalArgumentException {
+        if (!(percentile >= 0 && percentile <= 100)) {
+            throw new IllegalArgumentException();
+        }
+        final long count = getCount();
+        final long rank = Math.max(1L, (long) Math.ceil(percentile / 100 * count));
+        long seen = 0;
+        for (int i = 0; i < BUCKETS && count > 0; i++) {
+            seen += buckets.get(i);
+            if (seen >= rank) {
+                return unit.convert(Math.min((1L << i) - 1, max.get()), TimeUnit.NANOSECONDS);
+            }
+        }
+        return 0;
+    }
+
+    /**
+     * Método responsável por zerar o histograma.
+     */
+    public void reset() {
+        for (int i = 0; i < BUCKETS; i++) {
+            buckets.set(i, 0);
+        }
+        total.reset();
+        max.set(0);
+    }
+
+    /**
+     * Método responsável por retornar o resumo do histograma em microssegundos.
+     * @return Retorna a quantidade de registros, a média, os percentis 50, 90 e 99 e o máximo.
+     */
+    @Override
+    public String toString() {
+        return String.format("count=%d mean=%.1fus p50=%dus p90=%dus p99=%dus max=%dus", getCount(), getMean(TimeUnit.MICROSECONDS),
+                getPercentile(50, TimeUnit.MICROSECONDS), getPercentile(90, TimeUnit.MICROSECONDS),
+                getPercentile(99, TimeUnit.MICROSECONDS), getMax(TimeUnit.MICROSECONDS));
+    }
+
+}
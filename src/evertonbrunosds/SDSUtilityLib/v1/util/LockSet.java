@@ -0,0 +1,320 @@
+/*
+ * This file is part of the SDSUtilityLib Open Source Project.
+ * SDSUtilityLib is licensed under the GNU GPLv3.
+ *
+ * Copyright © 2020. Everton Bruno Silva dos Santos <evertonbrunogithub@yahoo.com>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package evertonbrunosds.SDSUtilityLib.v1.util;
+
+import evertonbrunosds.SDSUtilityLib.v1.api.Worker;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.WeakHashMap;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Classe responsável por comportar-se como conjunto de semáforos adquiridos sempre numa ordem global,
+ * atribuída a cada semáforo em seu primeiro uso por qualquer conjunto. Como todos os conjuntos adquirem
+ * seus semáforos na mesma ordem, independente da ordem informada, dois conjuntos sobrepostos não entram
+ * em impasse. As aquisições com tempo limite liberam os semáforos já adquiridos caso algum não seja
+ * obtido a tempo, protegendo também contra impasses com quem adquire semáforos fora dos conjuntos.
+ * Cada aquisição de um semáforo é contabilizada em suas estatísticas de disputa.
+ * @author Everton Bruno Silva dos Santos.
+ * @version 1.0
+ * @since 1.0
+ */
+public class LockSet {
+    /**
+     * Refere-se as estatísticas de disputa de cada semáforo já usado, descartadas junto aos semáforos.
+     */
+    private static final Map<Semaphore, Contention> REGISTRY = new WeakHashMap<>();
+    /**
+     * Refere-se a trava que protege o registro de estatísticas.
+     */
+    private static final ReentrantLock REGISTRY_LOCK = new ReentrantLock();
+    /**
+     * Refere-se a próxima posição da ordem global de aquisição.
+     */
+    private static final AtomicLong ORDER = new AtomicLong();
+    /**
+     * Refere-se aos semáforos do conjunto, na ordem global de aquisição.
+     */
+    private final Semaphore[] semaphores;
+    /**
+     * Refere-se as estatísticas de disputa dos semáforos do conjunto, na mesma ordem.
+     */
+    private final Contention[] contentions;
+
+    /**
+     * Construtor responsável pelo instanciamento do conjunto.
+     * @param semaphores Refere-se aos semáforos do conjunto, em qualquer ordem e admitindo repetições.
+     * @throws NullPointerException Exceção lançada caso os semáforos ou algum deles sejam nulos.
+     */
+    public LockSet(final Semaphore... semaphores) throws NullPointerException {
+        this(Arrays.asList(semaphores));
+    }
+
+    /**
+     * Construtor responsável pelo instanciamento do conjunto.
+     * @param semaphores Refere-se aos semáforos do conjunto, em qualquer ordem e admitindo repetições.
+     * @throws NullPointerException Exceção lançada caso os semáforos ou algum deles sejam nulos.
+     */
+    public LockSet(final Iterable<Semaphore> semaphores) throws NullPointerException {
+        final Map<Semaphore, Contention> distinct = new IdentityHashMap<>();
+        REGISTRY_LOCK.lock();
+        try {
+            for (final Semaphore semaphore : semaphores) {
+                if (semaphore == null) {
+                    throw new NullPointerException();
+                }
+                distinct.put(semaphore, REGISTRY.computeIfAbsent(semaphore, key -> new Contention(ORDER.getAndIncrement())));
+            }
+        } finally {
+            REGISTRY_LOCK.unlock();
+        }
+        final List<Map.Entry<Semaphore, Contention>> ordered = new ArrayList<>(distinct.entrySet());
+        ordered.sort((final Map.Entry<Semaphore, Contention> e1, final Map.Entry<Semaphore, Contention> e2)
+                -> Long.compare(e1.getValue().order, e2.getValue().order));
+        this.semaphores = new Semaphore[ordered.size()];
+        this.contentions = new Contention[ordered.size()];
+        for (int i = 0; i < ordered.size(); i++) {
+            this.semaphores[i] = ordered.get(i).getKey();
+            this.contentions[i] = ordered.get(i).getValue();
+        }
+    }
+
+    /**
+     * Método responsável por retornar as estatísticas de disputa de determinado semáforo.
+     * @param semaphore Refere-se ao dito semáforo.
+     * @return Retorna as estatísticas de disputa do semáforo, ou nulo caso nunca tenha integrado um conjunto.
+     */
+    public static Contention getContention(final Semaphore semaphore) {
+        REGISTRY_LOCK.lock();
+        try {
+            return REGISTRY.get(semaphore);
+        } finally {
+            REGISTRY_LOCK.unlock();
+        }
+    }
+
+    /**
+     * Método responsável por adquirir todos os semáforos do conjunto na ordem global, aguardando o quanto for preciso.
+     * Caso a espera seja interrompida, os semáforos já adquiridos são liberados antes do lançamento da exceção.
+     * @throws InterruptedException Exceção lançada caso a espera seja interrompida.
+     */
+    public void acquire() throws InterruptedException {
+        acquire(false, 0L);
+    }
+
+    /**
+     * Método responsável por tentar adquirir todos os semáforos do conjunto na ordem global dentro do tempo limite.
+     * Caso algum semáforo não seja obtido a tempo, ou a espera seja interrompida, os semáforos já adquiridos são liberados.
+     * @param timeout Refere-se ao tempo limite para adquirir todos os semáforos.
+     * @param unit    Refere-se a unidade do dito tempo.
+     * @return Retorna indicativo de que todos os semáforos foram adquiridos.
+     * @throws InterruptedException Exceção lançada caso a espera seja interrompida.
+     */
+    public boolean tryAcquire(final long timeout, final TimeUnit unit) throws InterruptedException {
+        return acquire(true, System.nanoTime() + unit.toNanos(timeout));
+    }
+
+    /**
+     * Método responsável por adquirir todos os semáforos do conjunto na ordem global.
+     * @param timed    Refere-se a indicativo de que a aquisição possui tempo limite.
+     * @param deadline Refere-se ao instante limite, em nanossegundos, das aquisições com tempo limite.
+     * @return Retorna indicativo de que todos os semáforos foram adquiridos.
+     * @throws InterruptedException Exceção lançada caso a espera seja interrompida.
+     */
+    private boolean acquire(final boolean timed, final long deadline) throws InterruptedException {
+        int acquired = 0;
+        try {
+            for (; acquired < semaphores.length; acquired++) {
+                final Semaphore semaphore = semaphores[acquired];
+                final Contention contention = contentions[acquired];
+                if (!semaphore.tryAcquire()) {
+                    contention.contentions.increment();
+                    final long start = System.nanoTime();
+                    boolean obtained = true;
+                    try {
+                        if (timed) {
+                            obtained = semaphore.tryAcquire(deadline - start, TimeUnit.NANOSECONDS);
+                        } else {
+                            semaphore.acquire();
+                        }
+                    } finally {
+                        contention.waitNanos.add(System.nanoTime() - start);
+                    }
+                    if (!obtained) {
+                        contention.timeouts.increment();
+                        return false;
+                    }
+                }
+                contention.acquisitions.increment();
+            }
+            return true;
+        } finally {
+            if (acquired < semaphores.length) {
+                release(acquired);
+            }
+        }
+    }
+
+    /**
+     * Método responsável por liberar todos os semáforos do conjunto, na ordem inversa da aquisição.
+     */
+    public void release() {
+        release(semaphores.length);
+    }
+
+    /**
+     * Método responsável por liberar os primeiros semáforos do conjunto, na ordem inversa da aquisição.
+     * @param count Refere-se a quantidade de semáforos a serem liberados.
+     */
+    private void release(final int count) {
+        for (int i = count - 1; i >= 0; i--) {
+            semaphores[i].release();
+        }
+    }
+
+    /**
+     * Método responsável por executar um trabalhador de posse de todos os semáforos do conjunto.
+     * @param worker  Refere-se ao trabalhador que desempenhará dado trabalho.
+     * @param timeout Refere-se ao tempo limite para adquirir todos os semáforos.
+     * @param unit    Refere-se a unidade do dito tempo.
+     * @return Retorna indicativo de que os semáforos foram adquiridos e o trabalho executado.
+     * @throws InterruptedException Exceção lançada caso a espera seja interrompida.
+     */
+    public boolean run(final Worker worker, final long timeout, final TimeUnit unit) throws InterruptedException {
+        if (!tryAcquire(timeout, unit)) {
+            return false;
+        }
+        try {
+            worker.work();
+        } finally {
+            release();
+        }
+        return true;
+    }
+
+    /**
+     * Método responsável por retornar a quantidade de semáforos distintos do conjunto.
+     * @return Retorna a quantidade de semáforos do conjunto.
+     */
+    public int size() {
+        return semaphores.length;
+    }
+
+    /**
+     * Classe responsável por comportar-se como estatísticas de disputa de um semáforo pelos conjuntos.
+     * @author Everton Bruno Silva dos Santos.
+     * @version 1.0
+     * @since 1.0
+     */
+    public static final class Contention {
+        /**
+         * Refere-se a posição do semáforo na ordem global de aquisição.
+         */
+        private final long order;
+        /**
+         * Refere-se a quantidade de aquisições bem-sucedidas.
+         */
+        private final LongAdder acquisitions;
+        /**
+         * Refere-se a quantidade de aquisições que precisaram aguardar.
+         */
+        private final LongAdder contentions;
+        /**
+         * Refere-se a quantidade de aquisições que excederam o tempo limite.
+         */
+        private final LongAdder timeouts;
+        /**
+         * Refere-se ao tempo total de espera, em nanossegundos.
+         */
+        private final LongAdder waitNanos;
+
+        /**
+         * Construtor responsável pelo instanciamento das estatísticas.
+         * @param order Refere-se a posição do semáforo na ordem global de aquisição.
+         */
+        private Contention(final long order) {
+            this.order = order;
+            this.acquisitions = new LongAdder();
+            this.contentions = new LongAdder();
+            this.timeouts = new LongAdder();
+            this.waitNanos = new LongAdder();
+        }
+
+        /**
+         * Método responsável por retornar a posição do semáforo na ordem global de aquisição.
+         * @return Retorna a posição do semáforo na ordem global.
+         */
+        public long getOrder() {
+            return order;
+        }
+
+        /**
+         * Método responsável por retornar a quantidade de aquisições bem-sucedidas.
+         * @return Retorna a quantidade de aquisições.
+         */
+        public long getAcquisitions() {
+            return acquisitions.sum();
+        }
+
+        /**
+         * Método responsável por retornar a quantidade de aquisições que encontraram o semáforo indisponível.
+         * @return Retorna a quantidade de disputas.
+         */
+        public long getContentions() {
+            return contentions.sum();
+        }
+
+        /**
+         * Método responsável por retornar a quantidade de aquisições que excederam o tempo limite.
+         * @return Retorna a quantidade de tempos esgotados.
+         */
+        public long getTimeouts() {
+            return timeouts.sum();
+        }
+
+        /**
+         * Método responsável por retornar o tempo total de espera pelo semáforo.
+         * @param unit Refere-se a unidade do tempo retornado.
+         * @return Retorna o tempo total de espera na dita unidade.
+         */
+        public long getWaitTime(final TimeUnit unit) {
+            return unit.convert(waitNanos.sum(), TimeUnit.NANOSECONDS);
+        }
+
+        /**
+         * Método responsável por zerar os contadores das estatísticas.
+         */
+        public void reset() {
+            acquisitions.reset();
+            contentions.reset();
+            timeouts.reset();
+            waitNanos.reset();
+        }
+
+    }
+
+}
@@ -0,0 +1,1627 @@
+/*
+ * This file is part of the SDSUtilityLib Open Source Project.
+ * SDSUtilityLib is licensed under the GNU GPLv3.
+ *
+ * Copyright © 2020. Everton Bruno Silva dos Santos <evertonbrunogithub@yahoo.com>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package evertonbrunosds.SDSUtilityLib.v1.util;
+
+import evertonbrunosds.SDSUtilityLib.v1.api.Comparator;
+import evertonbrunosds.SDSUtilityLib.v1.api.FileStream;
+import evertonbrunosds.SDSUtilityLib.v1.exceptions.EntryNotFoundException;
+import evertonbrunosds.SDSUtilityLib.v1.exceptions.KeyUsedException;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.RandomAccessFile;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.util.AbstractMap.SimpleEntry;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.NoSuchElementException;
+import java.util.function.Consumer;
+
+/**
+ * Classe responsável por comportar-se como árvore B+ residente em disco.
+ * Cada elo ocupa uma página de um arquivo e somente as páginas em uso são mantidas em memória,
+ * num cache de páginas de capacidade limitada com despejo por LRU ou CLOCK; deste modo, índices
+ * maiores que a memória disponível são atendidos com consumo de memória limitado.
+ * As alterações são gravadas no arquivo ao despejar páginas, em {@link #flush()} e em {@link #close()}.
+ * @author Everton Bruno Silva dos Santos.
+ * @param <K> Refere-se ao tipo de chave usada nas entradas.
+ * @param <V> Refere-se ao tipo de valor usado nas entradas.
+ * @version 1.0
+ * @since 1.0
+ */
+public class PagedBPlusTree<K, V> implements Iterable<Entry<K, V>>, FileStream<PagedBPlusTree<K, V>>, Closeable {
+    /**
+     * Refere-se ao número de série da árvore B+ em disco.
+     */
+    private transient static final long serialVersionUID = -6385946958686493031L;
+    /**
+     * Refere-se ao tamanho, em bytes, de cada bloco do arquivo.
+     */
+    public static final int PAGE_SIZE = 4096;
+    /**
+     * Refere-se a ordem padrão da árvore, isto é, a quantidade máxima de filhos por elo.
+     */
+    public static final int DEFAULT_ORDER = 64;
+    /**
+     * Refere-se a menor ordem aceita pela árvore.
+     */
+    public static final int MIN_ORDER = 3;
+    /**
+     * Refere-se a capacidade padrão do cache, em páginas.
+     */
+    public static final int DEFAULT_CACHE_CAPACITY = 1024;
+    /**
+     * Refere-se a menor capacidade aceita para o cache, em páginas.
+     */
+    public static final int MIN_CACHE_CAPACITY = 4;
+    /**
+     * Refere-se ao identificador de página inexistente.
+     */
+    private static final long NONE = -1L;
+    /**
+     * Refere-se ao número mágico que identifica o arquivo de páginas.
+     */
+    private static final int MAGIC = 0x53445342;
+    /**
+     * Refere-se ao espaço de cada bloco reservado ao encadeamento e ao comprimento dos dados.
+     */
+    private static final int BLOCK_HEADER = Long.BYTES + Integer.BYTES;
+    /**
+     * Refere-se ao espaço útil de dados em cada bloco.
+     */
+    private static final int BLOCK_PAYLOAD = PAGE_SIZE - BLOCK_HEADER;
+    /**
+     * Refere-se ao nome do arquivo de páginas.
+     */
+    private final String fileName;
+    /**
+     * Refere-se ao objeto comparador de chaves.
+     */
+    private final Comparator<K> comparator;
+    /**
+     * Refere-se a capacidade do cache, em páginas.
+     */
+    private final int cacheCapacity;
+    /**
+     * Refere-se a política de despejo do cache.
+     */
+    private final Eviction eviction;
+    /**
+     * Refere-se a ordem da árvore.
+     */
+    private int order;
+    /**
+     * Refere-se ao arquivo de páginas aberto.
+     */
+    private transient RandomAccessFile file;
+    /**
+     * Refere-se ao cache de páginas.
+     */
+    private transient PageCache cache;
+    /**
+     * Refere-se a página raiz da árvore.
+     */
+    private transient long root;
+    /**
+     * Refere-se a primeira folha do encadeamento.
+     */
+    private transient long first;
+    /**
+     * Refere-se ao tamanho da árvore.
+     */
+    private transient long size;
+    /**
+     * Refere-se a altura da árvore.
+     */
+    private transient int height;
+    /**
+     * Refere-se a quantidade de blocos do arquivo.
+     */
+    private transient long blockCount;
+    /**
+     * Refere-se ao primeiro bloco da lista de blocos livres.
+     */
+    private transient long freeBlock;
+    /**
+     * Refere-se a chave promovida pela última divisão de elo.
+     */
+    private transient Object separator;
+
+    /**
+     * Enumeração responsável por definir as políticas de despejo do cache de páginas.
+     * @author Everton Bruno Silva dos Santos.
+     * @version 1.0
+     * @since 1.0
+     */
+    public enum Eviction {
+        /**
+         * Refere-se ao despejo da página usada há mais tempo.
+         */
+        LRU,
+        /**
+         * Refere-se ao despejo por relógio, que concede uma segunda chance às páginas referenciadas.
+         */
+        CLOCK
+    }
+
+    /**
+     * Construtor responsável pelo instanciamento da árvore, criando ou abrindo dado arquivo de páginas.
+     * @param fileName   Refere-se ao nome do arquivo de páginas.
+     * @param comparator Refere-se ao objeto comparador de chaves.
+     * @throws NullPointerException Exceção lançada caso o nome do arquivo ou o comparador sejam nulos.
+     * @throws IOException          Exceção lançada no caso de haverem problemas de entrada ou saída.
+     */
+    public PagedBPlusTree(final String fileName, final Comparator<K> comparator) throws NullPointerException, IOException {
+        this(fileName, comparator, DEFAULT_ORDER, DEFAULT_CACHE_CAPACITY, Eviction.CLOCK);
+    }
+
+    /**
+     * Construtor responsável pelo instanciamento da árvore, criando ou abrindo dado arquivo de páginas.
+     * Ao abrir um arquivo existente, prevalece a ordem nele gravada.
+     * @param fileName      Refere-se ao nome do arquivo de páginas.
+     * @param comparator    Refere-se ao objeto comparador de chaves.
+     * @param order         Refere-se a ordem da árvore, isto é, a quantidade máxima de filhos por elo.
+     * @param cacheCapacity Refere-se a capacidade do cache, em páginas.
+     * @param eviction      Refere-se a política de despejo do cache.
+     * @throws NullPointerException     Exceção lançada caso algum dos parâmetros seja nulo.
+     * @throws IllegalArgumentException Exceção lançada caso a ordem ou a capacidade do cache sejam inválidas.
+     * @throws IOException              Exceção lançada no caso de haverem problemas de entrada ou saída.
+     */
+    public PagedBPlusTree(final String fileName, final Comparator<K> comparator, final int order, final int cacheCapacity,
+            final Eviction eviction) throws NullPointerException, IllegalArgumentException, IOException {
+        if (fileName == null || comparator == null || eviction == null) {
+            throw new NullPointerException();
+        } else if (order < MIN_ORDER) {
+            throw new IllegalArgumentException("Invalid order.");
+        } else if (cacheCapacity < MIN_CACHE_CAPACITY) {
+            throw new IllegalArgumentException("Invalid cache capacity.");
+        }
+        this.fileName = fileName;
+        this.comparator = comparator;
+        this.order = order;
+        this.cacheCapacity = cacheCapacity;
+        this.eviction = eviction;
+        open();
+    }
+
+    /**
+     * Método responsável por abrir o arquivo de páginas, lendo seu cabeçalho ou criando-o caso vazio.
+     * @throws IOException Exceção lançada no caso de haverem problemas de entrada ou saída.
+     */
+    private void open() throws IOException {
+        file = new RandomAccessFile(fileName, "rw");
+        cache = new PageCache(cacheCapacity, eviction);
+        try {
+            if (file.length() == 0) {
+                reset();
+            } else {
+                file.seek(0);
+                if (file.readInt() != MAGIC || file.readInt() != PAGE_SIZE) {
+                    throw new IOException("Invalid page file.");
+                }
+                order = file.readInt();
+                root = file.readLong();
+                first = file.readLong();
+                size = file.readLong();
+                height = file.readInt();
+                blockCount = file.readLong();
+                freeBlock = file.readLong();
+            }
+        } catch (final IOException ex) {
+            file.close();
+            throw ex;
+        }
+    }
+
+    /**
+     * Método responsável por esvaziar o arquivo de páginas, mantendo apenas o cabeçalho.
+     * @throws IOException Exceção lançada no caso de haverem problemas de saída.
+     */
+    private void reset() throws IOException {
+        root = first = freeBlock = NONE;
+        size = 0;
+        height = 0;
+        blockCount = 1;
+        file.setLength(PAGE_SIZE);
+        writeHeader();
+    }
+
+    /**
+     * Método responsável por gravar o cabeçalho no primeiro bloco do arquivo.
+     * @throws IOException Exceção lançada no caso de haverem problemas de saída.
+     */
+    private void writeHeader() throws IOException {
+        file.seek(0);
+        file.writeInt(MAGIC);
+        file.writeInt(PAGE_SIZE);
+        file.writeInt(order);
+        file.writeLong(root);
+        file.writeLong(first);
+        file.writeLong(size);
+        file.writeInt(height);
+        file.writeLong(blockCount);
+        file.writeLong(freeBlock);
+    }
+
+    /**
+     * Método responsável por retornar o tamanho da árvore.
+     * @return Retorna o tamanho da árvore.
+     */
+    public long size() {
+        return size;
+    }
+
+    /**
+     * Método responsável por retornar a altura da árvore.
+     * @return Retorna a altura da árvore.
+     */
+    public int height() {
+        return height;
+    }
+
+    /**
+     * Método responsável por retornar a ordem da árvore.
+     * @return Retorna a ordem da árvore.
+     */
+    public int getOrder() {
+        return order;
+    }
+
+    /**
+     * Método responsável por retornar o nome do arquivo de páginas.
+     * @return Retorna o nome do arquivo de páginas.
+     */
+    public String getFileName() {
+        return fileName;
+    }
+
+    /**
+     * Método responsável por retornar o cache de páginas, detentor das estatísticas de acesso.
+     * @return Retorna o cache de páginas.
+     */
+    public PageCache getCache() {
+        return cache;
+    }
+
+    /**
+     * Método responsável por indicar se a árvore está vazia.
+     * @return Retorna indicativo de que a árvore está vazia.
+     */
+    public boolean isEmpty() {
+        return root == NONE;
+    }
+
+    /**
+     * Método responsável por esvaziar a árvore, descartando todas as páginas.
+     * @throws UncheckedIOException Exceção lançada no caso de haverem problemas de saída.
+     */
+    public void clear() throws UncheckedIOException {
+        try {
+            cache.clear();
+            reset();
+        } catch (final IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+
+    /**
+     * Método responsável por inserir uma nova entrada na árvore.
+     * @param key   Refere-se a chave da dita entrada.
+     * @param value Refere-se ao valor da dita entrada.
+     * @throws KeyUsedException     Exceção lançada no caso da chave estar em uso por outra entrada.
+     * @throws UncheckedIOException Exceção lançada no caso de haverem problemas de entrada ou saída.
+     */
+    public void put(final K key, final V value) throws KeyUsedException, UncheckedIOException {
+        try {
+            if (root == NONE) {
+                final Page leaf = allocate(true);
+                leaf.insert(0, key, value);
+                root = first = leaf.id;
+                height = 1;
+            } else {
+                final Page sibling = put(key, value, cache.fetch(root));
+                if (sibling != null) {
+                    final Page inner = allocate(false);
+                    inner.children[0] = root;
+                    inner.insert(0, separator, sibling.id);
+                    separator = null;
+                    root = inner.id;
+                    height++;
+                }
+            }
+            size++;
+        } catch (final IOException ex) {
+            throw new UncheckedIOException(ex);
+        } finally {
+            cache.unpinAll();
+        }
+    }
+
+    /**
+     * Método responsável por inserir uma nova entrada na árvore recursivamente.
+     * @param key   Refere-se a chave da dita entrada.
+     * @param value Refere-se ao valor da dita entrada.
+     * @param page  Refere-se a página atual da recursão.
+     * @return Retorna a nova página irmã caso a página tenha sido dividida, ou nulo caso contrário.
+     * @throws KeyUsedException Exceção lançada no caso da chave estar em uso por outra entrada.
+     * @throws IOException      Exceção lançada no caso de haverem problemas de entrada ou saída.
+     */
+    private Page put(final K key, final V value, final Page page) throws KeyUsedException, IOException {
+        if (page.leaf) {
+            final int index = search(page, key);
+            if (index >= 0) {
+                throw new KeyUsedException();
+            }
+            page.insert(-index - 1, key, value);
+            return page.count == order ? split(page) : null;
+        }
+        final int index = childIndex(page, key);
+        final Page sibling = put(key, value, cache.fetch(page.children[index]));
+        if (sibling == null) {
+            return null;
+        }
+        page.insert(index, separator, sibling.id);
+        return page.count == order ? split(page) : null;
+    }
+
+    /**
+     * Método responsável por encontrar uma entrada contida na árvore.
+     * A entrada retornada é uma cópia; alterar seu valor altera também a árvore.
+     * @param key Refere-se a chave de acesso à dita entrada.
+     * @return Retorna a dita entrada detentora da chave.
+     * @throws EntryNotFoundException Exceção lançada no caso da entrada não ser encontrada.
+     * @throws UncheckedIOException   Exceção lançada no caso de haverem problemas de entrada.
+     */
+    @SuppressWarnings("unchecked")
+    public Entry<K, V> find(final K key) throws EntryNotFoundException, UncheckedIOException {
+        try {
+            final Page leaf = findLeaf(key);
+            final int index = leaf != null ? search(leaf, key) : -1;
+            if (index < 0) {
+                throw new EntryNotFoundException();
+            }
+            return new PageEntry((K) leaf.keys[index], (V) leaf.values[index]);
+        } catch (final IOException ex) {
+            throw new UncheckedIOException(ex);
+        } finally {
+            cache.unpinAll();
+        }
+    }
+
+    /**
+     * Método responsável por indicar se determinada entrada contém dada chave.
+     * @param key Refere-se a dita chave.
+     * @return Retorna indicativo de que determinada entrada contém dada chave.
+     * @throws UncheckedIOException Exceção lançada no caso de haverem problemas de entrada.
+     */
+    public boolean containsKey(final K key) throws UncheckedIOException {
+        try {
+            final Page leaf = findLeaf(key);
+            return leaf != null && search(leaf, key) >= 0;
+        } catch (final IOException ex) {
+            throw new UncheckedIOException(ex);
+        } finally {
+            cache.unpinAll();
+        }
+    }
+
+    /**
+     * Método responsável por alterar o valor de determinada entrada na árvore.
+     * @param key   Refere-se a chave de acesso à entrada.
+     * @param value Refere-se ao novo valor da entrada.
+     * @return Retorna o antigo valor da chave.
+     * @throws EntryNotFoundException Exceção lançada no caso da entrada não ser encontrada.
+     * @throws UncheckedIOException   Exceção lançada no caso de haverem problemas de entrada.
+     */
+    @SuppressWarnings("unchecked")
+    public V setValue(final K key, final V value) throws EntryNotFoundException, UncheckedIOException {
+        try {
+            final Page leaf = findLeaf(key);
+            final int index = leaf != null ? search(leaf, key) : -1;
+            if (index < 0) {
+                throw new EntryNotFoundException();
+            }
+            final V oldValue = (V) leaf.values[index];
+            leaf.values[index] = value;
+            leaf.dirty = true;
+            return oldValue;
+        } catch (final IOException ex) {
+            throw new UncheckedIOException(ex);
+        } finally {
+            cache.unpinAll();
+        }
+    }
+
+    /**
+     * Método responsável por substituir dada chave de uma entrada por outra na árvore.
+     * @param currentKey Refere-se a chave atual.
+     * @param newKey     Refere-se a nova chave.
+     * @throws KeyUsedException       Exceção lançada no caso da nova chave estar em uso por outra entrada.
+     * @throws EntryNotFoundException Exceção lançada no caso da entrada não ser encontrada.
+     * @throws UncheckedIOException   Exceção lançada no caso de haverem problemas de entrada ou saída.
+     */
+    public void setKey(final K currentKey, final K newKey) throws KeyUsedException, EntryNotFoundException, UncheckedIOException {
+        final Entry<K, V> entry = find(currentKey);
+        if (comparator.compare(currentKey, newKey) == 0) {
+            try {
+                final Page leaf = findLeaf(currentKey);
+                leaf.keys[search(leaf, currentKey)] = newKey;
+                leaf.dirty = true;
+            } catch (final IOException ex) {
+                throw new UncheckedIOException(ex);
+            } finally {
+                cache.unpinAll();
+            }
+        } else if (!containsKey(newKey)) {
+            remove(currentKey);
+            put(newKey, entry.getValue());
+        } else {
+            throw new KeyUsedException();
+        }
+    }
+
+    /**
+     * Método responsável por remover uma entrada contida na árvore.
+     * @param key Refere-se a chave de acesso à dita entrada.
+     * @throws EntryNotFoundException Exceção lançada no caso da entrada não ser encontrada.
+     * @throws UncheckedIOException   Exceção lançada no caso de haverem problemas de entrada ou saída.
+     */
+    public void remove(final K key) throws EntryNotFoundException, UncheckedIOException {
+        if (root == NONE) {
+            throw new EntryNotFoundException();
+        }
+        try {
+            final Page page = cache.fetch(root);
+            remove(key, page);
+            size--;
+            if (page.count == 0) {
+                if (page.leaf) {
+                    root = first = NONE;
+                } else {
+                    root = page.children[0];
+                }
+                height--;
+                free(page);
+            }
+        } catch (final IOException ex) {
+            throw new UncheckedIOException(ex);
+        } finally {
+            cache.unpinAll();
+        }
+    }
+
+    /**
+     * Método responsável por remover uma entrada contida na árvore recursivamente.
+     * @param key  Refere-se a chave de acesso à dita entrada.
+     * @param page Refere-se a página atual da recursão.
+     * @throws EntryNotFoundException Exceção lançada no caso da entrada não ser encontrada.
+     * @throws IOException            Exceção lançada no caso de haverem problemas de entrada ou saída.
+     */
+    private void remove(final K key, final Page page) throws EntryNotFoundException, IOException {
+        if (page.leaf) {
+            final int index = search(page, key);
+            if (index < 0) {
+                throw new EntryNotFoundException();
+            }
+            page.delete(index);
+            return;
+        }
+        final int index = childIndex(page, key);
+        final Page child = cache.fetch(page.children[index]);
+        remove(key, child);
+        if (child.count < minimum()) {
+            rebalance(page, index, child);
+        }
+    }
+
+    /**
+     * Método responsável por percorrer por entradas contidas na árvore.
+     * @param entry Refere-se as entradas da árvore detentoras de valores e chaves.
+     * @throws UncheckedIOException Exceção lançada no caso de haverem problemas de entrada.
+     */
+    @Override
+    public void forEach(final Consumer<? super Entry<K, V>> entry) throws UncheckedIOException {
+        final Iterator<Entry<K, V>> iterator = iterator();
+        while (iterator.hasNext()) {
+            entry.accept(iterator.next());
+        }
+    }
+
+    /**
+     * Método responsável por percorrer, seguindo o encadeamento das folhas, as entradas
+     * cujas chaves pertencem a dado intervalo fechado.
+     * @param fromKey Refere-se a menor chave do intervalo.
+     * @param toKey   Refere-se a maior chave do intervalo.
+     * @param entry   Refere-se as entradas da árvore detentoras de valores e chaves.
+     * @throws UncheckedIOException Exceção lançada no caso de haverem problemas de entrada.
+     */
+    public void forEach(final K fromKey, final K toKey, final Consumer<? super Entry<K, V>> entry) throws UncheckedIOException {
+        final LeafIterator iterator = new LeafIterator(fromKey);
+        while (iterator.hasNext() && comparator.compare(iterator.peekKey(), toKey) <= 0) {
+            entry.accept(iterator.next());
+        }
+    }
+
+    /**
+     * Método responsável por retornar estrutura iterável de entradas contidas na árvore.
+     * As folhas são lidas sob demanda, seguindo seu encadeamento.
+     * @return Retorna estrutura iterável de entradas contidas na árvore.
+     */
+    @Override
+    public Iterator<Entry<K, V>> iterator() {
+        return new LeafIterator(first);
+    }
+
+    /**
+     * Método responsável por gravar no arquivo todas as páginas alteradas e o cabeçalho da árvore.
+     * @throws IOException Exceção lançada no caso de haverem problemas de saída.
+     */
+    public void flush() throws IOException {
+        cache.flush();
+        writeHeader();
+        file.getFD().sync();
+    }
+
+    /**
+     * Método responsável por gravar as alterações pendentes e fechar o arquivo de páginas.
+     * @throws IOException Exceção lançada no caso de haverem problemas de saída.
+     */
+    @Override
+    public void close() throws IOException {
+        try {
+            flush();
+        } finally {
+            file.close();
+        }
+    }
+
+    /**
+     * Método responsável por substituir as entradas da árvore pelas entradas de outra árvore.
+     * @param newData Refere-se a árvore detentora das novas entradas.
+     * @throws UncheckedIOException Exceção lançada no caso de haverem problemas de entrada ou saída.
+     */
+    @Override
+    public void set(final PagedBPlusTree<K, V> newData) throws UncheckedIOException {
+        if (newData != this) {
+            clear();
+            newData.forEach(entry -> put(entry.getKey(), entry.getValue()));
+        }
+    }
+
+    /**
+     * Método responsável por carregar as páginas de dado arquivo, substituindo as da árvore.
+     * @param fileName Refere-se ao nome do arquivo.
+     * @throws IOException Exceção lançada no caso de haverem problemas de entrada.
+     */
+    @Override
+    public void loadFromFile(final String fileName) throws IOException {
+        file.close();
+        Files.copy(Paths.get(fileName), Paths.get(this.fileName), StandardCopyOption.REPLACE_EXISTING);
+        open();
+    }
+
+    /**
+     * Método responsável por gravar uma cópia das páginas da árvore em dado arquivo.
+     * @param fileName Refere-se ao nome do arquivo.
+     * @throws IOException Exceção lançada no caso de haverem problemas de saída.
+     */
+    @Override
+    public void saveToFile(final String fileName) throws IOException {
+        flush();
+        Files.copy(Paths.get(this.fileName), Paths.get(fileName), StandardCopyOption.REPLACE_EXISTING);
+    }
+
+    /**
+     * Método responsável por gravar a árvore em fluxo, persistindo antes as alterações pendentes.
+     * Somente a referência ao arquivo de páginas é gravada no fluxo.
+     * @param objectOutputStream Refere-se ao fluxo de gravação da árvore.
+     * @throws IOException Exceção lançada no caso de haverem problemas de saída.
+     */
+    private void writeObject(final ObjectOutputStream objectOutputStream) throws IOException {
+        flush();
+        objectOutputStream.defaultWriteObject();
+    }
+
+    /**
+     * Método responsável por ler a árvore de fluxo, reabrindo seu arquivo de páginas.
+     * @param objectInputStream Refere-se ao fluxo de leitura da árvore.
+     * @throws IOException            Exceção lançada no caso de haverem problemas de entrada.
+     * @throws ClassNotFoundException Exceção lançada no caso de não haver classe no fluxo.
+     */
+    private void readObject(final ObjectInputStream objectInputStream) throws IOException, ClassNotFoundException {
+        objectInputStream.defaultReadObject();
+        open();
+    }
+
+    /**
+     * Método responsável por retornar a quantidade mínima de chaves de um elo não raiz.
+     * @return Retorna a quantidade mínima de chaves de um elo não raiz.
+     */
+    private int minimum() {
+        return (order - 1) / 2;
+    }
+
+    /**
+     * Método responsável por efetuar busca binária de dada chave em uma página.
+     * @param page Refere-se a dita página.
+     * @param key  Refere-se a dita chave.
+     * @return Retorna a posição da chave, ou (-(ponto de inserção) - 1) caso ausente.
+     */
+    @SuppressWarnings("unchecked")
+    private int search(final Page page, final K key) {
+        int low = 0;
+        int high = page.count - 1;
+        while (low <= high) {
+            final int middle = (low + high) >>> 1;
+            final int result = comparator.compare((K) page.keys[middle], key);
+            if (result < 0) {
+                low = middle + 1;
+            } else if (result > 0) {
+                high = middle - 1;
+            } else {
+                return middle;
+            }
+        }
+        return -(low + 1);
+    }
+
+    /**
+     * Método responsável por retornar a posição do filho responsável por dada chave.
+     * @param page Refere-se a página interna.
+     * @param key  Refere-se a dita chave.
+     * @return Retorna a posição do filho responsável pela chave.
+     */
+    private int childIndex(final Page page, final K key) {
+        final int index = search(page, key);
+        return index >= 0 ? index + 1 : -index - 1;
+    }
+
+    /**
+     * Método responsável por retornar a folha responsável por dada chave.
+     * @param key Refere-se a dita chave.
+     * @return Retorna a folha responsável pela chave, ou nulo caso a árvore esteja vazia.
+     * @throws IOException Exceção lançada no caso de haverem problemas de entrada.
+     */
+    private Page findLeaf(final K key) throws IOException {
+        if (root == NONE) {
+            return null;
+        }
+        Page page = cache.fetch(root);
+        while (!page.leaf) {
+            page = cache.fetch(page.children[childIndex(page, key)]);
+        }
+        return page;
+    }
+
+    /**
+     * Método responsável por dividir uma folha cheia, promovendo a primeira chave da nova folha.
+     * @param leaf Refere-se a folha cheia.
+     * @return Retorna a nova folha, posterior a folha dividida.
+     * @throws IOException Exceção lançada no caso de haverem problemas de entrada ou saída.
+     */
+    private Page splitLeaf(final Page leaf) throws IOException {
+        final int middle = order / 2;
+        final Page sibling = allocate(true);
+        sibling.count = leaf.count - middle;
+        System.arraycopy(leaf.keys, middle, sibling.keys, 0, sibling.count);
+        System.arraycopy(leaf.values, middle, sibling.values, 0, sibling.count);
+        leaf.truncate(middle);
+        sibling.next = leaf.next;
+        leaf.next = sibling.id;
+        separator = sibling.keys[0];
+        return sibling;
+    }
+
+    /**
+     * Método responsável por dividir uma página cheia.
+     * @param page Refere-se a página cheia.
+     * @return Retorna a nova página, posterior a página dividida.
+     * @throws IOException Exceção lançada no caso de haverem problemas de entrada ou saída.
+     */
+    private Page split(final Page page) throws IOException {
+        if (page.leaf) {
+            return splitLeaf(page);
+        }
+        final int middle = order / 2;
+        final Page sibling = allocate(false);
+        sibling.count = page.count - middle - 1;
+        System.arraycopy(page.keys, middle + 1, sibling.keys, 0, sibling.count);
+        System.arraycopy(page.children, middle + 1, sibling.children, 0, sibling.count + 1);
+        separator = page.keys[middle];
+        page.truncate(middle);
+        return sibling;
+    }
+
+    /**
+     * Método responsável por corrigir um filho com chaves abaixo do mínimo,
+     * emprestando de uma página irmã ou fundindo-o a ela.
+     * @param parent Refere-se a página pai.
+     * @param index  Refere-se a posição do filho na página pai.
+     * @param page   Refere-se ao dito filho.
+     * @throws IOException Exceção lançada no caso de haverem problemas de entrada ou saída.
+     */
+    private void rebalance(final Page parent, final int index, final Page page) throws IOException {
+        final Page left = index > 0 ? cache.fetch(parent.children[index - 1]) : null;
+        if (left != null && left.count > minimum()) {
+            borrowFromLeft(parent, index, page, left);
+            return;
+        }
+        final Page right = index < parent.count ? cache.fetch(parent.children[index + 1]) : null;
+        if (right != null && right.count > minimum()) {
+            borrowFromRight(parent, index, page, right);
+        } else if (left != null) {
+            merge(parent, index - 1, left, page);
+        } else {
+            merge(parent, index, page, right);
+        }
+    }
+
+    /**
+     * Método responsável por transferir a última entrada da página irmã a esquerda para dado filho.
+     * @param parent  Refere-se a página pai.
+     * @param index   Refere-se a posição do filho na página pai.
+     * @param page    Refere-se ao dito filho.
+     * @param sibling Refere-se a página irmã a esquerda.
+     */
+    private void borrowFromLeft(final Page parent, final int index, final Page page, final Page sibling) {
+        if (page.leaf) {
+            final int last = sibling.count - 1;
+            page.insert(0, sibling.keys[last], sibling.values[last]);
+            sibling.truncate(last);
+            parent.keys[index - 1] = page.keys[0];
+        } else {
+            System.arraycopy(page.keys, 0, page.keys, 1, page.count);
+            System.arraycopy(page.children, 0, page.children, 1, page.count + 1);
+            page.keys[0] = parent.keys[index - 1];
+            page.children[0] = sibling.children[sibling.count];
+            page.count++;
+            page.dirty = true;
+            parent.keys[index - 1] = sibling.keys[sibling.count - 1];
+            sibling.truncate(sibling.count - 1);
+        }
+        parent.dirty = true;
+    }
+
+    /**
+     * Método responsável por transferir a primeira entrada da página irmã a direita para dado filho.
+     * @param parent  Refere-se a página pai.
+     * @param index   Refere-se a posição do filho na página pai.
+     * @param page    Refere-se ao dito filho.
+     * @param sibling Refere-se a página irmã a direita.
+     */
+    private void borrowFromRight(final Page parent, final int index, final Page page, final Page sibling) {
+        if (page.leaf) {
+            page.insert(page.count, sibling.keys[0], sibling.values[0]);
+            sibling.delete(0);
+            parent.keys[index] = sibling.keys[0];
+        } else {
+            page.keys[page.count] = parent.keys[index];
+            page.children[page.count + 1] = sibling.children[0];
+            page.count++;
+            page.dirty = true;
+            parent.keys[index] = sibling.keys[0];
+            System.arraycopy(sibling.keys, 1, sibling.keys, 0, sibling.count - 1);
+            System.arraycopy(sibling.children, 1, sibling.children, 0, sibling.count);
+            sibling.truncate(sibling.count - 1);
+        }
+        parent.dirty = true;
+    }
+
+    /**
+     * Método responsável por fundir duas páginas adjacentes, removendo a chave que as separa
+     * e liberando a página a direita.
+     * @param parent Refere-se a página pai.
+     * @param index  Refere-se a posição da página a esquerda na página pai.
+     * @param left   Refere-se a página a esquerda.
+     * @param right  Refere-se a página a direita.
+     * @throws IOException Exceção lançada no caso de haverem problemas de saída.
+     */
+    private void merge(final Page parent, final int index, final Page left, final Page right) throws IOException {
+        if (left.leaf) {
+            System.arraycopy(right.keys, 0, left.keys, left.count, right.count);
+            System.arraycopy(right.values, 0, left.values, left.count, right.count);
+            left.count += right.count;
+            left.next = right.next;
+        } else {
+            left.keys[left.count] = parent.keys[index];
+            System.arraycopy(right.keys, 0, left.keys, left.count + 1, right.count);
+            System.arraycopy(right.children, 0, left.children, left.count + 1, right.count + 1);
+            left.count += right.count + 1;
+        }
+        left.dirty = true;
+        parent.delete(index);
+        free(right);
+    }
+
+    /**
+     * Método responsável por criar uma nova página, reservando seu primeiro bloco no arquivo.
+     * @param leaf Refere-se ao indicativo de que a página é uma folha.
+     * @return Retorna a nova página, já presente no cache.
+     * @throws IOException Exceção lançada no caso de haverem problemas de entrada ou saída.
+     */
+    private Page allocate(final boolean leaf) throws IOException {
+        final Page page = new Page(allocateBlock(), leaf, order);
+        page.blocks = new long[] { page.id };
+        page.dirty = true;
+        cache.admit(page);
+        return page;
+    }
+
+    /**
+     * Método responsável por liberar uma página, devolvendo seus blocos a lista de blocos livres.
+     * @param page Refere-se a dita página.
+     * @throws IOException Exceção lançada no caso de haverem problemas de saída.
+     */
+    private void free(final Page page) throws IOException {
+        cache.discard(page);
+        for (final long block : page.blocks) {
+            freeBlock(block);
+        }
+    }
+
+    /**
+     * Método responsável por reservar um bloco, reaproveitando blocos livres quando houver.
+     * @return Retorna o bloco reservado.
+     * @throws IOException Exceção lançada no caso de haverem problemas de entrada.
+     */
+    private long allocateBlock() throws IOException {
+        if (freeBlock == NONE) {
+            return blockCount++;
+        }
+        final long block = freeBlock;
+        file.seek(block * PAGE_SIZE);
+        freeBlock = file.readLong();
+        return block;
+    }
+
+    /**
+     * Método responsável por devolver um bloco a lista de blocos livres.
+     * @param block Refere-se ao dito bloco.
+     * @throws IOException Exceção lançada no caso de haverem problemas de saída.
+     */
+    private void freeBlock(final long block) throws IOException {
+        file.seek(block * PAGE_SIZE);
+        file.writeLong(freeBlock);
+        freeBlock = block;
+    }
+
+    /**
+     * Método responsável por ler uma página do arquivo, seguindo o encadeamento de seus blocos.
+     * @param id Refere-se ao identificador da página.
+     * @return Retorna a página lida.
+     * @throws IOException Exceção lançada no caso de haverem problemas de entrada.
+     */
+    private Page readPage(final long id) throws IOException {
+        final ByteArrayOutputStream data = new ByteArrayOutputStream(PAGE_SIZE);
+        final byte[] buffer = new byte[BLOCK_PAYLOAD];
+        final List<Long> blocks = new ArrayList<>(1);
+        for (long block = id; block != NONE;) {
+            blocks.add(block);
+            file.seek(block * PAGE_SIZE);
+            block = file.readLong();
+            final int length = file.readInt();
+            file.readFully(buffer, 0, length);
+            data.write(buffer, 0, length);
+        }
+        final Page page = decode(id, data.toByteArray());
+        page.blocks = new long[blocks.size()];
+        for (int i = 0; i < page.blocks.length; i++) {
+            page.blocks[i] = blocks.get(i);
+        }
+        return page;
+    }
+
+    /**
+     * Método responsável por gravar uma página no arquivo, ajustando a quantidade de blocos que ocupa.
+     * @param page Refere-se a dita página.
+     * @throws IOException Exceção lançada no caso de haverem problemas de saída.
+     */
+    private void writePage(final Page page) throws IOException {
+        final byte[] data = encode(page);
+        final int needed = Math.max(1, (data.length + BLOCK_PAYLOAD - 1) / BLOCK_PAYLOAD);
+        final long[] blocks = Arrays.copyOf(page.blocks, needed);
+        for (int i = page.blocks.length; i < needed; i++) {
+            blocks[i] = allocateBlock();
+        }
+        for (int i = needed; i < page.blocks.length; i++) {
+            freeBlock(page.blocks[i]);
+        }
+        page.blocks = blocks;
+        for (int i = 0; i < needed; i++) {
+            final int offset = i * BLOCK_PAYLOAD;
+            final int length = Math.min(BLOCK_PAYLOAD, data.length - offset);
+            file.seek(blocks[i] * PAGE_SIZE);
+            file.writeLong(i + 1 < needed ? blocks[i + 1] : NONE);
+            file.writeInt(length);
+            file.write(data, offset, length);
+        }
+        page.dirty = false;
+    }
+
+    /**
+     * Método responsável por converter uma página em bytes.
+     * @param page Refere-se a dita página.
+     * @return Retorna a página em bytes.
+     * @throws IOException Exceção lançada no caso de haverem entradas não serializáveis.
+     */
+    private static byte[] encode(final Page page) throws IOException {
+        final ByteArrayOutputStream data = new ByteArrayOutputStream(PAGE_SIZE);
+        try (final ObjectOutputStream output = new ObjectOutputStream(data)) {
+            output.writeBoolean(page.leaf);
+            output.writeInt(page.count);
+            if (page.leaf) {
+                output.writeLong(page.next);
+                for (int i = 0; i < page.count; i++) {
+                    output.writeObject(page.keys[i]);
+                    output.writeObject(page.values[i]);
+                }
+            } else {
+                for (int i = 0; i < page.count; i++) {
+                    output.writeObject(page.keys[i]);
+                }
+                for (int i = 0; i <= page.count; i++) {
+                    output.writeLong(page.children[i]);
+                }
+            }
+        }
+        return data.toByteArray();
+    }
+
+    /**
+     * Método responsável por converter bytes em página.
+     * @param id   Refere-se ao identificador da página.
+     * @param data Refere-se aos bytes da página.
+     * @return Retorna a página convertida.
+     * @throws IOException Exceção lançada no caso dos bytes não corresponderem a uma página.
+     */
+    private Page decode(final long id, final byte[] data) throws IOException {
+        try (final ObjectInputStream input = new ObjectInputStream(new ByteArrayInputStream(data))) {
+            final Page page = new Page(id, input.readBoolean(), order);
+            page.count = input.readInt();
+            if (page.leaf) {
+                page.next = input.readLong();
+                for (int i = 0; i < page.count; i++) {
+                    page.keys[i] = input.readObject();
+                    page.values[i] = input.readObject();
+                }
+            } else {
+                for (int i = 0; i < page.count; i++) {
+                    page.keys[i] = input.readObject();
+                }
+                for (int i = 0; i <= page.count; i++) {
+                    page.children[i] = input.readLong();
+                }
+            }
+            return page;
+        } catch (final ClassNotFoundException ex) {
+            throw new IOException(ex);
+        }
+    }
+
+    /**
+     * Classe responsável por comportar-se como página da árvore, seja ela folha ou página interna.
+     * @author Everton Bruno Silva dos Santos.
+     * @version 1.0
+     * @since 1.0
+     */
+    private static final class Page {
+        /**
+         * Refere-se ao identificador da página, isto é, seu primeiro bloco no arquivo.
+         */
+        private final long id;
+        /**
+         * Refere-se ao indicativo de que a página é uma folha.
+         */
+        private final boolean leaf;
+        /**
+         * Refere-se as chaves contidas na página.
+         */
+        private final Object[] keys;
+        /**
+         * Refere-se aos valores contidos na folha.
+         */
+        private final Object[] values;
+        /**
+         * Refere-se aos filhos contidos na página interna.
+         */
+        private final long[] children;
+        /**
+         * Refere-se a quantidade de chaves contidas na página.
+         */
+        private int count;
+        /**
+         * Refere-se a folha seguinte no encadeamento.
+         */
+        private long next;
+        /**
+         * Refere-se aos blocos ocupados pela página no arquivo.
+         */
+        private long[] blocks;
+        /**
+         * Refere-se ao indicativo de que a página foi alterada desde sua última gravação.
+         */
+        private boolean dirty;
+
+        /**
+         * Construtor responsável pelo instanciamento da página.
+         * @param id    Refere-se ao identificador da página.
+         * @param leaf  Refere-se ao indicativo de que a página é uma folha.
+         * @param order Refere-se a ordem da árvore.
+         */
+        private Page(final long id, final boolean leaf, final int order) {
+            this.id = id;
+            this.leaf = leaf;
+            this.keys = new Object[order];
+            this.values = leaf ? new Object[order] : null;
+            this.children = leaf ? null : new long[order + 1];
+            this.next = NONE;
+        }
+
+        /**
+         * Método responsável por inserir, em dada posição, uma entrada na folha.
+         * @param index Refere-se a dita posição.
+         * @param key   Refere-se a chave da entrada.
+         * @param value Refere-se ao valor da entrada.
+         */
+        private void insert(final int index, final Object key, final Object value) {
+            System.arraycopy(keys, index, keys, index + 1, count - index);
+            System.arraycopy(values, index, values, index + 1, count - index);
+            keys[index] = key;
+            values[index] = value;
+            count++;
+            dirty = true;
+        }
+
+        /**
+         * Método responsável por inserir, em dada posição, uma chave e o filho a sua direita na página interna.
+         * @param index Refere-se a dita posição.
+         * @param key   Refere-se a chave inserida.
+         * @param child Refere-se ao filho a direita da chave.
+         */
+        private void insert(final int index, final Object key, final long child) {
+            System.arraycopy(keys, index, keys, index + 1, count - index);
+            System.arraycopy(children, index + 1, children, index + 2, count - index);
+            keys[index] = key;
+            children[index + 1] = child;
+            count++;
+            dirty = true;
+        }
+
+        /**
+         * Método responsável por remover a chave de dada posição, junto de seu valor na folha
+         * ou do filho a sua direita na página interna.
+         * @param index Refere-se a dita posição.
+         */
+        private void delete(final int index) {
+            System.arraycopy(keys, index + 1, keys, index, count - index - 1);
+            if (leaf) {
+                System.arraycopy(values, index + 1, values, index, count - index - 1);
+            } else {
+                System.arraycopy(children, index + 2, children, index + 1, count - index - 1);
+            }
+            truncate(count - 1);
+        }
+
+        /**
+         * Método responsável por descartar as chaves a partir de dada quantidade.
+         * @param newCount Refere-se a nova quantidade de chaves.
+         */
+        private void truncate(final int newCount) {
+            for (int i = newCount; i < count; i++) {
+                keys[i] = null;
+                if (leaf) {
+                    values[i] = null;
+                }
+            }
+            count = newCount;
+            dirty = true;
+        }
+
+    }
+
+    /**
+     * Classe responsável por comportar-se como cache de páginas da árvore, mantendo em memória
+     * uma quantidade limitada de páginas e despejando as demais conforme sua política.
+     * As páginas usadas por uma operação em andamento ficam fixadas e não são despejadas;
+     * caso todas estejam fixadas, o cache excede temporariamente sua capacidade.
+     * @author Everton Bruno Silva dos Santos.
+     * @version 1.0
+     * @since 1.0
+     */
+    public final class PageCache {
+        /**
+         * Refere-se a capacidade do cache, em páginas.
+         */
+        private final int capacity;
+        /**
+         * Refere-se a política de despejo do cache.
+         */
+        private final Eviction eviction;
+        /**
+         * Refere-se aos quadros residentes, indexados pelo identificador de suas páginas;
+         * na política LRU, são ordenados do menos ao mais recentemente usado.
+         */
+        private final Map<Long, Frame> frames;
+        /**
+         * Refere-se ao anel de quadros percorrido pelo ponteiro do relógio na política CLOCK.
+         */
+        private final List<Frame> ring;
+        /**
+         * Refere-se aos quadros fixados pela operação em andamento.
+         */
+        private final List<Frame> pinned;
+        /**
+         * Refere-se a posição do ponteiro do relógio.
+         */
+        private int hand;
+        /**
+         * Refere-se a quantidade de acessos atendidos pelo cache.
+         */
+        private long hits;
+        /**
+         * Refere-se a quantidade de acessos que exigiram leitura do arquivo.
+         */
+        private long misses;
+        /**
+         * Refere-se a quantidade de páginas despejadas.
+         */
+        private long evictions;
+        /**
+         * Refere-se a quantidade de páginas gravadas no arquivo.
+         */
+        private long writes;
+
+        /**
+         * Construtor responsável pelo instanciamento do cache.
+         * @param capacity Refere-se a capacidade do cache, em páginas.
+         * @param eviction Refere-se a política de despejo do cache.
+         */
+        private PageCache(final int capacity, final Eviction eviction) {
+            this.capacity = capacity;
+            this.eviction = eviction;
+            this.frames = eviction == Eviction.LRU ? new LinkedHashMap<>(16, 0.75f, true) : new HashMap<>();
+            this.ring = new ArrayList<>();
+            this.pinned = new ArrayList<>();
+            this.hand = 0;
+        }
+
+        /**
+         * Método responsável por retornar a capacidade do cache, em páginas.
+         * @return Retorna a capacidade do cache.
+         */
+        public int getCapacity() {
+            return capacity;
+        }
+
+        /**
+         * Método responsável por retornar a política de despejo do cache.
+         * @return Retorna a política de despejo do cache.
+         */
+        public Eviction getEviction() {
+            return eviction;
+        }
+
+        /**
+         * Método responsável por retornar a quantidade de páginas residentes em memória.
+         * @return Retorna a quantidade de páginas residentes.
+         */
+        public int getResident() {
+            return frames.size();
+        }
+
+        /**
+         * Método responsável por retornar a quantidade de acessos atendidos pelo cache.
+         * @return Retorna a quantidade de acertos.
+         */
+        public long getHits() {
+            return hits;
+        }
+
+        /**
+         * Método responsável por retornar a quantidade de acessos que exigiram leitura do arquivo.
+         * @return Retorna a quantidade de faltas.
+         */
+        public long getMisses() {
+            return misses;
+        }
+
+        /**
+         * Método responsável por retornar a quantidade de páginas despejadas.
+         * @return Retorna a quantidade de despejos.
+         */
+        public long getEvictions() {
+            return evictions;
+        }
+
+        /**
+         * Método responsável por retornar a quantidade de páginas gravadas no arquivo.
+         * @return Retorna a quantidade de gravações.
+         */
+        public long getWrites() {
+            return writes;
+        }
+
+        /**
+         * Método responsável por retornar a taxa de acertos do cache.
+         * @return Retorna a taxa de acertos, entre zero e um.
+         */
+        public double getHitRate() {
+            final long accesses = hits + misses;
+            return accesses == 0 ? 0 : (double) hits / accesses;
+        }
+
+        /**
+         * Método responsável por zerar as estatísticas do cache.
+         */
+        public void resetStatistics() {
+            hits = misses = evictions = writes = 0;
+        }
+
+        /**
+         * Método responsável por retornar uma página, lendo-a do arquivo caso não esteja residente,
+         * e fixá-la até o fim da operação em andamento.
+         * @param id Refere-se ao identificador da página.
+         * @return Retorna a dita página.
+         * @throws IOException Exceção lançada no caso de haverem problemas de entrada ou saída.
+         */
+        private Page fetch(final long id) throws IOException {
+            Frame frame = frames.get(id);
+            if (frame != null) {
+                hits++;
+                frame.referenced = true;
+                pin(frame);
+                return frame.page;
+            }
+            misses++;
+            return admit(readPage(id));
+        }
+
+        /**
+         * Método responsável por tornar residente e fixar uma página, despejando outra caso o cache esteja cheio.
+         * @param page Refere-se a dita página.
+         * @return Retorna a dita página.
+         * @throws IOException Exceção lançada no caso de haverem problemas de saída.
+         */
+        private Page admit(final Page page) throws IOException {
+            while (frames.size() >= capacity && evict()) {
+                evictions++;
+            }
+            final Frame frame = new Frame(page);
+            if (eviction == Eviction.CLOCK) {
+                if (ring.size() > frames.size()) {
+                    final int slot = ring.get(hand) == null ? hand : ring.indexOf(null);
+                    ring.set(slot, frame);
+                    hand = (slot + 1) % ring.size();
+                } else {
+                    ring.add(frame);
+                }
+            }
+            frames.put(page.id, frame);
+            pin(frame);
+            return page;
+        }
+
+        /**
+         * Método responsável por despejar uma página não fixada, gravando-a caso alterada.
+         * @return Retorna indicativo de que alguma página foi despejada.
+         * @throws IOException Exceção lançada no caso de haverem problemas de saída.
+         */
+        private boolean evict() throws IOException {
+            if (eviction == Eviction.LRU) {
+                final Iterator<Frame> iterator = frames.values().iterator();
+                while (iterator.hasNext()) {
+                    final Frame frame = iterator.next();
+                    if (!frame.pinned) {
+                        writeBack(frame);
+                        iterator.remove();
+                        return true;
+                    }
+                }
+                return false;
+            }
+            for (int step = 0; step < 2 * ring.size(); step++) {
+                final Frame frame = ring.get(hand);
+                if (frame != null && !frame.pinned) {
+                    if (frame.referenced) {
+                        frame.referenced = false;
+                    } else {
+                        writeBack(frame);
+                        frames.remove(frame.page.id);
+                        ring.set(hand, null);
+                        return true;
+                    }
+                }
+                hand = (hand + 1) % ring.size();
+            }
+            return false;
+        }
+
+        /**
+         * Método responsável por fixar um quadro até o fim da operação em andamento.
+         * @param frame Refere-se ao dito quadro.
+         */
+        private void pin(final Frame frame) {
+            if (!frame.pinned) {
+                frame.pinned = true;
+                pinned.add(frame);
+            }
+        }
+
+        /**
+         * Método responsável por liberar todos os quadros fixados pela operação encerrada.
+         */
+        private void unpinAll() {
+            for (final Frame frame : pinned) {
+                frame.pinned = false;
+            }
+            pinned.clear();
+        }
+
+        /**
+         * Método responsável por remover uma página liberada do cache, sem gravá-la.
+         * @param page Refere-se a dita página.
+         */
+        private void discard(final Page page) {
+            final Frame frame = frames.remove(page.id);
+            if (frame != null && eviction == Eviction.CLOCK) {
+                ring.set(ring.indexOf(frame), null);
+            }
+        }
+
+        /**
+         * Método responsável por gravar um quadro no arquivo caso sua página tenha sido alterada.
+         * @param frame Refere-se ao dito quadro.
+         * @throws IOException Exceção lançada no caso de haverem problemas de saída.
+         */
+        private void writeBack(final Frame frame) throws IOException {
+            if (frame.page.dirty) {
+                writePage(frame.page);
+                writes++;
+            }
+        }
+
+        /**
+         * Método responsável por gravar no arquivo todas as páginas residentes alteradas.
+         * @throws IOException Exceção lançada no caso de haverem problemas de saída.
+         */
+        private void flush() throws IOException {
+            for (final Frame frame : new ArrayList<>(frames.values())) {
+                writeBack(frame);
+            }
+        }
+
+        /**
+         * Método responsável por descartar todas as páginas residentes, sem gravá-las.
+         */
+        private void clear() {
+            frames.clear();
+            ring.clear();
+            pinned.clear();
+            hand = 0;
+        }
+
+    }
+
+    /**
+     * Classe responsável por comportar-se como quadro do cache, detentor de uma página residente.
+     * @author Everton Bruno Silva dos Santos.
+     * @version 1.0
+     * @since 1.0
+     */
+    private static final class Frame {
+        /**
+         * Refere-se a página residente no quadro.
+         */
+        private final Page page;
+        /**
+         * Refere-se ao indicativo de que a página foi referenciada desde a última passagem do relógio.
+         */
+        private boolean referenced;
+        /**
+         * Refere-se ao indicativo de que a página está em uso pela operação em andamento.
+         */
+        private boolean pinned;
+
+        /**
+         * Construtor responsável pelo instanciamento do quadro.
+         * @param page Refere-se a página residente no quadro.
+         */
+        private Frame(final Page page) {
+            this.page = page;
+            this.referenced = true;
+            this.pinned = false;
+        }
+
+    }
+
+    /**
+     * Classe responsável por comportar-se como iterador preguiçoso das entradas da árvore,
+     * copiando uma folha por vez para que o cache possa despejá-la durante o percurso.
+     * @author Everton Bruno Silva dos Santos.
+     * @version 1.0
+     * @since 1.0
+     */
+    private final class LeafIterator implements Iterator<Entry<K, V>> {
+        /**
+         * Refere-se as chaves da folha atual.
+         */
+        private Object[] keys;
+        /**
+         * Refere-se aos valores da folha atual.
+         */
+        private Object[] values;
+        /**
+         * Refere-se a posição atual na folha.
+         */
+        private int index;
+        /**
+         * Refere-se a folha seguinte no encadeamento.
+         */
+        private long next;
+
+        /**
+         * Construtor responsável pelo instanciamento do iterador a partir de dada folha.
+         * @param leaf Refere-se ao identificador da folha inicial.
+         * @throws UncheckedIOException Exceção lançada no caso de haverem problemas de entrada.
+         */
+        private LeafIterator(final long leaf) throws UncheckedIOException {
+            this.keys = this.values = new Object[0];
+            this.next = leaf;
+            load();
+        }
+
+        /**
+         * Construtor responsável pelo instanciamento do iterador a partir da menor chave maior ou igual a dada chave.
+         * @param fromKey Refere-se a dita chave.
+         * @throws UncheckedIOException Exceção lançada no caso de haverem problemas de entrada.
+         */
+        private LeafIterator(final K fromKey) throws UncheckedIOException {
+            this.keys = this.values = new Object[0];
+            try {
+                final Page leaf = findLeaf(fromKey);
+                if (leaf == null) {
+                    this.next = NONE;
+                    return;
+                }
+                this.next = leaf.id;
+                final int position = search(leaf, fromKey);
+                load();
+                this.index = position >= 0 ? position : -position - 1;
+                if (index == keys.length) {
+                    load();
+                }
+            } catch (final IOException ex) {
+                throw new UncheckedIOException(ex);
+            } finally {
+                cache.unpinAll();
+            }
+        }
+
+        /**
+         * Método responsável por copiar a próxima folha do encadeamento.
+         * @throws UncheckedIOException Exceção lançada no caso de haverem problemas de entrada.
+         */
+        private void load() throws UncheckedIOException {
+            index = 0;
+            if (next == NONE) {
+                keys = values = new Object[0];
+                return;
+            }
+            try {
+                final Page leaf = cache.fetch(next);
+                keys = Arrays.copyOf(leaf.keys, leaf.count);
+                values = Arrays.copyOf(leaf.values, leaf.count);
+                next = leaf.next;
+            } catch (final IOException ex) {
+                throw new UncheckedIOException(ex);
+            } finally {
+                cache.unpinAll();
+            }
+        }
+
+        /**
+         * Método responsável por retornar a chave do próximo elemento, sem consumi-lo.
+         * @return Retorna a chave do próximo elemento.
+         */
+        @SuppressWarnings("unchecked")
+        private K peekKey() {
+            return (K) keys[index];
+        }
+
+        /**
+         * Método responsável por indicar se há um próximo elemento.
+         * @return Retorna indicativo de que há um próximo elemento.
+         */
+        @Override
+        public boolean hasNext() {
+            return index < keys.length;
+        }
+
+        /**
+         * Método responsável por retornar um próximo elemento.
+         * @return Retorna um próximo elemento.
+         * @throws NoSuchElementException Exceção lançada no caso de não haver próximo elemento.
+         * @throws UncheckedIOException   Exceção lançada no caso de haverem problemas de entrada.
+         */
+        @Override
+        @SuppressWarnings("unchecked")
+        public Entry<K, V> next() throws NoSuchElementException, UncheckedIOException {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            final Entry<K, V> entry = new PageEntry((K) keys[index], (V) values[index]);
+            if (++index == keys.length) {
+                load();
+            }
+            return entry;
+        }
+
+    }
+
+    /**
+     * Classe responsável por comportar-se como cópia de uma entrada da árvore,
+     * cuja alteração de valor é repassada a árvore.
+     * @author Everton Bruno Silva dos Santos.
+     * @version 1.0
+     * @since 1.0
+     */
+    private final class PageEntry extends SimpleEntry<K, V> {
+        /**
+         * Refere-se ao número de série da entrada.
+         */
+        private transient static final long serialVersionUID = -6385946958686493032L;
+
+        /**
+         * Construtor responsável pelo instanciamento da entrada.
+         * @param key   Refere-se a chave da entrada.
+         * @param value Refere-se ao valor da entrada.
+         */
+        private PageEntry(final K key, final V value) {
+            super(key, value);
+        }
+
+        /**
+         * Método responsável por alterar valor contido na entrada e na árvore.
+         * @param value Refere-se ao novo valor contido na entrada.
+         * @return Retorna antigo valor contido na entrada.
+         * @throws EntryNotFoundException Exceção lançada no caso da entrada ter sido removida da árvore.
+         * @throws UncheckedIOException   Exceção lançada no caso de haverem problemas de entrada.
+         */
+        @Override
+        public V setValue(final V value) throws EntryNotFoundException, UncheckedIOException {
+            PagedBPlusTree.this.setValue(getKey(), value);
+            return super.setValue(value);
+        }
+
+    }
+
+}
@@ -0,0 +1,619 @@
+/*
+ * This file is part of the SDSUtilityLib Open Source Project.
+ * SDSUtilityLib is licensed under the GNU GPLv3.
+ *
+ * Copyright © 2020. Everton Bruno Silva dos Santos <evertonbrunogithub@yahoo.com>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package evertonbrunosds.SDSUtilityLib.v1.util;
+
+import evertonbrunosds.SDSUtilityLib.v1.api.Factory;
+import evertonbrunosds.SDSUtilityLib.v1.api.Modifier;
+import evertonbrunosds.SDSUtilityLib.v1.api.Receiver;
+import evertonbrunosds.SDSUtilityLib.v1.api.Sender;
+import evertonbrunosds.SDSUtilityLib.v1.api.Worker;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Classe responsável por construir fluxos assíncronos de dados, cujos estágios são ligados por filas limitadas
+ * e livres de travas. A origem é um remetente, cujo envio nulo encerra o fluxo; cada estágio intermediário é um
+ * modificador executado por determinada quantidade de threads, cujo retorno nulo descarta o dado; e o destino é um
+ * receptor, também executado por determinada quantidade de threads. Cada thread retira os dados de sua fila em lotes,
+ * e quem insere numa fila cheia aguarda, de modo que um receptor lento detém a origem em vez de acumular dados em memória.
+ * Modificadores e receptores executados por mais de uma thread devem suportar chamadas concorrentes.
+ * @author Everton Bruno Silva dos Santos.
+ * @param <T> Refere-se ao tipo de dados ao fim do fluxo construído.
+ * @version 1.0
+ * @since 1.0
+ */
+public class Pipeline<T> {
+    /**
+     * Refere-se a capacidade padrão das filas entre os estágios.
+     */
+    private static final int DEFAULT_CAPACITY = 1024;
+    /**
+     * Refere-se a quantidade padrão de dados retirados de uma fila de uma só vez.
+     */
+    private static final int DEFAULT_BATCH_SIZE = 64;
+    /**
+     * Refere-se a quantidade de esperas ativas antes de ceder a thread.
+     */
+    private static final int SPINS = 64;
+    /**
+     * Refere-se a quantidade de cessões da thread antes de estacioná-la.
+     */
+    private static final int YIELDS = 128;
+    /**
+     * Refere-se ao tempo de estacionamento de uma thread que aguarda sua fila.
+     */
+    private static final long PARK_NANOS = TimeUnit.MICROSECONDS.toNanos(50);
+    /**
+     * Refere-se a origem do fluxo.
+     */
+    private final Sender<?> source;
+    /**
+     * Refere-se aos estágios intermediários do fluxo.
+     */
+    private final List<Stage> stages;
+    /**
+     * Refere-se a capacidade da fila de saída do último estágio.
+     */
+    private final int capacity;
+    /**
+     * Refere-se a quantidade de dados retirados de uma só vez da fila de saída do último estágio.
+     */
+    private final int batchSize;
+
+    /**
+     * Construtor responsável pelo instanciamento do fluxo.
+     * @param source    Refere-se a origem do fluxo.
+     * @param stages    Refere-se aos estágios intermediários do fluxo.
+     * @param capacity  Refere-se a capacidade da fila de saída do último estágio.
+     * @param batchSize Refere-se a quantidade de dados retirados de uma só vez da dita fila.
+     */
+    private Pipeline(final Sender<?> source, final List<Stage> stages, final int capacity, final int batchSize) {
+        this.source = source;
+        this.stages = stages;
+        this.capacity = capacity;
+        this.batchSize = batchSize;
+    }
+
+    /**
+     * Método responsável por iniciar a construção de um fluxo a partir de sua origem.
+     * @param <T>    Refere-se ao tipo de dados enviado pela origem.
+     * @param source Refere-se a origem do fluxo, cujo envio nulo o encerra.
+     * @return Retorna o fluxo contendo apenas a origem.
+     * @throws NullPointerException Exceção lançada caso a origem seja nula.
+     */
+    public static <T> Pipeline<T> from(final Sender<T> source) throws NullPointerException {
+        if (source == null) {
+            throw new NullPointerException();
+        }
+        return new Pipeline<>(source, Collections.<Stage>emptyList(), DEFAULT_CAPACITY, DEFAULT_BATCH_SIZE);
+    }
+
+    /**
+     * Método responsável por alterar a fila de saída do último estágio do fluxo.
+     * @param capacity  Refere-se a capacidade da fila, arredondada para a próxima potência de dois.
+     * @param batchSize Refere-se a quantidade de dados retirados de uma só vez da fila.
+     * @return Retorna o fluxo com a fila alterada.
+     * @throws IllegalArgumentException Exceção lançada caso a capacidade ou o tamanho do lote não sejam positivos.
+     */
+    public Pipeline<T> buffer(final int capacity, final int batchSize) throws IllegalArgumentException {
+        if (capacity <= 0 || capacity > 1 << 30 || batchSize <= 0) {
+            throw new IllegalArgumentException();
+        }
+        return new Pipeline<>(source, stages, capacity, batchSize);
+    }
+
+    /**
+     * Método responsável por acrescentar um estágio intermediário ao fluxo.
+     * @param <R>         Refere-se ao tipo de dados retornado pelo modificador.
+     * @param modifier    Refere-se ao modificador do estágio, cujo retorno nulo descarta o dado.
+     * @param parallelism Refere-se a quantidade de threads do estágio.
+     * @return Retorna o fluxo acrescido do estágio.
+     * @throws NullPointerException     Exceção lançada caso o modificador seja nulo.
+     * @throws IllegalArgumentException Exceção lançada caso a quantidade de threads não seja positiva.
+     */
+    @SuppressWarnings("unchecked")
+    public <R> Pipeline<R> map(final Modifier<T, R> modifier, final int parallelism) throws NullPointerException, IllegalArgumentException {
+        if (modifier == null) {
+            throw new NullPointerException();
+        }
+        if (parallelism <= 0) {
+            throw new IllegalArgumentException();
+        }
+        final List<Stage> newStages = new ArrayList<>(stages);
+        newStages.add(new Stage((Modifier<Object, Object>) modifier, parallelism, capacity, batchSize));
+        return new Pipeline<>(source, Collections.unmodifiableList(newStages), DEFAULT_CAPACITY, DEFAULT_BATCH_SIZE);
+    }
+
+    /**
+     * Método responsável por concluir o fluxo com seu destino e iniciar sua execução.
+     * @param receiver    Refere-se ao receptor de destino do fluxo.
+     * @param parallelism Refere-se a quantidade de threads do destino.
+     * @return Retorna a execução do fluxo.
+     * @throws NullPointerException     Exceção lançada caso o receptor seja nulo.
+     * @throws IllegalArgumentException Exceção lançada caso a quantidade de threads não seja positiva.
+     */
+    @SuppressWarnings("unchecked")
+    public Execution to(final Receiver<T> receiver, final int parallelism) throws NullPointerException, IllegalArgumentException {
+        if (receiver == null) {
+            throw new NullPointerException();
+        }
+        if (parallelism <= 0) {
+            throw new IllegalArgumentException();
+        }
+        final List<Stage> allStages = new ArrayList<>(stages);
+        final Receiver<Object> sink = (Receiver<Object>) receiver;
+        allStages.add(new Stage(data -> {
+            sink.receive(data);
+            return null;
+        }, parallelism, capacity, batchSize));
+        final Execution execution = new Execution(allStages);
+        execution.start(source);
+        return execution;
+    }
+
+    /**
+     * Método responsável por aguardar a disponibilidade de uma fila, esperando ativamente, cedendo a thread
+     * ou estacionando-a, conforme a quantidade de tentativas.
+     * @param attempt Refere-se a quantidade de tentativas já efetuadas.
+     */
+    private static void idle(final int attempt) {
+        if (attempt < SPINS) {
+            return;
+        }
+        if (attempt < YIELDS) {
+            java.lang.Thread.yield();
+        } else {
+            LockSupport.parkNanos(PARK_NANOS);
+        }
+    }
+
+    /**
+     * Classe responsável por comportar-se como definição de um estágio do fluxo.
+     * @author Everton Bruno Silva dos Santos.
+     * @version 1.0
+     * @since 1.0
+     */
+    private static final class Stage {
+        /**
+         * Refere-se ao modificador do estágio.
+         */
+        private final Modifier<Object, Object> modifier;
+        /**
+         * Refere-se a quantidade de threads do estágio.
+         */
+        private final int parallelism;
+        /**
+         * Refere-se a capacidade da fila de entrada do estágio.
+         */
+        private final int capacity;
+        /**
+         * Refere-se a quantidade de dados retirados de uma só vez da fila de entrada do estágio.
+         */
+        private final int batchSize;
+
+        /**
+         * Construtor responsável pelo instanciamento da definição do estágio.
+         * @param modifier    Refere-se ao modificador do estágio.
+         * @param parallelism Refere-se a quantidade de threads do estágio.
+         * @param capacity    Refere-se a capacidade da fila de entrada do estágio.
+         * @param batchSize   Refere-se a quantidade de dados retirados de uma só vez da dita fila.
+         */
+        private Stage(final Modifier<Object, Object> modifier, final int parallelism, final int capacity, final int batchSize) {
+            this.modifier = modifier;
+            this.parallelism = parallelism;
+            this.capacity = capacity;
+            this.batchSize = batchSize;
+        }
+    }
+
+    /**
+     * Classe responsável por comportar-se como execução de um fluxo, permitindo aguardar seu término,
+     * cancelá-lo e consultar os contadores de cada estágio. O estágio zero é a origem, e o último é o destino.
+     * @author Everton Bruno Silva dos Santos.
+     * @version 1.0
+     * @since 1.0
+     */
+    public static final class Execution {
+        /**
+         * Refere-se as definições dos estágios que consomem as filas.
+         */
+        private final List<Stage> stages;
+        /**
+         * Refere-se a fila de entrada de cada estágio consumidor.
+         */
+        private final RingBuffer[] queues;
+        /**
+         * Refere-se a quantidade de dados emitidos por estágio, incluindo a origem.
+         */
+        private final LongAdder[] processed;
+        /**
+         * Refere-se a quantidade de vezes em que cada estágio, incluindo a origem, encontrou sua fila de saída cheia.
+         */
+        private final LongAdder[] stalls;
+        /**
+         * Refere-se a quantidade de threads ainda em execução.
+         */
+        private final CountDownLatch running;
+        /**
+         * Refere-se a primeira exceção lançada por algum estágio, nula enquanto não houver.
+         */
+        private final AtomicReference<Throwable> failure;
+        /**
+         * Refere-se a indicativo de que a execução foi cancelada.
+         */
+        private volatile boolean cancelled;
+
+        /**
+         * Construtor responsável pelo instanciamento da execução.
+         * @param stages Refere-se as definições dos estágios que consomem as filas.
+         */
+        private Execution(final List<Stage> stages) {
+            this.stages = stages;
+            this.queues = new RingBuffer[stages.size()];
+            this.processed = new LongAdder[stages.size() + 1];
+            this.stalls = new LongAdder[stages.size() + 1];
+            int threads = 1;
+            for (int i = 0; i < stages.size(); i++) {
+                final Stage stage = stages.get(i);
+                queues[i] = new RingBuffer(stage.capacity, i == 0 ? 1 : stages.get(i - 1).parallelism);
+                threads += stage.parallelism;
+            }
+            for (int i = 0; i < processed.length; i++) {
+                processed[i] = new LongAdder();
+                stalls[i] = new LongAdder();
+            }
+            this.running = new CountDownLatch(threads);
+            this.failure = new AtomicReference<>();
+        }
+
+        /**
+         * Método responsável por iniciar as threads da origem e dos estágios.
+         * @param source Refere-se a origem do fluxo.
+         */
+        private void start(final Sender<?> source) {
+            startThread("Pipeline-source", () -> {
+                Object data;
+                while (!cancelled && (data = source.send()) != null) {
+                    processed[0].increment();
+                    if (!put(0, data)) {
+                        return;
+                    }
+                }
+            }, queues[0]);
+            for (int i = 0; i < stages.size(); i++) {
+                final int index = i;
+                final Stage stage = stages.get(i);
+                for (int j = 0; j < stage.parallelism; j++) {
+                    startThread("Pipeline-stage-" + (index + 1) + "-" + j, () -> consume(index, stage),
+                            index + 1 < queues.length ? queues[index + 1] : null);
+                }
+            }
+        }
+
+        /**
+         * Método responsável por iniciar uma thread do fluxo, que registra suas exceções e,
+         * ao terminar, deixa de contar como produtora de sua fila de saída.
+         * @param name   Refere-se ao nome da thread.
+         * @param body   Refere-se ao trabalho da thread.
+         * @param output Refere-se a fila de saída da thread, nula no destino.
+         */
+        private void startThread(final String name, final Worker body, final RingBuffer output) {
+            final java.lang.Thread thread = Factory.Thread.makeFree(() -> {
+                try {
+                    body.work();
+                } catch (final Throwable ex) {
+                    if (failure.compareAndSet(null, ex)) {
+                        cancelled = true;
+                    }
+                } finally {
+                    if (output != null) {
+                        output.producers.decrementAndGet();
+                    }
+                    running.countDown();
+                }
+            });
+            thread.setName(name);
+            thread.setDaemon(true);
+            thread.start();
+        }
+
+        /**
+         * Método responsável por consumir em lotes a fila de entrada de um estágio até que ela se esgote
+         * e todos os seus produtores terminem.
+         * @param index Refere-se a posição do estágio.
+         * @param stage Refere-se a definição do estágio.
+         */
+        private void consume(final int index, final Stage stage) {
+            final RingBuffer input = queues[index];
+            final boolean last = index + 1 == queues.length;
+            final Object[] batch = new Object[stage.batchSize];
+            int attempt = 0;
+            while (!cancelled) {
+                int size = 0;
+                Object data;
+                while (size < batch.length && (data = input.poll()) != null) {
+                    batch[size++] = data;
+                }
+                if (size == 0) {
+                    if (input.producers.get() == 0 && input.isEmpty()) {
+                        return;
+                    }
+                    idle(attempt++);
+                    continue;
+                }
+                attempt = 0;
+                for (int i = 0; i < size; i++) {
+                    final Object result = stage.modifier.modify(batch[i]);
+                    batch[i] = null;
+                    processed[index + 1].increment();
+                    if (!last && result != null && !put(index + 1, result)) {
+                        return;
+                    }
+                }
+            }
+        }
+
+        /**
+         * Método responsável por inserir um dado na fila de entrada de um estágio, aguardando enquanto estiver cheia.
+         * @param index Refere-se a posição do estágio cuja fila recebe o dado.
+         * @param data  Refere-se ao dito dado.
+         * @return Retorna indicativo de que o dado foi inserido, falso apenas caso a execução seja cancelada.
+         */
+        private boolean put(final int index, final Object data) {
+            final RingBuffer queue = queues[index];
+            int attempt = 0;
+            while (!queue.offer(data)) {
+                if (cancelled) {
+                    return false;
+                }
+                if (attempt == 0) {
+                    stalls[index].increment();
+                }
+                idle(attempt++);
+            }
+            return true;
+        }
+
+        /**
+         * Método responsável por aguardar o término da execução.
+         * @throws ExecutionException   Exceção lançada caso algum estágio lance exceção, tendo a primeira delas por causa.
+         * @throws CancellationException Exceção lançada caso a execução tenha sido cancelada.
+         * @throws InterruptedException Exceção lançada caso a espera seja interrompida.
+         */
+        public void await() throws ExecutionException, CancellationException, InterruptedException {
+            running.await();
+            checkOutcome();
+        }
+
+        /**
+         * Método responsável por aguardar o término da execução dentro do prazo.
+         * @param timeout Refere-se ao prazo de espera.
+         * @param unit    Refere-se a unidade do dito prazo.
+         * @throws ExecutionException   Exceção lançada caso algum estágio lance exceção, tendo a primeira delas por causa.
+         * @throws CancellationException Exceção lançada caso a execução tenha sido cancelada.
+         * @throws TimeoutException     Exceção lançada caso o prazo se esgote antes do término.
+         * @throws InterruptedException Exceção lançada caso a espera seja interrompida.
+         */
+        public void await(final long timeout, final TimeUnit unit)
+                throws ExecutionException, CancellationException, TimeoutException, InterruptedException {
+            if (!running.await(timeout, unit)) {
+                throw new TimeoutException();
+            }
+            checkOutcome();
+        }
+
+        /**
+         * Método responsável por lançar a exceção correspondente ao desfecho da execução encerrada.
+         * @throws ExecutionException    Exceção lançada caso algum estágio tenha lançado exceção.
+         * @throws CancellationException Exceção lançada caso a execução tenha sido cancelada.
+         */
+        private void checkOutcome() throws ExecutionException, CancellationException {
+            if (failure.get() != null) {
+                throw new ExecutionException(failure.get());
+            }
+            if (cancelled) {
+                throw new CancellationException();
+            }
+        }
+
+        /**
+         * Método responsável por cancelar a execução, descartando os dados ainda nas filas.
+         */
+        public void cancel() {
+            cancelled = true;
+        }
+
+        /**
+         * Método responsável por indicar se todas as threads da execução terminaram.
+         * @return Retorna indicativo de término da execução.
+         */
+        public boolean isDone() {
+            return running.getCount() == 0;
+        }
+
+        /**
+         * Método responsável por retornar a quantidade de estágios, incluindo a origem e o destino.
+         * @return Retorna a quantidade de estágios.
+         */
+        public int getStageCount() {
+            return processed.length;
+        }
+
+        /**
+         * Método responsável por retornar a quantidade de dados processados por determinado estágio.
+         * @param stage Refere-se a posição do estágio, sendo zero a origem.
+         * @return Retorna a quantidade de dados processados pelo estágio.
+         */
+        public long getProcessed(final int stage) {
+            return processed[stage].sum();
+        }
+
+        /**
+         * Método responsável por retornar quantas vezes determinado estágio aguardou por encontrar sua fila de saída cheia.
+         * @param stage Refere-se a posição do estágio, sendo zero a origem.
+         * @return Retorna a quantidade de esperas por contrapressão do estágio.
+         */
+        public long getStalls(final int stage) {
+            return stalls[stage].sum();
+        }
+
+        /**
+         * Método responsável por retornar a quantidade de dados aguardando na fila de entrada de determinado estágio.
+         * @param stage Refere-se a posição do estágio, a partir de um, já que a origem não possui fila de entrada.
+         * @return Retorna a profundidade da fila de entrada do estágio.
+         */
+        public int getQueueDepth(final int stage) {
+            return queues[stage - 1].size();
+        }
+    }
+
+    /**
+     * Classe responsável por comportar-se como fila circular limitada, livre de travas e segura para múltiplos
+     * produtores e consumidores, na qual cada posição carrega um número de sequência que indica se está livre
+     * para inserção ou ocupada para retirada na volta corrente.
+     * @author Everton Bruno Silva dos Santos.
+     * @version 1.0
+     * @since 1.0
+     */
+    private static final class RingBuffer {
+        /**
+         * Refere-se aos dados da fila.
+         */
+        private final AtomicReferenceArray<Object> items;
+        /**
+         * Refere-se aos números de sequência de cada posição.
+         */
+        private final AtomicLongArray sequences;
+        /**
+         * Refere-se a máscara que converte sequências em posições.
+         */
+        private final int mask;
+        /**
+         * Refere-se a sequência da próxima inserção.
+         */
+        private final AtomicLong tail;
+        /**
+         * Refere-se a sequência da próxima retirada.
+         */
+        private final AtomicLong head;
+        /**
+         * Refere-se a quantidade de produtores ainda em execução.
+         */
+        private final AtomicInteger producers;
+
+        /**
+         * Construtor responsável pelo instanciamento da fila.
+         * @param capacity  Refere-se a capacidade mínima da fila, arredondada para a próxima potência de dois.
+         * @param producers Refere-se a quantidade de produtores da fila.
+         */
+        private RingBuffer(final int capacity, final int producers) {
+            final int size = capacity == 1 ? 1 : Integer.highestOneBit(capacity - 1) << 1;
+            this.items = new AtomicReferenceArray<>(size);
+            this.sequences = new AtomicLongArray(size);
+            for (int i = 0; i < size; i++) {
+                sequences.set(i, i);
+            }
+            this.mask = size - 1;
+            this.tail = new AtomicLong();
+            this.head = new AtomicLong();
+            this.producers = new AtomicInteger(producers);
+        }
+
+        /**
+         * Método responsável por inserir um dado na fila, caso haja espaço.
+         * @param data Refere-se ao dito dado.
+         * @return Retorna indicativo de que o dado foi inserido.
+         */
+        private boolean offer(final Object data) {
+            long position = tail.get();
+            while (true) {
+                final int index = (int) position & mask;
+                final long difference = sequences.get(index) - position;
+                if (difference == 0) {
+                    if (tail.compareAndSet(position, position + 1)) {
+                        items.lazySet(index, data);
+                        sequences.set(index, position + 1);
+                        return true;
+                    }
+                    position = tail.get();
+                } else if (difference < 0) {
+                    return false;
+                } else {
+                    position = tail.get();
+                }
+            }
+        }
+
+        /**
+         * Método responsável por retirar um dado da fila, caso haja algum.
+         * @return Retorna o dado retirado, ou nulo caso a fila esteja vazia.
+         */
+        private Object poll() {
+            long position = head.get();
+            while (true) {
+                final int index = (int) position & mask;
+                final long difference = sequences.get(index) - (position + 1);
+                if (difference == 0) {
+                    if (head.compareAndSet(position, position + 1)) {
+                        final Object data = items.get(index);
+                        items.lazySet(index, null);
+                        sequences.set(index, position + mask + 1);
+                        return data;
+                    }
+                    position = head.get();
+                } else if (difference < 0) {
+                    return null;
+                } else {
+                    position = head.get();
+                }
+            }
+        }
+
+        /**
+         * Método responsável por indicar se a fila está vazia.
+         * @return Retorna indicativo de que a fila está vazia.
+         */
+        private boolean isEmpty() {
+            return size() == 0;
+        }
+
+        /**
+         * Método responsável por retornar a quantidade aproximada de dados na fila.
+         * @return Retorna a quantidade de dados na fila.
+         */
+        private int size() {
+            return (int) Math.max(0L, tail.get() - head.get());
+        }
+    }
+
+}
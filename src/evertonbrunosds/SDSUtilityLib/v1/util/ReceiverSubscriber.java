@@ -0,0 +1,247 @@
+/*
+ * This file is part of the SDSUtilityLib Open Source Project.
+ * SDSUtilityLib is licensed under the GNU GPLv3.
+ *
+ * Copyright © 2020. Everton Bruno Silva dos Santos <evertonbrunogithub@yahoo.com>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package evertonbrunosds.SDSUtilityLib.v1.util;
+
+import evertonbrunosds.SDSUtilityLib.v1.api.Flow;
+import evertonbrunosds.SDSUtilityLib.v1.api.Receiver;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Classe responsável por adaptar um receptor como assinante com contrapressão, que solicita ao publicador um lote
+ * inicial de dados e, a cada três quartos do lote recebidos, solicita outros tantos, de modo que o publicador nunca
+ * tenha mais que um lote pendente de entrega e as solicitações sejam amortizadas entre vários dados. A exceção lançada
+ * pelo receptor cancela a assinatura e é propagada a quem aguarda seu término.
+ * @author Everton Bruno Silva dos Santos.
+ * @param <T> Refere-se ao tipo de dados recebidos.
+ * @version 1.0
+ * @since 1.0
+ */
+public class ReceiverSubscriber<T> implements Flow.Subscriber<T> {
+    /**
+     * Refere-se ao receptor dos dados assinados.
+     */
+    private final Receiver<T> receiver;
+    /**
+     * Refere-se a quantidade de dados solicitados inicialmente.
+     */
+    private final int batchSize;
+    /**
+     * Refere-se a quantidade de dados recebidos que dispara uma nova solicitação.
+     */
+    private final int limit;
+    /**
+     * Refere-se a assinatura vigente, nula antes de sua recepção.
+     */
+    private final AtomicReference<Flow.Subscription> subscription;
+    /**
+     * Refere-se a falha que encerrou a assinatura, nula enquanto não houver.
+     */
+    private final AtomicReference<Throwable> failure;
+    /**
+     * Refere-se ao sinal de término da assinatura.
+     */
+    private final CountDownLatch finished;
+    /**
+     * Refere-se a quantidade de dados recebidos.
+     */
+    private final LongAdder received;
+    /**
+     * Refere-se a quantidade de solicitações feitas ao publicador.
+     */
+    private final LongAdder requests;
+    /**
+     * Refere-se a quantidade de dados recebidos desde a última solicitação, acessada apenas pelo publicador.
+     */
+    private int consumed;
+    /**
+     * Refere-se a indicativo de que a assinatura foi cancelada por quem a aguarda.
+     */
+    private volatile boolean cancelled;
+
+    /**
+     * Construtor responsável pelo instanciamento do assinante, solicitando dados em lotes de 64.
+     * @param receiver Refere-se ao receptor dos dados assinados.
+     * @throws NullPointerException Exceção lançada caso o receptor seja nulo.
+     */
+    public ReceiverSubscriber(final Receiver<T> receiver) throws NullPointerException {
+        this(receiver, 64);
+    }
+
+    /**
+     * Construtor responsável pelo instanciamento do assinante.
+     * @param receiver  Refere-se ao receptor dos dados assinados.
+     * @param batchSize Refere-se a quantidade de dados solicitados de uma só vez.
+     * @throws NullPointerException     Exceção lançada caso o receptor seja nulo.
+     * @throws IllegalArgumentException Exceção lançada caso o tamanho do lote não seja positivo.
+     */
+    public ReceiverSubscriber(final Receiver<T> receiver, final int batchSize) throws NullPointerException, IllegalArgumentException {
+        if (receiver == null) {
+            throw new NullPointerException();
+        }
+        if (batchSize <= 0) {
+            throw new IllegalArgumentException();
+        }
+        this.receiver = receiver;
+        this.batchSize = batchSize;
+        this.limit = Math.max(1, batchSize - (batchSize >> 2));
+        this.subscription = new AtomicReference<>();
+        this.failure = new AtomicReference<>();
+        this.finished = new CountDownLatch(1);
+        this.received = new LongAdder();
+        this.requests = new LongAdder();
+    }
+
+    /**
+     * Método responsável por receber a assinatura e solicitar o lote inicial, cancelando assinaturas excedentes.
+     * @param subscription Refere-se a dita assinatura.
+     * @throws NullPointerException Exceção lançada caso a assinatura seja nula.
+     */
+    @Override
+    public void onSubscribe(final Flow.Subscription subscription) throws NullPointerException {
+        if (subscription == null) {
+            throw new NullPointerException();
+        }
+        if (!this.subscription.compareAndSet(null, subscription)) {
+            subscription.cancel();
+            return;
+        }
+        request(batchSize);
+    }
+
+    /**
+     * Método responsável por repassar um dado ao receptor, solicitando novo lote ao atingir o limite.
+     * @param item Refere-se ao dito dado.
+     * @throws NullPointerException Exceção lançada caso o dado seja nulo.
+     */
+    @Override
+    public void onNext(final T item) throws NullPointerException {
+        if (item == null) {
+            throw new NullPointerException();
+        }
+        if (finished.getCount() == 0) {
+            return;
+        }
+        try {
+            receiver.receive(item);
+        } catch (final Throwable ex) {
+            subscription.get().cancel();
+            onError(ex);
+            return;
+        }
+        received.increment();
+        if (++consumed == limit) {
+            consumed = 0;
+            request(limit);
+        }
+    }
+
+    /**
+     * Método responsável por encerrar a assinatura com falha.
+     * @param throwable Refere-se a dita falha.
+     */
+    @Override
+    public void onError(final Throwable throwable) {
+        if (failure.compareAndSet(null, throwable == null ? new NullPointerException() : throwable)) {
+            finished.countDown();
+        }
+    }
+
+    /**
+     * Método responsável por encerrar a assinatura com sucesso.
+     */
+    @Override
+    public void onComplete() {
+        finished.countDown();
+    }
+
+    /**
+     * Método responsável por solicitar dados ao publicador, contabilizando a solicitação.
+     * @param n Refere-se a quantidade de dados solicitados.
+     */
+    private void request(final long n) {
+        requests.increment();
+        subscription.get().request(n);
+    }
+
+    /**
+     * Método responsável por cancelar a assinatura, liberando quem aguarda seu término.
+     */
+    public void cancel() {
+        cancelled = true;
+        final Flow.Subscription current = subscription.get();
+        if (current != null) {
+            current.cancel();
+        }
+        finished.countDown();
+    }
+
+    /**
+     * Método responsável por aguardar o término da assinatura dentro do prazo.
+     * @param timeout Refere-se ao prazo de espera.
+     * @param unit    Refere-se a unidade do dito prazo.
+     * @throws ExecutionException    Exceção lançada caso a assinatura termine com falha, tendo-a por causa.
+     * @throws CancellationException Exceção lançada caso a assinatura tenha sido cancelada.
+     * @throws TimeoutException      Exceção lançada caso o prazo se esgote antes do término.
+     * @throws InterruptedException  Exceção lançada caso a espera seja interrompida.
+     */
+    public void await(final long timeout, final TimeUnit unit)
+            throws ExecutionException, CancellationException, TimeoutException, InterruptedException {
+        if (!finished.await(timeout, unit)) {
+            throw new TimeoutException();
+        }
+        if (failure.get() != null) {
+            throw new ExecutionException(failure.get());
+        }
+        if (cancelled) {
+            throw new CancellationException();
+        }
+    }
+
+    /**
+     * Método responsável por indicar se a assinatura terminou.
+     * @return Retorna indicativo de término da assinatura.
+     */
+    public boolean isDone() {
+        return finished.getCount() == 0;
+    }
+
+    /**
+     * Método responsável por retornar a quantidade de dados repassados ao receptor.
+     * @return Retorna a quantidade de dados recebidos.
+     */
+    public long getReceived() {
+        return received.sum();
+    }
+
+    /**
+     * Método responsável por retornar a quantidade de solicitações feitas ao publicador.
+     * @return Retorna a quantidade de solicitações.
+     */
+    public long getRequests() {
+        return requests.sum();
+    }
+
+}
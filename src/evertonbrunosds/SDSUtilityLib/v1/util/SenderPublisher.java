@@ -0,0 +1,255 @@
+/*
+ * This file is part of the SDSUtilityLib Open Source Project.
+ * SDSUtilityLib is licensed under the GNU GPLv3.
+ *
+ * Copyright © 2020. Everton Bruno Silva dos Santos <evertonbrunogithub@yahoo.com>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package evertonbrunosds.SDSUtilityLib.v1.util;
+
+import evertonbrunosds.SDSUtilityLib.v1.api.Factory;
+import evertonbrunosds.SDSUtilityLib.v1.api.Flow;
+import evertonbrunosds.SDSUtilityLib.v1.api.Sender;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Classe responsável por adaptar um remetente como publicador com contrapressão, de modo que o remetente só seja
+ * consultado quando o assinante tiver solicitado dados. O remetente é consultado num conjunto de threads, em lotes
+ * de tamanho limitado para não monopolizá-lo, e seu envio nulo encerra a assinatura. Como o remetente é consumido
+ * à medida que publica, o publicador admite um único assinante; os demais recebem uma falha.
+ * @author Everton Bruno Silva dos Santos.
+ * @param <T> Refere-se ao tipo de dados publicados.
+ * @version 1.0
+ * @since 1.0
+ */
+public class SenderPublisher<T> implements Flow.Publisher<T> {
+    /**
+     * Refere-se ao remetente dos dados publicados.
+     */
+    private final Sender<T> sender;
+    /**
+     * Refere-se ao conjunto de threads que consulta o remetente.
+     */
+    private final WorkerPool pool;
+    /**
+     * Refere-se a quantidade máxima de dados entregues por trabalho no conjunto de threads.
+     */
+    private final int batchSize;
+    /**
+     * Refere-se a indicativo de que o publicador já possui assinante.
+     */
+    private final AtomicBoolean subscribed;
+
+    /**
+     * Construtor responsável pelo instanciamento do publicador sobre o conjunto compartilhado de threads,
+     * entregando até 64 dados por trabalho.
+     * @param sender Refere-se ao remetente dos dados publicados, cujo envio nulo encerra a assinatura.
+     * @throws NullPointerException Exceção lançada caso o remetente seja nulo.
+     */
+    public SenderPublisher(final Sender<T> sender) throws NullPointerException {
+        this(sender, Factory.Thread.getSharedPool(), 64);
+    }
+
+    /**
+     * Construtor responsável pelo instanciamento do publicador.
+     * @param sender    Refere-se ao remetente dos dados publicados, cujo envio nulo encerra a assinatura.
+     * @param pool      Refere-se ao conjunto de threads que consulta o remetente.
+     * @param batchSize Refere-se a quantidade máxima de dados entregues por trabalho no conjunto de threads.
+     * @throws NullPointerException     Exceção lançada caso o remetente ou o conjunto de threads sejam nulos.
+     * @throws IllegalArgumentException Exceção lançada caso o tamanho do lote não seja positivo.
+     */
+    public SenderPublisher(final Sender<T> sender, final WorkerPool pool, final int batchSize) throws NullPointerException, IllegalArgumentException {
+        if (sender == null || pool == null) {
+            throw new NullPointerException();
+        }
+        if (batchSize <= 0) {
+            throw new IllegalArgumentException();
+        }
+        this.sender = sender;
+        this.pool = pool;
+        this.batchSize = batchSize;
+        this.subscribed = new AtomicBoolean();
+    }
+
+    /**
+     * Método responsável por registrar o assinante do publicador, que recebe uma falha caso já haja outro.
+     * @param subscriber Refere-se ao dito assinante.
+     * @throws NullPointerException Exceção lançada caso o assinante seja nulo.
+     */
+    @Override
+    public void subscribe(final Flow.Subscriber<? super T> subscriber) throws NullPointerException {
+        if (subscriber == null) {
+            throw new NullPointerException();
+        }
+        if (!subscribed.compareAndSet(false, true)) {
+            subscriber.onSubscribe(new Flow.Subscription() {
+                @Override
+                public void request(final long n) {
+                }
+
+                @Override
+                public void cancel() {
+                }
+            });
+            subscriber.onError(new IllegalStateException("SenderPublisher admits a single subscriber."));
+            return;
+        }
+        final Emission emission = new Emission(subscriber);
+        subscriber.onSubscribe(emission);
+    }
+
+    /**
+     * Classe responsável por comportar-se como assinatura do publicador, na qual uma única thread por vez
+     * consulta o remetente e entrega os dados solicitados.
+     * @author Everton Bruno Silva dos Santos.
+     * @version 1.0
+     * @since 1.0
+     */
+    private final class Emission implements Flow.Subscription {
+        /**
+         * Refere-se ao assinante da assinatura.
+         */
+        private final Flow.Subscriber<? super T> subscriber;
+        /**
+         * Refere-se a quantidade de dados solicitados e ainda não entregues, sendo o máximo tomado como ilimitado.
+         */
+        private final AtomicLong demand;
+        /**
+         * Refere-se a quantidade de sinais pendentes, sendo a entrega feita apenas por quem o eleva a partir de zero.
+         */
+        private final AtomicInteger pending;
+        /**
+         * Refere-se a falha pendente de entrega, causada por solicitação inválida.
+         */
+        private volatile Throwable invalid;
+        /**
+         * Refere-se a indicativo de que a assinatura foi cancelada ou encerrada.
+         */
+        private volatile boolean done;
+
+        /**
+         * Construtor responsável pelo instanciamento da assinatura.
+         * @param subscriber Refere-se ao assinante da assinatura.
+         */
+        private Emission(final Flow.Subscriber<? super T> subscriber) {
+            this.subscriber = subscriber;
+            this.demand = new AtomicLong();
+            this.pending = new AtomicInteger();
+        }
+
+        /**
+         * Método responsável por solicitar mais dados ao publicador.
+         * @param n Refere-se a quantidade de dados solicitados.
+         */
+        @Override
+        public void request(final long n) {
+            if (n <= 0) {
+                invalid = new IllegalArgumentException("Subscription request must be positive: " + n);
+            } else {
+                demand.accumulateAndGet(n, (final long current, final long added) -> current + added < 0 ? Long.MAX_VALUE : current + added);
+            }
+            signal();
+        }
+
+        /**
+         * Método responsável por cancelar a assinatura.
+         */
+        @Override
+        public void cancel() {
+            done = true;
+        }
+
+        /**
+         * Método responsável por agendar a entrega no conjunto de threads, caso nenhuma esteja em curso.
+         */
+        private void signal() {
+            if (pending.getAndIncrement() == 0) {
+                schedule();
+            }
+        }
+
+        /**
+         * Método responsável por submeter a entrega ao conjunto de threads, encerrando a assinatura com falha
+         * caso o conjunto a rejeite.
+         */
+        private void schedule() {
+            pool.submit(this::emit).whenComplete((final Void result, final Throwable ex) -> {
+                if (ex != null) {
+                    terminate(ex);
+                }
+            });
+        }
+
+        /**
+         * Método responsável por entregar os dados solicitados até esgotar a demanda, os sinais pendentes
+         * ou o lote, caso em que a entrega é reagendada para ceder a thread a outros trabalhos.
+         */
+        private void emit() {
+            int missed = 1;
+            while (!done) {
+                if (invalid != null) {
+                    terminate(invalid);
+                    return;
+                }
+                final long requested = demand.get();
+                long sent = 0;
+                while (sent != requested && !done) {
+                    if (sent == batchSize) {
+                        if (requested != Long.MAX_VALUE) {
+                            demand.addAndGet(-sent);
+                        }
+                        schedule();
+                        return;
+                    }
+                    final T item;
+                    try {
+                        item = sender.send();
+                    } catch (final Throwable ex) {
+                        terminate(ex);
+                        return;
+                    }
+                    if (item == null) {
+                        done = true;
+                        subscriber.onComplete();
+                        return;
+                    }
+                    subscriber.onNext(item);
+                    sent++;
+                }
+                if (requested != Long.MAX_VALUE) {
+                    demand.addAndGet(-sent);
+                }
+                missed = pending.addAndGet(-missed);
+                if (missed == 0) {
+                    return;
+                }
+            }
+        }
+
+        /**
+         * Método responsável por encerrar a assinatura com falha, caso ainda não esteja encerrada.
+         * @param ex Refere-se a dita falha.
+         */
+        private void terminate(final Throwable ex) {
+            if (!done) {
+                done = true;
+                subscriber.onError(ex);
+            }
+        }
+    }
+
+}
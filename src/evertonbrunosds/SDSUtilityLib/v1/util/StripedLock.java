@@ -0,0 +1,253 @@
+/*
+ * This file is part of the SDSUtilityLib Open Source Project.
+ * SDSUtilityLib is licensed under the GNU GPLv3.
+ *
+ * Copyright © 2020. Everton Bruno Silva dos Santos <evertonbrunogithub@yahoo.com>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package evertonbrunosds.SDSUtilityLib.v1.util;
+
+import evertonbrunosds.SDSUtilityLib.v1.api.Modifier;
+import evertonbrunosds.SDSUtilityLib.v1.api.Worker;
+import java.util.Arrays;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Classe responsável por comportar-se como travas de leitura e escrita distribuídas em faixas por chave,
+ * de modo que trabalhos sobre chaves distintas raramente disputem a mesma trava, enquanto trabalhos sobre
+ * a mesma chave sempre a disputam. Chaves distintas podem coincidir na mesma faixa, o que apenas as serializa.
+ * A faixa de uma chave é obtida de seu código de dispersão, que não pode mudar enquanto a chave estiver em uso;
+ * estruturas mutáveis cujo código depende do conteúdo, como a {@link AVLTree}, devem usar travas por identidade.
+ * @author Everton Bruno Silva dos Santos.
+ * @param <K> Refere-se ao tipo de chave das travas.
+ * @version 1.0
+ * @since 1.0
+ */
+public class StripedLock<K> {
+    /**
+     * Refere-se as travas de cada faixa.
+     */
+    private final ReentrantReadWriteLock[] locks;
+    /**
+     * Refere-se ao objeto que obtém o código de dispersão das chaves.
+     */
+    private final Modifier<K, Integer> hasher;
+    /**
+     * Refere-se a quantidade de travas obtidas.
+     */
+    private final LongAdder acquisitions;
+    /**
+     * Refere-se a quantidade de travas que estavam ocupadas quando solicitadas.
+     */
+    private final LongAdder contentions;
+
+    /**
+     * Construtor responsável pelo instanciamento das travas, dispersando as chaves por seu código de dispersão.
+     * @param stripes Refere-se a quantidade mínima de faixas, arredondada para a próxima potência de dois.
+     * @throws IllegalArgumentException Exceção lançada caso a quantidade de faixas não seja positiva.
+     */
+    public StripedLock(final int stripes) throws IllegalArgumentException {
+        this(stripes, Object::hashCode);
+    }
+
+    /**
+     * Construtor responsável pelo instanciamento das travas.
+     * @param stripes Refere-se a quantidade mínima de faixas, arredondada para a próxima potência de dois.
+     * @param hasher  Refere-se ao objeto que obtém o código de dispersão das chaves.
+     * @throws IllegalArgumentException Exceção lançada caso a quantidade de faixas não seja positiva.
+     * @throws NullPointerException     Exceção lançada caso o objeto de dispersão seja nulo.
+     */
+    public StripedLock(final int stripes, final Modifier<K, Integer> hasher) throws IllegalArgumentException, NullPointerException {
+        if (stripes <= 0 || stripes > 1 << 30) {
+            throw new IllegalArgumentException();
+        }
+        if (hasher == null) {
+            throw new NullPointerException();
+        }
+        this.locks = new ReentrantReadWriteLock[stripes == 1 ? 1 : Integer.highestOneBit(stripes - 1) << 1];
+        for (int i = 0; i < locks.length; i++) {
+            locks[i] = new ReentrantReadWriteLock();
+        }
+        this.hasher = hasher;
+        this.acquisitions = new LongAdder();
+        this.contentions = new LongAdder();
+    }
+
+    /**
+     * Método responsável por instanciar travas que dispersam as chaves por sua identidade, próprias para
+     * chaves mutáveis como instâncias da {@link AVLTree}.
+     * @param <K>     Refere-se ao tipo de chave das travas.
+     * @param stripes Refere-se a quantidade mínima de faixas, arredondada para a próxima potência de dois.
+     * @return Retorna travas dispersas pela identidade das chaves.
+     * @throws IllegalArgumentException Exceção lançada caso a quantidade de faixas não seja positiva.
+     */
+    public static <K> StripedLock<K> identity(final int stripes) throws IllegalArgumentException {
+        return new StripedLock<>(stripes, System::identityHashCode);
+    }
+
+    /**
+     * Método responsável por retornar a quantidade de faixas.
+     * @return Retorna a quantidade de faixas.
+     */
+    public int getStripes() {
+        return locks.length;
+    }
+
+    /**
+     * Método responsável por retornar a faixa de determinada chave.
+     * @param key Refere-se a dita chave.
+     * @return Retorna o índice da faixa da chave.
+     * @throws NullPointerException Exceção lançada caso a chave seja nula.
+     */
+    public int stripeOf(final K key) throws NullPointerException {
+        if (key == null) {
+            throw new NullPointerException();
+        }
+        final int hash = hasher.modify(key);
+        return (hash ^ (hash >>> 16)) & (locks.length - 1);
+    }
+
+    /**
+     * Método responsável por retornar a trava de leitura e escrita da faixa de determinada chave.
+     * @param key Refere-se a dita chave.
+     * @return Retorna a trava da faixa da chave.
+     * @throws NullPointerException Exceção lançada caso a chave seja nula.
+     */
+    public ReadWriteLock get(final K key) throws NullPointerException {
+        return locks[stripeOf(key)];
+    }
+
+    /**
+     * Método responsável por executar um trabalhador de posse da trava de determinada chave.
+     * @param key    Refere-se a dita chave.
+     * @param mode   Refere-se ao modo da trava.
+     * @param worker Refere-se ao trabalhador que desempenhará dado trabalho.
+     * @throws NullPointerException Exceção lançada caso a chave, o modo ou o trabalhador sejam nulos.
+     */
+    public void run(final K key, final Mode mode, final Worker worker) throws NullPointerException {
+        if (worker == null) {
+            throw new NullPointerException();
+        }
+        final Lock lock = lock(locks[stripeOf(key)], mode);
+        try {
+            worker.work();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Método responsável por executar um trabalhador de posse das travas de múltiplas chaves. As faixas distintas
+     * das chaves são travadas em ordem crescente, de modo que execuções sobre chaves sobrepostas não entrem em impasse.
+     * @param keys   Refere-se as ditas chaves.
+     * @param mode   Refere-se ao modo das travas.
+     * @param worker Refere-se ao trabalhador que desempenhará dado trabalho.
+     * @throws NullPointerException Exceção lançada caso as chaves, alguma delas, o modo ou o trabalhador sejam nulos.
+     */
+    public void run(final Iterable<K> keys, final Mode mode, final Worker worker) throws NullPointerException {
+        if (worker == null || mode == null) {
+            throw new NullPointerException();
+        }
+        int[] stripes = new int[8];
+        int count = 0;
+        for (final K key : keys) {
+            if (count == stripes.length) {
+                stripes = Arrays.copyOf(stripes, count * 2);
+            }
+            stripes[count++] = stripeOf(key);
+        }
+        Arrays.sort(stripes, 0, count);
+        final Lock[] held = new Lock[count];
+        int heldCount = 0;
+        try {
+            for (int i = 0; i < count; i++) {
+                if (i == 0 || stripes[i] != stripes[i - 1]) {
+                    held[heldCount++] = lock(locks[stripes[i]], mode);
+                }
+            }
+            worker.work();
+        } finally {
+            for (int i = heldCount - 1; i >= 0; i--) {
+                held[i].unlock();
+            }
+        }
+    }
+
+    /**
+     * Método responsável por obter a trava de determinado modo, contabilizando se estava ocupada.
+     * @param lock Refere-se a trava de leitura e escrita da faixa.
+     * @param mode Refere-se ao modo da trava.
+     * @return Retorna a trava obtida.
+     * @throws NullPointerException Exceção lançada caso o modo seja nulo.
+     */
+    private Lock lock(final ReentrantReadWriteLock lock, final Mode mode) throws NullPointerException {
+        final Lock modeLock = mode == Mode.READ ? lock.readLock() : mode == Mode.WRITE ? lock.writeLock() : null;
+        if (modeLock == null) {
+            throw new NullPointerException();
+        }
+        if (!modeLock.tryLock()) {
+            contentions.increment();
+            modeLock.lock();
+        }
+        acquisitions.increment();
+        return modeLock;
+    }
+
+    /**
+     * Método responsável por retornar a quantidade de travas obtidas.
+     * @return Retorna a quantidade de travas obtidas.
+     */
+    public long getAcquisitions() {
+        return acquisitions.sum();
+    }
+
+    /**
+     * Método responsável por retornar a quantidade de travas que estavam ocupadas quando solicitadas.
+     * @return Retorna a quantidade de disputas.
+     */
+    public long getContentions() {
+        return contentions.sum();
+    }
+
+    /**
+     * Método responsável por zerar os contadores das travas.
+     */
+    public void resetStatistics() {
+        acquisitions.reset();
+        contentions.reset();
+    }
+
+    /**
+     * Enumeração responsável por definir os modos das travas. O modo de leitura é compartilhado entre
+     * trabalhos da mesma faixa, enquanto o de escrita é exclusivo.
+     * @author Everton Bruno Silva dos Santos.
+     * @version 1.0
+     * @since 1.0
+     */
+    public enum Mode {
+        /**
+         * Refere-se ao modo compartilhado.
+         */
+        READ,
+        /**
+         * Refere-se ao modo exclusivo.
+         */
+        WRITE
+    }
+
+}
@@ -0,0 +1,331 @@
+/*
+ * This file is part of the SDSUtilityLib Open Source Project.
+ * SDSUtilityLib is licensed under the GNU GPLv3.
+ *
+ * Copyright © 2020. Everton Bruno Silva dos Santos <evertonbrunogithub@yahoo.com>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package evertonbrunosds.SDSUtilityLib.v1.util;
+
+import evertonbrunosds.SDSUtilityLib.v1.api.Factory;
+import evertonbrunosds.SDSUtilityLib.v1.api.Worker;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Classe responsável por executar lotes de trabalhadores concorrentemente e aguardá-los juntos. A primeira exceção
+ * lançada por um trabalhador interrompe os demais e é propagada a quem aguarda o lote, assim como o esgotamento do
+ * prazo; em ambos os casos os trabalhadores pendentes deixam de ser iniciados e os interrompidos são aguardados
+ * apenas durante um período de tolerância, de modo que trabalhadores que ignoram interrupções, como os bloqueados
+ * em escritas de arquivo, podem sobreviver a execução do lote sem retê-la. A duração de cada trabalhador é registrada
+ * num histograma.
+ * @author Everton Bruno Silva dos Santos.
+ * @version 1.0
+ * @since 1.0
+ */
+public class WorkerBatch {
+    /**
+     * Refere-se ao período de tolerância padrão concedido aos trabalhadores interrompidos.
+     */
+    private static final long DEFAULT_GRACE = TimeUnit.SECONDS.toNanos(1);
+    /**
+     * Refere-se ao conjunto de threads que executa os trabalhadores, nulo quando executados em threads próprias.
+     */
+    private final WorkerPool pool;
+    /**
+     * Refere-se ao histograma das durações dos trabalhadores de todos os lotes.
+     */
+    private final LatencyHistogram latencies;
+    /**
+     * Refere-se ao período de tolerância concedido aos trabalhadores interrompidos, em nanossegundos.
+     */
+    private volatile long grace;
+
+    /**
+     * Construtor responsável pelo instanciamento do executor de lotes, executando cada trabalhador numa thread
+     * virtual quando suportadas, ou numa thread de plataforma própria caso contrário.
+     */
+    public WorkerBatch() {
+        this.pool = null;
+        this.latencies = new LatencyHistogram();
+        this.grace = DEFAULT_GRACE;
+    }
+
+    /**
+     * Construtor responsável pelo instanciamento do executor de lotes.
+     * @param pool Refere-se ao conjunto de threads que executa os trabalhadores.
+     * @throws NullPointerException Exceção lançada caso o conjunto de threads seja nulo.
+     */
+    public WorkerBatch(final WorkerPool pool) throws NullPointerException {
+        if (pool == null) {
+            throw new NullPointerException();
+        }
+        this.pool = pool;
+        this.latencies = new LatencyHistogram();
+        this.grace = DEFAULT_GRACE;
+    }
+
+    /**
+     * Método responsável por executar um lote de trabalhadores e aguardar seu término dentro do prazo.
+     * @param workers Refere-se aos trabalhadores do lote.
+     * @param timeout Refere-se ao prazo para o término do lote.
+     * @param unit    Refere-se a unidade do dito prazo.
+     * @return Retorna cópia da duração de cada trabalhador, em nanossegundos e na ordem do lote, sendo -1 a dos não concluídos.
+     * @throws ExecutionException   Exceção lançada caso algum trabalhador lance exceção, tendo a primeira delas por causa,
+     *                              após aguardar os demais pelo período de tolerância.
+     * @throws TimeoutException     Exceção lançada caso o prazo se esgote antes do término do lote, após interromper
+     *                              os trabalhadores e aguardá-los pelo período de tolerância.
+     * @throws InterruptedException Exceção lançada caso a espera seja interrompida, após interromper os trabalhadores
+     *                              e aguardá-los pelo período de tolerância.
+     * @throws NullPointerException Exceção lançada caso os trabalhadores, algum deles ou a unidade sejam nulos.
+     */
+    public long[] run(final Collection<? extends Worker> workers, final long timeout, final TimeUnit unit)
+            throws ExecutionException, TimeoutException, InterruptedException, NullPointerException {
+        final long deadline = System.nanoTime() + unit.toNanos(timeout);
+        final List<Worker> tasks = new ArrayList<>(workers);
+        if (tasks.contains(null)) {
+            throw new NullPointerException();
+        }
+        final Execution execution = new Execution(tasks.size());
+        for (int i = 0; i < tasks.size(); i++) {
+            final int index = i;
+            final Worker task = () -> execution.run(index, tasks.get(index));
+            if (pool != null) {
+                pool.submit(task).whenComplete((final Void result, final Throwable ex) -> {
+                    if (ex != null) {
+                        execution.fail(ex);
+                        execution.finish();
+                    }
+                });
+            } else if (Factory.Thread.isVirtualSupported()) {
+                Factory.Thread.makeFreeVirtual(task).start();
+            } else {
+                Factory.Thread.makeFree(task).start();
+            }
+        }
+        try {
+            if (!execution.settled.await(deadline - System.nanoTime(), TimeUnit.NANOSECONDS)) {
+                execution.cancel();
+                execution.remaining.await(grace, TimeUnit.NANOSECONDS);
+                if (execution.failure.get() == null) {
+                    throw new TimeoutException("Batch of " + tasks.size() + " workers exceeded its deadline, "
+                            + execution.remaining.getCount() + " still running.");
+                }
+            } else if (execution.failure.get() != null) {
+                execution.remaining.await(grace, TimeUnit.NANOSECONDS);
+            }
+        } catch (final InterruptedException ex) {
+            execution.cancel();
+            awaitUninterruptibly(execution.remaining, System.nanoTime() + grace);
+            java.lang.Thread.currentThread().interrupt();
+            throw ex;
+        }
+        if (execution.failure.get() != null) {
+            throw new ExecutionException(execution.failure.get());
+        }
+        return execution.latencies.clone();
+    }
+
+    /**
+     * Método responsável por aguardar a contagem regressiva até determinado instante, ignorando interrupções.
+     * @param latch    Refere-se a dita contagem regressiva.
+     * @param deadline Refere-se ao dito instante, segundo {@link System#nanoTime()}.
+     */
+    private static void awaitUninterruptibly(final CountDownLatch latch, final long deadline) {
+        boolean waiting = true;
+        while (waiting) {
+            try {
+                latch.await(deadline - System.nanoTime(), TimeUnit.NANOSECONDS);
+                waiting = false;
+            } catch (final InterruptedException ex) {
+                waiting = true;
+            }
+        }
+    }
+
+    /**
+     * Método responsável por alterar o período durante o qual os trabalhadores interrompidos por falha, prazo
+     * esgotado ou interrupção da espera são aguardados antes que a execução do lote retorne.
+     * @param timeout Refere-se ao dito período.
+     * @param unit    Refere-se a unidade do dito período.
+     * @throws IllegalArgumentException Exceção lançada caso o período seja negativo.
+     * @throws NullPointerException     Exceção lançada caso a unidade seja nula.
+     */
+    public void setGracePeriod(final long timeout, final TimeUnit unit) throws IllegalArgumentException, NullPointerException {
+        if (timeout < 0) {
+            throw new IllegalArgumentException();
+        }
+        this.grace = unit.toNanos(timeout);
+    }
+
+    /**
+     * Método responsável por retornar o período de tolerância concedido aos trabalhadores interrompidos.
+     * @param unit Refere-se a unidade do período retornado.
+     * @return Retorna o período de tolerância na dita unidade.
+     */
+    public long getGracePeriod(final TimeUnit unit) {
+        return unit.convert(grace, TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * Método responsável por retornar o histograma das durações dos trabalhadores concluídos de todos os lotes,
+     * excluídos os que concluem após o cancelamento de seu lote.
+     * @return Retorna o histograma das durações.
+     */
+    public LatencyHistogram getLatencies() {
+        return latencies;
+    }
+
+    /**
+     * Classe responsável por comportar-se como estado da execução de um lote.
+     * @author Everton Bruno Silva dos Santos.
+     * @version 1.0
+     * @since 1.0
+     */
+    private final class Execution {
+        /**
+         * Refere-se a quantidade de trabalhadores ainda não encerrados.
+         */
+        private final CountDownLatch remaining;
+        /**
+         * Refere-se ao sinal de que o lote terminou ou falhou, liberando quem o aguarda.
+         */
+        private final CountDownLatch settled;
+        /**
+         * Refere-se a primeira exceção lançada por um trabalhador, nula enquanto não houver.
+         */
+        private final AtomicReference<Throwable> failure;
+        /**
+         * Refere-se as threads dos trabalhadores em execução, por posição no lote.
+         */
+        private final java.lang.Thread[] running;
+        /**
+         * Refere-se as durações dos trabalhadores, por posição no lote, alteradas apenas sob a trava e antes do cancelamento.
+         */
+        private final long[] latencies;
+        /**
+         * Refere-se a trava que impede interrupções de alcançarem threads que já deixaram o trabalho do lote.
+         */
+        private final ReentrantLock lock;
+        /**
+         * Refere-se a indicativo de que o lote foi cancelado.
+         */
+        private volatile boolean cancelled;
+
+        /**
+         * Construtor responsável pelo instanciamento do estado da execução.
+         * @param size Refere-se a quantidade de trabalhadores do lote.
+         */
+        private Execution(final int size) {
+            this.remaining = new CountDownLatch(size);
+            this.settled = new CountDownLatch(size == 0 ? 0 : 1);
+            this.failure = new AtomicReference<>();
+            this.running = new java.lang.Thread[size];
+            this.latencies = new long[size];
+            this.lock = new ReentrantLock();
+            Arrays.fill(latencies, -1L);
+        }
+
+        /**
+         * Método responsável por executar um trabalhador do lote, salvo se o lote já tiver sido cancelado, registrando
+         * sua duração apenas caso conclua antes do cancelamento.
+         * @param index  Refere-se a posição do trabalhador no lote.
+         * @param worker Refere-se ao dito trabalhador.
+         */
+        private void run(final int index, final Worker worker) {
+            lock.lock();
+            try {
+                if (cancelled) {
+                    finish();
+                    return;
+                }
+                running[index] = java.lang.Thread.currentThread();
+            } finally {
+                lock.unlock();
+            }
+            final long start = System.nanoTime();
+            long elapsed = -1L;
+            try {
+                worker.work();
+                elapsed = System.nanoTime() - start;
+            } catch (final Throwable ex) {
+                fail(ex);
+            } finally {
+                lock.lock();
+                try {
+                    running[index] = null;
+                    java.lang.Thread.interrupted();
+                    if (elapsed >= 0 && !cancelled) {
+                        latencies[index] = elapsed;
+                        WorkerBatch.this.latencies.record(elapsed);
+                    }
+                } finally {
+                    lock.unlock();
+                }
+                finish();
+            }
+        }
+
+        /**
+         * Método responsável por contabilizar o encerramento de um trabalhador, sinalizando o término do lote
+         * quando for o último.
+         */
+        private void finish() {
+            remaining.countDown();
+            if (remaining.getCount() == 0) {
+                settled.countDown();
+            }
+        }
+
+        /**
+         * Método responsável por registrar a exceção de um trabalhador e cancelar o lote, caso seja a primeira
+         * exceção anterior ao cancelamento.
+         * @param ex Refere-se a dita exceção.
+         */
+        private void fail(final Throwable ex) {
+            if (!cancelled && failure.compareAndSet(null, ex)) {
+                cancel();
+                settled.countDown();
+            }
+        }
+
+        /**
+         * Método responsável por cancelar o lote, impedindo o início dos trabalhadores pendentes
+         * e interrompendo os que estão em execução.
+         */
+        private void cancel() {
+            lock.lock();
+            try {
+                cancelled = true;
+                for (final java.lang.Thread thread : running) {
+                    if (thread != null) {
+                        thread.interrupt();
+                    }
+                }
+            } finally {
+                lock.unlock();
+            }
+        }
+    }
+
+}
@@ -0,0 +1,390 @@
+/*
+ * This file is part of the SDSUtilityLib Open Source Project.
+ * SDSUtilityLib is licensed under the GNU GPLv3.
+ *
+ * Copyright © 2020. Everton Bruno Silva dos Santos <evertonbrunogithub@yahoo.com>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package evertonbrunosds.SDSUtilityLib.v1.util;
+
+import evertonbrunosds.SDSUtilityLib.v1.api.Factory;
+import evertonbrunosds.SDSUtilityLib.v1.api.Sender;
+import evertonbrunosds.SDSUtilityLib.v1.api.Worker;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Classe responsável por comportar-se como conjunto de threads reaproveitadas na execução de trabalhadores,
+ * evitando a criação de uma nova thread por trabalho. Cada trabalho submetido devolve um {@link CompletableFuture}
+ * concluído com seu resultado ou com a exceção lançada. Trabalhos que excedam a capacidade da fila são rejeitados,
+ * sendo seu futuro concluído com {@link RejectedExecutionException}.
+ * @author Everton Bruno Silva dos Santos.
+ * @version 1.0
+ * @since 1.0
+ */
+public class WorkerPool implements AutoCloseable {
+    /**
+     * Refere-se a quantidade de conjuntos instanciados, usada na nomeação de suas threads.
+     */
+    private static final AtomicInteger POOLS = new AtomicInteger();
+    /**
+     * Refere-se a modalidade de execução do conjunto.
+     */
+    private final Kind kind;
+    /**
+     * Refere-se a quantidade de threads do conjunto.
+     */
+    private final int parallelism;
+    /**
+     * Refere-se a quantidade máxima de trabalhos aguardando execução.
+     */
+    private final int capacity;
+    /**
+     * Refere-se ao executor subjacente do conjunto.
+     */
+    private final ExecutorService executor;
+    /**
+     * Refere-se a quantidade de trabalhos aguardando execução.
+     */
+    private final AtomicInteger queueDepth;
+    /**
+     * Refere-se a maior quantidade de trabalhos que aguardaram execução simultaneamente.
+     */
+    private final AtomicInteger peakQueueDepth;
+    /**
+     * Refere-se a quantidade de trabalhos em execução.
+     */
+    private final AtomicInteger active;
+    /**
+     * Refere-se a quantidade de trabalhos submetidos.
+     */
+    private final LongAdder submitted;
+    /**
+     * Refere-se a quantidade de trabalhos concluídos com sucesso.
+     */
+    private final LongAdder completed;
+    /**
+     * Refere-se a quantidade de trabalhos que lançaram exceções.
+     */
+    private final LongAdder failed;
+    /**
+     * Refere-se a quantidade de trabalhos rejeitados.
+     */
+    private final LongAdder rejected;
+
+    /**
+     * Construtor responsável pelo instanciamento do conjunto.
+     * @param kind        Refere-se a modalidade de execução do conjunto.
+     * @param parallelism Refere-se a quantidade de threads do conjunto, ignorada na modalidade virtual.
+     * @param capacity    Refere-se a quantidade máxima de trabalhos aguardando execução.
+     * @throws NullPointerException          Exceção lançada caso a modalidade seja nula.
+     * @throws IllegalArgumentException      Exceção lançada caso a quantidade de threads ou a capacidade não sejam positivas.
+     * @throws UnsupportedOperationException Exceção lançada caso a modalidade virtual não seja suportada pela máquina virtual.
+     */
+    public WorkerPool(final Kind kind, final int parallelism, final int capacity)
+            throws NullPointerException, IllegalArgumentException, UnsupportedOperationException {
+        if (kind == null) {
+            throw new NullPointerException();
+        }
+        if (parallelism <= 0 || capacity <= 0) {
+            throw new IllegalArgumentException();
+        }
+        this.kind = kind;
+        this.parallelism = parallelism;
+        this.capacity = capacity;
+        this.queueDepth = new AtomicInteger();
+        this.peakQueueDepth = new AtomicInteger();
+        this.active = new AtomicInteger();
+        this.submitted = new LongAdder();
+        this.completed = new LongAdder();
+        this.failed = new LongAdder();
+        this.rejected = new LongAdder();
+        final String name = "WorkerPool-" + POOLS.incrementAndGet() + "-";
+        switch (kind) {
+            case BOUNDED:
+                final AtomicInteger threads = new AtomicInteger();
+                this.executor = new ThreadPoolExecutor(parallelism, parallelism, 0L, TimeUnit.MILLISECONDS, new LinkedBlockingQueue<>(),
+                        runnable -> {
+                            final java.lang.Thread thread = Factory.Thread.makeFree(runnable::run);
+                            thread.setName(name + threads.incrementAndGet());
+                            thread.setDaemon(true);
+                            return thread;
+                        });
+                break;
+            case WORK_STEALING:
+                this.executor = new ForkJoinPool(parallelism, ForkJoinPool.defaultForkJoinWorkerThreadFactory, null, true);
+                break;
+            default:
+                this.executor = newVirtualThreadPerTaskExecutor();
+                break;
+        }
+    }
+
+    /**
+     * Método responsável por instanciar, por reflexão, o executor de uma thread virtual por trabalho,
+     * disponível a partir do Java 21 sem exigir tal versão na compilação da biblioteca.
+     * @return Retorna o dito executor.
+     * @throws UnsupportedOperationException Exceção lançada caso threads virtuais não sejam suportadas.
+     */
+    private static ExecutorService newVirtualThreadPerTaskExecutor() throws UnsupportedOperationException {
+        try {
+            return (ExecutorService) Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+        } catch (final ReflectiveOperationException ex) {
+            throw new UnsupportedOperationException("Virtual threads require Java 21 or later.", ex);
+        }
+    }
+
+    /**
+     * Método responsável por submeter um trabalhador a execução.
+     * @param worker Refere-se ao dito trabalhador.
+     * @return Retorna futuro concluído ao término do trabalho.
+     * @throws NullPointerException Exceção lançada caso o trabalhador seja nulo.
+     */
+    public CompletableFuture<Void> submit(final Worker worker) throws NullPointerException {
+        if (worker == null) {
+            throw new NullPointerException();
+        }
+        return supply(() -> {
+            worker.work();
+            return null;
+        });
+    }
+
+    /**
+     * Método responsável por submeter um remetente a execução, cujo envio conclui o futuro devolvido.
+     * @param <T>    Refere-se ao tipo de dados enviado.
+     * @param sender Refere-se ao dito remetente.
+     * @return Retorna futuro concluído com o dado enviado.
+     * @throws NullPointerException Exceção lançada caso o remetente seja nulo.
+     */
+    public <T> CompletableFuture<T> supply(final Sender<T> sender) throws NullPointerException {
+        if (sender == null) {
+            throw new NullPointerException();
+        }
+        final CompletableFuture<T> future = new CompletableFuture<>();
+        submitted.increment();
+        final int depth = queueDepth.incrementAndGet();
+        if (depth > capacity) {
+            queueDepth.decrementAndGet();
+            rejected.increment();
+            future.completeExceptionally(new RejectedExecutionException("Queue capacity of " + capacity + " reached."));
+            return future;
+        }
+        peakQueueDepth.accumulateAndGet(depth, Math::max);
+        try {
+            executor.execute(() -> run(sender, future));
+        } catch (final RejectedExecutionException ex) {
+            queueDepth.decrementAndGet();
+            rejected.increment();
+            future.completeExceptionally(ex);
+        }
+        return future;
+    }
+
+    /**
+     * Método responsável por executar um trabalho retirado da fila, salvo se seu futuro já tiver sido cancelado.
+     * @param <T>    Refere-se ao tipo de dados enviado.
+     * @param sender Refere-se ao remetente do dito trabalho.
+     * @param future Refere-se ao futuro do dito trabalho.
+     */
+    private <T> void run(final Sender<T> sender, final CompletableFuture<T> future) {
+        queueDepth.decrementAndGet();
+        if (future.isDone()) {
+            return;
+        }
+        active.incrementAndGet();
+        try {
+            final T result = sender.send();
+            completed.increment();
+            future.complete(result);
+        } catch (final Throwable ex) {
+            failed.increment();
+            future.completeExceptionally(ex);
+        } finally {
+            active.decrementAndGet();
+        }
+    }
+
+    /**
+     * Método responsável por encerrar o recebimento de trabalhos, mantendo a execução dos já submetidos.
+     */
+    public void shutdown() {
+        executor.shutdown();
+    }
+
+    /**
+     * Método responsável por aguardar o término dos trabalhos após o encerramento.
+     * @param timeout Refere-se ao tempo máximo de espera.
+     * @param unit    Refere-se a unidade do dito tempo.
+     * @return Retorna indicativo de que todos os trabalhos terminaram.
+     * @throws InterruptedException Exceção lançada caso a espera seja interrompida.
+     */
+    public boolean awaitTermination(final long timeout, final TimeUnit unit) throws InterruptedException {
+        return executor.awaitTermination(timeout, unit);
+    }
+
+    /**
+     * Método responsável por indicar se o conjunto foi encerrado.
+     * @return Retorna indicativo de que o conjunto foi encerrado.
+     */
+    public boolean isShutdown() {
+        return executor.isShutdown();
+    }
+
+    /**
+     * Método responsável por indicar se o conjunto foi encerrado e todos os trabalhos terminaram.
+     * @return Retorna indicativo de que o conjunto terminou.
+     */
+    public boolean isTerminated() {
+        return executor.isTerminated();
+    }
+
+    /**
+     * Método responsável por encerrar o conjunto e aguardar o término dos trabalhos já submetidos.
+     */
+    @Override
+    public void close() {
+        executor.shutdown();
+        try {
+            executor.awaitTermination(Long.MAX_VALUE, TimeUnit.NANOSECONDS);
+        } catch (final InterruptedException ex) {
+            java.lang.Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Método responsável por retornar a modalidade de execução do conjunto.
+     * @return Retorna a modalidade de execução do conjunto.
+     */
+    public Kind getKind() {
+        return kind;
+    }
+
+    /**
+     * Método responsável por retornar a quantidade de threads do conjunto.
+     * @return Retorna a quantidade de threads do conjunto.
+     */
+    public int getParallelism() {
+        return parallelism;
+    }
+
+    /**
+     * Método responsável por retornar a quantidade máxima de trabalhos aguardando execução.
+     * @return Retorna a capacidade da fila.
+     */
+    public int getCapacity() {
+        return capacity;
+    }
+
+    /**
+     * Método responsável por retornar a quantidade de trabalhos aguardando execução.
+     * @return Retorna a profundidade da fila.
+     */
+    public int getQueueDepth() {
+        return queueDepth.get();
+    }
+
+    /**
+     * Método responsável por retornar a maior quantidade de trabalhos que aguardaram execução simultaneamente.
+     * @return Retorna a maior profundidade da fila.
+     */
+    public int getPeakQueueDepth() {
+        return peakQueueDepth.get();
+    }
+
+    /**
+     * Método responsável por retornar a quantidade de trabalhos em execução.
+     * @return Retorna a quantidade de trabalhos em execução.
+     */
+    public int getActiveCount() {
+        return active.get();
+    }
+
+    /**
+     * Método responsável por retornar a quantidade de trabalhos submetidos, incluindo os rejeitados.
+     * @return Retorna a quantidade de trabalhos submetidos.
+     */
+    public long getSubmitted() {
+        return submitted.sum();
+    }
+
+    /**
+     * Método responsável por retornar a quantidade de trabalhos concluídos com sucesso.
+     * @return Retorna a quantidade de trabalhos concluídos.
+     */
+    public long getCompleted() {
+        return completed.sum();
+    }
+
+    /**
+     * Método responsável por retornar a quantidade de trabalhos que lançaram exceções.
+     * @return Retorna a quantidade de falhas.
+     */
+    public long getFailed() {
+        return failed.sum();
+    }
+
+    /**
+     * Método responsável por retornar a quantidade de trabalhos rejeitados por excesso de capacidade ou encerramento.
+     * @return Retorna a quantidade de rejeições.
+     */
+    public long getRejected() {
+        return rejected.sum();
+    }
+
+    /**
+     * Método responsável por zerar os contadores do conjunto.
+     */
+    public void resetStatistics() {
+        peakQueueDepth.set(queueDepth.get());
+        submitted.reset();
+        completed.reset();
+        failed.reset();
+        rejected.reset();
+    }
+
+    /**
+     * Enumeração responsável por definir as modalidades de execução do conjunto. A modalidade limitada
+     * mantém quantidade fixa de threads sobre uma fila única; a de roubo de trabalho mantém uma fila por
+     * thread, das quais as threads ociosas roubam trabalhos; e a virtual cria uma thread virtual por trabalho,
+     * própria para trabalhos que bloqueiam em entrada e saída, exigindo Java 21 ou superior.
+     * @author Everton Bruno Silva dos Santos.
+     * @version 1.0
+     * @since 1.0
+     */
+    public enum Kind {
+        /**
+         * Refere-se a quantidade fixa de threads sobre uma fila única.
+         */
+        BOUNDED,
+        /**
+         * Refere-se a quantidade fixa de threads com roubo de trabalhos entre suas filas.
+         */
+        WORK_STEALING,
+        /**
+         * Refere-se a uma thread virtual por trabalho.
+         */
+        VIRTUAL
+    }
+
+}
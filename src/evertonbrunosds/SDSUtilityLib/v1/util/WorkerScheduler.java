@@ -0,0 +1,437 @@
+/*
+ * This file is part of the SDSUtilityLib Open Source Project.
+ * SDSUtilityLib is licensed under the GNU GPLv3.
+ *
+ * Copyright © 2020. Everton Bruno Silva dos Santos <evertonbrunogithub@yahoo.com>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package evertonbrunosds.SDSUtilityLib.v1.util;
+
+import evertonbrunosds.SDSUtilityLib.v1.api.Factory;
+import evertonbrunosds.SDSUtilityLib.v1.api.Worker;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Classe responsável por executar trabalhadores atrasados ou periódicos sobre poucas threads, em vez de ocupar uma
+ * thread adormecida por trabalho recorrente. Cada execução periódica agenda a seguinte ao terminar, de modo que um
+ * trabalho nunca se sobreponha a si mesmo; a exceção lançada por um trabalhador é contabilizada sem interromper suas
+ * execuções futuras. Os horários podem receber um atraso aleatório, evitando que trabalhos de mesmo período disparem
+ * juntos, e as execuções perdidas por atraso seguem a política escolhida.
+ * @author Everton Bruno Silva dos Santos.
+ * @version 1.0
+ * @since 1.0
+ */
+public class WorkerScheduler implements AutoCloseable {
+    /**
+     * Refere-se a quantidade de agendadores instanciados, usada na nomeação de suas threads.
+     */
+    private static final AtomicInteger SCHEDULERS = new AtomicInteger();
+    /**
+     * Refere-se ao executor subjacente do agendador.
+     */
+    private final ScheduledThreadPoolExecutor executor;
+    /**
+     * Refere-se a quantidade de trabalhos agendados e ainda não encerrados.
+     */
+    private final AtomicInteger scheduled;
+
+    /**
+     * Construtor responsável pelo instanciamento do agendador.
+     * @param threads Refere-se a quantidade de threads do agendador.
+     * @throws IllegalArgumentException Exceção lançada caso a quantidade de threads não seja positiva.
+     */
+    public WorkerScheduler(final int threads) throws IllegalArgumentException {
+        if (threads <= 0) {
+            throw new IllegalArgumentException();
+        }
+        final String name = "WorkerScheduler-" + SCHEDULERS.incrementAndGet() + "-";
+        final AtomicInteger count = new AtomicInteger();
+        this.executor = new ScheduledThreadPoolExecutor(threads, runnable -> {
+            final java.lang.Thread thread = Factory.Thread.makeFree(runnable::run);
+            thread.setName(name + count.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.executor.setRemoveOnCancelPolicy(true);
+        this.executor.setExecuteExistingDelayedTasksAfterShutdownPolicy(false);
+        this.scheduled = new AtomicInteger();
+    }
+
+    /**
+     * Método responsável por agendar uma única execução de um trabalhador.
+     * @param worker Refere-se ao trabalhador que desempenhará dado trabalho.
+     * @param delay  Refere-se ao atraso até a execução.
+     * @param unit   Refere-se a unidade do dito atraso.
+     * @return Retorna o trabalho agendado.
+     * @throws NullPointerException       Exceção lançada caso o trabalhador ou a unidade sejam nulos.
+     * @throws IllegalArgumentException   Exceção lançada caso o atraso seja negativo.
+     * @throws RejectedExecutionException Exceção lançada caso o agendador tenha sido encerrado.
+     */
+    public Task schedule(final Worker worker, final long delay, final TimeUnit unit)
+            throws NullPointerException, IllegalArgumentException, RejectedExecutionException {
+        if (worker == null || unit == null) {
+            throw new NullPointerException();
+        }
+        if (delay < 0) {
+            throw new IllegalArgumentException();
+        }
+        return start(worker, unit.toNanos(delay), 0, Missed.SKIP, 0);
+    }
+
+    /**
+     * Método responsável por agendar execuções periódicas de um trabalhador.
+     * @param worker       Refere-se ao trabalhador que desempenhará dado trabalho.
+     * @param initialDelay Refere-se ao atraso até a primeira execução.
+     * @param period       Refere-se ao período entre execuções.
+     * @param unit         Refere-se a unidade do atraso e do período.
+     * @param missed       Refere-se a política das execuções perdidas por atraso.
+     * @param jitter       Refere-se a fração do período, entre zero e um, sorteada como atraso adicional de cada execução.
+     * @return Retorna o trabalho agendado.
+     * @throws NullPointerException       Exceção lançada caso o trabalhador, a unidade ou a política sejam nulos.
+     * @throws IllegalArgumentException   Exceção lançada caso o atraso seja negativo, o período não seja positivo
+     *                                    ou a fração esteja fora do intervalo de zero a um.
+     * @throws RejectedExecutionException Exceção lançada caso o agendador tenha sido encerrado.
+     */
+    public Task schedule(final Worker worker, final long initialDelay, final long period, final TimeUnit unit, final Missed missed,
+            final double jitter) throws NullPointerException, IllegalArgumentException, RejectedExecutionException {
+        if (worker == null || unit == null || missed == null) {
+            throw new NullPointerException();
+        }
+        if (initialDelay < 0 || period <= 0 || !(jitter >= 0 && jitter <= 1)) {
+            throw new IllegalArgumentException();
+        }
+        return start(worker, unit.toNanos(initialDelay), unit.toNanos(period), missed, jitter);
+    }
+
+    /**
+     * Método responsável por instanciar e agendar a primeira execução de um trabalho.
+     * @param worker Refere-se ao trabalhador que desempenhará dado trabalho.
+     * @param delay  Refere-se ao atraso até a primeira execução, em nanossegundos.
+     * @param period Refere-se ao período entre execuções, em nanossegundos, sendo zero nos trabalhos de execução única.
+     * @param missed Refere-se a política das execuções perdidas.
+     * @param jitter Refere-se a fração do período sorteada como atraso adicional.
+     * @return Retorna o trabalho agendado.
+     * @throws RejectedExecutionException Exceção lançada caso o agendador tenha sido encerrado.
+     */
+    private Task start(final Worker worker, final long delay, final long period, final Missed missed, final double jitter)
+            throws RejectedExecutionException {
+        if (executor.isShutdown()) {
+            throw new RejectedExecutionException();
+        }
+        final Task task = new Task(worker, period, missed, jitter);
+        scheduled.incrementAndGet();
+        task.arm(System.nanoTime() + delay);
+        return task;
+    }
+
+    /**
+     * Método responsável por retornar a quantidade de trabalhos agendados e ainda não encerrados.
+     * @return Retorna a quantidade de trabalhos agendados.
+     */
+    public int getScheduled() {
+        return scheduled.get();
+    }
+
+    /**
+     * Método responsável por encerrar o agendador, descartando as execuções ainda não iniciadas.
+     */
+    public void shutdown() {
+        executor.shutdown();
+    }
+
+    /**
+     * Método responsável por aguardar o término das execuções em curso após o encerramento.
+     * @param timeout Refere-se ao prazo de espera.
+     * @param unit    Refere-se a unidade do dito prazo.
+     * @return Retorna indicativo de que o agendador terminou dentro do prazo.
+     * @throws InterruptedException Exceção lançada caso a espera seja interrompida.
+     */
+    public boolean awaitTermination(final long timeout, final TimeUnit unit) throws InterruptedException {
+        return executor.awaitTermination(timeout, unit);
+    }
+
+    /**
+     * Método responsável por indicar se o agendador foi encerrado.
+     * @return Retorna indicativo de encerramento do agendador.
+     */
+    public boolean isShutdown() {
+        return executor.isShutdown();
+    }
+
+    /**
+     * Método responsável por encerrar o agendador e aguardar o término das execuções em curso.
+     */
+    @Override
+    public void close() {
+        executor.shutdown();
+        try {
+            executor.awaitTermination(Long.MAX_VALUE, TimeUnit.NANOSECONDS);
+        } catch (final InterruptedException ex) {
+            java.lang.Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Enumeração responsável por definir as políticas das execuções periódicas perdidas, isto é, daquelas cujo
+     * horário passou enquanto a anterior ainda executava.
+     * @author Everton Bruno Silva dos Santos.
+     * @version 1.0
+     * @since 1.0
+     */
+    public enum Missed {
+        /**
+         * Refere-se a descartar as execuções perdidas, mantendo os horários seguintes alinhados ao período.
+         */
+        SKIP,
+        /**
+         * Refere-se a efetuar as execuções perdidas em sequência, até alcançar o horário corrente.
+         */
+        CATCH_UP,
+        /**
+         * Refere-se a contar o período a partir do término de cada execução, de modo que nenhuma seja perdida.
+         */
+        DELAY
+    }
+
+    /**
+     * Classe responsável por comportar-se como trabalho agendado, permitindo cancelá-lo e consultar suas
+     * execuções, perdas, falhas, durações e atrasos em relação aos horários previstos.
+     * @author Everton Bruno Silva dos Santos.
+     * @version 1.0
+     * @since 1.0
+     */
+    public final class Task {
+        /**
+         * Refere-se ao trabalhador do trabalho.
+         */
+        private final Worker worker;
+        /**
+         * Refere-se ao período entre execuções, em nanossegundos, sendo zero nos trabalhos de execução única.
+         */
+        private final long period;
+        /**
+         * Refere-se a política das execuções perdidas.
+         */
+        private final Missed missed;
+        /**
+         * Refere-se a fração do período sorteada como atraso adicional.
+         */
+        private final double jitter;
+        /**
+         * Refere-se a quantidade de execuções efetuadas.
+         */
+        private final LongAdder runs;
+        /**
+         * Refere-se a quantidade de execuções descartadas por atraso.
+         */
+        private final AtomicLong skipped;
+        /**
+         * Refere-se a quantidade de execuções cujo trabalhador lançou exceção.
+         */
+        private final LongAdder failures;
+        /**
+         * Refere-se ao histograma das durações das execuções.
+         */
+        private final LatencyHistogram durations;
+        /**
+         * Refere-se ao histograma dos atrasos das execuções em relação aos horários previstos.
+         */
+        private final LatencyHistogram lags;
+        /**
+         * Refere-se ao horário previsto da próxima execução, em nanossegundos.
+         */
+        private long nominal;
+        /**
+         * Refere-se a próxima execução agendada no executor.
+         */
+        private volatile Future<?> future;
+        /**
+         * Refere-se a última exceção lançada pelo trabalhador, nula enquanto não houver.
+         */
+        private volatile Throwable lastFailure;
+        /**
+         * Refere-se a indicativo de que o trabalho foi cancelado ou concluído.
+         */
+        private final AtomicBoolean done;
+
+        /**
+         * Construtor responsável pelo instanciamento do trabalho agendado.
+         * @param worker Refere-se ao trabalhador do trabalho.
+         * @param period Refere-se ao período entre execuções, em nanossegundos.
+         * @param missed Refere-se a política das execuções perdidas.
+         * @param jitter Refere-se a fração do período sorteada como atraso adicional.
+         */
+        private Task(final Worker worker, final long period, final Missed missed, final double jitter) {
+            this.worker = worker;
+            this.period = period;
+            this.missed = missed;
+            this.jitter = jitter;
+            this.runs = new LongAdder();
+            this.skipped = new AtomicLong();
+            this.failures = new LongAdder();
+            this.durations = new LatencyHistogram();
+            this.lags = new LatencyHistogram();
+            this.done = new AtomicBoolean();
+        }
+
+        /**
+         * Método responsável por agendar a próxima execução no executor, acrescida do atraso aleatório.
+         * @param nominal Refere-se ao horário previsto da execução, em nanossegundos.
+         */
+        private void arm(final long nominal) {
+            this.nominal = nominal;
+            final long extra = jitter == 0 ? 0 : (long) (ThreadLocalRandom.current().nextDouble() * jitter * period);
+            try {
+                future = executor.schedule(this::fire, Math.max(0L, nominal + extra - System.nanoTime()), TimeUnit.NANOSECONDS);
+            } catch (final RejectedExecutionException ex) {
+                finish();
+                return;
+            }
+            if (done.get()) {
+                future.cancel(false);
+            }
+        }
+
+        /**
+         * Método responsável por executar o trabalhador e agendar a execução seguinte conforme a política.
+         */
+        private void fire() {
+            if (done.get()) {
+                return;
+            }
+            final long start = System.nanoTime();
+            lags.record(start - nominal);
+            try {
+                worker.work();
+            } catch (final Throwable ex) {
+                lastFailure = ex;
+                failures.increment();
+            }
+            final long end = System.nanoTime();
+            durations.record(end - start);
+            runs.increment();
+            if (period == 0) {
+                finish();
+                return;
+            }
+            long next;
+            switch (missed) {
+                case DELAY:
+                    next = end + period;
+                    break;
+                case CATCH_UP:
+                    next = nominal + period;
+                    break;
+                default:
+                    next = nominal + period;
+                    if (next - end < 0) {
+                        final long behind = (end - next) / period + 1;
+                        skipped.addAndGet(behind);
+                        next += behind * period;
+                    }
+                    break;
+            }
+            if (!done.get()) {
+                arm(next);
+            }
+        }
+
+        /**
+         * Método responsável por marcar o trabalho como encerrado, uma única vez.
+         */
+        private void finish() {
+            if (done.compareAndSet(false, true)) {
+                scheduled.decrementAndGet();
+            }
+        }
+
+        /**
+         * Método responsável por cancelar as execuções futuras do trabalho, sem interromper a que estiver em curso.
+         */
+        public void cancel() {
+            finish();
+            final Future<?> current = future;
+            if (current != null) {
+                current.cancel(false);
+            }
+        }
+
+        /**
+         * Método responsável por indicar se o trabalho foi cancelado, concluído ou descartado pelo encerramento do agendador.
+         * @return Retorna indicativo de encerramento do trabalho.
+         */
+        public boolean isDone() {
+            return done.get() || executor.isShutdown();
+        }
+
+        /**
+         * Método responsável por retornar a quantidade de execuções efetuadas.
+         * @return Retorna a quantidade de execuções.
+         */
+        public long getRuns() {
+            return runs.sum();
+        }
+
+        /**
+         * Método responsável por retornar a quantidade de execuções descartadas pela política {@link Missed#SKIP}.
+         * @return Retorna a quantidade de execuções perdidas.
+         */
+        public long getSkipped() {
+            return skipped.get();
+        }
+
+        /**
+         * Método responsável por retornar a quantidade de execuções cujo trabalhador lançou exceção.
+         * @return Retorna a quantidade de falhas.
+         */
+        public long getFailures() {
+            return failures.sum();
+        }
+
+        /**
+         * Método responsável por retornar a última exceção lançada pelo trabalhador.
+         * @return Retorna a última exceção, ou nulo caso não haja.
+         */
+        public Throwable getLastFailure() {
+            return lastFailure;
+        }
+
+        /**
+         * Método responsável por retornar o histograma das durações das execuções.
+         * @return Retorna o histograma das durações.
+         */
+        public LatencyHistogram getDurations() {
+            return durations;
+        }
+
+        /**
+         * Método responsável por retornar o histograma dos atrasos das execuções em relação aos horários previstos,
+         * incluindo o atraso aleatório.
+         * @return Retorna o histograma dos atrasos.
+         */
+        public LatencyHistogram getLags() {
+            return lags;
+        }
+    }
+
+}
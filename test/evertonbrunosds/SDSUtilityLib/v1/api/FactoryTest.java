@@ -0,0 +1,171 @@
+/*
+ * This file is part of the SDSUtilityLib Open Source Project.
+ * SDSUtilityLib is licensed under the GNU GPLv3.
+ *
+ * Copyright © 2020. Everton Bruno Silva dos Santos <evertonbrunogithub@yahoo.com>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package evertonbrunosds.SDSUtilityLib.v1.api;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.Test;
+import static org.junit.Assert.*;
+
+/**
+ * Classe responsável por efetuar testes na fábrica.
+ * @author Everton Bruno Silva dos Santos.
+ * @version 1.0
+ * @since 1.0
+ */
+public class FactoryTest {
+
+    @Test
+    public void threadsVirtuaisComSemaforos() throws InterruptedException {
+        final Worker noop = () -> { };
+        if (!Factory.Thread.isVirtualSupported()) {
+            try {
+                Factory.Thread.makeFreeVirtual(noop);
+                fail();
+            } catch (final UnsupportedOperationException ex) {
+                assertNotNull(ex);
+            }
+            return;
+        }
+        final Semaphore first = new Semaphore(1);
+        final Semaphore second = new Semaphore(1);
+        final AtomicInteger inside = new AtomicInteger();
+        final AtomicInteger overlaps = new AtomicInteger();
+        final List<java.lang.Thread> threads = new ArrayList<>();
+        for (int i = 0; i < 1000; i++) {
+            final java.lang.Thread thread = Factory.Thread.makeSafeVirtual(() -> {
+                if (inside.incrementAndGet() > 1) {
+                    overlaps.incrementAndGet();
+                }
+                java.lang.Thread.yield();
+                inside.decrementAndGet();
+            }, Arrays.asList(first, second));
+            threads.add(thread);
+            thread.start();
+        }
+        for (final java.lang.Thread thread : threads) {
+            thread.join();
+        }
+        assertEquals(0, overlaps.get());
+        assertEquals(1, first.availablePermits());
+        assertEquals(1, second.availablePermits());
+        final java.lang.Thread free = Factory.Thread.makeFreeVirtual(noop);
+        assertTrue(free.isDaemon());
+        free.start();
+        free.join();
+    }
+
+    @Test
+    public void threadVirtualInterrompidaLiberaApenasSemaforosAdquiridos() throws InterruptedException {
+        if (!Factory.Thread.isVirtualSupported()) {
+            return;
+        }
+        final Semaphore free = new Semaphore(1);
+        final Semaphore busy = new Semaphore(0);
+        final AtomicInteger runs = new AtomicInteger();
+        interruptUntilAbandoned(Factory.Thread.makeSafeVirtual(runs::incrementAndGet, Arrays.asList(free, busy)), busy);
+        assertEquals(0, runs.get());
+        assertEquals(1, free.availablePermits());
+        assertEquals(0, busy.availablePermits());
+    }
+
+    @Test
+    public void interrupcoesNaoInflamSemaforosNemCriamThreads() throws InterruptedException {
+        final long failures = Factory.Thread.getSafeFailures();
+        final long attempts = Factory.Thread.getSafeAttempts();
+        final long retries = Factory.Thread.getSafeRetries();
+        final Semaphore free = new Semaphore(1);
+        final Semaphore busy = new Semaphore(0);
+        final AtomicInteger runs = new AtomicInteger();
+        final int threads = java.lang.Thread.activeCount();
+        interruptUntilAbandoned(Factory.Thread.makeSafeThread(runs::incrementAndGet, new Semaphore[] { free, busy }), busy);
+        assertEquals(0, runs.get());
+        assertEquals(1, free.availablePermits());
+        assertEquals(0, busy.availablePermits());
+        assertEquals(1, Factory.Thread.SEMAPHORE.availablePermits());
+        assertTrue(java.lang.Thread.activeCount() <= threads);
+        assertEquals(failures + 1, Factory.Thread.getSafeFailures());
+        assertTrue(Factory.Thread.getSafeAttempts() - attempts > 1);
+        assertEquals(Factory.Thread.getSafeAttempts() - attempts - 1, Factory.Thread.getSafeRetries() - retries);
+    }
+
+    @Test
+    public void tentativaAposInterrupcaoUsaOsMesmosSemaforos() throws InterruptedException {
+        final Semaphore own = new Semaphore(0);
+        final AtomicInteger runs = new AtomicInteger();
+        final java.lang.Thread thread = Factory.Thread.makeSafe(runs::incrementAndGet, Arrays.asList(own));
+        thread.start();
+        awaitQueued(own);
+        thread.interrupt();
+        awaitQueued(own);
+        own.release();
+        thread.join();
+        assertEquals(1, runs.get());
+        assertEquals(1, own.availablePermits());
+        assertEquals(1, Factory.Thread.SEMAPHORE.availablePermits());
+    }
+
+    @Test
+    public void exclusaoMutuaDoSemaforoGlobalSobInterrupcoes() throws InterruptedException {
+        final AtomicInteger inside = new AtomicInteger();
+        final AtomicInteger overlaps = new AtomicInteger();
+        final List<java.lang.Thread> threads = new ArrayList<>();
+        for (int i = 0; i < 50; i++) {
+            final java.lang.Thread thread = Factory.Thread.makeSafe(() -> {
+                if (inside.incrementAndGet() > 1) {
+                    overlaps.incrementAndGet();
+                }
+                java.lang.Thread.yield();
+                inside.decrementAndGet();
+            });
+            threads.add(thread);
+            thread.start();
+        }
+        for (int i = 0; i < threads.size(); i += 3) {
+            threads.get(i).interrupt();
+        }
+        for (final java.lang.Thread thread : threads) {
+            thread.join();
+        }
+        assertEquals(0, overlaps.get());
+        assertEquals(1, Factory.Thread.SEMAPHORE.availablePermits());
+    }
+
+    private static void interruptUntilAbandoned(final java.lang.Thread thread, final Semaphore busy) throws InterruptedException {
+        thread.start();
+        while (thread.isAlive()) {
+            if (busy.hasQueuedThreads()) {
+                thread.interrupt();
+            }
+            java.lang.Thread.yield();
+        }
+        thread.join();
+    }
+
+    private static void awaitQueued(final Semaphore semaphore) {
+        while (!semaphore.hasQueuedThreads()) {
+            java.lang.Thread.yield();
+        }
+    }
+
+}
@@ -0,0 +1,150 @@
+/*
+ * This file is part of the SDSUtilityLib Open Source Project.
+ * SDSUtilityLib is licensed under the GNU GPLv3.
+ *
+ * Copyright © 2020. Everton Bruno Silva dos Santos <evertonbrunogithub@yahoo.com>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package evertonbrunosds.SDSUtilityLib.v1.util;
+
+import evertonbrunosds.SDSUtilityLib.v1.exceptions.EntryNotFoundException;
+import evertonbrunosds.SDSUtilityLib.v1.exceptions.InvalidDateException;
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map.Entry;
+import org.junit.Before;
+import org.junit.Test;
+import static org.junit.Assert.*;
+
+/**
+ * Classe responsável por efetuar testes no multimapa ordenado.
+ * @author Everton Bruno Silva dos Santos.
+ * @version 1.0
+ * @since 1.0
+ */
+public class AVLMultimapTest {
+    private AVLMultimap<Date, String> ledger;
+
+    @Before
+    public void setUp() throws InvalidDateException {
+        ledger = new AVLMultimap<>((final Date d1, final Date d2) -> d1.compareTo(d2));
+        ledger.put(new Date(1, 1, 2020), "a");
+        ledger.put(new Date(1, 1, 2020), "b");
+        ledger.put(new Date(2, 1, 2020), "c");
+        ledger.put(new Date(1, 1, 2020), "d");
+        ledger.put(new Date(5, 1, 2020), "e");
+    }
+
+    @Test
+    public void chavesRepetidas() throws InvalidDateException {
+        assertEquals(5, ledger.size());
+        assertEquals(3, ledger.keyCount());
+        assertEquals(Arrays.asList("a", "b", "d"), ledger.get(new Date(1, 1, 2020)));
+        assertEquals(Arrays.asList("c"), ledger.get(new Date(2, 1, 2020)));
+        assertTrue(ledger.get(new Date(3, 1, 2020)).isEmpty());
+        assertEquals(3, ledger.count(new Date(1, 1, 2020)));
+        assertEquals(0, ledger.count(new Date(3, 1, 2020)));
+        assertTrue(ledger.containsEntry(new Date(1, 1, 2020), "d"));
+        assertFalse(ledger.containsEntry(new Date(2, 1, 2020), "d"));
+    }
+
+    @Test
+    public void contagemPorIntervalo() throws InvalidDateException {
+        assertEquals(4, ledger.count(new Date(1, 1, 2020), new Date(2, 1, 2020)));
+        assertEquals(2, ledger.count(new Date(2, 1, 2020), new Date(31, 1, 2020)));
+        assertEquals(0, ledger.count(new Date(6, 1, 2020), new Date(31, 1, 2020)));
+        final List<String> visited = new ArrayList<>();
+        ledger.forEachBucket(new Date(1, 1, 2020), new Date(4, 1, 2020), bucket -> visited.add(bucket.getKey().getDay() + ":" + bucket.getValue()));
+        assertEquals(Arrays.asList("1:[a, b, d]", "2:[c]"), visited);
+    }
+
+    @Test
+    public void remocao() throws InvalidDateException, EntryNotFoundException {
+        ledger.remove(new Date(1, 1, 2020), "b");
+        assertEquals(Arrays.asList("a", "d"), ledger.get(new Date(1, 1, 2020)));
+        ledger.remove(new Date(1, 1, 2020), "a");
+        assertEquals(Arrays.asList("d"), ledger.get(new Date(1, 1, 2020)));
+        assertEquals(3, ledger.count(new Date(1, 1, 2020), new Date(5, 1, 2020)));
+        try {
+            ledger.remove(new Date(1, 1, 2020), "x");
+            fail();
+        } catch (final EntryNotFoundException ex) {
+            assertNotNull(ex);
+        }
+        ledger.remove(new Date(1, 1, 2020), "d");
+        assertFalse(ledger.containsKey(new Date(1, 1, 2020)));
+        ledger.put(new Date(5, 1, 2020), "f");
+        assertEquals(Arrays.asList("e", "f"), ledger.removeAll(new Date(5, 1, 2020)));
+        assertEquals(1, ledger.size());
+        try {
+            ledger.removeAll(new Date(5, 1, 2020));
+            fail();
+        } catch (final EntryNotFoundException ex) {
+            assertNotNull(ex);
+        }
+    }
+
+    @Test
+    public void iteracaoEmOrdem() {
+        final List<String> values = new ArrayList<>();
+        for (final Entry<Date, String> entry : ledger) {
+            values.add(entry.getValue());
+        }
+        assertEquals(Arrays.asList("a", "b", "d", "c", "e"), values);
+        values.clear();
+        ledger.forEach(entry -> values.add(entry.getValue()));
+        assertEquals(Arrays.asList("a", "b", "d", "c", "e"), values);
+    }
+
+    @Test
+    public void duplicacaoEGravacao() throws InvalidDateException, IOException, ClassNotFoundException, EntryNotFoundException {
+        final AVLMultimap<Date, String> duplicate = ledger.duplicate();
+        ledger.put(new Date(1, 1, 2020), "z");
+        ledger.remove(new Date(1, 1, 2020), "a");
+        assertEquals(Arrays.asList("a", "b", "d"), duplicate.get(new Date(1, 1, 2020)));
+        assertEquals(5, duplicate.size());
+        final File file = File.createTempFile("avlmultimap", ".bin");
+        try {
+            duplicate.saveToFile(file.getPath());
+            final AVLMultimap<Date, String> loaded = new AVLMultimap<>((final Date d1, final Date d2) -> d1.compareTo(d2));
+            loaded.loadFromFile(file.getPath());
+            assertEquals(5, loaded.size());
+            assertEquals(3, loaded.count(new Date(1, 1, 2020)));
+            loaded.put(new Date(2, 1, 2020), "g");
+            assertEquals(5, loaded.count(new Date(1, 1, 2020), new Date(2, 1, 2020)));
+        } finally {
+            file.delete();
+        }
+    }
+
+    @Test
+    public void gravacaoNaoCompartilhaBaldes() throws InvalidDateException, EntryNotFoundException {
+        final AVLMultimap<Date, String> assigned = new AVLMultimap<>((final Date d1, final Date d2) -> d1.compareTo(d2));
+        assigned.set(ledger);
+        assigned.put(new Date(1, 1, 2020), "z");
+        assigned.remove(new Date(1, 1, 2020), "a");
+        assertEquals(Arrays.asList("a", "b", "d"), ledger.get(new Date(1, 1, 2020)));
+        assertEquals(3, ledger.count(new Date(1, 1, 2020)));
+        assertEquals(4, ledger.count(new Date(1, 1, 2020), new Date(2, 1, 2020)));
+        assertEquals(5, ledger.size());
+        assertEquals(Arrays.asList("b", "d", "z"), assigned.get(new Date(1, 1, 2020)));
+        assertEquals(4, assigned.count(new Date(1, 1, 2020), new Date(2, 1, 2020)));
+        assertEquals(5, assigned.size());
+    }
+
+}
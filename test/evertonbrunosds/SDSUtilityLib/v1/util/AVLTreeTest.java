@@ -19,11 +19,16 @@
  */
 package evertonbrunosds.SDSUtilityLib.v1.util;
 
+import evertonbrunosds.SDSUtilityLib.v1.api.Aggregator;
 import evertonbrunosds.SDSUtilityLib.v1.exceptions.EntryNotFoundException;
 import evertonbrunosds.SDSUtilityLib.v1.exceptions.KeyUsedException;
 import java.io.File;
 import java.io.IOException;
+import java.util.Arrays;
+import java.util.ConcurrentModificationException;
+import java.util.ArrayList;
 import java.util.Iterator;
+import java.util.NavigableMap;
 import org.junit.After;
 import org.junit.AfterClass;
 import org.junit.Before;
@@ -572,4 +577,519 @@ public class AVLTreeTest {
         }
     }
 
+    @Test
+    public void removerEntradaComDoisFilhosDeAVL() {
+        for (int i = 0; i < 100; i++) {
+            avl.put(i, "");
+        }
+        avl.remove(63);
+        avl.remove(31);
+        assertSame(98, avl.size());
+        assertFalse(avl.containsKey(63));
+        assertFalse(avl.containsKey(31));
+        int previous = -1;
+        for (final Entry<Integer, String> entry : avl) {
+            assertTrue(entry.getKey() > previous);
+            previous = entry.getKey();
+        }
+    }
+
+    @Test
+    public void tamanhoDeAVLAposRemoverChaveInexistente() {
+        avl.put(20, "A");
+        try {
+            avl.remove(23);
+            fail();
+        } catch (final EntryNotFoundException ex) {
+            assertNotNull(ex);
+        }
+        assertSame(1, avl.size());
+    }
+
+    @Test
+    public void alturaDeAVL() {
+        assertSame(0, avl.height());
+        for (int i = 0; i < 1023; i++) {
+            avl.put(i, "");
+        }
+        assertSame(10, avl.height());
+    }
+
+    @Test
+    public void estatisticasDesabilitadasPorPadraoEmAVL() {
+        assertFalse(avl.isStatisticsEnabled());
+        assertNull(avl.getStatistics());
+    }
+
+    @Test
+    public void estatisticasDeAVL() {
+        avl.setStatisticsEnabled(true);
+        final AVLTree<Integer, String>.Statistics statistics = avl.getStatistics();
+        avl.put(1, "A");
+        avl.put(2, "B");
+        avl.put(3, "C");
+        assertSame(3, statistics.getSize());
+        assertSame(2, statistics.getHeight());
+        assertEquals(3, statistics.getPuts());
+        assertEquals(2, statistics.getPutComparisons());
+        assertEquals(1, statistics.getRotations());
+        assertTrue(avl.containsKey(1));
+        assertEquals(1, statistics.getFinds());
+        assertEquals(2, statistics.getFindComparisons());
+        avl.remove(3);
+        assertEquals(1, statistics.getRemoves());
+        assertEquals(2, statistics.getRemoveComparisons());
+        statistics.reset();
+        assertEquals(0, statistics.getPuts());
+        assertEquals(0, statistics.getRotations());
+        avl.setStatisticsEnabled(false);
+        assertNull(avl.getStatistics());
+    }
+
+    @Test
+    public void visaoNavegavelRefleteAVL() {
+        final NavigableMap<Integer, String> map = avl.asNavigableMap();
+        assertTrue(map.isEmpty());
+        avl.put(20, "A");
+        assertEquals("A", map.get(20));
+        assertNull(map.put(23, "B"));
+        assertEquals("B", map.put(23, "C"));
+        assertEquals("C", avl.find(23).getValue());
+        assertSame(2, map.size());
+        assertEquals("A", map.remove(20));
+        assertFalse(avl.containsKey(20));
+        assertNull(map.remove(20));
+    }
+
+    @Test
+    public void navegacaoDeVisaoNavegavel() {
+        for (int i = 0; i < 100; i += 10) {
+            avl.put(i, "" + i);
+        }
+        final NavigableMap<Integer, String> map = avl.asNavigableMap();
+        assertSame(0, map.firstKey());
+        assertSame(90, map.lastKey());
+        assertSame(20, map.floorKey(25));
+        assertSame(30, map.ceilingKey(25));
+        assertSame(20, map.lowerKey(30));
+        assertSame(40, map.higherKey(30));
+        assertNull(map.higherKey(90));
+        assertEquals("50", map.ceilingEntry(50).getValue());
+    }
+
+    @Test
+    public void subVisoesDeVisaoNavegavel() {
+        for (int i = 0; i < 10; i++) {
+            avl.put(i, "" + i);
+        }
+        final NavigableMap<Integer, String> map = avl.asNavigableMap();
+        assertEquals(Arrays.asList(3, 4, 5), new ArrayList<>(map.subMap(3, 6).keySet()));
+        assertEquals(Arrays.asList(2, 1, 0), new ArrayList<>(map.headMap(2, true).descendingKeySet()));
+        assertEquals(Arrays.asList(9, 8, 7), new ArrayList<>(map.descendingMap().headMap(6).keySet()));
+        assertSame(3, map.tailMap(7).size());
+        try {
+            map.subMap(3, 6).put(7, "7");
+            fail();
+        } catch (final IllegalArgumentException ex) {
+            assertNotNull(ex);
+        }
+        map.subMap(3, 6).clear();
+        assertSame(7, avl.size());
+        assertFalse(avl.containsKey(4));
+    }
+
+    @Test
+    public void iteradorDeVisaoNavegavel() {
+        for (int i = 0; i < 100; i++) {
+            avl.put(i, "");
+        }
+        final Iterator<Integer> iterator = avl.asNavigableMap().keySet().iterator();
+        int expected = 0;
+        while (iterator.hasNext()) {
+            assertSame(expected, iterator.next());
+            if (expected % 2 == 0) {
+                iterator.remove();
+            }
+            expected++;
+        }
+        assertSame(100, expected);
+        assertSame(50, avl.size());
+        for (int i = 0; i < 100; i++) {
+            assertEquals(i % 2 != 0, avl.containsKey(i));
+        }
+    }
+
+    @Test
+    public void iteradorDecrescenteNaoAlteraSentidoDaAVL() {
+        for (int i = 0; i <= 100; i++) {
+            avl.put(i, "");
+        }
+        final Iterator<Entry<Integer, String>> ascending = avl.ascendingIterator();
+        final Iterator<Entry<Integer, String>> descending = avl.descendingIterator();
+        for (int i = 0; i <= 100; i++) {
+            assertSame(i, ascending.next().getKey());
+            assertSame(100 - i, descending.next().getKey());
+        }
+        assertFalse(ascending.hasNext());
+        assertFalse(descending.hasNext());
+        assertFalse(avl.isReverseIterations());
+        assertSame(0, avl.iterator().next().getKey());
+    }
+
+    @Test
+    public void forInDecrescente() {
+        for (int i = 0; i <= 100; i++) {
+            avl.put(i, "");
+        }
+        int counter = 100;
+        for (final Entry<Integer, String> entry : avl.descending()) {
+            assertSame(counter, entry.getKey());
+            counter--;
+        }
+        assertSame(-1, counter);
+    }
+
+    @Test
+    public void forEachCrescenteEDecrescente() {
+        for (int i = 0; i <= 100; i++) {
+            avl.put(i, "");
+        }
+        avl.setReverseIterations(true);
+        globalCounter = 0;
+        avl.forEachAscending(entry -> {
+            assertSame(globalCounter, entry.getKey());
+            globalCounter++;
+        });
+        avl.setReverseIterations(false);
+        avl.forEachDescending(entry -> {
+            globalCounter--;
+            assertSame(globalCounter, entry.getKey());
+        });
+        assertSame(0, globalCounter);
+    }
+
+    @Test
+    public void iteracoesConcorrentesEmSentidosOpostos() throws InterruptedException {
+        for (int i = 0; i < 10000; i++) {
+            avl.put(i, "");
+        }
+        final boolean[] ordered = new boolean[] { true, true };
+        final Thread ascending = new Thread(() -> {
+            int expected = 0;
+            for (final Iterator<Entry<Integer, String>> iterator = avl.ascendingIterator(); iterator.hasNext();) {
+                ordered[0] &= iterator.next().getKey() == expected++;
+            }
+        });
+        final Thread descending = new Thread(() -> {
+            int expected = 9999;
+            for (final Entry<Integer, String> entry : avl.descending()) {
+                ordered[1] &= entry.getKey() == expected--;
+            }
+        });
+        ascending.start();
+        descending.start();
+        ascending.join();
+        descending.join();
+        assertTrue(ordered[0]);
+        assertTrue(ordered[1]);
+    }
+
+    @Test
+    public void cursorDeAVLRecemCriada() {
+        final AVLTree<Integer, String>.Cursor cursor = avl.cursor();
+        assertFalse(cursor.isValid());
+        assertFalse(cursor.next());
+        assertFalse(cursor.seek(20));
+        assertFalse(cursor.seekFirst());
+        try {
+            cursor.getKey();
+            fail();
+        } catch (final EntryNotFoundException ex) {
+            assertNotNull(ex);
+        }
+    }
+
+    @Test
+    public void posicionarEAvancarCursorDeAVL() {
+        for (int i = 0; i < 1000; i += 2) {
+            avl.put(i, "" + i);
+        }
+        final AVLTree<Integer, String>.Cursor cursor = avl.cursor();
+        assertTrue(cursor.seek(501));
+        for (int i = 502; i < 512; i += 2) {
+            assertEquals(i, (int) cursor.getKey());
+            assertEquals("" + i, cursor.getValue());
+            assertTrue(cursor.next());
+        }
+        assertTrue(cursor.seek(100));
+        assertEquals(100, (int) cursor.getKey());
+        assertTrue(cursor.prev());
+        assertEquals(98, (int) cursor.getKey());
+        assertTrue(cursor.seekFloor(501));
+        assertEquals(500, (int) cursor.getKey());
+        assertTrue(cursor.seekLast());
+        assertEquals(998, (int) cursor.getKey());
+        assertFalse(cursor.next());
+        assertFalse(cursor.isValid());
+        assertTrue(cursor.seekFirst());
+        assertFalse(cursor.prev());
+        assertFalse(cursor.seek(999));
+    }
+
+    @Test
+    public void percorrerAVLComCursor() {
+        for (int i = 0; i < 1000; i++) {
+            avl.put(i, "");
+        }
+        final AVLTree<Integer, String>.Cursor cursor = avl.cursor();
+        int expected = 0;
+        for (boolean valid = cursor.seekFirst(); valid; valid = cursor.next()) {
+            assertEquals(expected++, (int) cursor.getKey());
+        }
+        assertEquals(1000, expected);
+        for (boolean valid = cursor.seekLast(); valid; valid = cursor.prev()) {
+            assertEquals(--expected, (int) cursor.getKey());
+        }
+        assertSame(0, expected);
+    }
+
+    @Test
+    public void cursorInvalidadoPorModificacaoDaAVL() {
+        avl.put(1, "A");
+        avl.put(2, "B");
+        final AVLTree<Integer, String>.Cursor cursor = avl.cursor();
+        assertTrue(cursor.seek(1));
+        assertEquals("A", cursor.setValue("C"));
+        assertEquals("C", avl.find(1).getValue());
+        avl.put(3, "D");
+        assertFalse(cursor.isValid());
+        try {
+            cursor.next();
+            fail();
+        } catch (final ConcurrentModificationException ex) {
+            assertNotNull(ex);
+        }
+        assertTrue(cursor.seek(3));
+        assertEquals("D", cursor.getValue());
+    }
+
+    @Test
+    public void filtroDeBloomNaAVL() {
+        avl.setStatisticsEnabled(true);
+        avl.setBloomFilterEnabled(true);
+        assertTrue(avl.isBloomFilterEnabled());
+        for (int i = 0; i < 1000; i++) {
+            avl.put(i * 2, "");
+        }
+        for (int i = 0; i < 1000; i++) {
+            assertTrue(avl.containsKey(i * 2));
+            assertFalse(avl.containsKey(i * 2 + 1));
+        }
+        assertTrue(avl.getStatistics().getBloomFilterRejections() > 900);
+        try {
+            avl.remove(1);
+            fail();
+        } catch (final EntryNotFoundException ex) {
+            assertNotNull(ex);
+        }
+        for (int i = 0; i < 1000; i += 2) {
+            avl.remove(i * 2);
+        }
+        assertFalse(avl.containsKey(0));
+        assertTrue(avl.containsKey(2));
+        assertTrue(avl.getBloomFilter().getInsertions() <= 2L * Math.max(avl.size(), 64));
+        avl.setBloomFilterEnabled(false);
+        assertNull(avl.getBloomFilter());
+        assertTrue(avl.containsKey(2));
+    }
+
+    @Test
+    public void filtroDeBloomPreservadoNaDuplicacaoEGravacao() throws IOException, ClassNotFoundException {
+        avl.setBloomFilterEnabled(true);
+        for (int i = 0; i < 100; i++) {
+            avl.put(i, "");
+        }
+        final AVLTree<Integer, String> duplicate = avl.duplicate();
+        assertTrue(duplicate.isBloomFilterEnabled());
+        assertNotSame(avl.getBloomFilter(), duplicate.getBloomFilter());
+        duplicate.put(500, "");
+        assertTrue(duplicate.containsKey(500));
+        assertFalse(avl.containsKey(500));
+        avl.saveToFile(fileName);
+        final AVLTree<Integer, String> loaded = new AVLTree<>(Integer::compareTo);
+        loaded.loadFromFile(fileName);
+        assertTrue(loaded.isBloomFilterEnabled());
+        assertTrue(loaded.containsKey(50));
+        assertFalse(loaded.containsKey(500));
+        final AVLTree<Integer, String> assigned = new AVLTree<>(Integer::compareTo);
+        assigned.set(avl);
+        assertNotSame(avl.getBloomFilter(), assigned.getBloomFilter());
+        final long insertions = avl.getBloomFilter().getInsertions();
+        assigned.put(600, "");
+        assertEquals(insertions, avl.getBloomFilter().getInsertions());
+        assertFalse(avl.containsKey(600));
+    }
+
+    @Test
+    public void agregadosPorIntervaloDeChaves() {
+        try {
+            avl.aggregate();
+            fail();
+        } catch (final IllegalStateException ex) {
+            assertNotNull(ex);
+        }
+        avl.setAggregator(Aggregator.Long.count());
+        for (int i = 0; i < 1000; i++) {
+            avl.put(i, "");
+        }
+        assertEquals(1000L, (long) avl.aggregate());
+        assertEquals(101L, (long) avl.aggregate(100, 200));
+        assertEquals(99L, (long) avl.aggregate(100, false, 200, false));
+        assertEquals(0L, (long) avl.aggregate(2000, 3000));
+        for (int i = 0; i < 1000; i += 2) {
+            avl.remove(i);
+        }
+        assertEquals(50L, (long) avl.aggregate(100, 200));
+        final AVLTree<Integer, String> loaded = new AVLTree<>(Integer::compareTo);
+        loaded.set(avl.duplicate());
+        assertEquals(500L, (long) loaded.aggregate());
+        try {
+            avl.aggregate(200, 100);
+            fail();
+        } catch (final IllegalArgumentException ex) {
+            assertNotNull(ex);
+        }
+    }
+
+    @Test
+    public void somaDosValoresDeRequisicoes() {
+        final AVLTree<Integer, AccountingRecipeRequisition> requests = new AVLTree<>(Integer::compareTo);
+        requests.setAggregator(AbstractRequest.valueSum());
+        for (int i = 1; i <= 100; i++) {
+            requests.put(i, new AccountingRecipeRequisition(2, new AccountingRecipe(i)));
+        }
+        assertEquals(10100.0, (double) requests.aggregate(), 0);
+        assertEquals(2 * (10 + 11 + 12), (double) requests.aggregate(10, 12), 0);
+        requests.find(11).setValue(new AccountingRecipeRequisition(1, new AccountingRecipe(0)));
+        assertEquals(2 * (10 + 12), (double) requests.aggregate(10, 12), 0);
+        requests.asNavigableMap().put(12, new AccountingRecipeRequisition(3, new AccountingRecipe(1)));
+        assertEquals(2 * 10 + 3, (double) requests.aggregate(10, 12), 0);
+        requests.setAggregator(Aggregator.Double.max(request -> request.getValue()));
+        assertEquals(200.0, (double) requests.aggregate(1, 100), 0);
+        requests.setAggregator(null);
+        assertNull(requests.getAggregator());
+    }
+
+    @Test
+    public void estrategiasDeBalanceamento() {
+        for (final AVLTree.Balancing balancing : AVLTree.Balancing.values()) {
+            final AVLTree<Integer, String> tree = new AVLTree<>(Integer::compareTo, balancing);
+            assertEquals(balancing, tree.getBalancing());
+            for (int i = 0; i < 4096; i++) {
+                tree.put(i, String.valueOf(i));
+            }
+            assertTrue(tree.height() <= 2 * 13);
+            for (int i = 0; i < 4096; i += 3) {
+                tree.remove(i);
+            }
+            try {
+                tree.remove(0);
+                fail();
+            } catch (final EntryNotFoundException ex) {
+                assertNotNull(ex);
+            }
+            try {
+                tree.put(1, "");
+                fail();
+            } catch (final KeyUsedException ex) {
+                assertNotNull(ex);
+            }
+            assertEquals(2730, tree.size());
+            final int[] expected = { 1 };
+            tree.forEach(entry -> {
+                assertEquals(expected[0], (int) entry.getKey());
+                expected[0] += expected[0] % 3 == 1 ? 1 : 2;
+            });
+            final AVLTree<Integer, String> duplicate = tree.duplicate();
+            assertEquals(balancing, duplicate.getBalancing());
+            duplicate.put(0, "0");
+            assertTrue(duplicate.containsKey(0));
+            assertFalse(tree.containsKey(0));
+        }
+    }
+
+    @Test
+    public void trocaDeChaveDeEloComDoisFilhos() {
+        for (final AVLTree.Balancing balancing : AVLTree.Balancing.values()) {
+            final AVLTree<Integer, String> tree = new AVLTree<>(Integer::compareTo, balancing);
+            for (int i = 1; i <= 7; i++) {
+                tree.put(i, "v" + i);
+            }
+            tree.setKey(4, 40);
+            assertEquals("v4", tree.find(40).getValue());
+            assertFalse(tree.containsKey(4));
+            for (int i = 1; i <= 7; i++) {
+                if (i != 4) {
+                    assertEquals("v" + i, tree.find(i).getValue());
+                }
+            }
+            assertEquals(7, tree.size());
+        }
+    }
+
+    @Test
+    public void trocaDeEstrategiaDeBalanceamento() throws IOException, ClassNotFoundException {
+        for (int i = 0; i < 1000; i++) {
+            avl.put(i, String.valueOf(i));
+        }
+        avl.setBalancing(AVLTree.Balancing.RED_BLACK);
+        assertEquals(1000, avl.size());
+        avl.remove(500);
+        avl.setBalancing(AVLTree.Balancing.WEIGHT_BALANCED);
+        assertEquals(999, avl.size());
+        assertEquals("499", avl.find(499).getValue());
+        avl.saveToFile(fileName);
+        final AVLTree<Integer, String> loaded = new AVLTree<>(Integer::compareTo);
+        loaded.loadFromFile(fileName);
+        assertEquals(AVLTree.Balancing.WEIGHT_BALANCED, loaded.getBalancing());
+        loaded.remove(499);
+        assertFalse(loaded.containsKey(499));
+        assertEquals(998, loaded.size());
+    }
+
+    @Test
+    public void insercoesSequenciaisPeloDedoDeInsercao() {
+        avl.setStatisticsEnabled(true);
+        avl.setAggregator(Aggregator.Long.count());
+        for (int i = 0; i < 10000; i++) {
+            avl.put(i, String.valueOf(i));
+        }
+        assertEquals(9999, avl.getStatistics().getAppends());
+        assertEquals(9999, avl.getStatistics().getPutComparisons());
+        assertTrue(avl.height() <= 14);
+        assertEquals(10000L, (long) avl.aggregate());
+        try {
+            avl.put(9999, "");
+            fail();
+        } catch (final KeyUsedException ex) {
+            assertNotNull(ex);
+        }
+        avl.remove(9999);
+        avl.put(-1, "-1");
+        avl.put(20000, "20000");
+        avl.put(20001, "20001");
+        assertEquals(10000, avl.getStatistics().getAppends());
+        assertEquals(10002L, (long) avl.aggregate());
+        assertEquals(101L, (long) avl.aggregate(9900, 20001));
+        final int[] expected = { -1 };
+        avl.forEach(entry -> {
+            assertEquals(expected[0], (int) entry.getKey());
+            expected[0] = expected[0] == 9998 ? 20000 : expected[0] + 1;
+        });
+        avl.setBalancing(AVLTree.Balancing.RED_BLACK);
+        avl.put(20002, "20002");
+        assertEquals(10000, avl.getStatistics().getAppends());
+        assertEquals("20002", avl.find(20002).getValue());
+    }
+
 }
@@ -0,0 +1,211 @@
+/*
+ * This file is part of the SDSUtilityLib Open Source Project.
+ * SDSUtilityLib is licensed under the GNU GPLv3.
+ *
+ * Copyright © 2020. Everton Bruno Silva dos Santos <evertonbrunogithub@yahoo.com>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package evertonbrunosds.SDSUtilityLib.v1.util;
+
+import evertonbrunosds.SDSUtilityLib.v1.exceptions.EntryNotFoundException;
+import evertonbrunosds.SDSUtilityLib.v1.exceptions.KeyUsedException;
+import java.io.File;
+import java.io.IOException;
+import java.util.Iterator;
+import java.util.Map.Entry;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import static org.junit.Assert.*;
+
+/**
+ * Classe responsável por efetuar testes na árvore B+.
+ * @author Everton Bruno Silva dos Santos.
+ * @version 1.0
+ * @since 1.0
+ */
+public class BPlusTreeTest {
+    private BPlusTree<Integer, String> tree;
+    private final String fileName;
+    private int globalCounter;
+
+    public BPlusTreeTest() {
+        fileName = "FileTest";
+    }
+
+    @Before
+    public void setUp() {
+        globalCounter = 0;
+        tree = new BPlusTree<>(Integer::compareTo, 4);
+    }
+
+    @After
+    public void tearDown() {
+        final File file = new File(fileName);
+        if (file.exists()) {
+            file.delete();
+        }
+    }
+
+    @Test
+    public void estadoDeArvoreRecemCriada() {
+        assertSame(0, tree.size());
+        assertSame(0, tree.height());
+        assertTrue(tree.isEmpty());
+        assertFalse(tree.iterator().hasNext());
+        assertFalse(tree.containsKey(20));
+    }
+
+    @Test
+    public void ordemInvalida() {
+        try {
+            new BPlusTree<Integer, String>(Integer::compareTo, 2);
+            fail();
+        } catch (final IllegalArgumentException ex) {
+            assertNotNull(ex);
+        }
+    }
+
+    @Test
+    public void inserirEBuscarEmArvore() {
+        for (int i = 0; i < 1000; i++) {
+            tree.put(i, "" + i);
+        }
+        assertEquals(1000, tree.size());
+        assertTrue(tree.height() > 1);
+        for (int i = 0; i < 1000; i++) {
+            assertEquals("" + i, tree.find(i).getValue());
+        }
+    }
+
+    @Test
+    public void inserirChaveRepetidaEmArvore() {
+        tree.put(20, "A");
+        try {
+            tree.put(20, "B");
+            fail();
+        } catch (final KeyUsedException ex) {
+            assertEquals("Key used.", ex.getMessage());
+        }
+        assertSame(1, tree.size());
+        assertEquals("A", tree.find(20).getValue());
+    }
+
+    @Test
+    public void removerDeArvore() {
+        for (int i = 1000; i > 0; i--) {
+            tree.put(i, "");
+        }
+        for (int i = 1; i <= 1000; i += 2) {
+            tree.remove(i);
+        }
+        assertEquals(500, tree.size());
+        for (int i = 1; i <= 1000; i++) {
+            assertEquals(i % 2 == 0, tree.containsKey(i));
+        }
+        try {
+            tree.remove(1);
+            fail();
+        } catch (final EntryNotFoundException ex) {
+            assertEquals("Entry not found.", ex.getMessage());
+        }
+        assertEquals(500, tree.size());
+        for (int i = 2; i <= 1000; i += 2) {
+            tree.remove(i);
+        }
+        assertTrue(tree.isEmpty());
+    }
+
+    @Test
+    public void percorrerArvoreEmOrdem() {
+        for (int i = 99; i >= 0; i--) {
+            tree.put(i, "");
+        }
+        final Iterator<Entry<Integer, String>> iterator = tree.iterator();
+        for (int i = 0; i < 100; i++) {
+            assertSame(i, iterator.next().getKey());
+        }
+        assertFalse(iterator.hasNext());
+        tree.forEach(entry -> {
+            assertSame(globalCounter, entry.getKey());
+            globalCounter++;
+        });
+        assertSame(100, globalCounter);
+    }
+
+    @Test
+    public void percorrerIntervaloDaArvore() {
+        for (int i = 0; i < 100; i += 2) {
+            tree.put(i, "");
+        }
+        globalCounter = 11;
+        tree.forEach(11, 31, entry -> {
+            globalCounter++;
+            assertSame(globalCounter, entry.getKey());
+            globalCounter++;
+        });
+        assertSame(31, globalCounter);
+    }
+
+    @Test
+    public void alterarValorEChaveDeArvore() {
+        tree.put(20, "A");
+        tree.put(23, "B");
+        assertEquals("A", tree.setValue(20, "C"));
+        assertEquals("C", tree.find(20).getValue());
+        tree.setKey(20, 30);
+        assertFalse(tree.containsKey(20));
+        assertEquals("C", tree.find(30).getValue());
+        try {
+            tree.setKey(30, 23);
+            fail();
+        } catch (final KeyUsedException ex) {
+            assertNotNull(ex);
+        }
+    }
+
+    @Test
+    public void duplicarArvore() {
+        for (int i = 0; i < 100; i++) {
+            tree.put(i, "A");
+        }
+        final BPlusTree<Integer, String> duplicated = tree.duplicate();
+        duplicated.remove(50);
+        duplicated.setValue(1, "B");
+        assertSame(100, tree.size());
+        assertEquals("A", tree.find(1).getValue());
+        assertTrue(tree.containsKey(50));
+        assertSame(99, duplicated.size());
+        assertEquals("B", duplicated.find(1).getValue());
+    }
+
+    @Test
+    public void gravarECarregarArvoreDeArquivo() throws IOException, ClassNotFoundException {
+        for (int i = 0; i < 100; i++) {
+            tree.put(i, "" + i);
+        }
+        tree.saveToFile(fileName);
+        final BPlusTree<Integer, String> loaded = new BPlusTree<>();
+        loaded.loadFromFile(fileName);
+        assertSame(100, loaded.size());
+        assertSame(4, loaded.getOrder());
+        loaded.forEach(entry -> {
+            assertEquals(globalCounter, (int) entry.getKey());
+            globalCounter++;
+        });
+        assertSame(100, globalCounter);
+    }
+
+}
@@ -0,0 +1,201 @@
+/*
+ * This file is part of the SDSUtilityLib Open Source Project.
+ * SDSUtilityLib is licensed under the GNU GPLv3.
+ *
+ * Copyright © 2020. Everton Bruno Silva dos Santos <evertonbrunogithub@yahoo.com>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package evertonbrunosds.SDSUtilityLib.v1.util;
+
+import evertonbrunosds.SDSUtilityLib.v1.api.Factory;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.NotSerializableException;
+import java.io.ObjectOutputStream;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.Test;
+import static org.junit.Assert.*;
+
+/**
+ * Classe responsável por efetuar testes no receptor em lotes.
+ * @author Everton Bruno Silva dos Santos.
+ * @version 1.0
+ * @since 1.0
+ */
+public class BatchingReceiverTest {
+
+    @Test
+    public void repassePorTamanho() {
+        final List<List<Integer>> batches = new CopyOnWriteArrayList<>();
+        final BatchingReceiver<Integer> receiver = new BatchingReceiver<>(batches::add, 10, 1, TimeUnit.HOURS);
+        for (int i = 0; i < 25; i++) {
+            receiver.receive(i);
+        }
+        assertEquals(2, batches.size());
+        assertEquals(5, receiver.getPending());
+        receiver.flush();
+        assertEquals(3, batches.size());
+        assertEquals(Arrays.asList(20, 21, 22, 23, 24), batches.get(2));
+        final List<Integer> all = new ArrayList<>();
+        for (final List<Integer> batch : batches) {
+            all.addAll(batch);
+        }
+        for (int i = 0; i < 25; i++) {
+            assertEquals(i, (int) all.get(i));
+        }
+        assertEquals(25, receiver.getReceived());
+        assertEquals(25, receiver.getFlushed());
+        assertEquals(3, receiver.getFlushes());
+        assertEquals(0, receiver.getLingerFlushes());
+    }
+
+    @Test
+    public void repassePorTempoDeEspera() throws InterruptedException {
+        final List<List<String>> batches = new CopyOnWriteArrayList<>();
+        final CountDownLatch flushed = new CountDownLatch(1);
+        final BatchingReceiver<String> receiver = new BatchingReceiver<>((final List<String> batch) -> {
+            batches.add(batch);
+            flushed.countDown();
+        }, 1000, 20, TimeUnit.MILLISECONDS);
+        final long start = System.nanoTime();
+        receiver.receive("a");
+        receiver.receive("b");
+        receiver.receive("c");
+        assertTrue(flushed.await(10, TimeUnit.SECONDS));
+        assertTrue(System.nanoTime() - start >= TimeUnit.MILLISECONDS.toNanos(20));
+        assertEquals(Arrays.asList("a", "b", "c"), batches.get(0));
+        assertEquals(1, receiver.getLingerFlushes());
+        assertEquals(0, receiver.getPending());
+    }
+
+    @Test
+    public void destinoLentoNaoRetemOAgendador() throws InterruptedException {
+        try (WorkerScheduler scheduler = Factory.Thread.makeScheduler(1); WorkerPool pool = Factory.Thread.makePool(1, 16)) {
+            final CountDownLatch entered = new CountDownLatch(1);
+            final CountDownLatch release = new CountDownLatch(1);
+            final List<String> threads = new CopyOnWriteArrayList<>();
+            final BatchingReceiver<Integer> receiver = new BatchingReceiver<>((final List<Integer> batch) -> {
+                threads.add(java.lang.Thread.currentThread().getName());
+                entered.countDown();
+                try {
+                    release.await(10, TimeUnit.SECONDS);
+                } catch (final InterruptedException ex) {
+                    java.lang.Thread.currentThread().interrupt();
+                }
+            }, 1000, 5, TimeUnit.MILLISECONDS, scheduler, pool);
+            receiver.receive(1);
+            assertTrue(entered.await(10, TimeUnit.SECONDS));
+            final CountDownLatch ticked = new CountDownLatch(1);
+            scheduler.schedule(ticked::countDown, 0, TimeUnit.MILLISECONDS);
+            assertTrue(ticked.await(5, TimeUnit.SECONDS));
+            release.countDown();
+            receiver.close();
+            assertTrue(threads.get(0).startsWith("WorkerPool-"));
+            assertEquals(1, receiver.getFlushed());
+        }
+    }
+
+    @Test
+    public void serializacaoRecusada() throws IOException {
+        final BatchingReceiver<Integer> receiver = new BatchingReceiver<>((final List<Integer> batch) -> {
+        }, 10, 1, TimeUnit.HOURS);
+        try (ObjectOutputStream out = new ObjectOutputStream(new ByteArrayOutputStream())) {
+            out.writeObject(receiver);
+            fail();
+        } catch (final NotSerializableException ex) {
+            assertNotNull(ex);
+        }
+    }
+
+    @Test
+    public void produtoresConcorrentesAlimentamArvore() throws InterruptedException {
+        final AVLTree<Integer, Integer> tree = new AVLTree<>(Integer::compareTo);
+        final AtomicInteger inside = new AtomicInteger();
+        final AtomicInteger overlaps = new AtomicInteger();
+        final BatchingReceiver<Integer> receiver = new BatchingReceiver<>((final List<Integer> batch) -> {
+            if (inside.incrementAndGet() > 1) {
+                overlaps.incrementAndGet();
+            }
+            for (final Integer key : batch) {
+                tree.put(key, key);
+            }
+            inside.decrementAndGet();
+        }, 256, 5, TimeUnit.MILLISECONDS, Factory.Thread.makeScheduler(1), Factory.Thread.getSharedPool());
+        final java.lang.Thread[] threads = new java.lang.Thread[8];
+        for (int i = 0; i < threads.length; i++) {
+            final int base = i * 10000;
+            threads[i] = Factory.Thread.makeFree(() -> {
+                for (int j = 0; j < 10000; j++) {
+                    receiver.receive(base + j);
+                }
+            });
+            threads[i].start();
+        }
+        for (final java.lang.Thread thread : threads) {
+            thread.join(TimeUnit.SECONDS.toMillis(30));
+            assertFalse(thread.isAlive());
+        }
+        receiver.close();
+        assertEquals(80000, tree.size());
+        assertEquals(0, overlaps.get());
+        assertEquals(80000, receiver.getFlushed());
+        assertTrue(receiver.getFlushes() < 80000 / 2);
+    }
+
+    @Test
+    public void falhaDoDestinoEFechamento() {
+        final IllegalStateException failure = new IllegalStateException();
+        final BatchingReceiver<Integer> receiver = new BatchingReceiver<>((final List<Integer> batch) -> {
+            throw failure;
+        }, 2, 1, TimeUnit.HOURS);
+        receiver.receive(1);
+        try {
+            receiver.receive(2);
+            fail();
+        } catch (final IllegalStateException ex) {
+            assertSame(failure, ex);
+        }
+        assertEquals(1, receiver.getFailures());
+        assertSame(failure, receiver.getLastFailure());
+        assertEquals(0, receiver.getPending());
+        receiver.close();
+        try {
+            receiver.receive(3);
+            fail();
+        } catch (final IllegalStateException ex) {
+            assertNotSame(failure, ex);
+        }
+        try {
+            new BatchingReceiver<Integer>(null, 1, 1, TimeUnit.SECONDS);
+            fail();
+        } catch (final NullPointerException ex) {
+            assertNotNull(ex);
+        }
+        try {
+            new BatchingReceiver<Integer>((final List<Integer> batch) -> {
+            }, 0, 1, TimeUnit.SECONDS);
+            fail();
+        } catch (final IllegalArgumentException ex) {
+            assertNotNull(ex);
+        }
+    }
+
+}
@@ -0,0 +1,90 @@
+/*
+ * This file is part of the SDSUtilityLib Open Source Project.
+ * SDSUtilityLib is licensed under the GNU GPLv3.
+ *
+ * Copyright © 2020. Everton Bruno Silva dos Santos <evertonbrunogithub@yahoo.com>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package evertonbrunosds.SDSUtilityLib.v1.util;
+
+import org.junit.Before;
+import org.junit.Test;
+import static org.junit.Assert.*;
+
+/**
+ * Classe responsável por efetuar testes no filtro de Bloom.
+ * @author Everton Bruno Silva dos Santos.
+ * @version 1.0
+ * @since 1.0
+ */
+public class BloomFilterTest {
+    private BloomFilter<Integer> bloomFilter;
+
+    @Before
+    public void setUp() {
+        bloomFilter = new BloomFilter<>(10000, 0.01);
+    }
+
+    @Test
+    public void parametrosInvalidos() {
+        try {
+            new BloomFilter<Integer>(-1);
+            fail();
+        } catch (final IllegalArgumentException ex) {
+            assertNotNull(ex);
+        }
+        try {
+            new BloomFilter<Integer>(10, 1);
+            fail();
+        } catch (final IllegalArgumentException ex) {
+            assertNotNull(ex);
+        }
+    }
+
+    @Test
+    public void semFalsosNegativos() {
+        for (int i = 0; i < 10000; i++) {
+            bloomFilter.add(i * 31);
+        }
+        for (int i = 0; i < 10000; i++) {
+            assertTrue(bloomFilter.mightContain(i * 31));
+        }
+        assertEquals(10000, bloomFilter.getInsertions());
+    }
+
+    @Test
+    public void taxaDeFalsosPositivos() {
+        for (int i = 0; i < 10000; i++) {
+            bloomFilter.add(i);
+        }
+        int falsePositives = 0;
+        for (int i = 10000; i < 110000; i++) {
+            falsePositives += bloomFilter.mightContain(i) ? 1 : 0;
+        }
+        assertTrue(falsePositives < 2000);
+        assertEquals(0.01, bloomFilter.getExpectedFalsePositiveRate(), 0.005);
+    }
+
+    @Test
+    public void duplicacaoEEsvaziamento() {
+        bloomFilter.add(20);
+        final BloomFilter<Integer> duplicate = bloomFilter.duplicate();
+        bloomFilter.clear();
+        assertFalse(bloomFilter.mightContain(20));
+        assertTrue(duplicate.mightContain(20));
+        assertEquals(1, duplicate.getInsertions());
+    }
+
+}
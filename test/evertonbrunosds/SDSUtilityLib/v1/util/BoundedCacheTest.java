@@ -0,0 +1,217 @@
+/*
+ * This file is part of the SDSUtilityLib Open Source Project.
+ * SDSUtilityLib is licensed under the GNU GPLv3.
+ *
+ * Copyright © 2020. Everton Bruno Silva dos Santos <evertonbrunogithub@yahoo.com>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package evertonbrunosds.SDSUtilityLib.v1.util;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.Test;
+import static org.junit.Assert.*;
+
+/**
+ * Classe responsável por efetuar testes no cache limitado.
+ * @author Everton Bruno Silva dos Santos.
+ * @version 1.0
+ * @since 1.0
+ */
+public class BoundedCacheTest {
+
+    private static BoundedCache<Integer, String> newCache(final long maximumWeight, final BoundedCache.Policy policy) {
+        return new BoundedCache<>((final Integer k1, final Integer k2) -> k1.compareTo(k2), maximumWeight, policy);
+    }
+
+    @Test
+    public void parametrosInvalidos() {
+        try {
+            newCache(-1, BoundedCache.Policy.LRU);
+            fail();
+        } catch (final IllegalArgumentException ex) {
+            assertNotNull(ex);
+        }
+        try {
+            newCache(10, null);
+            fail();
+        } catch (final NullPointerException ex) {
+            assertNotNull(ex);
+        }
+        try {
+            newCache(10, BoundedCache.Policy.LRU).put(1, null);
+            fail();
+        } catch (final NullPointerException ex) {
+            assertNotNull(ex);
+        }
+    }
+
+    @Test
+    public void despejoLRU() {
+        final BoundedCache<Integer, String> cache = newCache(3, BoundedCache.Policy.LRU);
+        cache.put(1, "a");
+        cache.put(2, "b");
+        cache.put(3, "c");
+        assertEquals("a", cache.getIfPresent(1));
+        cache.put(4, "d");
+        assertNull(cache.getIfPresent(2));
+        assertEquals("a", cache.getIfPresent(1));
+        assertEquals("c", cache.getIfPresent(3));
+        assertEquals("d", cache.getIfPresent(4));
+        assertEquals(3, cache.size());
+        assertEquals(1, cache.getEvictions());
+        assertEquals(4, cache.getHits());
+        assertEquals(1, cache.getMisses());
+    }
+
+    @Test
+    public void despejoLFU() {
+        final BoundedCache<Integer, String> cache = newCache(3, BoundedCache.Policy.LFU);
+        cache.put(1, "a");
+        cache.put(2, "b");
+        cache.put(3, "c");
+        cache.getIfPresent(1);
+        cache.getIfPresent(1);
+        cache.getIfPresent(2);
+        cache.getIfPresent(3);
+        cache.getIfPresent(3);
+        cache.put(4, "d");
+        assertNull(cache.getIfPresent(2));
+        assertEquals("a", cache.getIfPresent(1));
+        assertEquals("c", cache.getIfPresent(3));
+        assertEquals("d", cache.getIfPresent(4));
+    }
+
+    @Test
+    public void admissaoWTinyLFU() {
+        final BoundedCache<Integer, String> cache = newCache(100, BoundedCache.Policy.W_TINY_LFU);
+        for (int i = 0; i < 100; i++) {
+            cache.put(i, "v" + i);
+        }
+        for (int round = 0; round < 5; round++) {
+            for (int i = 0; i < 50; i++) {
+                assertEquals("v" + i, cache.getIfPresent(i));
+            }
+        }
+        for (int i = 1000; i < 2000; i++) {
+            cache.put(i, "v" + i);
+        }
+        cache.cleanUp();
+        int retained = 0;
+        for (int i = 0; i < 50; i++) {
+            if (cache.getIfPresent(i) != null) {
+                retained++;
+            }
+        }
+        assertTrue(retained >= 45);
+        assertTrue(cache.weightedSize() <= 100);
+    }
+
+    @Test
+    public void despejoPorPeso() {
+        for (final BoundedCache.Policy policy : BoundedCache.Policy.values()) {
+            final BoundedCache<Integer, String> cache = newCache(10, policy);
+            cache.setWeigher(value -> value.length());
+            cache.put(1, "aaaa");
+            cache.put(2, "bbbb");
+            assertEquals(8, cache.weightedSize());
+            cache.put(3, "cccccc");
+            assertTrue(cache.weightedSize() <= 10);
+            assertTrue(cache.getEvictions() >= 1);
+            assertTrue(cache.getEvictionWeight() >= 4);
+            cache.put(4, "dddddddddddd");
+            assertNull(cache.getIfPresent(4));
+            assertTrue(cache.weightedSize() <= 10);
+        }
+    }
+
+    @Test
+    public void expiracaoPorTempo() {
+        final AtomicLong now = new AtomicLong();
+        final BoundedCache<Integer, String> cache = newCache(100, BoundedCache.Policy.LRU);
+        cache.setTicker(now::get);
+        cache.setExpireAfterWrite(10, TimeUnit.NANOSECONDS);
+        cache.setExpireAfterAccess(4, TimeUnit.NANOSECONDS);
+        cache.put(1, "a");
+        cache.put(2, "b");
+        now.set(3);
+        assertEquals("a", cache.getIfPresent(1));
+        now.set(6);
+        assertEquals("a", cache.getIfPresent(1));
+        assertNull(cache.getIfPresent(2));
+        now.set(9);
+        assertEquals("a", cache.getIfPresent(1));
+        now.set(10);
+        assertNull(cache.getIfPresent(1));
+        cache.cleanUp();
+        assertEquals(0, cache.size());
+        assertEquals(2, cache.getExpirations());
+    }
+
+    @Test
+    public void carregamentoEInvalidacao() {
+        final BoundedCache<Integer, String> cache = newCache(10, BoundedCache.Policy.W_TINY_LFU);
+        assertEquals("v1", cache.get(1, key -> "v" + key));
+        assertEquals("v1", cache.get(1, key -> "outro"));
+        assertEquals(1, cache.getLoads());
+        assertEquals(0.5, cache.getHitRate(), 0);
+        cache.invalidate(1);
+        assertNull(cache.getIfPresent(1));
+        cache.put(2, "b");
+        cache.put(3, "c");
+        cache.invalidateAll();
+        assertEquals(0, cache.size());
+        assertEquals(0, cache.weightedSize());
+        cache.resetStatistics();
+        assertEquals(0, cache.getHits());
+        assertEquals(0, cache.getMisses());
+    }
+
+    @Test
+    public void acessoConcorrente() throws InterruptedException {
+        final BoundedCache<Integer, String> cache = newCache(500, BoundedCache.Policy.W_TINY_LFU);
+        final List<Thread> threads = new ArrayList<>();
+        final AtomicLong failures = new AtomicLong();
+        for (int t = 0; t < 4; t++) {
+            final int seed = t;
+            threads.add(new Thread(() -> {
+                try {
+                    for (int i = 0; i < 20000; i++) {
+                        final int key = (i * 7 + seed * 13) % 1000;
+                        final String value = cache.get(key, k -> "v" + k);
+                        if (!("v" + key).equals(value)) {
+                            failures.incrementAndGet();
+                        }
+                    }
+                } catch (final RuntimeException ex) {
+                    failures.incrementAndGet();
+                }
+            }));
+        }
+        for (final Thread thread : threads) {
+            thread.start();
+        }
+        for (final Thread thread : threads) {
+            thread.join();
+        }
+        cache.cleanUp();
+        assertEquals(0, failures.get());
+        assertTrue(cache.weightedSize() <= 500);
+        assertEquals(cache.size(), cache.weightedSize());
+    }
+
+}
@@ -0,0 +1,150 @@
+/*
+ * This file is part of the SDSUtilityLib Open Source Project.
+ * SDSUtilityLib is licensed under the GNU GPLv3.
+ *
+ * Copyright © 2020. Everton Bruno Silva dos Santos <evertonbrunogithub@yahoo.com>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package evertonbrunosds.SDSUtilityLib.v1.util;
+
+import evertonbrunosds.SDSUtilityLib.v1.exceptions.EntryNotFoundException;
+import evertonbrunosds.SDSUtilityLib.v1.exceptions.InvalidDateException;
+import evertonbrunosds.SDSUtilityLib.v1.exceptions.KeyUsedException;
+import java.io.File;
+import java.io.IOException;
+import java.util.List;
+import java.util.Map.Entry;
+import java.util.Random;
+import org.junit.Before;
+import org.junit.Test;
+import static org.junit.Assert.*;
+
+/**
+ * Classe responsável por efetuar testes na árvore de intervalos.
+ * @author Everton Bruno Silva dos Santos.
+ * @version 1.0
+ * @since 1.0
+ */
+public class IntervalTreeTest {
+    private IntervalTree<Date, String> periods;
+
+    @Before
+    public void setUp() throws InvalidDateException {
+        periods = new IntervalTree<>((final Date d1, final Date d2) -> d1.compareTo(d2));
+        periods.put(new Date(1, 1, 2020), new Date(31, 1, 2020), "janeiro");
+        periods.put(new Date(15, 1, 2020), new Date(15, 2, 2020), "quinzena");
+        periods.put(new Date(1, 3, 2020), new Date(31, 3, 2020), "marco");
+        periods.put(new Date(1, 1, 2020), new Date(31, 12, 2020), "ano");
+    }
+
+    @Test
+    public void consultaPorData() throws InvalidDateException {
+        final List<Entry<IntervalTree.Interval<Date>, String>> entries = periods.overlapping(new Date(20, 1, 2020));
+        assertEquals(3, entries.size());
+        assertEquals("janeiro", entries.get(0).getValue());
+        assertEquals("ano", entries.get(1).getValue());
+        assertEquals("quinzena", entries.get(2).getValue());
+        assertEquals(2, periods.overlapping(new Date(1, 3, 2020)).size());
+        assertEquals(1, periods.overlapping(new Date(20, 2, 2020)).size());
+        assertTrue(periods.overlapping(new Date(1, 1, 2021)).isEmpty());
+    }
+
+    @Test
+    public void consultaPorPeriodo() throws InvalidDateException {
+        assertEquals(4, periods.overlapping(new Date(31, 1, 2020), new Date(1, 3, 2020)).size());
+        assertEquals(2, periods.overlapping(new Date(16, 2, 2020), new Date(1, 3, 2020)).size());
+        assertTrue(periods.overlaps(new Date(31, 12, 2020), new Date(1, 1, 2021)));
+        assertFalse(periods.overlaps(new Date(1, 1, 2021), new Date(1, 2, 2021)));
+        try {
+            periods.overlapping(new Date(2, 1, 2020), new Date(1, 1, 2020));
+            fail();
+        } catch (final IllegalArgumentException ex) {
+            assertNotNull(ex);
+        }
+    }
+
+    @Test
+    public void insercaoERemocao() throws InvalidDateException, KeyUsedException, EntryNotFoundException {
+        try {
+            periods.put(new Date(1, 1, 2020), new Date(31, 1, 2020), "repetido");
+            fail();
+        } catch (final KeyUsedException ex) {
+            assertNotNull(ex);
+        }
+        try {
+            periods.put(new Date(2, 1, 2020), new Date(1, 1, 2020), "invertido");
+            fail();
+        } catch (final IllegalArgumentException ex) {
+            assertNotNull(ex);
+        }
+        assertEquals("ano", periods.find(new Date(1, 1, 2020), new Date(31, 12, 2020)).getValue());
+        periods.remove(new Date(1, 1, 2020), new Date(31, 12, 2020));
+        assertEquals(1, periods.overlapping(new Date(10, 2, 2020)).size());
+        assertTrue(periods.overlapping(new Date(1, 6, 2020)).isEmpty());
+        try {
+            periods.remove(new Date(1, 1, 2020), new Date(31, 12, 2020));
+            fail();
+        } catch (final EntryNotFoundException ex) {
+            assertNotNull(ex);
+        }
+    }
+
+    @Test
+    public void equivalenciaComVarreduraCompleta() {
+        final IntervalTree<Integer, Integer> tree = new IntervalTree<>((final Integer i1, final Integer i2) -> i1.compareTo(i2));
+        final Random random = new Random(36);
+        for (int i = 0; i < 2000; i++) {
+            final int start = random.nextInt(100000);
+            try {
+                tree.put(start, start + random.nextInt(500), i);
+            } catch (final KeyUsedException ex) {
+                assertNotNull(ex);
+            }
+        }
+        for (int i = 0; i < 200; i++) {
+            final int from = random.nextInt(100000);
+            final int to = from + random.nextInt(200);
+            final int[] expected = { 0 };
+            tree.forEach(entry -> {
+                if (entry.getKey().getStart() <= to && entry.getKey().getEnd() >= from) {
+                    expected[0]++;
+                }
+            });
+            assertEquals(expected[0], tree.overlapping(from, to).size());
+        }
+    }
+
+    @Test
+    public void duplicacaoEGravacao() throws InvalidDateException, IOException, ClassNotFoundException {
+        final IntervalTree<Date, String> duplicate = periods.duplicate();
+        periods.remove(new Date(1, 1, 2020), new Date(31, 12, 2020));
+        assertEquals(4, duplicate.size());
+        assertEquals(1, duplicate.overlapping(new Date(1, 6, 2020), new Date(1, 3, 2021)).size());
+        assertTrue(periods.overlapping(new Date(1, 6, 2020), new Date(1, 3, 2021)).isEmpty());
+        final File file = File.createTempFile("intervaltree", ".bin");
+        try {
+            duplicate.saveToFile(file.getPath());
+            final IntervalTree<Date, String> loaded = new IntervalTree<>((final Date d1, final Date d2) -> d1.compareTo(d2));
+            loaded.loadFromFile(file.getPath());
+            assertEquals(4, loaded.size());
+            assertEquals(3, loaded.overlapping(new Date(20, 1, 2020)).size());
+            loaded.put(new Date(1, 6, 2020), new Date(30, 6, 2020), "junho");
+            assertEquals(2, loaded.overlapping(new Date(10, 6, 2020)).size());
+        } finally {
+            file.delete();
+        }
+    }
+
+}
@@ -0,0 +1,191 @@
+/*
+ * This file is part of the SDSUtilityLib Open Source Project.
+ * SDSUtilityLib is licensed under the GNU GPLv3.
+ *
+ * Copyright © 2020. Everton Bruno Silva dos Santos <evertonbrunogithub@yahoo.com>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package evertonbrunosds.SDSUtilityLib.v1.util;
+
+import evertonbrunosds.SDSUtilityLib.v1.exceptions.EntryNotFoundException;
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map.Entry;
+import java.util.TreeMap;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import static org.junit.Assert.*;
+
+/**
+ * Classe responsável por efetuar testes no armazenamento estruturado em log.
+ * @author Everton Bruno Silva dos Santos.
+ * @version 1.0
+ * @since 1.0
+ */
+public class LSMTreeTest {
+    private LSMTree<Integer, String> store;
+    private final String directoryName;
+
+    public LSMTreeTest() {
+        directoryName = "LSMTreeTest";
+    }
+
+    @Before
+    public void setUp() throws IOException {
+        delete();
+        store = new LSMTree<>(directoryName, Integer::compareTo, LSMTree.MIN_MEMTABLE_CAPACITY, 2);
+    }
+
+    @After
+    public void tearDown() throws IOException {
+        store.close();
+        delete();
+    }
+
+    private void delete() {
+        final File directory = new File(directoryName);
+        final File[] files = directory.listFiles();
+        if (files != null) {
+            for (final File file : files) {
+                file.delete();
+            }
+        }
+        directory.delete();
+    }
+
+    private TreeMap<Integer, String> contents(final LSMTree<Integer, String> store) {
+        final TreeMap<Integer, String> contents = new TreeMap<>();
+        store.forEach(entry -> contents.put(entry.getKey(), entry.getValue()));
+        return contents;
+    }
+
+    @Test
+    public void parametrosInvalidos() throws IOException {
+        try {
+            new LSMTree<Integer, String>(directoryName, Integer::compareTo, 1, 2);
+            fail();
+        } catch (final IllegalArgumentException ex) {
+            assertNotNull(ex);
+        }
+        try {
+            new LSMTree<Integer, String>(directoryName, Integer::compareTo, 64, 1);
+            fail();
+        } catch (final IllegalArgumentException ex) {
+            assertNotNull(ex);
+        }
+    }
+
+    @Test
+    public void insercaoSubstituicaoERemocao() {
+        store.put(20, "Vinte");
+        assertEquals("Vinte", store.find(20).getValue());
+        store.put(20, "Outro");
+        assertEquals("Outro", store.find(20).getValue());
+        store.remove(20);
+        assertFalse(store.containsKey(20));
+        try {
+            store.find(20);
+            fail();
+        } catch (final EntryNotFoundException ex) {
+            assertNotNull(ex);
+        }
+        store.remove(30);
+        assertFalse(store.containsKey(30));
+    }
+
+    @Test
+    public void leituraAtravesDosArquivos() throws IOException {
+        final TreeMap<Integer, String> expected = new TreeMap<>();
+        for (int i = 0; i < 2000; i++) {
+            final int key = (i * 7919) % 500;
+            if (i % 5 == 4) {
+                store.remove(key);
+                expected.remove(key);
+            } else {
+                store.put(key, "v" + i);
+                expected.put(key, "v" + i);
+            }
+        }
+        store.flush();
+        assertTrue(store.getFlushes() > 0);
+        assertTrue(store.getCompactions() > 0);
+        for (int key = 0; key < 600; key++) {
+            assertEquals(expected.containsKey(key), store.containsKey(key));
+            if (expected.containsKey(key)) {
+                assertEquals(expected.get(key), store.find(key).getValue());
+            }
+        }
+        assertTrue(store.getBloomSkips() > 0);
+        assertEquals(expected, contents(store));
+    }
+
+    @Test
+    public void alteracaoPelaEntrada() {
+        store.put(1, "Um");
+        final Entry<Integer, String> entry = store.find(1);
+        assertEquals("Um", entry.setValue("Outro"));
+        assertEquals("Outro", store.find(1).getValue());
+    }
+
+    @Test
+    public void percursoOrdenado() {
+        for (int i = 99; i >= 0; i--) {
+            store.put(i, "v" + i);
+        }
+        final List<Integer> keys = new ArrayList<>();
+        final Iterator<Entry<Integer, String>> iterator = store.iterator();
+        while (iterator.hasNext()) {
+            keys.add(iterator.next().getKey());
+        }
+        assertEquals(100, keys.size());
+        for (int i = 0; i < 100; i++) {
+            assertEquals(i, (int) keys.get(i));
+        }
+    }
+
+    @Test
+    public void fusaoCompleta() throws IOException {
+        for (int i = 0; i < 300; i++) {
+            store.put(i, "v" + i);
+        }
+        for (int i = 0; i < 300; i += 2) {
+            store.remove(i);
+        }
+        store.compact();
+        assertEquals(1, store.getRunCount());
+        assertEquals(0, store.getMemtableSize());
+        assertEquals(150, contents(store).size());
+        assertFalse(store.containsKey(0));
+        assertEquals("v299", store.find(299).getValue());
+    }
+
+    @Test
+    public void reaberturaDoDiretorio() throws IOException {
+        for (int i = 0; i < 500; i++) {
+            store.put(i, "v" + i);
+        }
+        store.remove(250);
+        final TreeMap<Integer, String> expected = contents(store);
+        store.close();
+        store = new LSMTree<>(directoryName, Integer::compareTo, LSMTree.MIN_MEMTABLE_CAPACITY, 2);
+        assertEquals(expected, contents(store));
+        assertFalse(store.containsKey(250));
+    }
+
+}
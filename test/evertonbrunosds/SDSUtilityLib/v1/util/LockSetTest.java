@@ -0,0 +1,154 @@
+/*
+ * This file is part of the SDSUtilityLib Open Source Project.
+ * SDSUtilityLib is licensed under the GNU GPLv3.
+ *
+ * Copyright © 2020. Everton Bruno Silva dos Santos <evertonbrunogithub@yahoo.com>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package evertonbrunosds.SDSUtilityLib.v1.util;
+
+import evertonbrunosds.SDSUtilityLib.v1.api.Factory;
+import java.util.Arrays;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.Test;
+import static org.junit.Assert.*;
+
+/**
+ * Classe responsável por efetuar testes no conjunto de semáforos.
+ * @author Everton Bruno Silva dos Santos.
+ * @version 1.0
+ * @since 1.0
+ */
+public class LockSetTest {
+
+    @Test
+    public void semaforosRepetidosENulos() {
+        final Semaphore semaphore = new Semaphore(1);
+        assertEquals(1, new LockSet(semaphore, semaphore).size());
+        try {
+            new LockSet(semaphore, null);
+            fail();
+        } catch (final NullPointerException ex) {
+            assertNotNull(ex);
+        }
+    }
+
+    @Test
+    public void ordemGlobalIndependenteDaOrdemInformada() throws InterruptedException {
+        final Semaphore first = new Semaphore(1);
+        final Semaphore second = new Semaphore(1);
+        final LockSet forward = new LockSet(first, second);
+        final LockSet backward = new LockSet(second, first);
+        assertTrue(LockSet.getContention(first).getOrder() < LockSet.getContention(second).getOrder());
+        final AtomicInteger counter = new AtomicInteger();
+        final java.lang.Thread[] threads = new java.lang.Thread[4];
+        for (int i = 0; i < threads.length; i++) {
+            final LockSet lockSet = i % 2 == 0 ? forward : backward;
+            threads[i] = Factory.Thread.makeFree(() -> {
+                for (int j = 0; j < 10000; j++) {
+                    try {
+                        lockSet.acquire();
+                    } catch (final InterruptedException ex) {
+                        return;
+                    }
+                    try {
+                        counter.incrementAndGet();
+                    } finally {
+                        lockSet.release();
+                    }
+                }
+            });
+            threads[i].start();
+        }
+        for (final java.lang.Thread thread : threads) {
+            thread.join(TimeUnit.SECONDS.toMillis(30));
+            assertFalse(thread.isAlive());
+        }
+        assertEquals(40000, counter.get());
+        assertEquals(1, first.availablePermits());
+        assertEquals(1, second.availablePermits());
+        assertEquals(40000, LockSet.getContention(first).getAcquisitions());
+    }
+
+    @Test
+    public void tempoEsgotadoLiberaSemaforosAdquiridos() throws InterruptedException {
+        final Semaphore free = new Semaphore(1);
+        final Semaphore busy = new Semaphore(0);
+        final LockSet lockSet = new LockSet(free, busy);
+        final AtomicInteger runs = new AtomicInteger();
+        assertFalse(lockSet.run(runs::incrementAndGet, 10, TimeUnit.MILLISECONDS));
+        assertEquals(0, runs.get());
+        assertEquals(1, free.availablePermits());
+        final LockSet.Contention contention = LockSet.getContention(busy);
+        assertEquals(1, contention.getContentions());
+        assertEquals(1, contention.getTimeouts());
+        assertEquals(0, contention.getAcquisitions());
+        assertTrue(contention.getWaitTime(TimeUnit.MILLISECONDS) >= 9);
+        busy.release();
+        assertTrue(lockSet.run(runs::incrementAndGet, 10, TimeUnit.MILLISECONDS));
+        assertEquals(1, runs.get());
+        assertEquals(1, busy.availablePermits());
+        assertEquals(1, contention.getAcquisitions());
+        contention.reset();
+        assertEquals(0, contention.getTimeouts());
+        assertNull(LockSet.getContention(new Semaphore(1)));
+    }
+
+    @Test
+    public void interrupcaoLiberaSemaforosAdquiridos() throws InterruptedException {
+        final Semaphore free = new Semaphore(1);
+        final Semaphore busy = new Semaphore(0);
+        final LockSet lockSet = new LockSet(Arrays.asList(busy, free));
+        final AtomicInteger interruptions = new AtomicInteger();
+        final java.lang.Thread thread = Factory.Thread.makeFree(() -> {
+            try {
+                lockSet.acquire();
+            } catch (final InterruptedException ex) {
+                interruptions.incrementAndGet();
+            }
+        });
+        thread.start();
+        while (!busy.hasQueuedThreads()) {
+            java.lang.Thread.yield();
+        }
+        thread.interrupt();
+        thread.join();
+        assertEquals(1, interruptions.get());
+        assertEquals(1, free.availablePermits());
+        assertEquals(0, busy.availablePermits());
+    }
+
+    @Test
+    public void threadsSegurasComSemaforosEmOrdensOpostas() throws InterruptedException {
+        final Semaphore first = new Semaphore(1);
+        final Semaphore second = new Semaphore(1);
+        final AtomicInteger counter = new AtomicInteger();
+        final java.lang.Thread[] threads = new java.lang.Thread[200];
+        for (int i = 0; i < threads.length; i++) {
+            threads[i] = i % 2 == 0
+                    ? Factory.Thread.makeSafe(counter::incrementAndGet, Arrays.asList(first, second))
+                    : Factory.Thread.makeSafeThread(counter::incrementAndGet, new Semaphore[] { second, first });
+            threads[i].start();
+        }
+        for (final java.lang.Thread thread : threads) {
+            thread.join(TimeUnit.SECONDS.toMillis(30));
+            assertFalse(thread.isAlive());
+        }
+        assertEquals(200, counter.get());
+    }
+
+}
@@ -0,0 +1,241 @@
+/*
+ * This file is part of the SDSUtilityLib Open Source Project.
+ * SDSUtilityLib is licensed under the GNU GPLv3.
+ *
+ * Copyright © 2020. Everton Bruno Silva dos Santos <evertonbrunogithub@yahoo.com>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package evertonbrunosds.SDSUtilityLib.v1.util;
+
+import evertonbrunosds.SDSUtilityLib.v1.exceptions.EntryNotFoundException;
+import evertonbrunosds.SDSUtilityLib.v1.exceptions.KeyUsedException;
+import evertonbrunosds.SDSUtilityLib.v1.util.PagedBPlusTree.Eviction;
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map.Entry;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import static org.junit.Assert.*;
+
+/**
+ * Classe responsável por efetuar testes na árvore B+ residente em disco.
+ * @author Everton Bruno Silva dos Santos.
+ * @version 1.0
+ * @since 1.0
+ */
+public class PagedBPlusTreeTest {
+    private PagedBPlusTree<Integer, String> tree;
+    private final String fileName;
+    private final String copyName;
+
+    public PagedBPlusTreeTest() {
+        fileName = "PagedFileTest";
+        copyName = "PagedFileTestCopy";
+    }
+
+    @Before
+    public void setUp() throws IOException {
+        tree = new PagedBPlusTree<>(fileName, Integer::compareTo, 4, PagedBPlusTree.MIN_CACHE_CAPACITY, Eviction.CLOCK);
+    }
+
+    @After
+    public void tearDown() throws IOException {
+        tree.close();
+        for (final String name : new String[] { fileName, copyName }) {
+            final File file = new File(name);
+            if (file.exists()) {
+                file.delete();
+            }
+        }
+    }
+
+    private List<Integer> keys(final PagedBPlusTree<Integer, String> tree) {
+        final List<Integer> keys = new ArrayList<>();
+        tree.forEach(entry -> keys.add(entry.getKey()));
+        return keys;
+    }
+
+    @Test
+    public void estadoDeArvoreRecemCriada() {
+        assertEquals(0, tree.size());
+        assertEquals(0, tree.height());
+        assertTrue(tree.isEmpty());
+        assertFalse(tree.iterator().hasNext());
+        assertFalse(tree.containsKey(20));
+    }
+
+    @Test
+    public void parametrosInvalidos() throws IOException {
+        try {
+            new PagedBPlusTree<Integer, String>(copyName, Integer::compareTo, 2, 16, Eviction.LRU);
+            fail();
+        } catch (final IllegalArgumentException ex) {
+            assertNotNull(ex);
+        }
+        try {
+            new PagedBPlusTree<Integer, String>(copyName, Integer::compareTo, 4, 1, Eviction.LRU);
+            fail();
+        } catch (final IllegalArgumentException ex) {
+            assertNotNull(ex);
+        }
+        try {
+            new PagedBPlusTree<Integer, String>(copyName, Integer::compareTo, 4, 16, null);
+            fail();
+        } catch (final NullPointerException ex) {
+            assertNotNull(ex);
+        }
+    }
+
+    @Test
+    public void insercaoEBuscaComCacheLimitado() {
+        for (int i = 0; i < 1000; i++) {
+            tree.put((i * 7919) % 1000, "v" + i);
+        }
+        assertEquals(1000, tree.size());
+        assertTrue(tree.height() > 3);
+        for (int i = 0; i < 1000; i++) {
+            assertEquals("v" + i, tree.find((i * 7919) % 1000).getValue());
+        }
+        assertTrue(tree.getCache().getResident() <= PagedBPlusTree.MIN_CACHE_CAPACITY + 3 * tree.height());
+        assertTrue(tree.getCache().getEvictions() > 0);
+        assertTrue(tree.getCache().getMisses() > 0);
+        assertTrue(tree.getCache().getHits() > 0);
+    }
+
+    @Test
+    public void chaveEmUso() {
+        tree.put(20, "Vinte");
+        try {
+            tree.put(20, "Outro");
+            fail();
+        } catch (final KeyUsedException ex) {
+            assertEquals("Vinte", tree.find(20).getValue());
+        }
+    }
+
+    @Test
+    public void remocaoComRebalanceamento() {
+        for (int i = 0; i < 500; i++) {
+            tree.put(i, "v" + i);
+        }
+        for (int i = 0; i < 500; i += 2) {
+            tree.remove(i);
+        }
+        assertEquals(250, tree.size());
+        final List<Integer> expected = new ArrayList<>();
+        for (int i = 1; i < 500; i += 2) {
+            expected.add(i);
+        }
+        assertEquals(expected, keys(tree));
+        try {
+            tree.remove(0);
+            fail();
+        } catch (final EntryNotFoundException ex) {
+            assertNotNull(ex);
+        }
+        for (int i = 1; i < 500; i += 2) {
+            tree.remove(i);
+        }
+        assertTrue(tree.isEmpty());
+        assertEquals(0, tree.height());
+    }
+
+    @Test
+    public void percursoPorIntervalo() {
+        for (int i = 0; i < 300; i++) {
+            tree.put(i * 2, "v" + i);
+        }
+        final List<Integer> keys = new ArrayList<>();
+        tree.forEach(101, 121, entry -> keys.add(entry.getKey()));
+        final List<Integer> expected = new ArrayList<>();
+        for (int i = 102; i <= 120; i += 2) {
+            expected.add(i);
+        }
+        assertEquals(expected, keys);
+        keys.clear();
+        tree.forEach(1000, 2000, entry -> keys.add(entry.getKey()));
+        assertTrue(keys.isEmpty());
+    }
+
+    @Test
+    public void alteracaoDeValorEChave() {
+        for (int i = 0; i < 100; i++) {
+            tree.put(i, "v" + i);
+        }
+        final Entry<Integer, String> entry = tree.find(50);
+        assertEquals("v50", entry.setValue("Cinquenta"));
+        assertEquals("Cinquenta", tree.find(50).getValue());
+        assertEquals("Cinquenta", tree.setValue(50, "Outro"));
+        tree.setKey(50, 500);
+        assertFalse(tree.containsKey(50));
+        assertEquals("Outro", tree.find(500).getValue());
+        try {
+            tree.setKey(500, 10);
+            fail();
+        } catch (final KeyUsedException ex) {
+            assertNotNull(ex);
+        }
+    }
+
+    @Test
+    public void reaberturaDoArquivo() throws IOException {
+        for (int i = 0; i < 400; i++) {
+            tree.put(i, "v" + i);
+        }
+        tree.remove(7);
+        tree.close();
+        tree = new PagedBPlusTree<>(fileName, Integer::compareTo, 64, 16, Eviction.LRU);
+        assertEquals(399, tree.size());
+        assertEquals(4, tree.getOrder());
+        assertFalse(tree.containsKey(7));
+        assertEquals("v399", tree.find(399).getValue());
+        tree.put(7, "Sete");
+        assertEquals(400, keys(tree).size());
+    }
+
+    @Test
+    public void gravacaoECarregamentoDeArquivo() throws IOException {
+        for (int i = 0; i < 200; i++) {
+            tree.put(i, "v" + i);
+        }
+        tree.saveToFile(copyName);
+        tree.clear();
+        assertTrue(tree.isEmpty());
+        tree.loadFromFile(copyName);
+        assertEquals(200, tree.size());
+        assertEquals("v123", tree.find(123).getValue());
+    }
+
+    @Test
+    public void politicaLRU() throws IOException {
+        tree.close();
+        new File(fileName).delete();
+        tree = new PagedBPlusTree<>(fileName, Integer::compareTo, 4, PagedBPlusTree.MIN_CACHE_CAPACITY, Eviction.LRU);
+        for (int i = 0; i < 1000; i++) {
+            tree.put(i, "v" + i);
+        }
+        for (int i = 0; i < 1000; i += 3) {
+            tree.remove(i);
+        }
+        assertEquals(666, tree.size());
+        assertEquals("v998", tree.find(998).getValue());
+        assertTrue(tree.getCache().getEvictions() > 0);
+        assertTrue(tree.getCache().getWrites() > 0);
+    }
+
+}
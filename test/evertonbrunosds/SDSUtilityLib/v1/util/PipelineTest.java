@@ -0,0 +1,171 @@
+/*
+ * This file is part of the SDSUtilityLib Open Source Project.
+ * SDSUtilityLib is licensed under the GNU GPLv3.
+ *
+ * Copyright © 2020. Everton Bruno Silva dos Santos <evertonbrunogithub@yahoo.com>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package evertonbrunosds.SDSUtilityLib.v1.util;
+
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import org.junit.Test;
+import static org.junit.Assert.*;
+
+/**
+ * Classe responsável por efetuar testes nos fluxos assíncronos de dados.
+ * @author Everton Bruno Silva dos Santos.
+ * @version 1.0
+ * @since 1.0
+ */
+public class PipelineTest {
+
+    @Test
+    public void todosOsDadosAtravessamOsEstagios() throws Exception {
+        final AtomicInteger next = new AtomicInteger();
+        final LongAdder sum = new LongAdder();
+        final ConcurrentLinkedQueue<String> received = new ConcurrentLinkedQueue<>();
+        final Pipeline.Execution execution = Pipeline.from(() -> {
+            final int value = next.getAndIncrement();
+            return value < 10000 ? value : null;
+        }).buffer(16, 4).map((final Integer value) -> value * 2, 4)
+                .map((final Integer value) -> value % 3 == 0 ? null : "v" + value, 3)
+                .to((final String value) -> {
+                    sum.add(Long.parseLong(value.substring(1)));
+                    received.add(value);
+                }, 2);
+        execution.await(30, TimeUnit.SECONDS);
+        long expected = 0;
+        int count = 0;
+        for (int i = 0; i < 10000; i++) {
+            if (i * 2 % 3 != 0) {
+                expected += i * 2;
+                count++;
+            }
+        }
+        assertTrue(execution.isDone());
+        assertEquals(expected, sum.sum());
+        assertEquals(count, received.size());
+        assertEquals(4, execution.getStageCount());
+        assertEquals(10000, execution.getProcessed(0));
+        assertEquals(10000, execution.getProcessed(1));
+        assertEquals(10000, execution.getProcessed(2));
+        assertEquals(count, execution.getProcessed(3));
+        assertEquals(0, execution.getQueueDepth(1));
+    }
+
+    @Test
+    public void contrapressaoDetemAOrigem() throws Exception {
+        final AtomicInteger next = new AtomicInteger();
+        final CountDownLatch release = new CountDownLatch(1);
+        final Pipeline.Execution execution = Pipeline.from(() -> {
+            final int value = next.getAndIncrement();
+            return value < 1000 ? value : null;
+        }).buffer(8, 8).map((final Integer value) -> value, 1).buffer(8, 1).to((final Integer value) -> {
+            try {
+                release.await();
+            } catch (final InterruptedException ex) {
+                java.lang.Thread.currentThread().interrupt();
+            }
+        }, 1);
+        final long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+        while (execution.getStalls(1) == 0 && System.nanoTime() < deadline) {
+            java.lang.Thread.sleep(1);
+        }
+        java.lang.Thread.sleep(50);
+        assertTrue(execution.getStalls(0) > 0);
+        assertTrue(execution.getStalls(1) > 0);
+        assertTrue(next.get() <= 8 + 8 + 8 + 1 + 1 + 1);
+        assertEquals(8, execution.getQueueDepth(2));
+        release.countDown();
+        execution.await(30, TimeUnit.SECONDS);
+        assertEquals(1000, execution.getProcessed(2));
+    }
+
+    @Test
+    public void falhaDeUmEstagioEncerraOFluxo() throws Exception {
+        final AtomicInteger next = new AtomicInteger();
+        final Pipeline.Execution execution = Pipeline.from(next::getAndIncrement).map((final Integer value) -> {
+            if (value == 500) {
+                throw new IllegalStateException("falha");
+            }
+            return value;
+        }, 2).to((final Integer value) -> {
+        }, 1);
+        try {
+            execution.await(30, TimeUnit.SECONDS);
+            fail();
+        } catch (final ExecutionException ex) {
+            assertTrue(ex.getCause() instanceof IllegalStateException);
+        }
+        assertTrue(execution.isDone());
+    }
+
+    @Test
+    public void cancelamentoEncerraOFluxo() throws Exception {
+        final AtomicInteger next = new AtomicInteger();
+        final Pipeline.Execution execution = Pipeline.from(next::getAndIncrement).to((final Integer value) -> {
+        }, 2);
+        try {
+            execution.await(50, TimeUnit.MILLISECONDS);
+            fail();
+        } catch (final TimeoutException ex) {
+            assertFalse(execution.isDone());
+        }
+        execution.cancel();
+        try {
+            execution.await(30, TimeUnit.SECONDS);
+            fail();
+        } catch (final CancellationException ex) {
+            assertTrue(execution.isDone());
+        }
+    }
+
+    @Test
+    public void argumentosInvalidos() {
+        try {
+            Pipeline.from(null);
+            fail();
+        } catch (final NullPointerException ex) {
+            assertNotNull(ex);
+        }
+        final Pipeline<Integer> pipeline = Pipeline.from(() -> null);
+        try {
+            pipeline.buffer(0, 1);
+            fail();
+        } catch (final IllegalArgumentException ex) {
+            assertNotNull(ex);
+        }
+        try {
+            pipeline.map((final Integer value) -> value, 0);
+            fail();
+        } catch (final IllegalArgumentException ex) {
+            assertNotNull(ex);
+        }
+        try {
+            pipeline.to(null, 1);
+            fail();
+        } catch (final NullPointerException ex) {
+            assertNotNull(ex);
+        }
+    }
+
+}
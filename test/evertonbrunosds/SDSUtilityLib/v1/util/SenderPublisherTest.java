@@ -0,0 +1,147 @@
+/*
+ * This file is part of the SDSUtilityLib Open Source Project.
+ * SDSUtilityLib is licensed under the GNU GPLv3.
+ *
+ * Copyright © 2020. Everton Bruno Silva dos Santos <evertonbrunogithub@yahoo.com>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package evertonbrunosds.SDSUtilityLib.v1.util;
+
+import evertonbrunosds.SDSUtilityLib.v1.api.Factory;
+import evertonbrunosds.SDSUtilityLib.v1.api.Flow;
+import evertonbrunosds.SDSUtilityLib.v1.exceptions.KeyUsedException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import org.junit.Test;
+import static org.junit.Assert.*;
+
+/**
+ * Classe responsável por efetuar testes nos adaptadores de remetentes e receptores para fluxos reativos.
+ * @author Everton Bruno Silva dos Santos.
+ * @version 1.0
+ * @since 1.0
+ */
+public class SenderPublisherTest {
+
+    private static final class Probe implements Flow.Subscriber<Integer> {
+        private final AtomicReference<Flow.Subscription> subscription = new AtomicReference<>();
+        private final AtomicInteger items = new AtomicInteger();
+        private final AtomicReference<Throwable> failure = new AtomicReference<>();
+        private final CountDownLatch finished = new CountDownLatch(1);
+
+        @Override
+        public void onSubscribe(final Flow.Subscription subscription) {
+            this.subscription.set(subscription);
+        }
+
+        @Override
+        public void onNext(final Integer item) {
+            items.incrementAndGet();
+        }
+
+        @Override
+        public void onError(final Throwable throwable) {
+            failure.set(throwable);
+            finished.countDown();
+        }
+
+        @Override
+        public void onComplete() {
+            finished.countDown();
+        }
+    }
+
+    private static void awaitValue(final AtomicInteger value, final int expected) throws InterruptedException {
+        final long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+        while (value.get() < expected && System.nanoTime() < deadline) {
+            java.lang.Thread.sleep(1);
+        }
+        java.lang.Thread.sleep(50);
+    }
+
+    @Test
+    public void remetenteAlimentaArvoreComContrapressao() throws Exception {
+        final AtomicInteger next = new AtomicInteger();
+        final AVLTree<Integer, Integer> tree = new AVLTree<>(Integer::compareTo);
+        final SenderPublisher<Integer> publisher = new SenderPublisher<>(() -> {
+            final int value = next.getAndIncrement();
+            return value < 10000 ? value : null;
+        });
+        final ReceiverSubscriber<Integer> subscriber = new ReceiverSubscriber<>((final Integer value) -> tree.put(value, value * 2), 64);
+        publisher.subscribe(subscriber);
+        subscriber.await(30, TimeUnit.SECONDS);
+        assertTrue(subscriber.isDone());
+        assertEquals(10000, tree.size());
+        assertEquals(10000, subscriber.getReceived());
+        assertEquals(1 + 10000 / 48, subscriber.getRequests());
+    }
+
+    @Test
+    public void remetenteSoEConsultadoSobDemanda() throws Exception {
+        final AtomicInteger sends = new AtomicInteger();
+        final WorkerPool pool = Factory.Thread.makePool(2, 100);
+        final SenderPublisher<Integer> publisher = new SenderPublisher<>(sends::incrementAndGet, pool, 2);
+        final Probe probe = new Probe();
+        publisher.subscribe(probe);
+        assertEquals(0, sends.get());
+        probe.subscription.get().request(5);
+        awaitValue(probe.items, 5);
+        assertEquals(5, sends.get());
+        assertEquals(5, probe.items.get());
+        probe.subscription.get().request(3);
+        awaitValue(probe.items, 8);
+        assertEquals(8, sends.get());
+        probe.subscription.get().cancel();
+        probe.subscription.get().request(10);
+        java.lang.Thread.sleep(50);
+        assertEquals(8, sends.get());
+        pool.close();
+    }
+
+    @Test
+    public void solicitacaoInvalidaEAssinanteExcedente() throws InterruptedException {
+        final SenderPublisher<Integer> publisher = new SenderPublisher<>(() -> 1);
+        final Probe probe = new Probe();
+        publisher.subscribe(probe);
+        probe.subscription.get().request(0);
+        assertTrue(probe.finished.await(10, TimeUnit.SECONDS));
+        assertTrue(probe.failure.get() instanceof IllegalArgumentException);
+        final Probe extra = new Probe();
+        publisher.subscribe(extra);
+        assertTrue(extra.failure.get() instanceof IllegalStateException);
+    }
+
+    @Test
+    public void falhaDoReceptorCancelaAssinatura() throws Exception {
+        final AtomicInteger next = new AtomicInteger();
+        final AVLTree<Integer, Integer> tree = new AVLTree<>(Integer::compareTo);
+        final SenderPublisher<Integer> publisher = new SenderPublisher<>(() -> next.getAndIncrement() % 100);
+        final ReceiverSubscriber<Integer> subscriber = new ReceiverSubscriber<>((final Integer value) -> tree.put(value, value));
+        publisher.subscribe(subscriber);
+        try {
+            subscriber.await(30, TimeUnit.SECONDS);
+            fail();
+        } catch (final ExecutionException ex) {
+            assertTrue(ex.getCause() instanceof KeyUsedException);
+        }
+        assertEquals(100, subscriber.getReceived());
+        java.lang.Thread.sleep(50);
+        assertTrue(next.get() <= 100 + 64);
+    }
+
+}
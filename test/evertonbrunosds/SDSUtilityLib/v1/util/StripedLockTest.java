@@ -0,0 +1,147 @@
+/*
+ * This file is part of the SDSUtilityLib Open Source Project.
+ * SDSUtilityLib is licensed under the GNU GPLv3.
+ *
+ * Copyright © 2020. Everton Bruno Silva dos Santos <evertonbrunogithub@yahoo.com>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package evertonbrunosds.SDSUtilityLib.v1.util;
+
+import evertonbrunosds.SDSUtilityLib.v1.api.Factory;
+import java.util.Arrays;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.Test;
+import static org.junit.Assert.*;
+
+/**
+ * Classe responsável por efetuar testes nas travas por chave.
+ * @author Everton Bruno Silva dos Santos.
+ * @version 1.0
+ * @since 1.0
+ */
+public class StripedLockTest {
+
+    @Test
+    public void quantidadeDeFaixas() {
+        assertEquals(1, new StripedLock<Integer>(1).getStripes());
+        assertEquals(16, new StripedLock<Integer>(9).getStripes());
+        assertEquals(16, new StripedLock<Integer>(16).getStripes());
+        try {
+            new StripedLock<Integer>(0);
+            fail();
+        } catch (final IllegalArgumentException ex) {
+            assertNotNull(ex);
+        }
+        final StripedLock<Integer> locks = new StripedLock<>(8);
+        assertEquals(locks.stripeOf(1000), locks.stripeOf(1000));
+        assertSame(locks.get(7), locks.get(7));
+        try {
+            locks.stripeOf(null);
+            fail();
+        } catch (final NullPointerException ex) {
+            assertNotNull(ex);
+        }
+    }
+
+    @Test
+    public void chavesDistintasNaoSeDisputam() throws InterruptedException {
+        final StripedLock<Integer> locks = new StripedLock<>(64);
+        int other = 1;
+        while (locks.stripeOf(other) == locks.stripeOf(0)) {
+            other++;
+        }
+        final CountDownLatch holding = new CountDownLatch(1);
+        final CountDownLatch release = new CountDownLatch(1);
+        final java.lang.Thread holder = Factory.Thread.makeKeyed(() -> {
+            holding.countDown();
+            try {
+                release.await();
+            } catch (final InterruptedException ex) {
+                java.lang.Thread.currentThread().interrupt();
+            }
+        }, locks, 0, StripedLock.Mode.WRITE);
+        holder.start();
+        holding.await();
+        final AtomicInteger runs = new AtomicInteger();
+        final java.lang.Thread free = Factory.Thread.makeKeyed(runs::incrementAndGet, locks, other, StripedLock.Mode.WRITE);
+        free.start();
+        free.join(TimeUnit.SECONDS.toMillis(10));
+        assertEquals(1, runs.get());
+        assertFalse(locks.get(0).writeLock().tryLock());
+        release.countDown();
+        holder.join();
+        assertEquals(0, locks.getContentions());
+        assertEquals(2, locks.getAcquisitions());
+    }
+
+    @Test
+    public void leiturasCompartilhadasEEscritasExclusivas() throws InterruptedException {
+        final StripedLock<String> locks = new StripedLock<>(4);
+        final CountDownLatch reading = new CountDownLatch(1);
+        final CountDownLatch release = new CountDownLatch(1);
+        final java.lang.Thread reader = Factory.Thread.makeFree(() -> locks.run("ledger", StripedLock.Mode.READ, () -> {
+            reading.countDown();
+            try {
+                release.await();
+            } catch (final InterruptedException ex) {
+                java.lang.Thread.currentThread().interrupt();
+            }
+        }));
+        reader.start();
+        reading.await();
+        final AtomicInteger reads = new AtomicInteger();
+        locks.run("ledger", StripedLock.Mode.READ, reads::incrementAndGet);
+        assertEquals(1, reads.get());
+        assertFalse(locks.get("ledger").writeLock().tryLock());
+        release.countDown();
+        reader.join();
+        locks.run("ledger", StripedLock.Mode.WRITE, reads::incrementAndGet);
+        assertEquals(2, reads.get());
+    }
+
+    @Test
+    public void exclusaoMutuaPorChaveEMultiplasChaves() throws InterruptedException {
+        final StripedLock<AVLTree<Integer, Integer>> locks = StripedLock.identity(16);
+        final AVLTree<Integer, Integer> first = new AVLTree<>(Integer::compareTo);
+        final AVLTree<Integer, Integer> second = new AVLTree<>(Integer::compareTo);
+        final AtomicInteger keys = new AtomicInteger();
+        final java.lang.Thread[] threads = new java.lang.Thread[8];
+        for (int i = 0; i < threads.length; i++) {
+            final boolean forward = i % 2 == 0;
+            threads[i] = Factory.Thread.makeFree(() -> {
+                final int[] last = new int[1];
+                for (int j = 0; j < 500; j++) {
+                    locks.run(forward ? Arrays.asList(first, second) : Arrays.asList(second, first), StripedLock.Mode.WRITE, () -> {
+                        final int key = keys.getAndIncrement();
+                        first.put(key, key);
+                        second.put(key, key);
+                        last[0] = key;
+                    });
+                    locks.run(first, StripedLock.Mode.WRITE, () -> first.remove(last[0]));
+                }
+            });
+            threads[i].start();
+        }
+        for (final java.lang.Thread thread : threads) {
+            thread.join(TimeUnit.SECONDS.toMillis(30));
+            assertFalse(thread.isAlive());
+        }
+        assertEquals(0, first.size());
+        assertEquals(4000, second.size());
+    }
+
+}
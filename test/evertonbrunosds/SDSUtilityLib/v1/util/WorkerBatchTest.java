@@ -0,0 +1,201 @@
+/*
+ * This file is part of the SDSUtilityLib Open Source Project.
+ * SDSUtilityLib is licensed under the GNU GPLv3.
+ *
+ * Copyright © 2020. Everton Bruno Silva dos Santos <evertonbrunogithub@yahoo.com>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package evertonbrunosds.SDSUtilityLib.v1.util;
+
+import evertonbrunosds.SDSUtilityLib.v1.api.Factory;
+import evertonbrunosds.SDSUtilityLib.v1.api.Worker;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.Test;
+import static org.junit.Assert.*;
+
+/**
+ * Classe responsável por efetuar testes no executor de lotes de trabalhadores.
+ * @author Everton Bruno Silva dos Santos.
+ * @version 1.0
+ * @since 1.0
+ */
+public class WorkerBatchTest {
+
+    private static Worker sleeper(final AtomicInteger interruptions) {
+        return () -> {
+            try {
+                java.lang.Thread.sleep(TimeUnit.SECONDS.toMillis(30));
+            } catch (final InterruptedException ex) {
+                interruptions.incrementAndGet();
+            }
+        };
+    }
+
+    @Test
+    public void loteConcluidoComLatencias() throws ExecutionException, TimeoutException, InterruptedException {
+        final WorkerPool pool = Factory.Thread.makePool(4, 1000);
+        for (final WorkerBatch batch : new WorkerBatch[] { new WorkerBatch(), new WorkerBatch(pool) }) {
+            final AtomicInteger counter = new AtomicInteger();
+            final List<Worker> workers = new ArrayList<>();
+            for (int i = 0; i < 100; i++) {
+                workers.add(counter::incrementAndGet);
+            }
+            final long[] latencies = batch.run(workers, 10, TimeUnit.SECONDS);
+            assertEquals(100, counter.get());
+            assertEquals(100, latencies.length);
+            for (final long latency : latencies) {
+                assertTrue(latency >= 0);
+            }
+            assertEquals(100, batch.getLatencies().getCount());
+            assertEquals(0, batch.run(Collections.<Worker>emptyList(), 1, TimeUnit.SECONDS).length);
+        }
+        pool.close();
+    }
+
+    @Test
+    public void primeiraFalhaCancelaDemais() throws TimeoutException, InterruptedException {
+        final AtomicInteger interruptions = new AtomicInteger();
+        final CountDownLatch started = new CountDownLatch(10);
+        final List<Worker> workers = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            final Worker sleeper = sleeper(interruptions);
+            workers.add(() -> {
+                started.countDown();
+                sleeper.work();
+            });
+        }
+        final IllegalStateException failure = new IllegalStateException();
+        workers.add(() -> {
+            try {
+                started.await();
+            } catch (final InterruptedException ex) {
+                java.lang.Thread.currentThread().interrupt();
+            }
+            throw failure;
+        });
+        final long start = System.nanoTime();
+        try {
+            new WorkerBatch().run(workers, 60, TimeUnit.SECONDS);
+            fail();
+        } catch (final ExecutionException ex) {
+            assertSame(failure, ex.getCause());
+        }
+        assertTrue(System.nanoTime() - start < TimeUnit.SECONDS.toNanos(20));
+        assertEquals(10, interruptions.get());
+    }
+
+    @Test
+    public void prazoEsgotadoInterrompeTrabalhadores() throws ExecutionException, InterruptedException {
+        final AtomicInteger interruptions = new AtomicInteger();
+        final WorkerPool pool = Factory.Thread.makePool(2, 10);
+        final List<Worker> workers = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            workers.add(sleeper(interruptions));
+        }
+        try {
+            new WorkerBatch(pool).run(workers, 100, TimeUnit.MILLISECONDS);
+            fail();
+        } catch (final TimeoutException ex) {
+            assertNotNull(ex);
+        }
+        assertEquals(2, interruptions.get());
+        pool.shutdown();
+        assertTrue(pool.awaitTermination(10, TimeUnit.SECONDS));
+        assertEquals(0, pool.getActiveCount());
+        assertFalse(java.lang.Thread.currentThread().isInterrupted());
+    }
+
+    @Test
+    public void trabalhadoresQueIgnoramInterrupcoesNaoRetemOLote() throws ExecutionException, TimeoutException, InterruptedException {
+        final CountDownLatch release = new CountDownLatch(1);
+        final AtomicInteger ignored = new AtomicInteger();
+        final AtomicInteger stragglers = new AtomicInteger();
+        final Worker stubborn = () -> {
+            boolean waiting = true;
+            while (waiting) {
+                try {
+                    waiting = !release.await(10, TimeUnit.SECONDS);
+                } catch (final InterruptedException ex) {
+                    ignored.incrementAndGet();
+                }
+            }
+            stragglers.incrementAndGet();
+        };
+        final WorkerBatch batch = new WorkerBatch();
+        batch.setGracePeriod(50, TimeUnit.MILLISECONDS);
+        assertEquals(50, batch.getGracePeriod(TimeUnit.MILLISECONDS));
+        long start = System.nanoTime();
+        try {
+            batch.run(Arrays.asList(stubborn, stubborn), 50, TimeUnit.MILLISECONDS);
+            fail();
+        } catch (final TimeoutException ex) {
+            assertNotNull(ex);
+        }
+        assertTrue(System.nanoTime() - start < TimeUnit.SECONDS.toNanos(5));
+        final IllegalStateException failure = new IllegalStateException();
+        start = System.nanoTime();
+        try {
+            batch.run(Arrays.asList(stubborn, () -> {
+                throw failure;
+            }), 60, TimeUnit.SECONDS);
+            fail();
+        } catch (final ExecutionException ex) {
+            assertSame(failure, ex.getCause());
+        }
+        assertTrue(System.nanoTime() - start < TimeUnit.SECONDS.toNanos(5));
+        assertTrue(ignored.get() >= 1);
+        release.countDown();
+        final long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+        while (stragglers.get() < 3 && System.nanoTime() < deadline) {
+            java.lang.Thread.sleep(1);
+        }
+        assertEquals(3, stragglers.get());
+        java.lang.Thread.sleep(20);
+        assertEquals(0, batch.getLatencies().getCount());
+        assertFalse(java.lang.Thread.currentThread().isInterrupted());
+    }
+
+    @Test
+    public void histogramaDeLatencias() {
+        final LatencyHistogram histogram = new LatencyHistogram();
+        assertEquals(0, histogram.getPercentile(50, TimeUnit.NANOSECONDS));
+        for (int i = 1; i <= 100; i++) {
+            histogram.record(TimeUnit.MICROSECONDS.toNanos(i));
+        }
+        assertEquals(100, histogram.getCount());
+        assertEquals(50.5, histogram.getMean(TimeUnit.MICROSECONDS), 0.01);
+        assertEquals(100, histogram.getMax(TimeUnit.MICROSECONDS));
+        final long median = histogram.getPercentile(50, TimeUnit.NANOSECONDS);
+        assertTrue(median >= 50000 && median < 100000);
+        assertEquals(100000, histogram.getPercentile(100, TimeUnit.NANOSECONDS));
+        try {
+            histogram.getPercentile(101, TimeUnit.NANOSECONDS);
+            fail();
+        } catch (final IllegalArgumentException ex) {
+            assertNotNull(ex);
+        }
+        histogram.reset();
+        assertEquals(0, histogram.getCount());
+    }
+
+}
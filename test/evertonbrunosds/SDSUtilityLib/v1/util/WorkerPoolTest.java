@@ -0,0 +1,141 @@
+/*
+ * This file is part of the SDSUtilityLib Open Source Project.
+ * SDSUtilityLib is licensed under the GNU GPLv3.
+ *
+ * Copyright © 2020. Everton Bruno Silva dos Santos <evertonbrunogithub@yahoo.com>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package evertonbrunosds.SDSUtilityLib.v1.util;
+
+import evertonbrunosds.SDSUtilityLib.v1.api.Factory;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.LongAdder;
+import org.junit.Test;
+import static org.junit.Assert.*;
+
+/**
+ * Classe responsável por efetuar testes no conjunto de threads.
+ * @author Everton Bruno Silva dos Santos.
+ * @version 1.0
+ * @since 1.0
+ */
+public class WorkerPoolTest {
+
+    @Test
+    public void parametrosInvalidos() {
+        try {
+            Factory.Thread.makePool(0, 10);
+            fail();
+        } catch (final IllegalArgumentException ex) {
+            assertNotNull(ex);
+        }
+        try {
+            new WorkerPool(null, 1, 1);
+            fail();
+        } catch (final NullPointerException ex) {
+            assertNotNull(ex);
+        }
+    }
+
+    @Test
+    public void execucaoEmConjuntoLimitadoERouboDeTrabalho() throws InterruptedException, ExecutionException {
+        for (final WorkerPool pool : new WorkerPool[] { Factory.Thread.makePool(4, 10000), Factory.Thread.makeWorkStealingPool(4, 10000) }) {
+            final LongAdder sum = new LongAdder();
+            final List<CompletableFuture<Void>> futures = new ArrayList<>();
+            for (int i = 1; i <= 1000; i++) {
+                final int value = i;
+                futures.add(pool.submit(() -> sum.add(value)));
+            }
+            CompletableFuture.allOf(futures.toArray(new CompletableFuture<?>[0])).get();
+            assertEquals(500500, sum.sum());
+            assertEquals(42, (int) pool.supply(() -> 42).get());
+            pool.close();
+            assertTrue(pool.isTerminated());
+            assertEquals(1001, pool.getSubmitted());
+            assertEquals(1001, pool.getCompleted());
+            assertEquals(0, pool.getQueueDepth());
+            assertEquals(0, pool.getActiveCount());
+        }
+    }
+
+    @Test
+    public void falhasERejeicoes() throws InterruptedException {
+        final WorkerPool pool = Factory.Thread.makePool(1, 2);
+        final CountDownLatch release = new CountDownLatch(1);
+        final CountDownLatch started = new CountDownLatch(1);
+        pool.submit(() -> {
+            started.countDown();
+            try {
+                release.await();
+            } catch (final InterruptedException ex) {
+                java.lang.Thread.currentThread().interrupt();
+            }
+        });
+        started.await();
+        final CompletableFuture<Void> failure = pool.submit(() -> {
+            throw new IllegalStateException();
+        });
+        pool.submit(() -> { });
+        final CompletableFuture<Void> rejection = pool.submit(() -> { });
+        assertEquals(2, pool.getQueueDepth());
+        assertEquals(2, pool.getPeakQueueDepth());
+        assertEquals(1, pool.getActiveCount());
+        try {
+            rejection.get();
+            fail();
+        } catch (final ExecutionException ex) {
+            assertTrue(ex.getCause() instanceof RejectedExecutionException);
+        }
+        release.countDown();
+        try {
+            failure.get();
+            fail();
+        } catch (final ExecutionException ex) {
+            assertTrue(ex.getCause() instanceof IllegalStateException);
+        }
+        pool.close();
+        assertEquals(4, pool.getSubmitted());
+        assertEquals(2, pool.getCompleted());
+        assertEquals(1, pool.getFailed());
+        assertEquals(1, pool.getRejected());
+        assertTrue(pool.submit(() -> { }).isCompletedExceptionally());
+        assertEquals(2, pool.getRejected());
+        pool.resetStatistics();
+        assertEquals(0, pool.getSubmitted());
+    }
+
+    @Test
+    public void conjuntoCompartilhadoEVirtual() throws InterruptedException, ExecutionException, TimeoutException {
+        final LongAdder counter = new LongAdder();
+        Factory.Thread.makeFuture(counter::increment).get(10, TimeUnit.SECONDS);
+        assertEquals(1, counter.sum());
+        assertSame(Factory.Thread.getSharedPool(), Factory.Thread.getSharedPool());
+        try {
+            final WorkerPool pool = Factory.Thread.makeVirtualPool(100);
+            assertEquals(7, (int) pool.supply(() -> 7).get());
+            pool.close();
+        } catch (final UnsupportedOperationException ex) {
+            assertNotNull(ex);
+        }
+    }
+
+}
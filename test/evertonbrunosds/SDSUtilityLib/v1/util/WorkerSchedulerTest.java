@@ -0,0 +1,185 @@
+/*
+ * This file is part of the SDSUtilityLib Open Source Project.
+ * SDSUtilityLib is licensed under the GNU GPLv3.
+ *
+ * Copyright © 2020. Everton Bruno Silva dos Santos <evertonbrunogithub@yahoo.com>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package evertonbrunosds.SDSUtilityLib.v1.util;
+
+import evertonbrunosds.SDSUtilityLib.v1.api.Factory;
+import evertonbrunosds.SDSUtilityLib.v1.api.Worker;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.Test;
+import static org.junit.Assert.*;
+
+/**
+ * Classe responsável por efetuar testes no agendador de trabalhadores.
+ * @author Everton Bruno Silva dos Santos.
+ * @version 1.0
+ * @since 1.0
+ */
+public class WorkerSchedulerTest {
+
+    private static void awaitRuns(final WorkerScheduler.Task task, final long runs) throws InterruptedException {
+        final long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+        while (task.getRuns() < runs && System.nanoTime() < deadline) {
+            java.lang.Thread.sleep(1);
+        }
+        assertTrue(task.getRuns() >= runs);
+    }
+
+    private static Worker slowFirstRun() {
+        final AtomicInteger runs = new AtomicInteger();
+        return () -> {
+            if (runs.getAndIncrement() == 0) {
+                try {
+                    java.lang.Thread.sleep(35);
+                } catch (final InterruptedException ex) {
+                    java.lang.Thread.currentThread().interrupt();
+                }
+            }
+        };
+    }
+
+    @Test
+    public void execucaoAtrasadaUnica() throws InterruptedException {
+        try (WorkerScheduler scheduler = Factory.Thread.makeScheduler(1)) {
+            final CountDownLatch ran = new CountDownLatch(1);
+            final long start = System.nanoTime();
+            final WorkerScheduler.Task task = scheduler.schedule(ran::countDown, 20, TimeUnit.MILLISECONDS);
+            assertTrue(ran.await(10, TimeUnit.SECONDS));
+            assertTrue(System.nanoTime() - start >= TimeUnit.MILLISECONDS.toNanos(20));
+            awaitRuns(task, 1);
+            java.lang.Thread.sleep(20);
+            assertEquals(1, task.getRuns());
+            assertTrue(task.isDone());
+            assertEquals(0, scheduler.getScheduled());
+            assertEquals(1, task.getDurations().getCount());
+            assertEquals(1, task.getLags().getCount());
+        }
+    }
+
+    @Test
+    public void muitosPeriodicosEmPoucasThreads() throws InterruptedException {
+        try (WorkerScheduler scheduler = Factory.Thread.makeScheduler(2)) {
+            final Set<String> threads = ConcurrentHashMap.newKeySet();
+            final List<WorkerScheduler.Task> tasks = new ArrayList<>();
+            for (int i = 0; i < 200; i++) {
+                tasks.add(scheduler.schedule(() -> threads.add(java.lang.Thread.currentThread().getName()), 0, 5, TimeUnit.MILLISECONDS,
+                        WorkerScheduler.Missed.SKIP, 0.5));
+            }
+            assertEquals(200, scheduler.getScheduled());
+            for (final WorkerScheduler.Task task : tasks) {
+                awaitRuns(task, 5);
+            }
+            assertTrue(threads.size() <= 2);
+            for (final WorkerScheduler.Task task : tasks) {
+                task.cancel();
+            }
+            assertEquals(0, scheduler.getScheduled());
+            java.lang.Thread.sleep(20);
+            long runs = 0;
+            for (final WorkerScheduler.Task task : tasks) {
+                runs += task.getRuns();
+            }
+            java.lang.Thread.sleep(50);
+            for (final WorkerScheduler.Task task : tasks) {
+                runs -= task.getRuns();
+                assertTrue(task.isDone());
+            }
+            assertEquals(0, runs);
+        }
+    }
+
+    @Test
+    public void politicasDeExecucoesPerdidas() throws InterruptedException {
+        try (WorkerScheduler scheduler = Factory.Thread.makeScheduler(1)) {
+            final WorkerScheduler.Task skip = scheduler.schedule(slowFirstRun(), 10, 10, TimeUnit.MILLISECONDS, WorkerScheduler.Missed.SKIP, 0);
+            awaitRuns(skip, 2);
+            skip.cancel();
+            assertTrue(skip.getSkipped() >= 3);
+            final WorkerScheduler.Task catchUp = scheduler.schedule(slowFirstRun(), 10, 10, TimeUnit.MILLISECONDS,
+                    WorkerScheduler.Missed.CATCH_UP, 0);
+            awaitRuns(catchUp, 2);
+            catchUp.cancel();
+            assertEquals(0, catchUp.getSkipped());
+            assertTrue(catchUp.getLags().getMax(TimeUnit.MILLISECONDS) >= 20);
+            final WorkerScheduler.Task delay = scheduler.schedule(slowFirstRun(), 10, 10, TimeUnit.MILLISECONDS, WorkerScheduler.Missed.DELAY, 0);
+            awaitRuns(delay, 2);
+            delay.cancel();
+            assertEquals(0, delay.getSkipped());
+            assertTrue(delay.getDurations().getMax(TimeUnit.MILLISECONDS) >= 35);
+        }
+    }
+
+    @Test
+    public void falhaNaoInterrompeExecucoesFuturas() throws InterruptedException {
+        final IllegalStateException failure = new IllegalStateException();
+        final WorkerScheduler.Task task = Factory.Thread.makePeriodic(() -> {
+            throw failure;
+        }, 5, TimeUnit.MILLISECONDS);
+        awaitRuns(task, 3);
+        task.cancel();
+        assertTrue(task.getFailures() >= 3);
+        assertSame(failure, task.getLastFailure());
+        assertFalse(Factory.Thread.getSharedScheduler().isShutdown());
+    }
+
+    @Test
+    public void encerramentoEArgumentosInvalidos() throws InterruptedException {
+        final WorkerScheduler scheduler = Factory.Thread.makeScheduler(1);
+        try {
+            scheduler.schedule(() -> {
+            }, 0, 0, TimeUnit.MILLISECONDS, WorkerScheduler.Missed.SKIP, 0);
+            fail();
+        } catch (final IllegalArgumentException ex) {
+            assertNotNull(ex);
+        }
+        try {
+            scheduler.schedule(() -> {
+            }, 0, 10, TimeUnit.MILLISECONDS, WorkerScheduler.Missed.SKIP, 1.5);
+            fail();
+        } catch (final IllegalArgumentException ex) {
+            assertNotNull(ex);
+        }
+        try {
+            scheduler.schedule(null, 10, TimeUnit.MILLISECONDS);
+            fail();
+        } catch (final NullPointerException ex) {
+            assertNotNull(ex);
+        }
+        final AtomicInteger runs = new AtomicInteger();
+        final WorkerScheduler.Task pending = scheduler.schedule(runs::incrementAndGet, 1, TimeUnit.HOURS);
+        scheduler.shutdown();
+        assertTrue(scheduler.awaitTermination(10, TimeUnit.SECONDS));
+        assertTrue(pending.isDone());
+        assertEquals(0, runs.get());
+        try {
+            scheduler.schedule(runs::incrementAndGet, 0, TimeUnit.MILLISECONDS);
+            fail();
+        } catch (final RejectedExecutionException ex) {
+            assertNotNull(ex);
+        }
+    }
+
+}